@@ -7,17 +7,20 @@
 package org.hibernate.ogm.datastore.cassandra;
 
 import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.gt;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.lte;
 
 import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -25,6 +28,12 @@
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Table;
 import org.hibernate.ogm.datastore.cassandra.impl.CassandraDatastoreProvider;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache.Key;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache.StatementBuilder;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache.StatementType;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraScanPartition;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraStatementBatch;
 import org.hibernate.ogm.datastore.cassandra.impl.CassandraTypeMapper;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
@@ -32,15 +41,26 @@
 import org.hibernate.ogm.datastore.cassandra.query.impl.CassandraParameterMetadataBuilder;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
@@ -61,49 +81,83 @@
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.TimestampGenerator;
+import com.datastax.driver.core.TokenRange;
 import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 
 /**
  * Dialect implementation using CQL3 over Cassandra's native transport via java-driver.
+ * <p>
+ * The writes of a flush are collected and sent as batches, see {@link #executeBatch(OperationsQueue)}. All writes
+ * carry an explicit timestamp, so the order of the operations is retained when applying them in one batch.
+ * <p>
+ * Several entities can be loaded at once, see {@link #getTuples(EntityKey[], TupleContext)}.
  *
  * @author Jonathan Halliday
  */
-public class CassandraDialect extends BaseGridDialect implements GridDialect, QueryableGridDialect<String> {
+public class CassandraDialect extends BaseGridDialect implements GridDialect, QueryableGridDialect<String>, BatchableGridDialect,
+		MultigetGridDialect, PartitionedScanGridDialect {
 
 	private static final Log log = LoggerFactory.getLogger();
 
 	private final CassandraDatastoreProvider provider;
 	private final Session session;
-	private final LoadingCache<String, PreparedStatement> preparedStatementCache;
+	private final CassandraPreparedStatementCache preparedStatementCache;
+	private final TimestampGenerator timestampGenerator;
+	private final int batchSize;
+	private final boolean loggedBatches;
+	private final int maxInFlightRequests;
+
+	/**
+	 * Builds the statements used by this dialect when they are requested from the prepared statement cache for the
+	 * first time.
+	 */
+	private final StatementBuilder statementBuilder = new StatementBuilder() {
+
+		@Override
+		public RegularStatement build(Key key) {
+			switch ( key.getType() ) {
+				case SELECT:
+					return select( key, false );
+				case SELECT_IN:
+					return selectIn( key );
+				case SELECT_ASSOCIATION:
+					return select( key, requiresFiltering( key ) );
+				case INSERT:
+					return insert( key );
+				case DELETE:
+					return delete( key );
+				case NATIVE_QUERY:
+					return new SimpleStatement( key.getQuery() );
+				default:
+					throw new HibernateException( "Statement type not supported: " + key.getType() );
+			}
+		}
+	};
 
 	public CassandraDialect(CassandraDatastoreProvider provider) {
 		this.provider = provider;
 		session = provider.getSession();
-
-
-		preparedStatementCache = CacheBuilder.newBuilder()
-				.maximumSize( 100000 )
-				.build(
-						new CacheLoader<String, PreparedStatement>() {
-							@Override
-							public PreparedStatement load(String query) throws Exception {
-								return session.prepare( query );
-							}
-						}
-				);
+		preparedStatementCache = provider.getPreparedStatementCache();
+		timestampGenerator = provider.getTimestampGenerator();
+		batchSize = provider.getConfiguration().getBatchSize();
+		loggedBatches = provider.getConfiguration().isLoggedBatches();
+		maxInFlightRequests = provider.getConfiguration().getMaxInFlightRequests();
 	}
 
 	@Override
@@ -113,25 +167,106 @@ public LockingStrategy getLockingStrategy(Lockable lockable, LockMode lockMode)
 		return null;
 	}
 
-	private ResultSet bindAndExecute(Object[] columnValues, RegularStatement statement) {
+	private ResultSet bindAndExecute(Object[] columnValues, Key key) {
+		BoundStatement boundStatement = bind( columnValues, key );
 
-		PreparedStatement preparedStatement;
 		try {
-			preparedStatement = preparedStatementCache.get( statement.getQueryString() );
-			session.prepare( statement );
+			return session.execute( boundStatement );
 		}
-		catch (ExecutionException e) {
-			throw log.failToPrepareCQL( statement.getQueryString(), e.getCause() );
+		catch (DriverException e) {
+			throw log.failToExecuteCQL( boundStatement.preparedStatement().getQueryString(), e );
 		}
+	}
 
-		try {
-			BoundStatement boundStatement = new BoundStatement( preparedStatement );
-			boundStatement.bind( columnValues );
-			return session.execute( boundStatement );
+	private void bindAndAdd(CassandraStatementBatch batch, Object[] columnValues, Key key) {
+		batch.add( key.getTable(), bind( columnValues, key ) );
+	}
+
+	/**
+	 * Binds the given values to the statement described by the given key. Write statements are bound to a freshly
+	 * generated timestamp in addition.
+	 */
+	private BoundStatement bind(Object[] columnValues, Key key) {
+		PreparedStatement preparedStatement = preparedStatementCache.get( key, statementBuilder );
+		Object[] values = columnValues;
+
+		// the timestamp comes after the values of an insert but before the where clause of a delete
+		if ( key.getType() == StatementType.INSERT ) {
+			values = Arrays.copyOf( columnValues, columnValues.length + 1 );
+			values[columnValues.length] = timestampGenerator.next();
 		}
-		catch (DriverException e) {
-			throw log.failToExecuteCQL( statement.getQueryString(), e );
+		else if ( key.getType() == StatementType.DELETE ) {
+			values = new Object[columnValues.length + 1];
+			values[0] = timestampGenerator.next();
+			System.arraycopy( columnValues, 0, values, 1, columnValues.length );
+		}
+
+		BoundStatement boundStatement = new BoundStatement( preparedStatement );
+		boundStatement.bind( values );
+		return boundStatement;
+	}
+
+	private CassandraStatementBatch createBatch() {
+		return new CassandraStatementBatch( session, batchSize, loggedBatches, maxInFlightRequests );
+	}
+
+	private static Select select(Key key, boolean allowFiltering) {
+		Select select = QueryBuilder.select().all().from( quote( key.getTable() ) );
+		Select.Where selectWhere = select.where();
+		for ( String columnName : key.getWhereColumns() ) {
+			selectWhere.and( eq( quote( columnName ), QueryBuilder.bindMarker() ) );
+		}
+
+		if ( allowFiltering ) {
+			select.allowFiltering();
+		}
+
+		return select;
+	}
+
+	private static Select selectIn(Key key) {
+		Select select = QueryBuilder.select().all().from( quote( key.getTable() ) );
+		select.where( QueryBuilder.in( quote( key.getWhereColumns()[0] ), QueryBuilder.bindMarker() ) );
+		return select;
+	}
+
+	private static RegularStatement insert(Key key) {
+		Insert insert = QueryBuilder.insertInto( quote( key.getTable() ) );
+		for ( String columnName : key.getColumns() ) {
+			insert.value( quote( columnName ), QueryBuilder.bindMarker() );
+		}
+		return insert.using( QueryBuilder.timestamp( QueryBuilder.bindMarker() ) );
+	}
+
+	private static RegularStatement delete(Key key) {
+		Delete.Selection deleteSelection = QueryBuilder.delete();
+		for ( String columnName : key.getColumns() ) {
+			deleteSelection.column( quote( columnName ) );
+		}
+		Delete delete = deleteSelection.from( quote( key.getTable() ) );
+		Delete.Where deleteWhere = delete.where();
+		for ( String columnName : key.getWhereColumns() ) {
+			deleteWhere.and( eq( quote( columnName ), QueryBuilder.bindMarker() ) );
+		}
+		return delete.using( QueryBuilder.timestamp( QueryBuilder.bindMarker() ) );
+	}
+
+	/**
+	 * Whether selecting the rows of an association requires filtering, i.e. whether the association key doesn't
+	 * comprise all the primary key columns of the association table.
+	 */
+	private boolean requiresFiltering(Key key) {
+		Table tableMetadata = provider.getMetaDataCache().get( key.getTable() );
+		@SuppressWarnings("unchecked")
+		List<Column> tablePKCols = tableMetadata.getPrimaryKey().getColumns();
+
+		List<String> whereColumns = Arrays.asList( key.getWhereColumns() );
+		for ( Column column : tablePKCols ) {
+			if ( !whereColumns.contains( column.getName() ) ) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 	// temporary, as equivalent in java-driver's Querybuilder is broken.
@@ -146,15 +281,10 @@ private static String quote(String columnName) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executeQueuedOperations( key, tupleContext );
 
-		Select select = QueryBuilder.select().all().from( quote( key.getTable() ) );
-		Select.Where selectWhere = select.where( eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() ) );
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			selectWhere = selectWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
-		Object[] columnValues = key.getColumnValues();
-		ResultSet resultSet = bindAndExecute( columnValues, select );
+		Key statementKey = new Key( StatementType.SELECT, key.getTable(), null, key.getColumnNames() );
+		ResultSet resultSet = bindAndExecute( key.getColumnValues(), statementKey );
 
 		if ( resultSet.isExhausted() ) {
 			return null;
@@ -165,6 +295,90 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 		return tuple;
 	}
 
+	/**
+	 * Loads the tuples with the given keys. If the key consists of a single column, i.e. the partition key, all the
+	 * tuples are selected with one query ({@code WHERE pk IN ?}). Otherwise, one query per key is executed
+	 * asynchronously, with at most {@link CassandraProperties#MAX_IN_FLIGHT_REQUESTS} of them pending at a time.
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		executeQueuedOperations( keys, tupleContext );
+
+		if ( keys[0].getColumnNames().length == 1 ) {
+			return getTuplesByPartitionKey( keys );
+		}
+		else {
+			return getTuplesInParallel( keys );
+		}
+	}
+
+	private List<Tuple> getTuplesByPartitionKey(EntityKey[] keys) {
+		String idColumn = keys[0].getColumnNames()[0];
+
+		Map<Object, Integer> positions = new HashMap<>( keys.length );
+		List<Object> ids = new ArrayList<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			Object id = keys[i].getColumnValues()[0];
+			// We assume there are no duplicated keys
+			positions.put( id, i );
+			ids.add( id );
+		}
+
+		Key statementKey = new Key( StatementType.SELECT_IN, keys[0].getTable(), null, new String[] { idColumn } );
+		ResultSet resultSet = bindAndExecute( new Object[] { ids }, statementKey );
+
+		// The result is not ordered as the keys and some keys might not have a matching row
+		Tuple[] tuples = new Tuple[keys.length];
+		for ( Row row : resultSet ) {
+			Map<String, Object> values = tupleFromRow( row );
+			Integer position = positions.get( values.get( idColumn ) );
+			if ( position != null ) {
+				tuples[position] = new Tuple( new MapTupleSnapshot( values ) );
+			}
+		}
+		return Arrays.asList( tuples );
+	}
+
+	private List<Tuple> getTuplesInParallel(EntityKey[] keys) {
+		Tuple[] tuples = new Tuple[keys.length];
+		Deque<Integer> inFlight = new ArrayDeque<>( Math.min( keys.length, maxInFlightRequests ) );
+		ResultSetFuture[] results = new ResultSetFuture[keys.length];
+		BoundStatement[] statements = new BoundStatement[keys.length];
+
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( inFlight.size() >= maxInFlightRequests ) {
+				int completed = inFlight.poll();
+				tuples[completed] = awaitTuple( statements[completed], results[completed] );
+			}
+
+			Key statementKey = new Key( StatementType.SELECT, keys[i].getTable(), null, keys[i].getColumnNames() );
+			statements[i] = bind( keys[i].getColumnValues(), statementKey );
+			results[i] = session.executeAsync( statements[i] );
+			inFlight.add( i );
+		}
+
+		while ( !inFlight.isEmpty() ) {
+			int completed = inFlight.poll();
+			tuples[completed] = awaitTuple( statements[completed], results[completed] );
+		}
+
+		return Arrays.asList( tuples );
+	}
+
+	private static Tuple awaitTuple(BoundStatement statement, ResultSetFuture result) {
+		try {
+			Row row = result.getUninterruptibly().one();
+			return row == null ? null : new Tuple( new MapTupleSnapshot( tupleFromRow( row ) ) );
+		}
+		catch (DriverException e) {
+			throw log.failToExecuteCQL( statement.preparedStatement().getQueryString(), e );
+		}
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		Map<String, Object> toSave = new HashMap<String, Object>();
@@ -175,6 +389,12 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext)
 			throws TupleAlreadyExistsException {
+		CassandraStatementBatch batch = createBatch();
+		insertOrUpdateTuple( batch, key, tuple );
+		batch.execute();
+	}
+
+	private void insertOrUpdateTuple(CassandraStatementBatch batch, EntityKey key, Tuple tuple) {
 
 		List<TupleOperation> updateOps = new ArrayList<TupleOperation>( tuple.getOperations().size() );
 		List<TupleOperation> deleteOps = new ArrayList<TupleOperation>( tuple.getOperations().size() );
@@ -195,96 +415,65 @@ public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleCo
 
 		if ( deleteOps.size() > 0 ) {
 
-			Delete.Selection deleteSelection = QueryBuilder.delete();
-			for ( TupleOperation tupleOperation : deleteOps ) {
-				deleteSelection.column( quote( tupleOperation.getColumn() ) );
-			}
-			Delete delete = deleteSelection.from( quote( key.getTable() ) );
-			Delete.Where deleteWhere = delete.where(
-					eq(
-							quote( key.getColumnNames()[0] ),
-							QueryBuilder.bindMarker()
-					)
-			);
-			for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-				deleteWhere = deleteWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
+			String[] deleteColumns = new String[deleteOps.size()];
+			for ( int i = 0; i < deleteOps.size(); i++ ) {
+				deleteColumns[i] = deleteOps.get( i ).getColumn();
 			}
 
-			bindAndExecute( key.getColumnValues(), delete );
+			Key statementKey = new Key( StatementType.DELETE, key.getTable(), deleteColumns, key.getColumnNames() );
+			bindAndAdd( batch, key.getColumnValues(), statementKey );
 		}
 
 		if ( updateOps.size() > 0 ) {
 
 			// insert and update are both 'upsert' in cassandra.
-			Insert insert = QueryBuilder.insertInto( quote( key.getTable() ) );
-			List<Object> columnValues = new LinkedList<>();
+			List<String> columnNames = new ArrayList<>( updateOps.size() + key.getColumnNames().length );
+			List<Object> columnValues = new ArrayList<>( updateOps.size() + key.getColumnNames().length );
 			Set<String> seenColNames = new HashSet<>();
 			for ( int i = 0; i < updateOps.size(); i++ ) {
 				TupleOperation op = updateOps.get( i );
-				insert.value( quote( op.getColumn() ), QueryBuilder.bindMarker() );
+				columnNames.add( op.getColumn() );
 				columnValues.add( op.getValue() );
 				seenColNames.add( op.getColumn() );
 			}
 			for ( int j = 0; j < key.getColumnNames().length; j++ ) {
 				String keyCol = key.getColumnNames()[j];
 				if ( !seenColNames.contains( keyCol ) ) {
-					insert.value( quote( keyCol ), QueryBuilder.bindMarker() );
+					columnNames.add( keyCol );
 					columnValues.add( key.getColumnValues()[j] );
 				}
 			}
 
-			bindAndExecute( columnValues.toArray(), insert );
+			Key statementKey = new Key(
+					StatementType.INSERT,
+					key.getTable(),
+					columnNames.toArray( new String[columnNames.size()] ),
+					null
+			);
+			bindAndAdd( batch, columnValues.toArray(), statementKey );
 		}
 	}
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		CassandraStatementBatch batch = createBatch();
+		removeTuple( batch, key );
+		batch.execute();
+	}
 
-		Delete delete = QueryBuilder.delete().from( quote( key.getTable() ) );
-		Delete.Where deleteWhere = delete.where(
-				eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() )
-		);
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			deleteWhere = deleteWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
-		bindAndExecute( key.getColumnValues(), delete );
+	private void removeTuple(CassandraStatementBatch batch, EntityKey key) {
+		Key statementKey = new Key( StatementType.DELETE, key.getTable(), null, key.getColumnNames() );
+		bindAndAdd( batch, key.getColumnValues(), statementKey );
 	}
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
-		Table tableMetadata = provider.getMetaDataCache().get( key.getTable() );
-		@SuppressWarnings("unchecked")
-		List<Column> tablePKCols = tableMetadata.getPrimaryKey().getColumns();
-
-		Select select = QueryBuilder.select().all().from( quote( key.getTable() ) );
-		Select.Where selectWhere = select.where( eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() ) );
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			selectWhere = selectWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
-		boolean requiredFiltering = false;
-		for ( Column column : tablePKCols ) {
-			String name = column.getName();
-			boolean foundColumn = false;
-			for ( int i = 0; i < key.getColumnNames().length; i++ ) {
-				if ( name.equals( key.getColumnNames()[i] ) ) {
-					foundColumn = true;
-					break;
-				}
-			}
-			if ( !foundColumn ) {
-				requiredFiltering = true;
-				break;
-			}
-		}
+		executeQueuedOperations( associationContext.getOperationsQueue() );
 
-		if ( requiredFiltering ) {
-			select.allowFiltering();
-		}
+		Table tableMetadata = provider.getMetaDataCache().get( key.getTable() );
 
-		Object[] columnValues = key.getColumnValues();
-		ResultSet resultSet = bindAndExecute( columnValues, select );
+		Key statementKey = new Key( StatementType.SELECT_ASSOCIATION, key.getTable(), null, key.getColumnNames() );
+		ResultSet resultSet = bindAndExecute( key.getColumnValues(), statementKey );
 
 		if ( resultSet.isExhausted() ) {
 			return null;
@@ -328,7 +517,12 @@ public void insertOrUpdateAssociation(
 			AssociationKey key,
 			Association association,
 			AssociationContext associationContext) {
+		CassandraStatementBatch batch = createBatch();
+		insertOrUpdateAssociation( batch, key, association );
+		batch.execute();
+	}
 
+	private void insertOrUpdateAssociation(CassandraStatementBatch batch, AssociationKey key, Association association) {
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
@@ -366,40 +560,54 @@ public void insertOrUpdateAssociation(
 
 		for ( AssociationOperation op : updateOps ) {
 			Tuple value = op.getValue();
-			List<Object> columnValues = new ArrayList<>();
-			Insert insert = QueryBuilder.insertInto( quote( key.getTable() ) );
-			for ( String columnName : value.getColumnNames() ) {
-				insert.value( quote( columnName ), QueryBuilder.bindMarker( columnName ) );
+			Set<String> columnNames = value.getColumnNames();
+			List<Object> columnValues = new ArrayList<>( columnNames.size() );
+			for ( String columnName : columnNames ) {
 				columnValues.add( value.get( columnName ) );
 			}
 
-			bindAndExecute( columnValues.toArray(), insert );
+			Key statementKey = new Key(
+					StatementType.INSERT,
+					key.getTable(),
+					columnNames.toArray( new String[columnNames.size()] ),
+					null
+			);
+			bindAndAdd( batch, columnValues.toArray(), statementKey );
 		}
 
 		for ( AssociationOperation op : deleteOps ) {
-
 			RowKey value = op.getKey();
-			Delete.Selection deleteSelection = QueryBuilder.delete();
-			for ( String columnName : op.getKey().getColumnNames() ) {
-				if ( !keyColumnNames.contains( columnName ) ) {
-					deleteSelection.column( quote( columnName ) );
-				}
-			}
-			Delete delete = deleteSelection.from( quote( key.getTable() ) );
-			List<Object> columnValues = new LinkedList<>();
+			List<String> deleteColumns = new ArrayList<>();
+			List<String> whereColumns = new ArrayList<>();
+			List<Object> columnValues = new ArrayList<>();
 			for ( String columnName : value.getColumnNames() ) {
 				if ( keyColumnNames.contains( columnName ) ) {
-					delete.where( eq( quote( columnName ), QueryBuilder.bindMarker( columnName ) ) );
+					whereColumns.add( columnName );
 					columnValues.add( value.getColumnValue( columnName ) );
 				}
+				else {
+					deleteColumns.add( columnName );
+				}
 			}
 
-			bindAndExecute( columnValues.toArray(), delete );
+			Key statementKey = new Key(
+					StatementType.DELETE,
+					key.getTable(),
+					deleteColumns.toArray( new String[deleteColumns.size()] ),
+					whereColumns.toArray( new String[whereColumns.size()] )
+			);
+			bindAndAdd( batch, columnValues.toArray(), statementKey );
 		}
 	}
 
 	@Override
 	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		CassandraStatementBatch batch = createBatch();
+		removeAssociation( batch, key );
+		batch.execute();
+	}
+
+	private void removeAssociation(CassandraStatementBatch batch, AssociationKey key) {
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
@@ -411,30 +619,104 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			keyColumnNames.add( column.getName() );
 		}
 
-		Delete.Selection deleteSelection = QueryBuilder.delete();
+		List<String> deleteColumns = new ArrayList<>();
+		List<String> whereColumns = new ArrayList<>();
+		List<Object> columnValues = new ArrayList<>();
 		for ( String columnName : key.getColumnNames() ) {
-			if ( !keyColumnNames.contains( columnName ) ) {
-				deleteSelection.column( quote( columnName ) );
+			if ( keyColumnNames.contains( columnName ) ) {
+				whereColumns.add( columnName );
+				columnValues.add( key.getColumnValue( columnName ) );
+			}
+			else {
+				deleteColumns.add( columnName );
 			}
 		}
 
-		Delete delete = deleteSelection.from( quote( key.getTable() ) );
-		List<Object> columnValues = new LinkedList<>();
+		if ( whereColumns.isEmpty() ) {
+			return;
+		}
 
-		boolean hasWhereClause = false;
-		for ( String columnName : key.getColumnNames() ) {
-			if ( keyColumnNames.contains( columnName ) ) {
-				delete.where( eq( quote( columnName ), QueryBuilder.bindMarker( columnName ) ) );
-				columnValues.add( key.getColumnValue( columnName ) );
-				hasWhereClause = true;
+		Key statementKey = new Key(
+				StatementType.DELETE,
+				key.getTable(),
+				deleteColumns.toArray( new String[deleteColumns.size()] ),
+				whereColumns.toArray( new String[whereColumns.size()] )
+		);
+		bindAndAdd( batch, columnValues.toArray(), statementKey );
+	}
+
+	/**
+	 * Sends the writes of all the queued operations to Cassandra, grouped into batches as per
+	 * {@link CassandraStatementBatch}.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			CassandraStatementBatch batch = createBatch();
+			Operation operation = queue.poll();
+
+			while ( operation != null ) {
+				if ( operation instanceof InsertOrUpdateTupleOperation ) {
+					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+					insertOrUpdateTuple( batch, update.getEntityKey(), update.getTuple() );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+					removeTuple( batch, remove.getEntityKey() );
+				}
+				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+					insertOrUpdateAssociation( batch, update.getAssociationKey(), update.getAssociation() );
+				}
+				else if ( operation instanceof RemoveAssociationOperation ) {
+					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+					removeAssociation( batch, remove.getAssociationKey() );
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported on Cassandra: " + operation.getClass().getName() );
+				}
+				operation = queue.poll();
 			}
+
+			batch.execute();
+			queue.clear();
 		}
+	}
 
-		if ( !hasWhereClause ) {
-			return;
+	/**
+	 * Applies the operations queued so far, so that subsequent reads see their outcome.
+	 *
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	private void executeQueuedOperations(OperationsQueue queue) {
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
+	/**
+	 * Applies the operations queued so far if any of the given entities is to be inserted by one of them.
+	 */
+	private void executeQueuedOperations(EntityKey[] keys, TupleContext tupleContext) {
+		OperationsQueue queue = tupleContext.getOperationsQueue();
+		if ( queue != null ) {
+			for ( EntityKey key : keys ) {
+				if ( queue.contains( key ) ) {
+					executeQueuedOperations( queue );
+					return;
+				}
+			}
 		}
+	}
 
-		bindAndExecute( columnValues.toArray(), delete );
+	/**
+	 * Applies the operations queued so far if the given entity is to be inserted by one of them.
+	 */
+	private void executeQueuedOperations(EntityKey key, TupleContext tupleContext) {
+		OperationsQueue queue = tupleContext.getOperationsQueue();
+		if ( queue != null && queue.contains( key ) ) {
+			executeQueuedOperations( queue );
+		}
 	}
 
 	@Override
@@ -442,21 +724,114 @@ public GridType overrideType(Type type) {
 		return CassandraTypeMapper.INSTANCE.overrideType( type );
 	}
 
+	/**
+	 * The keys of the entities inserted during a flush are looked up via {@link #getTuples(EntityKey[], TupleContext)}
+	 * before the batch is executed.
+	 */
+	@Override
+	public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(EntityKeyMetadata entityKeyMetadata) {
+		return DuplicateInsertPreventionStrategy.DEFERRED_LOOK_UP;
+	}
+
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
-		Select select = QueryBuilder.select().all().from( quote( entityKeyMetadata.getTable() ) );
+		forEachTuple( consumer, tupleContext, entityKeyMetadata, new CassandraScanPartition( null ) );
+	}
+
+	/**
+	 * Assigns the token ranges of the ring to the partitions in a round-robin fashion. If there are less token ranges
+	 * than requested partitions, each range is split evenly beforehand.
+	 */
+	@Override
+	public List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions) {
+		Metadata metadata = session.getCluster().getMetadata();
+		Set<TokenRange> ringRanges = metadata.getTokenRanges();
+
+		if ( numberOfPartitions <= 1 || ringRanges.isEmpty() || getPartitionKey( entityKeyMetadata ) == null ) {
+			return Collections.<ScanPartition>singletonList( new CassandraScanPartition( null ) );
+		}
+
+		int splitsPerRange = ( numberOfPartitions + ringRanges.size() - 1 ) / ringRanges.size();
+		List<TokenRange> tokenRanges = new ArrayList<>();
+		for ( TokenRange ringRange : ringRanges ) {
+			for ( TokenRange unwrapped : ringRange.unwrap() ) {
+				tokenRanges.addAll( splitsPerRange > 1 ? unwrapped.splitEvenly( splitsPerRange ) : Collections.singletonList( unwrapped ) );
+			}
+		}
+
+		int partitionCount = Math.min( numberOfPartitions, tokenRanges.size() );
+		List<List<TokenRange>> rangesByPartition = new ArrayList<>( partitionCount );
+		for ( int i = 0; i < partitionCount; i++ ) {
+			rangesByPartition.add( new ArrayList<TokenRange>() );
+		}
+		for ( int i = 0; i < tokenRanges.size(); i++ ) {
+			rangesByPartition.get( i % partitionCount ).add( tokenRanges.get( i ) );
+		}
+
+		List<ScanPartition> partitions = new ArrayList<>( partitionCount );
+		for ( List<TokenRange> ranges : rangesByPartition ) {
+			partitions.add( new CassandraScanPartition( ranges ) );
+		}
+		return partitions;
+	}
+
+	private List<ColumnMetadata> getPartitionKey(EntityKeyMetadata entityKeyMetadata) {
+		if ( session.getLoggedKeyspace() == null ) {
+			return null;
+		}
+		KeyspaceMetadata keyspace = session.getCluster().getMetadata().getKeyspace( Metadata.quote( session.getLoggedKeyspace() ) );
+		TableMetadata table = keyspace != null ? keyspace.getTable( Metadata.quote( entityKeyMetadata.getTable() ) ) : null;
+		return table != null ? table.getPartitionKey() : null;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition) {
+		List<TokenRange> tokenRanges = ( (CassandraScanPartition) partition ).getTokenRanges();
+
+		if ( tokenRanges == null ) {
+			forEachTuple( consumer, QueryBuilder.select().all().from( quote( entityKeyMetadata.getTable() ) ) );
+		}
+		else {
+			String token = token( getPartitionKey( entityKeyMetadata ) );
+			for ( TokenRange tokenRange : tokenRanges ) {
+				Select select = QueryBuilder.select().all().from( quote( entityKeyMetadata.getTable() ) );
+				Select.Where where = select.where( gt( token, tokenRange.getStart().getValue() ) );
+				// a range ending with the minimum token extends to the end of the ring
+				if ( tokenRange.getEnd().compareTo( tokenRange.getStart() ) > 0 ) {
+					where.and( lte( token, tokenRange.getEnd().getValue() ) );
+				}
+				forEachTuple( consumer, select );
+			}
+		}
+	}
+
+	private static String token(List<ColumnMetadata> partitionKey) {
+		String[] columnNames = new String[partitionKey.size()];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			columnNames[i] = quote( partitionKey.get( i ).getName() );
+		}
+		return QueryBuilder.token( columnNames );
+	}
+
+	/**
+	 * Iterates over all the rows selected by the given statement. The next page of rows is fetched asynchronously once
+	 * half of the current page has been consumed, so the consumer doesn't have to wait for each page to be fetched.
+	 */
+	private void forEachTuple(ModelConsumer consumer, Select select) {
+		int fetchSize = session.getCluster().getConfiguration().getQueryOptions().getFetchSize();
+		int prefetchThreshold = Math.max( fetchSize / 2, 1 );
 
-		ResultSet resultSet;
 		try {
-			resultSet = session.execute( select );
+			ResultSet resultSet = session.execute( select );
+			for ( Row row : resultSet ) {
+				if ( resultSet.getAvailableWithoutFetching() == prefetchThreshold && !resultSet.isFullyFetched() ) {
+					resultSet.fetchMoreResults();
+				}
+				consumer.consume( new Tuple( new MapTupleSnapshot( tupleFromRow( row ) ) ) );
+			}
 		}
 		catch (DriverException e) {
-			throw e;
-		}
-		Iterator<Row> iter = resultSet.iterator();
-		while ( iter.hasNext() ) {
-			Row row = iter.next();
-			consumer.consume( new Tuple( new MapTupleSnapshot( tupleFromRow( row ) ) ) );
+			throw log.failToExecuteCQL( select.getQueryString(), e );
 		}
 	}
 
@@ -499,10 +874,7 @@ public ClosableIterator<Tuple> executeBackendQuery(
 			i++;
 		}
 
-		ResultSet resultSet = bindAndExecute(
-				parameters,
-				new SimpleStatement( query.getQuery() )
-		);
+		ResultSet resultSet = bindAndExecute( parameters, Key.forQuery( query.getQuery() ) );
 
 		int first = 0;
 		if ( queryParameters.getRowSelection().getFirstRow() != null ) {
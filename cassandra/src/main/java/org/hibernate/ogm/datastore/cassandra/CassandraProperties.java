@@ -0,0 +1,44 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.ogm.cfg.OgmProperties;
+
+/**
+ * Properties for configuring the Cassandra datastore via {@code persistence.xml} or
+ * {@link StandardServiceRegistryBuilder}.
+ *
+ * @author Gunnar Morling
+ */
+public final class CassandraProperties implements OgmProperties {
+
+	/**
+	 * The maximum number of statements sent to Cassandra as one {@code BATCH} when flushing changes. Defaults to 20.
+	 * <p>
+	 * Cassandra warns about batches exceeding {@code batch_size_warn_threshold_in_kb}; such a warning is raised as an
+	 * exception, so a value too large for the configured threshold is detected right away.
+	 */
+	public static final String BATCH_SIZE = "hibernate.ogm.cassandra.batch_size";
+
+	/**
+	 * Boolean flag, whether the writes of one flush are sent as logged batches, guaranteeing that either all or none
+	 * of them are applied eventually. Defaults to {@code false}, in which case the writes for one partition are sent as
+	 * unlogged batch and the batches for different partitions are executed in parallel.
+	 */
+	public static final String LOGGED_BATCHES = "hibernate.ogm.cassandra.logged_batches";
+
+	/**
+	 * The maximum number of requests (batches or single statements) executed concurrently when applying the writes of
+	 * one flush or one operation. Once that many requests are pending, the next one is sent only after the oldest one
+	 * has completed. Defaults to 64.
+	 */
+	public static final String MAX_IN_FLIGHT_REQUESTS = "hibernate.ogm.cassandra.max_in_flight_requests";
+
+	private CassandraProperties() {
+	}
+}
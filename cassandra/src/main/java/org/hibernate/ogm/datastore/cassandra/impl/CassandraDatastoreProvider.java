@@ -30,8 +30,10 @@
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
+import com.datastax.driver.core.AtomicMonotonicTimestampGenerator;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TimestampGenerator;
 import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 
@@ -53,6 +55,13 @@ public class CassandraDatastoreProvider extends BaseDatastoreProvider
 	private Session session;
 	private QueryBuilder queryBuilder;
 	private CassandraSequenceHandler sequenceHandler;
+	private CassandraPreparedStatementCache preparedStatementCache;
+
+	/**
+	 * Generates the write timestamps, both for the statements issued by the driver and for the statements carrying
+	 * explicit timestamps.
+	 */
+	private final TimestampGenerator timestampGenerator = new AtomicMonotonicTimestampGenerator();
 
 	private final Map<String, Table> metaDataCache = new HashMap<String, Table>();
 	private final Map<String, Table> wrappedMetaDataCache = Collections.unmodifiableMap( metaDataCache );
@@ -70,6 +79,18 @@ public CassandraSequenceHandler getSequenceHandler() {
 		return sequenceHandler;
 	}
 
+	public CassandraPreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
+	public TimestampGenerator getTimestampGenerator() {
+		return timestampGenerator;
+	}
+
+	public CassandraConfiguration getConfiguration() {
+		return config;
+	}
+
 	@Override
 	public void configure(Map configurationValues) {
 		OptionsService optionsService = serviceRegistry.getService( OptionsService.class );
@@ -117,6 +138,7 @@ public void start() {
 						.addContactPoint( hostAndPort.getHost() )
 						.withPort( hostAndPort.getPort() )
 						.withCredentials( config.getUsername(), config.getPassword() )
+						.withTimestampGenerator( timestampGenerator )
 						.build();
 
 				session = cluster.connect();
@@ -127,6 +149,7 @@ public void start() {
 
 				session.execute( "USE " + config.getDatabaseName() );
 
+				preparedStatementCache = new CassandraPreparedStatementCache( session );
 				sequenceHandler = new CassandraSequenceHandler(this);
 			}
 			catch (RuntimeException e) {
@@ -143,6 +166,7 @@ public void stop() {
 		cluster.close();
 		cluster = null;
 		sequenceHandler = null;
+		preparedStatementCache = null;
 	}
 
 	public void removeKeyspace() {
@@ -0,0 +1,222 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Caches prepared statements by a description of their shape, i.e. the kind of statement, the table and the columns
+ * involved. A statement is built and prepared only upon the first request for a given shape; subsequent requests
+ * neither build the CQL again nor cost a round trip to the server.
+ * <p>
+ * Hits, misses and the time spent for building and preparing statements are recorded and can be retrieved e.g. for
+ * monitoring purposes.
+ *
+ * @author Gunnar Morling
+ */
+public class CassandraPreparedStatementCache {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private static final int MAX_SIZE = 100000;
+
+	private final Session session;
+	private final Cache<Key, PreparedStatement> cache;
+
+	public CassandraPreparedStatementCache(Session session) {
+		this.session = session;
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize( MAX_SIZE )
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Returns the prepared statement for the given key, building and preparing it if needed.
+	 *
+	 * @param key describes the statement
+	 * @param builder builds the statement described by the key if it is not cached yet
+	 * @return the prepared statement
+	 */
+	public PreparedStatement get(final Key key, final StatementBuilder builder) {
+		try {
+			return cache.get( key, new Callable<PreparedStatement>() {
+
+				@Override
+				public PreparedStatement call() throws Exception {
+					return session.prepare( builder.build( key ) );
+				}
+			} );
+		}
+		catch (ExecutionException | UncheckedExecutionException e) {
+			throw log.failToPrepareCQL( key.toString(), e.getCause() );
+		}
+	}
+
+	/**
+	 * @return the number of requests served from the cache
+	 */
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	/**
+	 * @return the number of requests for which a statement had to be built and prepared
+	 */
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	/**
+	 * @return the total time spent for building and preparing statements, in nanoseconds
+	 */
+	public long getTotalPrepareTime() {
+		return cache.stats().totalLoadTime();
+	}
+
+	/**
+	 * @return the average time spent for building and preparing one statement, in nanoseconds
+	 */
+	public double getAveragePrepareTime() {
+		return cache.stats().averageLoadPenalty();
+	}
+
+	/**
+	 * @return the number of cached statements
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * Builds the statement described by a {@link Key} upon a cache miss.
+	 */
+	public interface StatementBuilder {
+
+		RegularStatement build(Key key);
+	}
+
+	/**
+	 * The kinds of statements issued by the dialect and the sequence handler. Each type is built by exactly one
+	 * {@link StatementBuilder}, so the statements of different builders never share a {@link Key}.
+	 */
+	public enum StatementType {
+		SELECT,
+		SELECT_IN,
+		SELECT_ASSOCIATION,
+		INSERT,
+		DELETE,
+		NATIVE_QUERY,
+		SEQUENCE_SELECT,
+		SEQUENCE_INSERT_IF_NOT_EXISTS,
+		SEQUENCE_UPDATE_IF
+	}
+
+	/**
+	 * Identifies a statement by its type, table and the columns it selects, writes or removes and the columns of its
+	 * {@code WHERE} clause.
+	 */
+	public static final class Key {
+
+		private static final String[] NO_COLUMNS = new String[0];
+
+		private final StatementType type;
+		private final String table;
+		private final String[] columns;
+		private final String[] whereColumns;
+		private final int hashCode;
+
+		public Key(StatementType type, String table, String[] columns, String[] whereColumns) {
+			this.type = type;
+			this.table = table;
+			this.columns = columns != null ? columns : NO_COLUMNS;
+			this.whereColumns = whereColumns != null ? whereColumns : NO_COLUMNS;
+			this.hashCode = buildHashCode();
+		}
+
+		/**
+		 * Creates a key for a native CQL query.
+		 *
+		 * @param query the CQL query
+		 * @return the key for the given query
+		 */
+		public static Key forQuery(String query) {
+			return new Key( StatementType.NATIVE_QUERY, query, null, null );
+		}
+
+		public StatementType getType() {
+			return type;
+		}
+
+		public String getTable() {
+			return table;
+		}
+
+		/**
+		 * @return the CQL of a native query
+		 */
+		public String getQuery() {
+			return table;
+		}
+
+		public String[] getColumns() {
+			return columns;
+		}
+
+		public String[] getWhereColumns() {
+			return whereColumns;
+		}
+
+		private int buildHashCode() {
+			int result = type.hashCode();
+			result = 31 * result + table.hashCode();
+			result = 31 * result + Arrays.hashCode( columns );
+			result = 31 * result + Arrays.hashCode( whereColumns );
+			return result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return type == other.type
+					&& table.equals( other.table )
+					&& Arrays.equals( columns, other.columns )
+					&& Arrays.equals( whereColumns, other.whereColumns );
+		}
+
+		@Override
+		public String toString() {
+			if ( type == StatementType.NATIVE_QUERY ) {
+				return table;
+			}
+			return type + " " + table + " " + Arrays.toString( columns ) + " WHERE " + Arrays.toString( whereColumns );
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
+
+import com.datastax.driver.core.TokenRange;
+
+/**
+ * A set of token ranges of the ring. The rows of a table whose partition key token falls into one of the ranges
+ * belong to this partition.
+ *
+ * @author Gunnar Morling
+ */
+public class CassandraScanPartition implements ScanPartition {
+
+	private final List<TokenRange> tokenRanges;
+
+	/**
+	 * @param tokenRanges the non-wrapping token ranges of this partition, {@code null} for the whole ring
+	 */
+	public CassandraScanPartition(List<TokenRange> tokenRanges) {
+		this.tokenRanges = tokenRanges != null ? Collections.unmodifiableList( tokenRanges ) : null;
+	}
+
+	/**
+	 * @return the token ranges of this partition, {@code null} if it comprises the whole ring
+	 */
+	public List<TokenRange> getTokenRanges() {
+		return tokenRanges;
+	}
+
+	@Override
+	public String toString() {
+		return "CassandraScanPartition [tokenRanges=" + ( tokenRanges != null ? tokenRanges : "all" ) + "]";
+	}
+}
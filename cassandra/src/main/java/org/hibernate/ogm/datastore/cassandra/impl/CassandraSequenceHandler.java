@@ -11,12 +11,15 @@
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
-import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.DriverException;
-import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache.Key;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache.StatementBuilder;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache.StatementType;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
@@ -33,6 +36,38 @@
  */
 public class CassandraSequenceHandler {
 
+	/**
+	 * Builds the statements for reading and updating sequence values; the sequence name is the single where column, the
+	 * sequence value the single column of each statement.
+	 */
+	private static final StatementBuilder STATEMENT_BUILDER = new StatementBuilder() {
+
+		@Override
+		public RegularStatement build(Key key) {
+			String valueColumn = quote( key.getColumns()[0] );
+			String keyColumn = quote( key.getWhereColumns()[0] );
+
+			switch ( key.getType() ) {
+				case SEQUENCE_SELECT:
+					return QueryBuilder.select().column( valueColumn )
+							.from( quote( key.getTable() ) )
+							.where( eq( keyColumn, QueryBuilder.bindMarker() ) );
+				case SEQUENCE_INSERT_IF_NOT_EXISTS:
+					return QueryBuilder.insertInto( quote( key.getTable() ) )
+							.value( keyColumn, QueryBuilder.bindMarker( "sequence_name" ) )
+							.value( valueColumn, QueryBuilder.bindMarker( "sequence_value" ) )
+							.ifNotExists();
+				case SEQUENCE_UPDATE_IF:
+					return QueryBuilder.update( quote( key.getTable() ) )
+							.with( set( valueColumn, QueryBuilder.bindMarker( "sequence_value_new" ) ) )
+							.where( eq( keyColumn, QueryBuilder.bindMarker( "sequence_name" ) ) )
+							.onlyIf( eq( valueColumn, QueryBuilder.bindMarker( "sequence_value_old" ) ) );
+				default:
+					throw new HibernateException( "Statement type not supported: " + key.getType() );
+			}
+		}
+	};
+
 	private final CassandraDatastoreProvider provider;
 
 	public CassandraSequenceHandler(CassandraDatastoreProvider provider) {
@@ -54,11 +89,7 @@ public void createSequence(IdSourceKeyMetadata metadata, CassandraDatastoreProvi
 
 	private Long nextValueSelect(IdSourceKeyMetadata metadata, String sequenceName) {
 
-		Statement select = QueryBuilder.select().column( quote( metadata.getValueColumnName() )  )
-				.from( quote( metadata.getName() ) )
-				.where( eq( metadata.getKeyColumnName(), QueryBuilder.bindMarker() ) );
-
-		PreparedStatement preparedStatement = provider.getSession().prepare( select.toString() );
+		PreparedStatement preparedStatement = prepare( StatementType.SEQUENCE_SELECT, metadata );
 		BoundStatement boundStatement = preparedStatement.bind( sequenceName );
 
 		ResultSet resultSet;
@@ -79,12 +110,7 @@ private Long nextValueSelect(IdSourceKeyMetadata metadata, String sequenceName)
 
 	private Long nextValueInsert(IdSourceKeyMetadata metadata, String sequenceName, Long value) {
 
-		Insert insert = QueryBuilder.insertInto( quote( metadata.getName() ) )
-				.value( quote( metadata.getKeyColumnName() ), QueryBuilder.bindMarker( "sequence_name" ) )
-				.value( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value" ) )
-				.ifNotExists();
-
-		PreparedStatement preparedStatement = provider.getSession().prepare( insert.toString() );
+		PreparedStatement preparedStatement = prepare( StatementType.SEQUENCE_INSERT_IF_NOT_EXISTS, metadata );
 		BoundStatement boundStatement = preparedStatement.bind();
 		boundStatement.setString( "sequence_name", sequenceName );
 		boundStatement.setLong( "sequence_value", value );
@@ -101,12 +127,7 @@ private Long nextValueInsert(IdSourceKeyMetadata metadata, String sequenceName,
 
 	private boolean nextValueUpdate(IdSourceKeyMetadata metadata, String sequenceName, Long oldValue, Long newValue) {
 
-		Statement update = QueryBuilder.update( quote( metadata.getName() ) )
-				.with( set( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value_new" ) ) )
-				.where( eq( quote( metadata.getKeyColumnName() ), QueryBuilder.bindMarker( "sequence_name" ) ) )
-				.onlyIf( eq( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value_old" ) ) );
-
-		PreparedStatement preparedStatement = provider.getSession().prepare( update.toString() );
+		PreparedStatement preparedStatement = prepare( StatementType.SEQUENCE_UPDATE_IF, metadata );
 		BoundStatement boundStatement = preparedStatement.bind();
 		boundStatement.setString( "sequence_name", sequenceName );
 		boundStatement.setLong( "sequence_value_new", newValue );
@@ -123,6 +144,17 @@ private boolean nextValueUpdate(IdSourceKeyMetadata metadata, String sequenceNam
 		return resultSet.one().getBool( 0 );
 	}
 
+	private PreparedStatement prepare(StatementType type, IdSourceKeyMetadata metadata) {
+		Key key = new Key(
+				type,
+				metadata.getName(),
+				new String[] { metadata.getValueColumnName() },
+				new String[] { metadata.getKeyColumnName() }
+		);
+
+		return provider.getPreparedStatementCache().get( key, STATEMENT_BUILDER );
+	}
+
 	public Number nextValue(NextValueRequest request) {
 
 		IdSourceKey key = request.getKey();
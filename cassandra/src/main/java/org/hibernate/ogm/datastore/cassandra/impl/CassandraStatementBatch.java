@@ -0,0 +1,231 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * Collects the write statements of one or more grid dialect operations and sends them to Cassandra in as few requests
+ * as possible.
+ * <p>
+ * By default, the statements are grouped by the partition they write to. The statements of one partition are sent as
+ * unlogged batch, which is applied by the replicas of that partition in one go; the batches for different partitions
+ * are executed in parallel, with at most a given number of requests being in flight at the same time. If logged
+ * batches are requested, all the statements are sent as logged batches instead, making sure they are applied
+ * eventually in their entirety.
+ * <p>
+ * As all the statements in a batch share one timestamp unless specified otherwise, the statements added to this batch
+ * are expected to carry their own timestamp ({@code USING TIMESTAMP}). This retains the order of conflicting writes,
+ * e.g. the removal and re-insertion of an association row, regardless of the grouping.
+ * <p>
+ * Instances are not thread-safe and are meant to be used for a single unit of work.
+ *
+ * @author Gunnar Morling
+ */
+public class CassandraStatementBatch {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private final Session session;
+	private final ProtocolVersion protocolVersion;
+	private final CodecRegistry codecRegistry;
+	private final int maxBatchSize;
+	private final boolean logged;
+	private final int maxInFlightRequests;
+
+	private final Map<Object, List<BoundStatement>> statementsByPartition = new LinkedHashMap<>();
+	private int size;
+
+	/**
+	 * Creates a new {@link CassandraStatementBatch}.
+	 *
+	 * @param session the session to execute the statements with
+	 * @param maxBatchSize the maximum number of statements to send as one batch
+	 * @param logged whether to send the statements as logged batches
+	 * @param maxInFlightRequests the maximum number of requests to execute concurrently
+	 */
+	public CassandraStatementBatch(Session session, int maxBatchSize, boolean logged, int maxInFlightRequests) {
+		this.session = session;
+		this.protocolVersion = session.getCluster().getConfiguration().getProtocolOptions().getProtocolVersion();
+		this.codecRegistry = session.getCluster().getConfiguration().getCodecRegistry();
+		this.maxBatchSize = maxBatchSize;
+		this.logged = logged;
+		this.maxInFlightRequests = maxInFlightRequests;
+	}
+
+	/**
+	 * Adds a statement to this batch.
+	 *
+	 * @param table the table the statement writes to
+	 * @param statement the statement
+	 */
+	public void add(String table, BoundStatement statement) {
+		Object partition = partition( table, statement );
+
+		List<BoundStatement> statements = statementsByPartition.get( partition );
+		if ( statements == null ) {
+			statements = new ArrayList<>();
+			statementsByPartition.put( partition, statements );
+		}
+
+		statements.add( statement );
+		size++;
+	}
+
+	private Object partition(String table, BoundStatement statement) {
+		if ( logged ) {
+			return Boolean.TRUE;
+		}
+
+		ByteBuffer routingKey = statement.getRoutingKey( protocolVersion, codecRegistry );
+
+		// not all the partition key columns are bound; the statement is sent on its own
+		if ( routingKey == null ) {
+			return new Object();
+		}
+
+		return Arrays.<Object>asList( table, routingKey );
+	}
+
+	/**
+	 * @return {@code true} if no statements have been added since the last execution
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Executes the statements added so far and waits for their completion. The batch may be used for further
+	 * statements afterwards.
+	 */
+	public void execute() {
+		if ( isEmpty() ) {
+			return;
+		}
+
+		List<Statement> requests = new ArrayList<>();
+		for ( List<BoundStatement> statements : statementsByPartition.values() ) {
+			addRequests( requests, statements );
+		}
+
+		statementsByPartition.clear();
+		size = 0;
+
+		if ( requests.size() == 1 ) {
+			Statement request = requests.get( 0 );
+			try {
+				logWarnings( request, session.execute( request ) );
+			}
+			catch (DriverException e) {
+				throw log.failToExecuteCQL( queryString( request ), e );
+			}
+			return;
+		}
+
+		Deque<PendingRequest> inFlight = new ArrayDeque<>( Math.min( requests.size(), maxInFlightRequests ) );
+		for ( Statement request : requests ) {
+			if ( inFlight.size() >= maxInFlightRequests ) {
+				inFlight.poll().await();
+			}
+			inFlight.add( new PendingRequest( request, session.executeAsync( request ) ) );
+		}
+
+		while ( !inFlight.isEmpty() ) {
+			inFlight.poll().await();
+		}
+	}
+
+	private void addRequests(List<Statement> requests, List<BoundStatement> statements) {
+		if ( statements.size() == 1 ) {
+			requests.add( statements.get( 0 ) );
+			return;
+		}
+
+		BatchStatement.Type type = logged ? BatchStatement.Type.LOGGED : BatchStatement.Type.UNLOGGED;
+
+		for ( int i = 0; i < statements.size(); i += maxBatchSize ) {
+			List<BoundStatement> chunk = statements.subList( i, Math.min( i + maxBatchSize, statements.size() ) );
+			if ( chunk.size() == 1 ) {
+				requests.add( chunk.get( 0 ) );
+			}
+			else {
+				BatchStatement batch = new BatchStatement( type );
+				batch.addAll( chunk );
+				requests.add( batch );
+			}
+		}
+	}
+
+	/**
+	 * The statements have been applied at this point, so warnings (e.g. about the batch size) are only logged; the size
+	 * of the batches is capped by {@link #maxBatchSize} before sending them.
+	 */
+	private void logWarnings(Statement request, ResultSet resultSet) {
+		if ( request instanceof BatchStatement ) {
+			List<String> warnings = resultSet.getExecutionInfo().getWarnings();
+			if ( warnings != null && !warnings.isEmpty() ) {
+				log.batchRaisedWarnings( ( (BatchStatement) request ).size(), warnings );
+			}
+		}
+	}
+
+	private class PendingRequest {
+
+		private final Statement request;
+		private final ResultSetFuture result;
+
+		PendingRequest(Statement request, ResultSetFuture result) {
+			this.request = request;
+			this.result = result;
+		}
+
+		void await() {
+			try {
+				logWarnings( request, result.getUninterruptibly() );
+			}
+			catch (DriverException e) {
+				throw log.failToExecuteCQL( queryString( request ), e );
+			}
+		}
+	}
+
+	private static String queryString(Statement request) {
+		if ( request instanceof BatchStatement ) {
+			StringBuilder queryString = new StringBuilder( "BEGIN BATCH" );
+			for ( Statement statement : ( (BatchStatement) request ).getStatements() ) {
+				queryString.append( ' ' ).append( queryString( statement ) ).append( ';' );
+			}
+			return queryString.append( " APPLY BATCH" ).toString();
+		}
+		else if ( request instanceof BoundStatement ) {
+			return ( (BoundStatement) request ).preparedStatement().getQueryString();
+		}
+		else {
+			return request.toString();
+		}
+	}
+}
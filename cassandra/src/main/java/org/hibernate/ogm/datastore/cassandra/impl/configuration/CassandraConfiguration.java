@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.cassandra.impl.configuration;
 
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
+import org.hibernate.ogm.datastore.cassandra.CassandraProperties;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 
@@ -18,8 +19,50 @@
 public class CassandraConfiguration extends DocumentStoreConfiguration {
 
 	private static final int DEFAULT_PORT = 9042;
+	private static final int DEFAULT_BATCH_SIZE = 20;
+	private static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 64;
+
+	private final int batchSize;
+	private final boolean loggedBatches;
+	private final int maxInFlightRequests;
 
 	public CassandraConfiguration(ConfigurationPropertyReader propertyReader, OptionsContext globalOptions) {
 		super( propertyReader, DEFAULT_PORT );
+
+		this.batchSize = propertyReader.property( CassandraProperties.BATCH_SIZE, int.class )
+				.withDefault( DEFAULT_BATCH_SIZE )
+				.getValue();
+
+		this.loggedBatches = propertyReader.property( CassandraProperties.LOGGED_BATCHES, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		this.maxInFlightRequests = propertyReader.property( CassandraProperties.MAX_IN_FLIGHT_REQUESTS, int.class )
+				.withDefault( DEFAULT_MAX_IN_FLIGHT_REQUESTS )
+				.getValue();
+	}
+
+	/**
+	 * @see CassandraProperties#BATCH_SIZE
+	 * @return the maximum number of statements sent as one batch
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @see CassandraProperties#LOGGED_BATCHES
+	 * @return whether to send the writes of a flush as logged batches
+	 */
+	public boolean isLoggedBatches() {
+		return loggedBatches;
+	}
+
+	/**
+	 * @see CassandraProperties#MAX_IN_FLIGHT_REQUESTS
+	 * @return the maximum number of requests executed concurrently
+	 */
+	public int getMaxInFlightRequests() {
+		return maxInFlightRequests;
 	}
 }
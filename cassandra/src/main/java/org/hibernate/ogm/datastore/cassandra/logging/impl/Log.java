@@ -8,7 +8,10 @@
 
 import static org.jboss.logging.Logger.Level.INFO;
 
+import java.util.List;
+
 import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.cassandra.CassandraProperties;
 import org.jboss.logging.Logger.Level;
 import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
@@ -54,4 +57,8 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@LogMessage(level = Level.WARN)
 	@Message(id = 1609, value = "Cannot create multi-column secondary index for index/key named '%2$s' for table '%1$s'; Only considering first index column")
 	void multiColumnIndexNotSupported(String tableName, String name);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = 1610, value = "Cassandra reported warnings for a batch of %1$d statement(s): %2$s. Consider lowering the value of '" + CassandraProperties.BATCH_SIZE + "'")
+	void batchRaisedWarnings(int statementCount, List<String> warnings);
 }
@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.test.batch;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.cassandra.CassandraProperties;
+
+/**
+ * Runs {@link BatchedFlushTest} using logged batches.
+ *
+ * @author Gunnar Morling
+ */
+public class LoggedBatchedFlushTest extends BatchedFlushTest {
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		super.configure( settings );
+		settings.put( CassandraProperties.LOGGED_BATCHES, true );
+	}
+}
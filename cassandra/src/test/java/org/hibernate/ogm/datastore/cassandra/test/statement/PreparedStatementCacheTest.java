@@ -0,0 +1,77 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.test.statement;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraDatastoreProvider;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test that statements of the same shape are prepared only once.
+ *
+ * @author Gunnar Morling
+ */
+public class PreparedStatementCacheTest extends OgmTestCase {
+
+	@Test
+	public void testStatementsArePreparedOnlyOnce() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( "H_0" );
+		session.persist( helicopter );
+		session.getTransaction().commit();
+		session.clear();
+
+		rename( session, helicopter.getUUID(), "H_1" );
+
+		CassandraPreparedStatementCache cache = getPreparedStatementCache();
+		long misses = cache.getMissCount();
+		long hits = cache.getHitCount();
+
+		rename( session, helicopter.getUUID(), "H_2" );
+		rename( session, helicopter.getUUID(), "H_3" );
+
+		// one select and one insert per rename
+		assertThat( cache.getMissCount() ).isEqualTo( misses );
+		assertThat( cache.getHitCount() - hits ).isGreaterThanOrEqualTo( 4 );
+		assertThat( cache.getTotalPrepareTime() ).isGreaterThan( 0 );
+
+		session.beginTransaction();
+		Helicopter loaded = (Helicopter) session.get( Helicopter.class, helicopter.getUUID() );
+		assertThat( loaded.getName() ).isEqualTo( "H_3" );
+		session.delete( loaded );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private void rename(Session session, String id, String name) {
+		session.beginTransaction();
+		Helicopter helicopter = (Helicopter) session.get( Helicopter.class, id );
+		helicopter.setName( name );
+		session.getTransaction().commit();
+		session.clear();
+	}
+
+	private CassandraPreparedStatementCache getPreparedStatementCache() {
+		CassandraDatastoreProvider provider = (CassandraDatastoreProvider) getSessionFactory()
+				.getServiceRegistry()
+				.getService( DatastoreProvider.class );
+		return provider.getPreparedStatementCache();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+}
@@ -8,7 +8,9 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.ogm.compensation.ErrorHandler;
 import org.hibernate.ogm.compensation.ErrorHandlingStrategy;
@@ -33,6 +35,7 @@
 import org.hibernate.ogm.compensation.operation.impl.RemoveTupleImpl;
 import org.hibernate.ogm.compensation.operation.impl.RemoveTupleWithOptimisticLockImpl;
 import org.hibernate.ogm.compensation.operation.impl.UpdateTupleWithOptimisticLockImpl;
+import org.hibernate.ogm.dialect.batch.spi.BatchExecutionException;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.batch.spi.Operation;
@@ -88,7 +91,8 @@ public void onInsertOrUpdateTupleFailure(EntityKey key, Tuple tuple, TupleAlread
 	@Override
 	public void executeBatch(OperationsQueue queue) {
 		OperationsQueue newQueue = new OperationsQueue();
-		List<GridDialectOperation> operations = new ArrayList<>();
+		Map<Operation, GridDialectOperation> operations = new IdentityHashMap<>();
+		List<Operation> queuedOperations = new ArrayList<>();
 
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
@@ -96,42 +100,72 @@ public void executeBatch(OperationsQueue queue) {
 			// TODO OGM-766 Avoid the looping + re-creation
 			while ( operation != null ) {
 				newQueue.add( operation );
+				queuedOperations.add( operation );
 
 				if ( operation instanceof InsertOrUpdateTupleOperation ) {
 					InsertOrUpdateTupleOperation insertOrUpdateTuple = (InsertOrUpdateTupleOperation) operation;
-					operations.add( new InsertOrUpdateTupleImpl( insertOrUpdateTuple.getEntityKey(), insertOrUpdateTuple.getTuple() ) );
+					operations.put( operation, new InsertOrUpdateTupleImpl( insertOrUpdateTuple.getEntityKey(), insertOrUpdateTuple.getTuple() ) );
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation removeTuple = (RemoveTupleOperation) operation;
-					operations.add( new RemoveTupleImpl( removeTuple.getEntityKey() ) );
+					operations.put( operation, new RemoveTupleImpl( removeTuple.getEntityKey() ) );
 				}
 				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					InsertOrUpdateAssociationOperation insertOrUpdateAssociationOperation = (InsertOrUpdateAssociationOperation) operation;
-					operations.add( new InsertOrUpdateAssociationImpl(
+					operations.put( operation, new InsertOrUpdateAssociationImpl(
 							insertOrUpdateAssociationOperation.getAssociationKey(),
 							insertOrUpdateAssociationOperation.getAssociation() )
 					);
 				}
 				else if ( operation instanceof RemoveAssociationOperation ) {
 					RemoveAssociationOperation removeAssociationOperation = (RemoveAssociationOperation) operation;
-					operations.add( new RemoveAssociationImpl( removeAssociationOperation.getAssociationKey() ) );
+					operations.put( operation, new RemoveAssociationImpl( removeAssociationOperation.getAssociationKey() ) );
 				}
 
 				operation = queue.poll();
 			}
 		}
 
-		ExecuteBatch executeBatch = new ExecuteBatchImpl( operations );
+		Map<Operation, RuntimeException> failedOperations = null;
 		try {
 			super.executeBatch( newQueue );
 		}
+		catch (BatchExecutionException e) {
+			failedOperations = e.getFailedOperations();
+		}
 		catch (Exception e) {
-			handleException( executeBatch, e );
+			handleException( new ExecuteBatchImpl( appliedOperations( queuedOperations, operations, null ) ), e );
+		}
+
+		if ( failedOperations != null ) {
+			// report the failing operations individually, aborting upon the first failure the handler does not accept
+			for ( Map.Entry<Operation, RuntimeException> failedOperation : failedOperations.entrySet() ) {
+				GridDialectOperation gridDialectOperation = operations.get( failedOperation.getKey() );
+				if ( gridDialectOperation == null ) {
+					gridDialectOperation = new ExecuteBatchImpl( appliedOperations( queuedOperations, operations, null ) );
+				}
+				handleException( gridDialectOperation, failedOperation.getValue() );
+			}
 		}
 
+		ExecuteBatch executeBatch = new ExecuteBatchImpl( appliedOperations( queuedOperations, operations, failedOperations ) );
 		handleAppliedOperation( executeBatch );
 	}
 
+	private static List<GridDialectOperation> appliedOperations(List<Operation> queuedOperations, Map<Operation, GridDialectOperation> operations,
+			Map<Operation, RuntimeException> failedOperations) {
+		List<GridDialectOperation> appliedOperations = new ArrayList<>( queuedOperations.size() );
+
+		for ( Operation operation : queuedOperations ) {
+			GridDialectOperation gridDialectOperation = operations.get( operation );
+			if ( gridDialectOperation != null && ( failedOperations == null || !failedOperations.containsKey( operation ) ) ) {
+				appliedOperations.add( gridDialectOperation );
+			}
+		}
+
+		return appliedOperations;
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		Tuple tuple = null;
@@ -31,4 +31,13 @@ public interface KeyValueStoreProperties extends OgmProperties {
 	 * programmatic API.
 	 */
 	String CACHE_MAPPING = "hibernate.ogm.datastore.keyvalue.cache_mapping";
+
+	/**
+	 * The configuration property for setting the number of id values reserved at once by table and sequence based id
+	 * generators. The reserved values are handed out locally, and the next block is reserved in the background before
+	 * the current one runs out. The block size of a specific id source can be set by appending its table or sequence
+	 * name to this property, e.g. {@code hibernate.ogm.datastore.keyvalue.id_block_size.hibernate_sequences}. Accepts
+	 * an int value; defaults to 1, i.e. each id value is obtained from the datastore.
+	 */
+	String ID_BLOCK_SIZE = "hibernate.ogm.datastore.keyvalue.id_block_size";
 }
@@ -0,0 +1,256 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.keyvalue.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.ogm.datastore.keyvalue.cfg.KeyValueStoreProperties;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.massindex.impl.Executors;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Hands out id values from blocks reserved in the datastore (hi/lo), so that not each value needs to be obtained by
+ * updating the shared id source entry.
+ * <p>
+ * The values of a block are handed out locally using an atomic counter. Once half of a block has been handed out, the
+ * next block is reserved asynchronously, so callers don't need to wait for the datastore when a block runs out. The
+ * values of different nodes are not ordered with respect to each other; the values not handed out before the
+ * allocator is stopped are lost.
+ * <p>
+ * The block size is configured via {@link KeyValueStoreProperties#ID_BLOCK_SIZE}, optionally per id source. With a
+ * block size of 1, each value is obtained from the datastore as before.
+ *
+ * @author Gunnar Morling
+ */
+public class IdBlockAllocator {
+
+	/**
+	 * Reserves blocks of id values in the datastore.
+	 */
+	public interface IdSource {
+
+		/**
+		 * Reserves the given number of consecutive values of the given id source, i.e. advances the id source by
+		 * {@code blockSize} times the increment of the given request.
+		 *
+		 * @param request the request describing the id source, increment and initial value
+		 * @param blockSize the number of values to reserve
+		 * @return the first of the reserved values
+		 */
+		long reserve(NextValueRequest request, int blockSize);
+	}
+
+	private final int defaultBlockSize;
+	private final Map<String, Integer> blockSizes;
+	private final ConcurrentMap<IdSourceKey, BlockSequence> sequences = new ConcurrentHashMap<IdSourceKey, BlockSequence>();
+	private ExecutorService executor;
+	private boolean stopped;
+
+	/**
+	 * Creates a new allocator.
+	 *
+	 * @param defaultBlockSize the block size of id sources without a specific block size
+	 * @param blockSizes the block sizes of specific id sources, keyed by the table or sequence name
+	 */
+	public IdBlockAllocator(int defaultBlockSize, Map<String, Integer> blockSizes) {
+		this.defaultBlockSize = defaultBlockSize;
+		this.blockSizes = blockSizes;
+	}
+
+	/**
+	 * Creates a new allocator configured with the {@link KeyValueStoreProperties#ID_BLOCK_SIZE} properties from the
+	 * given configuration values.
+	 *
+	 * @param configurationValues the configuration values
+	 * @return a new allocator
+	 */
+	public static IdBlockAllocator fromConfiguration(Map<?, ?> configurationValues) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues );
+
+		int defaultBlockSize = propertyReader.property( KeyValueStoreProperties.ID_BLOCK_SIZE, int.class )
+				.withDefault( 1 )
+				.getValue();
+
+		String prefix = KeyValueStoreProperties.ID_BLOCK_SIZE + ".";
+		Map<String, Integer> blockSizes = new HashMap<String, Integer>();
+
+		for ( Object property : configurationValues.keySet() ) {
+			if ( property instanceof String && ( (String) property ).startsWith( prefix ) ) {
+				int blockSize = propertyReader.property( (String) property, int.class ).getValue();
+				blockSizes.put( ( (String) property ).substring( prefix.length() ), blockSize );
+			}
+		}
+
+		return new IdBlockAllocator( defaultBlockSize, Collections.unmodifiableMap( blockSizes ) );
+	}
+
+	/**
+	 * Returns the next value of the id source of the given request, reserving a new block via the given id source if
+	 * required.
+	 *
+	 * @param request the request describing the id source
+	 * @param idSource reserves blocks in the datastore
+	 * @return the next value of the id source
+	 */
+	public Number nextValue(NextValueRequest request, IdSource idSource) {
+		int blockSize = getBlockSize( request.getKey().getMetadata() );
+
+		if ( blockSize <= 1 ) {
+			return idSource.reserve( request, 1 );
+		}
+
+		BlockSequence sequence = sequences.get( request.getKey() );
+		if ( sequence == null ) {
+			sequence = new BlockSequence( blockSize );
+			BlockSequence existing = sequences.putIfAbsent( request.getKey(), sequence );
+			if ( existing != null ) {
+				sequence = existing;
+			}
+		}
+
+		return sequence.next( request, idSource );
+	}
+
+	/**
+	 * Stops the reservation of blocks in the background.
+	 */
+	public synchronized void stop() {
+		stopped = true;
+
+		if ( executor != null ) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	private int getBlockSize(IdSourceKeyMetadata metadata) {
+		Integer blockSize = blockSizes.get( metadata.getName() );
+		return blockSize != null ? blockSize : defaultBlockSize;
+	}
+
+	/**
+	 * Returns the executor for reserving blocks in the background, or {@code null} if this allocator has been stopped.
+	 */
+	private synchronized ExecutorService getExecutor() {
+		if ( executor == null && !stopped ) {
+			executor = Executors.newFixedThreadPool( 1, "id block allocator" );
+		}
+		return executor;
+	}
+
+	/**
+	 * The blocks of one id source.
+	 */
+	private class BlockSequence {
+
+		private final int blockSize;
+
+		private volatile Block current;
+
+		/**
+		 * The block reserved in the background, if any; guarded by this
+		 */
+		private Future<Block> next;
+
+		BlockSequence(int blockSize) {
+			this.blockSize = blockSize;
+		}
+
+		long next(NextValueRequest request, IdSource idSource) {
+			while ( true ) {
+				Block block = current;
+
+				if ( block != null ) {
+					int index = block.nextIndex.getAndIncrement();
+
+					if ( index < block.size ) {
+						if ( index == block.size / 2 ) {
+							reserveNextBlock( request, idSource );
+						}
+						return block.first + (long) index * block.increment;
+					}
+				}
+
+				synchronized ( this ) {
+					if ( current == block ) {
+						current = takeNextBlock( request, idSource );
+					}
+				}
+			}
+		}
+
+		private synchronized void reserveNextBlock(final NextValueRequest request, final IdSource idSource) {
+			ExecutorService executor = getExecutor();
+
+			if ( next == null && executor != null ) {
+				next = executor.submit( new Callable<Block>() {
+
+					@Override
+					public Block call() throws Exception {
+						return reserve( request, idSource );
+					}
+				} );
+			}
+		}
+
+		/**
+		 * Returns the block reserved in the background or reserves a new one if there is none or its reservation
+		 * failed. Must be called while holding the lock of this object.
+		 */
+		private Block takeNextBlock(NextValueRequest request, IdSource idSource) {
+			Future<Block> reserved = next;
+			next = null;
+
+			if ( reserved != null ) {
+				try {
+					return reserved.get();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				catch (ExecutionException e) {
+					// reserve the block synchronously, propagating the failure if it persists
+				}
+			}
+
+			return reserve( request, idSource );
+		}
+
+		private Block reserve(NextValueRequest request, IdSource idSource) {
+			return new Block( idSource.reserve( request, blockSize ), blockSize, request.getIncrement() );
+		}
+	}
+
+	/**
+	 * A block of reserved values.
+	 */
+	private static class Block {
+
+		private final long first;
+		private final int size;
+		private final int increment;
+		private final AtomicInteger nextIndex = new AtomicInteger();
+
+		Block(long first, int size, int increment) {
+			this.first = first;
+			this.size = size;
+			this.increment = increment;
+		}
+	}
+}
@@ -162,6 +162,14 @@ public Map<RowKey, Map<String, Object>> getAssociation(AssociationKey key) {
 		return associationsKeyValueStorage.get( key );
 	}
 
+	public List<Map<RowKey, Map<String, Object>>> getAssociations(AssociationKey... keys) {
+		List<Map<RowKey, Map<String, Object>>> results = new ArrayList<>( keys.length );
+		for ( AssociationKey key : keys ) {
+			results.add( associationsKeyValueStorage.get( key ) );
+		}
+		return results;
+	}
+
 	public void removeAssociation(AssociationKey key) {
 		associationsKeyValueStorage.remove( key );
 	}
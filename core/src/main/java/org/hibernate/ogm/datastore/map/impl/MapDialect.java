@@ -16,7 +16,10 @@
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -28,8 +31,11 @@
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.ArrayBackedTuple;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.ColumnDictionary;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.util.impl.TupleContextHelper;
 import org.hibernate.persister.entity.Lockable;
 
 /**
@@ -37,7 +43,7 @@
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public class MapDialect extends BaseGridDialect implements MultigetGridDialect {
+public class MapDialect extends BaseGridDialect implements MultigetGridDialect, MultiAssociationGridDialect, PartitionedScanGridDialect {
 
 	private final MapDatastoreProvider provider;
 
@@ -73,7 +79,7 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 			return null;
 		}
 		else {
-			return new Tuple( new MapTupleSnapshot( entityMap ) );
+			return createTuple( entityMap, tupleContext );
 		}
 	}
 
@@ -83,7 +89,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		List<Tuple> results = new ArrayList<>( mapResults.size() );
 		// should be done with a lambda for the tuple creation but that's for demo purposes
 		for ( Map<String, Object> entry : mapResults ) {
-			results.add( entry != null ? new Tuple( new MapTupleSnapshot( entry ) ) : null );
+			results.add( entry != null ? createTuple( entry, tupleContext ) : null );
 		}
 		return results;
 	}
@@ -92,7 +98,20 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		HashMap<String,Object> tuple = new HashMap<String,Object>();
 		provider.putEntity( key, tuple );
-		return new Tuple( new MapTupleSnapshot( tuple ) );
+		return createTuple( tuple, tupleContext );
+	}
+
+	/**
+	 * Uses an {@link ArrayBackedTuple} if the columns of the entity are known.
+	 */
+	private static Tuple createTuple(Map<String, Object> entityMap, TupleContext tupleContext) {
+		ColumnDictionary columns = TupleContextHelper.columnDictionary( tupleContext );
+		if ( columns != null ) {
+			return new ArrayBackedTuple( columns, new MapTupleSnapshot( entityMap ) );
+		}
+		else {
+			return new Tuple( new MapTupleSnapshot( entityMap ) );
+		}
 	}
 
 	@Override
@@ -112,6 +131,16 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return associationMap == null ? null : new Association( new MapAssociationSnapshot( associationMap ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		List<Map<RowKey, Map<String, Object>>> associationMaps = provider.getAssociations( keys );
+		List<Association> results = new ArrayList<>( associationMaps.size() );
+		for ( Map<RowKey, Map<String, Object>> associationMap : associationMaps ) {
+			results.add( associationMap != null ? new Association( new MapAssociationSnapshot( associationMap ) ) : null );
+		}
+		return results;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Map<RowKey, Map<String, Object>> associationMap = new HashMap<RowKey, Map<String,Object>>();
@@ -141,11 +170,49 @@ public Number nextValue(NextValueRequest request) {
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata metadata) {
+		forEachTuple( consumer, tupleContext, metadata, new MapScanPartition( 0, 1 ) );
+	}
+
+	@Override
+	public List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions) {
+		List<ScanPartition> partitions = new ArrayList<ScanPartition>( numberOfPartitions );
+		for ( int i = 0; i < numberOfPartitions; i++ ) {
+			partitions.add( new MapScanPartition( i, numberOfPartitions ) );
+		}
+		return partitions;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata metadata, ScanPartition partition) {
+		MapScanPartition mapPartition = (MapScanPartition) partition;
 		Map<EntityKey, Map<String, Object>> entityMap = provider.getEntityMap();
 		for ( EntityKey key : entityMap.keySet() ) {
-			if ( key.getTable().equals( metadata.getTable() ) ) {
-				consumer.consume( new Tuple( new MapTupleSnapshot( entityMap.get( key ) ) ) );
+			if ( key.getTable().equals( metadata.getTable() ) && mapPartition.contains( key ) ) {
+				consumer.consume( createTuple( entityMap.get( key ), tupleContext ) );
 			}
 		}
 	}
+
+	/**
+	 * The keys whose hash code modulo the number of partitions equals the index of the partition.
+	 */
+	private static class MapScanPartition implements ScanPartition {
+
+		private final int index;
+		private final int numberOfPartitions;
+
+		private MapScanPartition(int index, int numberOfPartitions) {
+			this.index = index;
+			this.numberOfPartitions = numberOfPartitions;
+		}
+
+		private boolean contains(EntityKey key) {
+			return ( key.hashCode() & Integer.MAX_VALUE ) % numberOfPartitions == index;
+		}
+
+		@Override
+		public String toString() {
+			return "MapScanPartition [" + index + "/" + numberOfPartitions + "]";
+		}
+	}
 }
@@ -14,7 +14,8 @@
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.AssociationOperation;
 import org.hibernate.ogm.model.spi.Tuple;
-import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationConsumer;
+import org.hibernate.ogm.model.spi.TupleOperationType;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 
 /**
@@ -26,18 +27,22 @@ private MapHelpers() {
 		// not meant to be instantiated
 	}
 
-	public static void applyTupleOpsOnMap(Tuple tuple, Map<String, Object> map) {
-		for ( TupleOperation action : tuple.getOperations() ) {
-			switch ( action.getType() ) {
-				case PUT:
-					map.put( action.getColumn(), action.getValue() );
-					break;
-				case REMOVE:
-				case PUT_NULL:
-					map.remove( action.getColumn() );
-					break;
+	public static void applyTupleOpsOnMap(Tuple tuple, final Map<String, Object> map) {
+		tuple.forEachOperation( new TupleOperationConsumer() {
+
+			@Override
+			public void consume(String column, Object value, TupleOperationType type) {
+				switch ( type ) {
+					case PUT:
+						map.put( column, value );
+						break;
+					case REMOVE:
+					case PUT_NULL:
+						map.remove( column );
+						break;
+				}
 			}
-		}
+		} );
 	}
 
 	public static Map<String, Object> associationRowToMap(Tuple associationRow) {
@@ -0,0 +1,52 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.batch.spi;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Raised by {@link BatchableGridDialect#executeBatch(OperationsQueue)} if one or more of the batched operations could
+ * not be applied.
+ * <p>
+ * Each failing {@link Operation} is reported together with the exception describing its failure, e.g. a
+ * {@link org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException} for the insertion of a duplicate tuple. This
+ * allows to report the failures to the error handler per operation rather than for the batch as a whole.
+ *
+ * @author Gunnar Morling
+ */
+public class BatchExecutionException extends HibernateException {
+
+	private final Map<Operation, RuntimeException> failedOperations;
+
+	/**
+	 * Creates a new {@code BatchExecutionException}.
+	 *
+	 * @param failedOperations the failing operations and their failures, in the order they have been applied; must
+	 * contain at least one entry
+	 */
+	public BatchExecutionException(Map<Operation, RuntimeException> failedOperations) {
+		super( failedOperations.values().iterator().next().getMessage(), failedOperations.values().iterator().next() );
+		this.failedOperations = Collections.unmodifiableMap( failedOperations );
+	}
+
+	/**
+	 * @return the failing operations and the failure raised for each of them
+	 */
+	public Map<Operation, RuntimeException> getFailedOperations() {
+		return failedOperations;
+	}
+
+	/**
+	 * @return the failure of the first failing operation
+	 */
+	public RuntimeException getFirstFailure() {
+		return failedOperations.values().iterator().next();
+	}
+}
@@ -6,11 +6,17 @@
  */
 package org.hibernate.ogm.dialect.batch.spi;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
+import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
@@ -18,8 +24,12 @@
 /**
  * A queue for {@link Operation}s.
  * <p>
- * It keeps track of the elements that are going to be affected by an {@link InsertOrUpdateTupleOperation}.
+ * It keeps track of the elements that are going to be affected by an {@link InsertOrUpdateTupleOperation} and of the
+ * associations affected by an {@link InsertOrUpdateAssociationOperation} or {@link RemoveAssociationOperation}.
  * The queue can be closed, in that case it will throw an exception when trying to add or poll an operation.
+ * <p>
+ * It also collects the keys of inserted entities which still need to be checked for existing tuples as per
+ * {@link DuplicateInsertPreventionStrategy#DEFERRED_LOOK_UP}.
  *
  * @author Guillaume Scheibel &lt;guillaume.scheibel@gmail.com&gt;
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -42,6 +52,10 @@ public boolean isClosed() {
 
 	private final Set<EntityKey> entityKeys = new HashSet<EntityKey>();
 
+	private final Set<AssociationKey> associationKeys = new HashSet<AssociationKey>();
+
+	private final Map<EntityKey, TupleContext> uncheckedInserts = new LinkedHashMap<EntityKey, TupleContext>();
+
 	private boolean closed = false;
 
 	public void add(InsertOrUpdateTupleOperation operation) {
@@ -50,6 +64,18 @@ public void add(InsertOrUpdateTupleOperation operation) {
 		addOperation( operation );
 	}
 
+	public void add(InsertOrUpdateAssociationOperation operation) {
+		validate();
+		associationKeys.add( operation.getAssociationKey() );
+		addOperation( operation );
+	}
+
+	public void add(RemoveAssociationOperation operation) {
+		validate();
+		associationKeys.add( operation.getAssociationKey() );
+		addOperation( operation );
+	}
+
 	public void add(Operation operation) {
 		validate();
 		addOperation( operation );
@@ -71,9 +97,38 @@ public Operation poll() {
 		return operations.poll();
 	}
 
+	/**
+	 * Adds the key of an entity to be inserted which must be checked for an existing tuple before the queue is
+	 * executed.
+	 *
+	 * @param key the key of the inserted entity
+	 * @param tupleContext the context of the insert
+	 */
+	public void addUncheckedInsert(EntityKey key, TupleContext tupleContext) {
+		validate();
+		uncheckedInserts.put( key, tupleContext );
+	}
+
+	/**
+	 * Returns the keys added via {@link #addUncheckedInsert(EntityKey, TupleContext)} since the last invocation of
+	 * this method, in the order of insertion, and removes them from this queue.
+	 *
+	 * @return the keys of the inserted entities to check, together with the context of their insert
+	 */
+	public Map<EntityKey, TupleContext> pollUncheckedInserts() {
+		if ( uncheckedInserts.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+		Map<EntityKey, TupleContext> polled = new LinkedHashMap<EntityKey, TupleContext>( uncheckedInserts );
+		uncheckedInserts.clear();
+		return polled;
+	}
+
 	public void clear() {
 		entityKeys.clear();
+		associationKeys.clear();
 		operations.clear();
+		uncheckedInserts.clear();
 	}
 
 	public void close() {
@@ -93,6 +148,15 @@ public boolean contains(EntityKey key) {
 		return entityKeys.contains( key );
 	}
 
+	/**
+	 * @param key the {@link AssociationKey} that identify the association
+	 * @return true if an {@link InsertOrUpdateAssociationOperation} or {@link RemoveAssociationOperation} is bound to
+	 * the key, false otherwise
+	 */
+	public boolean contains(AssociationKey key) {
+		return associationKeys.contains( key );
+	}
+
 	/**
 	 * @return the length of the queue
 	 */
@@ -7,7 +7,14 @@
 package org.hibernate.ogm.dialect.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
+import org.hibernate.ogm.compensation.impl.InvocationCollectingGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.BatchExecutionException;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
@@ -15,11 +22,14 @@
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
 import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.util.impl.Log;
@@ -32,6 +42,10 @@
  * The {@link TupleContext} and {@link AssociationContext} are also populated with the {@link OperationsQueue}
  * before looking for element in the db. This way the underlying datastore can make assumptions about elements
  * that are in the queue but not in the db.
+ * <p>
+ * Inserts of entities using {@link DuplicateInsertPreventionStrategy#DEFERRED_LOOK_UP} are checked for existing tuples
+ * in bulk before the queue is handed over to the delegate, either for executing the batch or for a read which may
+ * flush the queue.
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
@@ -39,11 +53,20 @@ public class BatchOperationsDelegator extends ForwardingGridDialect<Serializable
 
 	private static final Log log = LoggerFactory.make();
 
+	/**
+	 * The maximum number of keys read at once when checking deferred inserts
+	 */
+	private static final int UNCHECKED_INSERTS_CHUNK_SIZE = 100;
+
 	private final EventContextManager eventContext;
+	private final boolean isMultigetDialect;
+	private final InvocationCollectingGridDialect invocationCollectingGridDialect;
 
 	public BatchOperationsDelegator(BatchableGridDialect dialect, EventContextManager eventContext) {
 		super( dialect );
 		this.eventContext = eventContext;
+		this.isMultigetDialect = GridDialects.hasFacet( dialect, MultigetGridDialect.class );
+		this.invocationCollectingGridDialect = GridDialects.getDelegateOrNull( dialect, InvocationCollectingGridDialect.class );
 	}
 
 	private boolean isBatchDisabled() {
@@ -65,12 +88,106 @@ private OperationsQueue getOperationQueue() {
 		}
 	}
 
+	/**
+	 * Makes sure no tuple exists for the given key of an entity about to be inserted. If operations are batched, the
+	 * check is deferred until the queue is executed or passed to the delegate for a read, otherwise it is done right
+	 * away.
+	 *
+	 * @param key the key of the inserted entity
+	 * @param tupleContext the context of the insert
+	 */
+	public void checkInsertDeferred(EntityKey key, TupleContext tupleContext) {
+		if ( isBatchDisabled() ) {
+			Tuple existing = super.getTuple( key, tupleContext );
+			if ( existing != null ) {
+				onDuplicateInsert( key, existing );
+			}
+		}
+		else {
+			getOperationQueue().addUncheckedInsert( key, tupleContext );
+		}
+	}
+
+	/**
+	 * Reads the keys of the inserts added to the queue since the last check, grouped by entity type and in chunks of
+	 * at most {@link #UNCHECKED_INSERTS_CHUNK_SIZE} keys if the delegate can read several tuples at once.
+	 */
+	private void checkUncheckedInserts(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+
+		Map<EntityKey, TupleContext> uncheckedInserts = queue.pollUncheckedInserts();
+		if ( uncheckedInserts.isEmpty() ) {
+			return;
+		}
+
+		if ( !isMultigetDialect ) {
+			for ( Entry<EntityKey, TupleContext> uncheckedInsert : uncheckedInserts.entrySet() ) {
+				Tuple existing = super.getTuple( uncheckedInsert.getKey(), uncheckedInsert.getValue() );
+				if ( existing != null ) {
+					onDuplicateInsert( uncheckedInsert.getKey(), existing );
+				}
+			}
+			return;
+		}
+
+		// all the keys passed to getTuples() must have the same metadata
+		Map<EntityKeyMetadata, List<EntityKey>> keysByMetadata = new LinkedHashMap<EntityKeyMetadata, List<EntityKey>>();
+		for ( EntityKey key : uncheckedInserts.keySet() ) {
+			List<EntityKey> keys = keysByMetadata.get( key.getMetadata() );
+			if ( keys == null ) {
+				keys = new ArrayList<EntityKey>();
+				keysByMetadata.put( key.getMetadata(), keys );
+			}
+			keys.add( key );
+		}
+
+		for ( List<EntityKey> keys : keysByMetadata.values() ) {
+			for ( int start = 0; start < keys.size(); start += UNCHECKED_INSERTS_CHUNK_SIZE ) {
+				EntityKey[] chunk = keys.subList( start, Math.min( start + UNCHECKED_INSERTS_CHUNK_SIZE, keys.size() ) )
+						.toArray( new EntityKey[0] );
+				List<Tuple> existing = super.getTuples( chunk, uncheckedInserts.get( chunk[0] ) );
+				for ( int i = 0; i < chunk.length; i++ ) {
+					if ( existing.get( i ) != null ) {
+						onDuplicateInsert( chunk[i], existing.get( i ) );
+					}
+				}
+			}
+		}
+
+		log.tracef( "Checked inserts of %1$s", uncheckedInserts.keySet() );
+	}
+
+	private void onDuplicateInsert(EntityKey key, Tuple existing) {
+		TupleAlreadyExistsException taee = new TupleAlreadyExistsException( key.getMetadata(), existing );
+		if ( invocationCollectingGridDialect == null ) {
+			throw log.mustNotInsertSameEntityTwice( key.toString(), taee );
+		}
+		else {
+			try {
+				invocationCollectingGridDialect.onInsertOrUpdateTupleFailure( key, existing, taee );
+			}
+			catch ( TupleAlreadyExistsException e ) {
+				throw log.mustNotInsertSameEntityTwice( key.toString(), e );
+			}
+		}
+	}
+
 	@Override
 	public void executeBatch(OperationsQueue operationsQueue) {
 		log.tracef( "Executing batch" );
 
 		try {
-			super.executeBatch( operationsQueue );
+			checkUncheckedInserts( operationsQueue );
+
+			try {
+				super.executeBatch( operationsQueue );
+			}
+			catch ( BatchExecutionException bee ) {
+				// Only the first failure is propagated, the error handler (if any) has seen all of them already
+				throw bee.getFirstFailure();
+			}
 		}
 		catch ( TupleAlreadyExistsException taee ) {
 			// TODO: Ideally, we should log the entity name + id here; For now we trust the datastore to provide this
@@ -83,12 +200,12 @@ public void executeBatch(OperationsQueue operationsQueue) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
-		TupleContext contextWithQueue = new TupleContextImpl(
-				(TupleContextImpl) tupleContext,
-				getOperationQueue()
-		);
+		return super.getTuple( key, withCheckedQueue( tupleContext ) );
+	}
 
-		return super.getTuple( key, contextWithQueue );
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		return super.getTuples( keys, withCheckedQueue( tupleContext ) );
 	}
 
 	@Override
@@ -113,12 +230,17 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
-		return super.getAssociation( key, withQueue( associationContext ) );
+		return super.getAssociation( key, withCheckedQueue( associationContext ) );
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		return super.getAssociations( keys, withCheckedQueue( associationContext ) );
 	}
 
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
-		return super.createAssociation( key, withQueue( associationContext ) );
+		return super.createAssociation( key, withCheckedQueue( associationContext ) );
 	}
 
 	@Override
@@ -141,6 +263,23 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		}
 	}
 
+	/**
+	 * Checks pending inserts before passing the queue to the delegate, as it may execute the queued operations.
+	 */
+	private TupleContext withCheckedQueue(TupleContext tupleContext) {
+		OperationsQueue operationsQueue = getOperationQueue();
+		checkUncheckedInserts( operationsQueue );
+		return new TupleContextImpl( (TupleContextImpl) tupleContext, operationsQueue );
+	}
+
+	/**
+	 * Checks pending inserts before passing the queue to the delegate, as it may execute the queued operations.
+	 */
+	private AssociationContext withCheckedQueue(AssociationContext associationContext) {
+		checkUncheckedInserts( getOperationQueue() );
+		return withQueue( associationContext );
+	}
+
 	private AssociationContext withQueue(AssociationContext associationContext) {
 		return new AssociationContextImpl( (AssociationContextImpl) associationContext, getOperationQueue() );
 	}
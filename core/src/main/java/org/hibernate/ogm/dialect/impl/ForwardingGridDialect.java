@@ -16,6 +16,7 @@
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -23,6 +24,8 @@
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
@@ -56,7 +59,7 @@
  *
  * @author Gunnar Morling
  */
-public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect {
+public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, MultiAssociationGridDialect, PartitionedScanGridDialect {
 
 	private final GridDialect gridDialect;
 	private final BatchableGridDialect batchableGridDialect;
@@ -65,6 +68,8 @@
 	private final IdentityColumnAwareGridDialect identityColumnAwareGridDialect;
 	private final OptimisticLockingAwareGridDialect optimisticLockingAwareGridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultiAssociationGridDialect multiAssociationGridDialect;
+	private final PartitionedScanGridDialect partitionedScanGridDialect;
 
 	@SuppressWarnings("unchecked")
 	public ForwardingGridDialect(GridDialect gridDialect) {
@@ -77,6 +82,8 @@ public ForwardingGridDialect(GridDialect gridDialect) {
 		this.identityColumnAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, IdentityColumnAwareGridDialect.class );
 		this.optimisticLockingAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, OptimisticLockingAwareGridDialect.class );
 		this.multigetGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetGridDialect.class );
+		this.multiAssociationGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultiAssociationGridDialect.class );
+		this.partitionedScanGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, PartitionedScanGridDialect.class );
 	}
 
 	/**
@@ -246,6 +253,29 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		return multigetGridDialect.getTuples( keys, tupleContext );
 	}
 
+	/*
+	 * @see org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect
+	 */
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		return multiAssociationGridDialect.getAssociations( keys, associationContext );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect
+	 */
+
+	@Override
+	public List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions) {
+		return partitionedScanGridDialect.getScanPartitions( tupleContext, entityKeyMetadata, numberOfPartitions );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition) {
+		partitionedScanGridDialect.forEachTuple( consumer, tupleContext, entityKeyMetadata, partition );
+	}
+
 	/*
 	 * @see org.hibernate.service.spi.ServiceRegistryAwareService
 	 */
@@ -14,14 +14,17 @@
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.util.impl.CoreLogCategories;
@@ -97,6 +100,27 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return super.getAssociation( key, associationContext );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Reading associations with keys %1$s from datastore and context %2$s", Arrays.toString( keys ), associationContext );
+		}
+		return super.getAssociations( keys, associationContext );
+	}
+
+	@Override
+	public List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions) {
+		List<ScanPartition> partitions = super.getScanPartitions( tupleContext, entityKeyMetadata, numberOfPartitions );
+		log.tracef( "Split table %1$s into %2$s scan partitions (requested: %3$s)", entityKeyMetadata.getTable(), partitions.size(), numberOfPartitions );
+		return partitions;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition) {
+		log.tracef( "Reading scan partition %1$s of table %2$s", partition, entityKeyMetadata.getTable() );
+		super.forEachTuple( consumer, tupleContext, entityKeyMetadata, partition );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		log.tracef( "Creating association with key %1$s", key );
@@ -0,0 +1,38 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link MultiAssociationGridDialect} service if the current grid dialect implements this dialect
+ * facet.
+ *
+ * @author Gunnar Morling
+ */
+public class MultiAssociationGridDialectInitiator implements StandardServiceInitiator<MultiAssociationGridDialect> {
+
+	public static final MultiAssociationGridDialectInitiator INSTANCE = new MultiAssociationGridDialectInitiator();
+
+	private MultiAssociationGridDialectInitiator() {
+	}
+
+	@Override
+	public Class<MultiAssociationGridDialect> getServiceInitiated() {
+		return MultiAssociationGridDialect.class;
+	}
+
+	@Override
+	public MultiAssociationGridDialect initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return GridDialects.getDialectFacetOrNull( registry.getService( GridDialect.class ), MultiAssociationGridDialect.class );
+	}
+}
@@ -8,6 +8,7 @@
 
 import javax.persistence.GenerationType;
 
+import org.hibernate.ScrollMode;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.id.IdentifierGenerator;
@@ -65,4 +66,14 @@ else if ( gridDialect.supportsSequences() ) {
 			return OgmTableGenerator.class;
 		}
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Query results are read lazily from the datastore and can only be scrolled forward.
+	 */
+	@Override
+	public ScrollMode defaultScrollMode() {
+		return ScrollMode.FORWARD_ONLY;
+	}
 }
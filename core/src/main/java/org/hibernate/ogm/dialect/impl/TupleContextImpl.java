@@ -14,6 +14,7 @@
 import org.hibernate.ogm.dialect.spi.TransactionContext;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.ColumnDictionary;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.util.impl.StringHelper;
 
@@ -29,6 +30,7 @@ public class TupleContextImpl implements TupleContext {
 	private final OptionsContext optionsContext;
 	private final OperationsQueue operationsQueue;
 	private final TransactionContext transactionContext;
+	private final ColumnDictionary columnDictionary;
 
 	/**
 	 * Information of the associated entity stored per foreign key column names
@@ -38,15 +40,19 @@ public class TupleContextImpl implements TupleContext {
 	private final Map<String, String> roles;
 
 	public TupleContextImpl(TupleContextImpl original, OperationsQueue operationsQueue) {
-		this( original.selectableColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, operationsQueue, original.transactionContext );
+		this( original.selectableColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, operationsQueue, original.transactionContext, original.columnDictionary );
 	}
 
 	public TupleContextImpl(TupleContextImpl original, TransactionContext transactionContext) {
-		this( original.selectableColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, original.operationsQueue, transactionContext );
+		this( original.selectableColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, original.operationsQueue, transactionContext, original.columnDictionary );
 	}
 
 	public TupleContextImpl(List<String> selectableColumns, Map<String, AssociatedEntityKeyMetadata> associatedEntityMetadata, Map<String, String> roles, OptionsContext optionsContext, TransactionContext transactionContext) {
-		this( selectableColumns, associatedEntityMetadata, roles, optionsContext, null, transactionContext );
+		this( selectableColumns, associatedEntityMetadata, roles, optionsContext, null, transactionContext, null );
+	}
+
+	public TupleContextImpl(List<String> selectableColumns, Map<String, AssociatedEntityKeyMetadata> associatedEntityMetadata, Map<String, String> roles, OptionsContext optionsContext, TransactionContext transactionContext, ColumnDictionary columnDictionary) {
+		this( selectableColumns, associatedEntityMetadata, roles, optionsContext, null, transactionContext, columnDictionary );
 	}
 
 	private TupleContextImpl(List<String> selectableColumns,
@@ -54,7 +60,8 @@ private TupleContextImpl(List<String> selectableColumns,
 			Map<String, String> roles,
 			OptionsContext optionsContext,
 			OperationsQueue operationsQueue,
-			TransactionContext transactionContext) {
+			TransactionContext transactionContext,
+			ColumnDictionary columnDictionary) {
 
 		this.selectableColumns = selectableColumns;
 		this.associatedEntityMetadata = Collections.unmodifiableMap( associatedEntityMetadata );
@@ -62,6 +69,7 @@ private TupleContextImpl(List<String> selectableColumns,
 		this.optionsContext = optionsContext;
 		this.operationsQueue = operationsQueue;
 		this.transactionContext = transactionContext;
+		this.columnDictionary = columnDictionary;
 	}
 
 	@Override
@@ -109,6 +117,13 @@ public OperationsQueue getOperationsQueue() {
 		return operationsQueue;
 	}
 
+	/**
+	 * @return the dictionary of the columns of the entity or {@code null} if not known
+	 */
+	public ColumnDictionary getColumnDictionary() {
+		return columnDictionary;
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder( "Tuple Context {" );
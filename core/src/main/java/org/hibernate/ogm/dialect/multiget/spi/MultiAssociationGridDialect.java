@@ -0,0 +1,43 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.multiget.spi;
+
+import java.util.List;
+
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+
+/**
+ * A {@link GridDialect} facet representing dialects that can load several associations in one datastore operation.
+ * <p>
+ * Used for batch-fetching lazy collections, e.g. when a batch size is given via {@code @BatchSize} on a collection
+ * property or {@code hibernate.default_batch_fetch_size}.
+ *
+ * @author Gunnar Morling
+ */
+public interface MultiAssociationGridDialect extends GridDialect {
+
+	/**
+	 * Return the list of associations for a given list of keys.
+	 * The associations must be returned in the same order as the keys.
+	 * If a key has no matching association, set null to the list entry.
+	 * <p>
+	 * All the keys provided will have the same {@link AssociationKeyMetadata}, i.e. they represent the same
+	 * association of different owners. The keys are distinct.
+	 * <p>
+	 * As the given context is shared by all the keys, it does not provide the tuple of the entity hosting the
+	 * association ({@link AssociationContext#getEntityTuple()} returns {@code null}).
+	 *
+	 * @param keys The array of association identifiers
+	 * @param associationContext Contains additional information that might be used to create the associations
+	 * @return the list of associations identified by the keys
+	 */
+	List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext);
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.scan.spi;
+
+import java.util.List;
+
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * A {@link GridDialect} facet representing dialects which can split the scan over all the tuples of a table into
+ * several partitions, which can be read in parallel.
+ * <p>
+ * Used by the mass indexer to read large tables with several threads.
+ *
+ * @author Gunnar Morling
+ */
+public interface PartitionedScanGridDialect extends GridDialect {
+
+	/**
+	 * Splits the tuples of the given table into partitions.
+	 * <p>
+	 * Each tuple must belong to exactly one partition. The number of partitions is a hint; a dialect may return less
+	 * (e.g. a single partition for a small or a non-clustered store) or more partitions, depending on the natural
+	 * partitioning of the store.
+	 *
+	 * @param tupleContext contains additional information that might be used to split the table
+	 * @param entityKeyMetadata the key metadata of the table to split
+	 * @param numberOfPartitions the requested number of partitions
+	 * @return the partitions of the table, at least one
+	 */
+	List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions);
+
+	/**
+	 * A consumer is called for each tuple of the given partition of the table, as done by
+	 * {@link GridDialect#forEachTuple(ModelConsumer, TupleContext, EntityKeyMetadata)} for the whole table.
+	 * <p>
+	 * This method is invoked concurrently for the different partitions of a table. The tuples passed to the consumer
+	 * may be processed by other threads, so they must not depend on resources bound to the reading thread, such as
+	 * an open transaction or cursor.
+	 *
+	 * @param consumer the instance that is going to be called for every {@link org.hibernate.ogm.model.spi.Tuple}
+	 * @param tupleContext contains additional information that might be used to build the tuple
+	 * @param entityKeyMetadata the key metadata of the table for which we want to apply the consumer
+	 * @param partition one of the partitions returned by
+	 * {@link #getScanPartitions(TupleContext, EntityKeyMetadata, int)} for the table
+	 */
+	void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition);
+}
@@ -0,0 +1,19 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.scan.spi;
+
+/**
+ * A part of the tuples of a table which can be read independently of the other parts, e.g. a range of ids or the
+ * entries stored on one node of a cluster.
+ * <p>
+ * Partitions are created by a {@link PartitionedScanGridDialect} and only passed back to the dialect which created
+ * them. Implementations must be immutable, as the partitions of a table are usually read from different threads.
+ *
+ * @author Gunnar Morling
+ */
+public interface ScanPartition {
+}
@@ -36,4 +36,16 @@ public enum DuplicateInsertPreventionStrategy {
 	 * {@link TupleAlreadyExistsException}. Recommended strategy for all stores where it is feasible.
 	 */
 	NATIVE,
+
+	/**
+	 * Like {@link #LOOK_UP}, but the keys of all the entities inserted during a flush are read in bulk right before the
+	 * batched operations are sent to the datastore, instead of one read per insert. Saves a round-trip per inserted
+	 * entity, the time window for undetected duplicate inserts is larger than with {@link #LOOK_UP} though.
+	 * <p>
+	 * Only effective for dialects implementing {@link org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect}, as
+	 * the checks must take place before the inserts are applied; for other dialects {@link #LOOK_UP} is used instead.
+	 * The keys are read via {@link org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect} if implemented by the
+	 * dialect.
+	 */
+	DEFERRED_LOOK_UP,
 }
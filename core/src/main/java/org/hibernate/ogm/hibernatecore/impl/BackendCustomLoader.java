@@ -16,6 +16,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.loader.custom.CustomLoader;
@@ -33,6 +34,8 @@
 import org.hibernate.ogm.loader.nativeloader.impl.BackendCustomQuery;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.impl.ChunkedResultIterator;
+import org.hibernate.ogm.query.impl.ForwardOnlyScrollableResults;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.type.spi.TypeTranslator;
 import org.hibernate.type.Type;
@@ -100,12 +103,56 @@ protected List<?> list(SessionImplementor session, org.hibernate.engine.spi.Quer
 		}
 	}
 
+	@Override
+	public ScrollableResults scroll(org.hibernate.engine.spi.QueryParameters queryParameters, final SessionImplementor session) throws HibernateException {
+		ForwardOnlyScrollableResults.validateScrollMode( queryParameters.getScrollMode() );
+
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		final Type[] resultTypes = getResultTypes( session );
+
+		ChunkedResultIterator results = new ChunkedResultIterator( tuples, ChunkedResultIterator.chunkSize( queryParameters, session.getFactory() ) ) {
+
+			@Override
+			protected List<Object> convert(List<Tuple> chunk) {
+				if ( isEntityQuery() ) {
+					return listOfEntities( session, resultTypes, chunk );
+				}
+				else {
+					return listOfArrays( session, chunk.iterator() );
+				}
+			}
+		};
+
+		return new ForwardOnlyScrollableResults( results, resultTypes );
+	}
+
+	/**
+	 * The types of the query returns; the type of a scalar return is {@code null} if it has not been specified.
+	 */
+	private Type[] getResultTypes(SessionImplementor session) {
+		Type[] resultTypes = new Type[customQuery.getCustomQueryReturns().size()];
+		int i = 0;
+		for ( Return queryReturn : customQuery.getCustomQueryReturns() ) {
+			if ( queryReturn instanceof RootReturn ) {
+				resultTypes[i++] = session.getFactory().getTypeHelper().entity( ( (RootReturn) queryReturn ).getEntityName() );
+			}
+			else {
+				resultTypes[i++] = ( (ScalarReturn) queryReturn ).getType();
+			}
+		}
+		return resultTypes;
+	}
+
 	// At the moment we only support the case where one entity type is returned
 	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
+		return listOfEntities( session, resultTypes, getTuplesAsList( tuples ) );
+	}
+
+	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, List<Tuple> tuples) {
 		Class<?> returnedClass = resultTypes[0].getReturnedClass();
 		TupleBasedEntityLoader loader = getLoader( session, returnedClass );
 		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( getTuplesAsList( tuples ) );
+		ogmLoadingContext.setTuples( tuples );
 		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
 	}
 
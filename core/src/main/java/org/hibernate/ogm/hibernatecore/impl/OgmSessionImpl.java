@@ -292,7 +292,17 @@ private <T> EventListenerGroup<T> eventListenerGroup(EventType<T> type) {
 	@Override
 	public ScrollableResults scrollCustomQuery(CustomQuery customQuery, QueryParameters queryParameters)
 			throws HibernateException {
-		return delegate.scrollCustomQuery( customQuery, queryParameters );
+		errorIfClosed();
+		checkTransactionSynchStatus();
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Scroll NoSQL query: {0}", customQuery.getSQL() );
+		}
+
+		BackendCustomLoader loader = new BackendCustomLoader( (BackendCustomQuery<?>) customQuery, getFactory() );
+		autoFlushIfRequired( loader.getQuerySpaces() );
+
+		return loader.scroll( queryParameters, getDelegate() );
 	}
 
 	@Override
@@ -306,7 +316,10 @@ public List<?> list(NativeSQLQuerySpecification spec, QueryParameters queryParam
 	@Override
 	public ScrollableResults scroll(NativeSQLQuerySpecification spec, QueryParameters queryParameters)
 			throws HibernateException {
-		return delegate.scroll( spec, queryParameters );
+		return scrollCustomQuery(
+				factory.getQueryPlanCache().getNativeSQLQueryPlan( spec ).getCustomQuery(),
+				queryParameters
+		);
 	}
 
 	//SessionImplementor methods
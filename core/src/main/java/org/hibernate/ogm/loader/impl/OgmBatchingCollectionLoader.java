@@ -0,0 +1,54 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.loader.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
+import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
+
+/**
+ * Initializes the requested collection together with other uninitialized collections of the same role from the
+ * batch fetch queue of the session, loading them with one call to {@link MultiAssociationGridDialect}.
+ *
+ * @author Gunnar Morling
+ */
+public class OgmBatchingCollectionLoader extends OgmBasicCollectionLoader {
+
+	private final int batchSize;
+
+	public OgmBatchingCollectionLoader(OgmCollectionPersister collectionPersister, int batchSize) {
+		super( collectionPersister );
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void initialize(Serializable id, SessionImplementor session) throws HibernateException {
+		Serializable[] batch = session.getPersistenceContext()
+				.getBatchFetchQueue()
+				.getCollectionBatch( getCollectionPersisters()[0], id, batchSize );
+
+		// the batch is padded with null if there are less pending collections than the batch size
+		List<Serializable> ids = new ArrayList<Serializable>( batch.length );
+		for ( Serializable key : batch ) {
+			if ( key != null ) {
+				ids.add( key );
+			}
+		}
+
+		if ( ids.size() <= 1 ) {
+			super.initialize( id, session );
+		}
+		else {
+			loadCollectionBatch( session, ids.toArray( new Serializable[ids.size()] ), getKeyType() );
+		}
+	}
+}
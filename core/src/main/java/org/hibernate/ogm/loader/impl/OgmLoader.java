@@ -32,12 +32,16 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.ogm.dialect.impl.AssociationContextImpl;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
 import org.hibernate.ogm.jdbc.impl.TupleAsMapResultSet;
 import org.hibernate.ogm.loader.entity.impl.BatchableEntityLoader;
 import org.hibernate.ogm.model.impl.EntityKeyBuilder;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
@@ -49,6 +53,7 @@
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
 import org.hibernate.ogm.util.impl.StringHelper;
+import org.hibernate.ogm.util.impl.TransactionContextHelper;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
@@ -76,6 +81,7 @@ public class OgmLoader implements UniqueEntityLoader, BatchableEntityLoader, Tup
 	private final CollectionAliases[] collectionAliases;
 	private final GridDialect gridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultiAssociationGridDialect multiAssociationGridDialect;
 	private final int batchSize;
 
 	/**
@@ -93,6 +99,7 @@ public OgmLoader(OgmCollectionPersister[] collectionPersisters) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multiAssociationGridDialect = serviceRegistry.getService( MultiAssociationGridDialect.class );
 
 		//NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -120,6 +127,7 @@ public OgmLoader(OgmEntityPersister[] entityPersisters, int batchSize) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multiAssociationGridDialect = serviceRegistry.getService( MultiAssociationGridDialect.class );
 
 		// NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -253,6 +261,40 @@ public final void loadCollection(
 
 	}
 
+	/**
+	 * Called by subclasses that batch initialize collections
+	 *
+	 * @param session the session
+	 * @param ids the collection identifiers
+	 * @param type collection type
+	 * @throws HibernateException if an error occurs
+	 */
+	public final void loadCollectionBatch(
+		final SessionImplementor session,
+		final Serializable[] ids,
+		final Type type) throws HibernateException {
+
+		if ( log.isDebugEnabled() ) {
+			log.debug(
+					"batch loading collection: " +
+					MessageHelper.collectionInfoString( getCollectionPersisters()[0], ids, getFactory() )
+				);
+		}
+
+		Type[] idTypes = new Type[ids.length];
+		Arrays.fill( idTypes, type );
+		QueryParameters qp = new QueryParameters( idTypes, ids, ids );
+		doQueryAndInitializeNonLazyCollections(
+				session,
+				qp,
+				OgmLoadingContext.EMPTY_CONTEXT,
+				true
+			);
+
+		log.debug( "done batch load" );
+
+	}
+
 	OgmEntityPersister[] getEntityPersisters() {
 		return entityPersisters;
 	}
@@ -427,7 +469,8 @@ private void preLoadBatchFetchingQueue(SessionImplementor session, TupleAsMapRes
 	}
 
 	private boolean loadSeveralIds(QueryParameters qp) {
-		return qp.getPositionalParameterValues().length > 1;
+		// collection loaders pass the collection keys, also when loading several collections
+		return qp.getCollectionKeys() == null && qp.getPositionalParameterValues().length > 1;
 	}
 
 	/**
@@ -597,28 +640,66 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				throw new AssertionFailure( "Found an unexpected number of collection persisters: " + getCollectionPersisters().length );
 			}
 			final OgmCollectionPersister persister = (OgmCollectionPersister) getCollectionPersisters()[0];
-			Object owner = session.getPersistenceContext().getCollectionOwner( id, persister );
-
-			AssociationPersister associationPersister = new AssociationPersister(
-					persister.getOwnerEntityPersister().getMappedClass()
-				)
-				.gridDialect( gridDialect )
-				.key( id, persister.getKeyGridType() )
-				.associationKeyMetadata( persister.getAssociationKeyMetadata() )
-				.associationTypeContext( persister.getAssociationTypeContext() )
-				.hostingEntity( owner )
-				.session( session );
-
-			Association assoc = associationPersister.getAssociationOrNull();
-			if ( assoc != null ) {
-				for ( RowKey rowKey : assoc.getKeys() ) {
-					resultset.addTuple( assoc.get( rowKey ) );
+			Serializable[] ids = qp.getCollectionKeys();
+
+			if ( ids.length > 1 && multiAssociationGridDialect != null ) {
+				for ( Association assoc : getAssociations( persister, ids, session ) ) {
+					addAssociationRows( resultset, assoc );
+				}
+			}
+			else {
+				for ( Serializable collectionId : ids ) {
+					Object owner = session.getPersistenceContext().getCollectionOwner( collectionId, persister );
+
+					Association assoc = associationPersister( persister, collectionId, session )
+						.hostingEntity( owner )
+						.getAssociationOrNull();
+
+					addAssociationRows( resultset, assoc );
 				}
 			}
 		}
 		return resultset;
 	}
 
+	/**
+	 * Loads the associations with the given ids using one call to the dialect.
+	 */
+	private List<Association> getAssociations(OgmCollectionPersister persister, Serializable[] ids, SessionImplementor session) {
+		AssociationKey[] keys = new AssociationKey[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			keys[i] = associationPersister( persister, ids[i], session ).getAssociationKey();
+		}
+
+		// the context is shared by all the associations, so there is no entity tuple
+		AssociationContext associationContext = new AssociationContextImpl(
+				persister.getAssociationTypeContext(),
+				null,
+				TransactionContextHelper.transactionContext( session )
+		);
+
+		return multiAssociationGridDialect.getAssociations( keys, associationContext );
+	}
+
+	private AssociationPersister associationPersister(OgmCollectionPersister persister, Serializable id, SessionImplementor session) {
+		return new AssociationPersister(
+				persister.getOwnerEntityPersister().getMappedClass()
+			)
+			.gridDialect( gridDialect )
+			.key( id, persister.getKeyGridType() )
+			.associationKeyMetadata( persister.getAssociationKeyMetadata() )
+			.associationTypeContext( persister.getAssociationTypeContext() )
+			.session( session );
+	}
+
+	private void addAssociationRows(TupleAsMapResultSet resultset, Association assoc) {
+		if ( assoc != null ) {
+			for ( RowKey rowKey : assoc.getKeys() ) {
+				resultset.addTuple( assoc.get( rowKey ) );
+			}
+		}
+	}
+
 	private Object getResultColumnOrRow(Object[] row) {
 		//getResultColumnOrRow
 		//today we don't use this to apply the result transformer and we don't have operations to do like other loaders
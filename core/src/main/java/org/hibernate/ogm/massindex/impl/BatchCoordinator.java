@@ -12,6 +12,7 @@
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
@@ -37,6 +38,10 @@ public class BatchCoordinator implements Runnable {
 	private final ExtendedSearchIntegrator searchFactoryImplementor;
 	private final SessionFactoryImplementor sessionFactory;
 	private final int typesToIndexInParallel;
+	private final int threadsToLoadObjects;
+	private final int batchSizeToLoadObjects;
+	private final int idFetchSize;
+	private final long objectLoadingLimit;
 	private final CacheMode cacheMode;
 	private final boolean optimizeAtEnd;
 	private final boolean purgeAtStart;
@@ -47,16 +52,23 @@ public class BatchCoordinator implements Runnable {
 	private final String tenantId;
 
 	private final GridDialect gridDialect;
+	private final PartitionedScanGridDialect partitionedScanGridDialect;
 
-	public BatchCoordinator(GridDialect gridDialect, Set<Class<?>> rootEntities, ExtendedSearchIntegrator searchFactoryImplementor,
-			SessionFactoryImplementor sessionFactory, int typesToIndexInParallel, CacheMode cacheMode, boolean optimizeAtEnd, boolean purgeAtStart,
-			boolean optimizeAfterPurge, MassIndexerProgressMonitor monitor, String tenantId) {
+	public BatchCoordinator(GridDialect gridDialect, PartitionedScanGridDialect partitionedScanGridDialect, Set<Class<?>> rootEntities,
+			ExtendedSearchIntegrator searchFactoryImplementor, SessionFactoryImplementor sessionFactory, int typesToIndexInParallel,
+			int threadsToLoadObjects, int batchSizeToLoadObjects, int idFetchSize, long objectLoadingLimit, CacheMode cacheMode,
+			boolean optimizeAtEnd, boolean purgeAtStart, boolean optimizeAfterPurge, MassIndexerProgressMonitor monitor, String tenantId) {
 		this.gridDialect = gridDialect;
+		this.partitionedScanGridDialect = partitionedScanGridDialect;
 		this.tenantId = tenantId;
 		this.rootEntities = rootEntities.toArray( new Class<?>[rootEntities.size()] );
 		this.searchFactoryImplementor = searchFactoryImplementor;
 		this.sessionFactory = sessionFactory;
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.idFetchSize = idFetchSize;
+		this.objectLoadingLimit = objectLoadingLimit;
 		this.cacheMode = cacheMode;
 		this.optimizeAtEnd = optimizeAtEnd;
 		this.purgeAtStart = purgeAtStart;
@@ -103,8 +115,9 @@ public void run() {
 	private void doBatchWork(BatchBackend backend) throws InterruptedException {
 		ExecutorService executor = Executors.newFixedThreadPool( typesToIndexInParallel, "BatchIndexingWorkspace" );
 		for ( Class<?> type : rootEntities ) {
-			executor.execute( new BatchIndexingWorkspace( gridDialect, searchFactoryImplementor, sessionFactory, type,
-					cacheMode, endAllSignal, monitor, backend, tenantId ) );
+			executor.execute( new BatchIndexingWorkspace( gridDialect, partitionedScanGridDialect, searchFactoryImplementor, sessionFactory, type,
+					threadsToLoadObjects, batchSizeToLoadObjects, idFetchSize, objectLoadingLimit, cacheMode, endAllSignal, monitor, backend,
+					tenantId ) );
 		}
 		executor.shutdown();
 		endAllSignal.await(); // waits for the executor to finish
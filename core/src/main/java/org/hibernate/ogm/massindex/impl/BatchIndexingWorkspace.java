@@ -6,13 +6,21 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.search.backend.spi.BatchBackend;
 import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
@@ -25,6 +33,10 @@
 /**
  * This runnable will prepare a pipeline for batch indexing
  * of entities, managing the lifecycle of several ThreadPools.
+ * <p>
+ * If the dialect supports partitioned scans, the partitions of the table are read in parallel by
+ * {@link TupleProducer}s, handing batches of tuples over to {@link TupleConsumer}s which index them. Otherwise the
+ * tuples are read and indexed by the thread running this workspace.
  *
  * @author Sanne Grinovero
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -43,23 +55,34 @@ public class BatchIndexingWorkspace implements Runnable {
 
 	// loading options
 	private final CacheMode cacheMode;
+	private final int threadsToLoadObjects;
+	private final int batchSizeToLoadObjects;
+	private final int idFetchSize;
+	private final long objectLoadingLimit;
 
 	private final BatchBackend batchBackend;
 
 	private final GridDialect gridDialect;
+	private final PartitionedScanGridDialect partitionedScanGridDialect;
 
 	private final CountDownLatch endAllSignal;
 
 	private final String tenantId;
 
-	public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
-			SessionFactoryImplementor sessionFactory, Class<?> entityType, CacheMode cacheMode, CountDownLatch endAllSignal,
-			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
+	public BatchIndexingWorkspace(GridDialect gridDialect, PartitionedScanGridDialect partitionedScanGridDialect, SearchIntegrator search,
+			SessionFactoryImplementor sessionFactory, Class<?> entityType, int threadsToLoadObjects, int batchSizeToLoadObjects, int idFetchSize,
+			long objectLoadingLimit, CacheMode cacheMode, CountDownLatch endAllSignal, MassIndexerProgressMonitor monitor, BatchBackend backend,
+			String tenantId) {
 		this.gridDialect = gridDialect;
+		this.partitionedScanGridDialect = partitionedScanGridDialect;
 		this.indexedType = entityType;
 		this.tenantId = tenantId;
 		this.searchIntegrator = search.unwrap( ExtendedSearchIntegrator.class );
 		this.sessionFactory = sessionFactory;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.idFetchSize = idFetchSize;
+		this.objectLoadingLimit = objectLoadingLimit;
 		this.cacheMode = cacheMode;
 		this.endAllSignal = endAllSignal;
 		this.batchBackend = backend;
@@ -72,9 +95,34 @@ public void run() {
 		try {
 			OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getEntityPersister( indexedType.getName() );
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
+			final TupleContext tupleContext = persister.getTupleContext( null );
+			final SessionAwareRunnable indexer = new TupleIndexer( indexedType, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
+			final OptionallyWrapInJTATransaction consumer = new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, indexer );
+			final AtomicLong remainingObjects = new AtomicLong( objectLoadingLimit > 0 ? objectLoadingLimit : Long.MAX_VALUE );
 
-			final SessionAwareRunnable consumer = new TupleIndexer( indexedType, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleContext( null ), keyMetadata );
+			if ( partitionedScanGridDialect != null ) {
+				indexInParallel( partitionedScanGridDialect, tupleContext, keyMetadata, consumer, remainingObjects, errorHandler );
+			}
+			else {
+				TupleBatcher batcher = new TupleBatcher( batchSizeToLoadObjects, remainingObjects ) {
+
+					@Override
+					protected void batchCompleted(List<Tuple> batch) {
+						consumer.consume( batch );
+					}
+				};
+				try {
+					gridDialect.forEachTuple( batcher, tupleContext, keyMetadata );
+				}
+				catch ( TupleBatcher.LimitReachedException e ) {
+					// the remaining tuples are not to be indexed
+				}
+				batcher.flush();
+			}
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), e );
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
@@ -84,4 +132,41 @@ public void run() {
 			endAllSignal.countDown();
 		}
 	}
+
+	/**
+	 * Reads the partitions of the table with up to {@link #threadsToLoadObjects} producer threads, while the same
+	 * number of consumer threads index the tuples read so far.
+	 */
+	private void indexInParallel(PartitionedScanGridDialect scanGridDialect, TupleContext tupleContext, EntityKeyMetadata keyMetadata,
+			OptionallyWrapInJTATransaction consumer, AtomicLong remainingObjects, ErrorHandler errorHandler) throws InterruptedException {
+		List<ScanPartition> partitions = scanGridDialect.getScanPartitions( tupleContext, keyMetadata, threadsToLoadObjects );
+		if ( partitions.isEmpty() ) {
+			return;
+		}
+
+		// the queue holds batches, the fetch size gives the number of tuples read ahead of the consumers
+		int queueLength = Math.max( 1, idFetchSize / batchSizeToLoadObjects );
+		ProducerConsumerQueue<List<Tuple>> queue = new ProducerConsumerQueue<List<Tuple>>( queueLength, partitions.size() );
+
+		ExecutorService producers = Executors.newFixedThreadPool( Math.min( threadsToLoadObjects, partitions.size() ), "TupleProducer" );
+		ExecutorService consumers = Executors.newFixedThreadPool( threadsToLoadObjects, "TupleConsumer" );
+		try {
+			for ( int i = 0; i < threadsToLoadObjects; i++ ) {
+				consumers.execute( new TupleConsumer( queue, consumer, errorHandler ) );
+			}
+			for ( ScanPartition partition : partitions ) {
+				producers.execute( new TupleProducer( scanGridDialect, tupleContext, keyMetadata, partition, queue, batchSizeToLoadObjects,
+						remainingObjects, errorHandler ) );
+			}
+			producers.shutdown();
+			consumers.shutdown();
+			producers.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+			consumers.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		finally {
+			// no-op unless interrupted while waiting
+			producers.shutdownNow();
+			consumers.shutdownNow();
+		}
+	}
 }
@@ -13,6 +13,7 @@
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
@@ -37,6 +38,7 @@ public class OgmMassIndexer implements MassIndexerWithTenant {
 	private final ExtendedSearchIntegrator searchIntegrator;
 	private final SessionFactoryImplementor sessionFactory;
 	private final GridDialect gridDialect;
+	private final PartitionedScanGridDialect partitionedScanGridDialect;
 
 	private MassIndexerProgressMonitor monitor;
 	private CacheMode cacheMode = CacheMode.IGNORE;
@@ -45,11 +47,25 @@ public class OgmMassIndexer implements MassIndexerWithTenant {
 	private boolean purgeAllOnStart = true;
 	private String tenantId;
 	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 6;
+	private int batchSizeToLoadObjects = 10;
+	private int idFetchSize = 100;
+	private long objectLoadingLimit = 0; //means no limit at all
 
 	private final Set<Class<?>> rootEntities;
 
-	public OgmMassIndexer(GridDialect gridDialect, SearchIntegrator searchFactory, SessionFactoryImplementor sessionFactory, Class<?>... entities) {
+	/**
+	 * @param gridDialect the dialect used to read the tuples
+	 * @param partitionedScanGridDialect the dialect used to read the tuples in parallel, {@code null} if the current
+	 * dialect does not support partitioned scans
+	 * @param searchFactory the search factory
+	 * @param sessionFactory the session factory
+	 * @param entities the entity types to index
+	 */
+	public OgmMassIndexer(GridDialect gridDialect, PartitionedScanGridDialect partitionedScanGridDialect, SearchIntegrator searchFactory,
+			SessionFactoryImplementor sessionFactory, Class<?>... entities) {
 		this.gridDialect = gridDialect;
+		this.partitionedScanGridDialect = partitionedScanGridDialect;
 		this.searchIntegrator = searchFactory.unwrap( ExtendedSearchIntegrator.class );
 		this.sessionFactory = sessionFactory;
 		this.rootEntities = toRootEntities( searchIntegrator, entities );
@@ -62,7 +78,8 @@ private MassIndexerProgressMonitor createMonitor(ExtendedSearchIntegrator search
 
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
-		log.unsupportedIndexerConfigurationOption( "threadsToLoadObjects" );
+		atLeastOneValidation( numberOfThreads );
+		this.threadsToLoadObjects = numberOfThreads;
 		return this;
 	}
 
@@ -74,7 +91,10 @@ public MassIndexerWithTenant tenantIdentifier(String tenantIdentifier) {
 
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
-		log.unsupportedIndexerConfigurationOption( "batchSizeToLoadObjects" );
+		if ( batchSize < 1 ) {
+			throw new IllegalArgumentException( "batchSize must be at least 1" );
+		}
+		this.batchSizeToLoadObjects = batchSize;
 		return this;
 	}
 
@@ -116,13 +136,14 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 
 	@Override
 	public MassIndexer limitIndexedObjectsTo(long maximum) {
-		log.unsupportedIndexerConfigurationOption( "limitIndexedObjectsTo" );
+		this.objectLoadingLimit = maximum;
 		return this;
 	}
 
 	@Override
 	public MassIndexer idFetchSize(int idFetchSize) {
-		log.unsupportedIndexerConfigurationOption( "idFetchSize" );
+		// the fetch size is interpreted as the number of tuples read ahead of the indexing threads
+		this.idFetchSize = idFetchSize;
 		return this;
 	}
 
@@ -157,8 +178,9 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
-		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, cacheMode, optimizeOnFinish,
-				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
+		return new BatchCoordinator( gridDialect, partitionedScanGridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel,
+				threadsToLoadObjects, batchSizeToLoadObjects, idFetchSize, objectLoadingLimit, cacheMode, optimizeOnFinish, purgeAllOnStart,
+				optimizeAfterPurge, monitor, tenantId );
 	}
 
 	private void atLeastOneValidation(int numberOfThreads) {
@@ -9,10 +9,12 @@
 import java.util.Properties;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.search.MassIndexer;
 import org.hibernate.search.batchindexing.spi.MassIndexerFactory;
 import org.hibernate.search.spi.SearchIntegrator;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 /**
  * {@link MassIndexerFactory} that can be used to register the {@link OgmMassIndexer} to Hibernate Search.
@@ -28,6 +30,8 @@ public void initialize(Properties properties) {
 	@Override
 	public MassIndexer createMassIndexer(SearchIntegrator searchFactory, SessionFactoryImplementor sessionFactory,
 			Class<?>... entities) {
-		return new OgmMassIndexer( sessionFactory.getServiceRegistry().getService( GridDialect.class ), searchFactory, sessionFactory, entities );
+		ServiceRegistryImplementor serviceRegistry = sessionFactory.getServiceRegistry();
+		return new OgmMassIndexer( serviceRegistry.getService( GridDialect.class ), serviceRegistry.getService( PartitionedScanGridDialect.class ),
+				searchFactory, sessionFactory, entities );
 	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.List;
+
 import javax.transaction.Status;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
@@ -14,7 +16,6 @@
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
-import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.resource.transaction.TransactionCoordinatorBuilder;
 import org.hibernate.search.exception.ErrorHandler;
@@ -30,7 +31,7 @@
  *
  * @author Emmanuel Bernard
  */
-public class OptionallyWrapInJTATransaction implements ModelConsumer {
+public class OptionallyWrapInJTATransaction {
 
 	private static final Log log = LoggerFactory.make();
 
@@ -85,15 +86,14 @@ boolean wrapInTransaction() {
 		return false;
 	}
 
-	@Override
-	public void consume(Tuple tuple) {
+	public void consume(List<Tuple> tuples) {
 		try {
 			final boolean wrapInTransaction = wrapInTransaction();
 			if ( wrapInTransaction ) {
-				consumeInTransaction( tuple );
+				consumeInTransaction( tuples );
 			}
 			else {
-				delegate.run( null, tuple );
+				delegate.run( null, tuples );
 			}
 		}
 		catch ( Throwable e ) {
@@ -101,12 +101,12 @@ public void consume(Tuple tuple) {
 		}
 	}
 
-	private void consumeInTransaction(Tuple tuple) {
+	private void consumeInTransaction(List<Tuple> tuples) {
 		TransactionManager transactionManager = getTransactionManager();
 		try {
 			final Session session = factory.openSession();
 			transactionManager.begin();
-			delegate.run( session, tuple );
+			delegate.run( session, tuples );
 			transactionManager.commit();
 			session.close();
 		}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Groups the tuples read from the datastore into batches of the configured size.
+ * <p>
+ * Once the limit of objects to index has been reached, {@link #consume(Tuple)} passes on the current batch and raises
+ * {@link LimitReachedException}, so the scan of the datastore is aborted rather than reading the remaining tuples; the
+ * exception is to be caught by the caller of the scan. The limit is shared by all the batchers reading the same entity
+ * type.
+ *
+ * @author Gunnar Morling
+ */
+public abstract class TupleBatcher implements ModelConsumer {
+
+	private final int batchSize;
+	private final AtomicLong remainingObjects;
+
+	private List<Tuple> batch;
+
+	public TupleBatcher(int batchSize, AtomicLong remainingObjects) {
+		this.batchSize = batchSize;
+		this.remainingObjects = remainingObjects;
+		this.batch = new ArrayList<Tuple>( batchSize );
+	}
+
+	@Override
+	public void consume(Tuple tuple) {
+		long remaining = acquire();
+		if ( remaining < 0 ) {
+			flush();
+			throw LimitReachedException.INSTANCE;
+		}
+
+		batch.add( tuple );
+		if ( remaining == 0 ) {
+			flush();
+			throw LimitReachedException.INSTANCE;
+		}
+		else if ( batch.size() >= batchSize ) {
+			flush();
+		}
+	}
+
+	/**
+	 * Takes one object from the remaining objects, without going below zero.
+	 *
+	 * @return the number of objects remaining after taking this one or -1 if no object was remaining
+	 */
+	private long acquire() {
+		while ( true ) {
+			long remaining = remainingObjects.get();
+			if ( remaining <= 0 ) {
+				return -1;
+			}
+			if ( remainingObjects.compareAndSet( remaining, remaining - 1 ) ) {
+				return remaining - 1;
+			}
+		}
+	}
+
+	/**
+	 * Passes on the tuples of the current, possibly incomplete, batch. To be called once all the tuples have been read.
+	 */
+	public void flush() {
+		if ( !batch.isEmpty() ) {
+			List<Tuple> completed = batch;
+			batch = new ArrayList<Tuple>( batchSize );
+			batchCompleted( completed );
+		}
+	}
+
+	/**
+	 * Invoked for each batch of tuples.
+	 *
+	 * @param batch the tuples of the batch, at most as many as the batch size
+	 */
+	protected abstract void batchCompleted(List<Tuple> batch);
+
+	/**
+	 * Raised to abort the scan of the datastore once the limit of objects to index has been reached.
+	 */
+	public static final class LimitReachedException extends RuntimeException {
+
+		private static final LimitReachedException INSTANCE = new LimitReachedException();
+
+		private LimitReachedException() {
+			super( "The limit of objects to index has been reached" );
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			// only used for control flow
+			return this;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.List;
+
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.search.exception.ErrorHandler;
+import org.hibernate.search.util.logging.impl.Log;
+import org.hibernate.search.util.logging.impl.LoggerFactory;
+
+/**
+ * Takes the batches of tuples put into the queue by the {@link TupleProducer}s and indexes them, until all the
+ * producers are done.
+ *
+ * @author Gunnar Morling
+ */
+public class TupleConsumer implements Runnable {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final ProducerConsumerQueue<List<Tuple>> queue;
+	private final OptionallyWrapInJTATransaction indexer;
+	private final ErrorHandler errorHandler;
+
+	public TupleConsumer(ProducerConsumerQueue<List<Tuple>> queue, OptionallyWrapInJTATransaction indexer, ErrorHandler errorHandler) {
+		this.queue = queue;
+		this.indexer = indexer;
+		this.errorHandler = errorHandler;
+	}
+
+	@Override
+	public void run() {
+		try {
+			List<Tuple> batch = queue.take();
+			while ( batch != null ) {
+				indexer.consume( batch );
+				batch = queue.take();
+			}
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+		catch ( RuntimeException re ) {
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), re );
+		}
+	}
+}
@@ -44,8 +44,8 @@
 /**
  * Component of batch-indexing pipeline, using chained producer-consumers.
  * <p>
- * This Runnable will consume {@link Tuple} objects taken one-by-one and it will create an {@link AddLuceneWork} for the
- * corresponding entity.
+ * This Runnable will consume batches of {@link Tuple} objects and it will create an {@link AddLuceneWork} for each
+ * corresponding entity. The entities of a batch are loaded within one session and transaction.
  *
  * @author Sanne Grinovero
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -180,11 +180,13 @@ private void close(Session upperSession, Session session) {
 	}
 
 	@Override
-	public void run(Session upperSession, Tuple tuple) {
+	public void run(Session upperSession, List<Tuple> tuples) {
 		Session session = openSession( upperSession );
 		try {
 			Transaction transaction = beginTransaction( session );
-			index( session, entity( session, tuple ) );
+			for ( Tuple tuple : tuples ) {
+				index( session, entity( session, tuple ) );
+			}
 			transaction.commit();
 		}
 		catch ( Throwable e ) {
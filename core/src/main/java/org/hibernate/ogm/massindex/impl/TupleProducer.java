@@ -0,0 +1,85 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.search.exception.ErrorHandler;
+import org.hibernate.search.util.logging.impl.Log;
+import org.hibernate.search.util.logging.impl.LoggerFactory;
+
+/**
+ * Reads the tuples of one partition of a table and puts them in batches into the queue consumed by the
+ * {@link TupleConsumer}s.
+ *
+ * @author Gunnar Morling
+ */
+public class TupleProducer implements Runnable {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final PartitionedScanGridDialect gridDialect;
+	private final TupleContext tupleContext;
+	private final EntityKeyMetadata keyMetadata;
+	private final ScanPartition partition;
+	private final ProducerConsumerQueue<List<Tuple>> queue;
+	private final int batchSize;
+	private final AtomicLong remainingObjects;
+	private final ErrorHandler errorHandler;
+
+	public TupleProducer(PartitionedScanGridDialect gridDialect, TupleContext tupleContext, EntityKeyMetadata keyMetadata, ScanPartition partition,
+			ProducerConsumerQueue<List<Tuple>> queue, int batchSize, AtomicLong remainingObjects, ErrorHandler errorHandler) {
+		this.gridDialect = gridDialect;
+		this.tupleContext = tupleContext;
+		this.keyMetadata = keyMetadata;
+		this.partition = partition;
+		this.queue = queue;
+		this.batchSize = batchSize;
+		this.remainingObjects = remainingObjects;
+		this.errorHandler = errorHandler;
+	}
+
+	@Override
+	public void run() {
+		try {
+			TupleBatcher batcher = new TupleBatcher( batchSize, remainingObjects ) {
+
+				@Override
+				protected void batchCompleted(List<Tuple> batch) {
+					// skip the remaining tuples of the partition once interrupted
+					if ( !Thread.currentThread().isInterrupted() ) {
+						try {
+							queue.put( batch );
+						}
+						catch ( InterruptedException e ) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				}
+			};
+			try {
+				gridDialect.forEachTuple( batcher, tupleContext, keyMetadata, partition );
+			}
+			catch ( TupleBatcher.LimitReachedException e ) {
+				// the remaining tuples of this and the other partitions are not to be indexed
+			}
+			batcher.flush();
+		}
+		catch ( RuntimeException re ) {
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), re );
+		}
+		finally {
+			queue.producerStopping();
+		}
+	}
+}
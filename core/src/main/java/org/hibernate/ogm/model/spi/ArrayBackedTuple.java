@@ -0,0 +1,191 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+import static org.hibernate.ogm.model.spi.TupleOperationType.PUT;
+import static org.hibernate.ogm.model.spi.TupleOperationType.PUT_NULL;
+import static org.hibernate.ogm.model.spi.TupleOperationType.REMOVE;
+
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.impl.EmptyTupleSnapshot;
+
+/**
+ * A {@link Tuple} keeping the changes to the columns of a {@link ColumnDictionary} in arrays indexed by column,
+ * avoiding the allocation of a map entry and a {@link TupleOperation} per changed column.
+ * <p>
+ * Changes to columns not contained in the dictionary are handled as by {@link Tuple}. {@link #getOperations()} returns
+ * a view on the arrays, {@link #forEachOperation(TupleOperationConsumer)} iterates them without any allocation.
+ *
+ * @author Gunnar Morling
+ */
+public class ArrayBackedTuple extends Tuple {
+
+	private final ColumnDictionary columns;
+	private final Object[] values;
+	private final TupleOperationType[] operationTypes;
+	private int operationCount;
+
+	public ArrayBackedTuple(ColumnDictionary columns) {
+		this( columns, EmptyTupleSnapshot.INSTANCE );
+	}
+
+	public ArrayBackedTuple(ColumnDictionary columns, TupleSnapshot snapshot) {
+		super( snapshot );
+		this.columns = columns;
+		this.values = new Object[columns.size()];
+		this.operationTypes = new TupleOperationType[columns.size()];
+	}
+
+	@Override
+	public Object get(String column) {
+		int index = columns.indexOf( column );
+		if ( index < 0 ) {
+			return super.get( column );
+		}
+
+		TupleOperationType type = operationTypes[index];
+		if ( type == null ) {
+			return getSnapshot().get( column );
+		}
+		return type == PUT ? values[index] : null;
+	}
+
+	@Override
+	public void put(String column, Object value) {
+		int index = columns.indexOf( column );
+		if ( index < 0 ) {
+			super.put( column, value );
+		}
+		else {
+			apply( index, value, value == null ? PUT_NULL : PUT );
+		}
+	}
+
+	@Override
+	public void remove(String column) {
+		int index = columns.indexOf( column );
+		if ( index < 0 ) {
+			super.remove( column );
+		}
+		else {
+			apply( index, null, REMOVE );
+		}
+	}
+
+	private void apply(int index, Object value, TupleOperationType type) {
+		if ( operationTypes[index] == null ) {
+			operationCount++;
+		}
+		operationTypes[index] = type;
+		values[index] = value;
+	}
+
+	@Override
+	public Set<TupleOperation> getOperations() {
+		final Set<TupleOperation> otherOperations = super.getOperations();
+		if ( operationCount == 0 ) {
+			return otherOperations;
+		}
+
+		return new AbstractSet<TupleOperation>() {
+
+			@Override
+			public Iterator<TupleOperation> iterator() {
+				return new OperationsIterator( otherOperations.iterator() );
+			}
+
+			@Override
+			public int size() {
+				return operationCount + otherOperations.size();
+			}
+		};
+	}
+
+	@Override
+	public void forEachOperation(TupleOperationConsumer consumer) {
+		for ( int index = nextOperation( 0 ); index >= 0; index = nextOperation( index + 1 ) ) {
+			consumer.consume( columns.getColumnName( index ), values[index], operationTypes[index] );
+		}
+		super.forEachOperation( consumer );
+	}
+
+	/**
+	 * Returns the index of the next changed column, starting at the given index, or {@code -1} if there is none.
+	 */
+	private int nextOperation(int start) {
+		if ( operationCount == 0 ) {
+			return -1;
+		}
+		for ( int index = start; index < operationTypes.length; index++ ) {
+			if ( operationTypes[index] != null ) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		Set<String> columnNames = super.getColumnNames();
+		if ( operationCount == 0 ) {
+			return columnNames;
+		}
+
+		columnNames = new HashSet<String>( columnNames );
+		for ( int index = nextOperation( 0 ); index >= 0; index = nextOperation( index + 1 ) ) {
+			if ( operationTypes[index] == REMOVE ) {
+				columnNames.remove( columns.getColumnName( index ) );
+			}
+			else {
+				columnNames.add( columns.getColumnName( index ) );
+			}
+		}
+		return columnNames;
+	}
+
+	/**
+	 * Creates the operations on the columns of the dictionary lazily, followed by the operations on other columns.
+	 */
+	private class OperationsIterator implements Iterator<TupleOperation> {
+
+		private final Iterator<TupleOperation> otherOperations;
+		private int next = nextOperation( 0 );
+
+		private OperationsIterator(Iterator<TupleOperation> otherOperations) {
+			this.otherOperations = otherOperations;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0 || otherOperations.hasNext();
+		}
+
+		@Override
+		public TupleOperation next() {
+			if ( next < 0 ) {
+				if ( !otherOperations.hasNext() ) {
+					throw new NoSuchElementException();
+				}
+				return otherOperations.next();
+			}
+
+			TupleOperation operation = new TupleOperation( columns.getColumnName( next ), values[next], operationTypes[next] );
+			next = nextOperation( next + 1 );
+			return operation;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException( "Not supported" );
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns a fixed index to each of the known columns of an entity type, allowing {@link ArrayBackedTuple}s to keep
+ * their state in arrays rather than maps.
+ * <p>
+ * Instances are immutable and meant to be shared by all the tuples of an entity type.
+ *
+ * @author Gunnar Morling
+ */
+public final class ColumnDictionary {
+
+	private final String[] columnNames;
+	private final Map<String, Integer> indexes;
+
+	/**
+	 * Creates a new dictionary. Duplicated column names are only added once.
+	 *
+	 * @param columnNames the names of the known columns
+	 */
+	public ColumnDictionary(Collection<String> columnNames) {
+		this.indexes = new HashMap<String, Integer>( columnNames.size() * 2 );
+		for ( String columnName : columnNames ) {
+			if ( !indexes.containsKey( columnName ) ) {
+				indexes.put( columnName, indexes.size() );
+			}
+		}
+
+		this.columnNames = new String[indexes.size()];
+		for ( Map.Entry<String, Integer> index : indexes.entrySet() ) {
+			this.columnNames[index.getValue()] = index.getKey();
+		}
+	}
+
+	/**
+	 * @param columnName the name of a column
+	 * @return the index of the given column or {@code -1} if it is not part of this dictionary
+	 */
+	public int indexOf(String columnName) {
+		Integer index = indexes.get( columnName );
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * @param index the index of a column
+	 * @return the name of the column with the given index
+	 */
+	public String getColumnName(int index) {
+		return columnNames[index];
+	}
+
+	/**
+	 * @return the number of columns in this dictionary
+	 */
+	public int size() {
+		return columnNames.length;
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnDictionary" + Arrays.toString( columnNames );
+	}
+}
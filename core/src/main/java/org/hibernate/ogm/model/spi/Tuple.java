@@ -95,6 +95,22 @@ public Set<TupleOperation> getOperations() {
 		}
 	}
 
+	/**
+	 * Passes the operations on this tuple to the given consumer. Unlike {@link #getOperations()}, this does not require
+	 * the operations to be represented as {@link TupleOperation} objects, which may save allocations with some tuple
+	 * implementations such as {@link ArrayBackedTuple}.
+	 *
+	 * @param consumer receives the operations to execute on the Tuple
+	 */
+	public void forEachOperation(TupleOperationConsumer consumer) {
+		if ( currentState == null ) {
+			return;
+		}
+		for ( TupleOperation operation : currentState.values() ) {
+			consumer.consume( operation.getColumn(), operation.getValue(), operation.getType() );
+		}
+	}
+
 	public TupleSnapshot getSnapshot() {
 		return snapshot;
 	}
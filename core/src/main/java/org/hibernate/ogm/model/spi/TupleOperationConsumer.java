@@ -0,0 +1,24 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.model.spi;
+
+/**
+ * Receives the operations applied to a {@link Tuple} one by one, see {@link Tuple#forEachOperation(TupleOperationConsumer)}.
+ *
+ * @author Gunnar Morling
+ */
+public interface TupleOperationConsumer {
+
+	/**
+	 * Invoked for each operation applied to a tuple.
+	 *
+	 * @param column the affected column
+	 * @param value the new value of the column; {@code null} unless the type is {@link TupleOperationType#PUT}
+	 * @param type the type of the operation
+	 */
+	void consume(String column, Object value, TupleOperationType type);
+}
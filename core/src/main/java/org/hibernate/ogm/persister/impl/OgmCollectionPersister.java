@@ -29,11 +29,14 @@
 import org.hibernate.loader.collection.CollectionInitializer;
 import org.hibernate.mapping.Collection;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.jdbc.impl.TupleAsMapResultSet;
 import org.hibernate.ogm.loader.impl.OgmBasicCollectionLoader;
+import org.hibernate.ogm.loader.impl.OgmBatchingCollectionLoader;
 import org.hibernate.ogm.model.impl.DefaultAssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
@@ -262,9 +265,22 @@ protected CollectionInitializer createSubselectInitializer(SubselectFetch subsel
 	protected CollectionInitializer createCollectionInitializer(LoadQueryInfluencers loadQueryInfluencers)
 			throws MappingException {
 		// TODO pass constructor
+		if ( canBatchLoad() ) {
+			return new OgmBatchingCollectionLoader( this, getBatchSize() );
+		}
 		return new OgmBasicCollectionLoader( this );
 	}
 
+	/**
+	 * Whether several collections of this role should be loaded together. Associations stored within the entity
+	 * structure are loaded from the tuple of their owner, so they are not worth batching.
+	 */
+	private boolean canBatchLoad() {
+		return getBatchSize() > 1
+				&& GridDialects.hasFacet( gridDialect, MultiAssociationGridDialect.class )
+				&& !gridDialect.isStoredInEntityStructure( associationKeyMetadata, getAssociationTypeContext() );
+	}
+
 	@Override
 	public GridType getKeyGridType() {
 		return keyGridType;
@@ -43,6 +43,7 @@
 import org.hibernate.ogm.compensation.impl.InvocationCollectingGridDialect;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
+import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
 import org.hibernate.ogm.dialect.impl.ExceptionThrowingLockingStrategy;
 import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.impl.TupleContextImpl;
@@ -68,6 +69,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.ColumnDictionary;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.options.spi.OptionsService;
 import org.hibernate.ogm.options.spi.OptionsService.OptionsServiceContext;
@@ -148,6 +150,12 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 	 */
 	private final InvocationCollectingGridDialect invocationCollectingGridDialect;
 
+	/**
+	 * Checks the inserts of entities using {@link DuplicateInsertPreventionStrategy#DEFERRED_LOOK_UP} in bulk; {@code null}
+	 * if the dialect does not support batching.
+	 */
+	private final BatchOperationsDelegator batchOperationsDelegator;
+
 	private final EntityKeyMetadata entityKeyMetadata;
 	private final DuplicateInsertPreventionStrategy duplicateInsertPreventionStrategy;
 	/**
@@ -215,6 +223,10 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 				gridDialect,
 				InvocationCollectingGridDialect.class
 		);
+		this.batchOperationsDelegator = GridDialects.getDelegateOrNull(
+				gridDialect,
+				BatchOperationsDelegator.class
+		);
 		this.canGridDialectDoMultiget = GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
 
 		if ( factory.getIdentifierGenerator( getEntityName() ) instanceof OgmIdentityGenerator && identityColumnAwareGridDialect == null ) {
@@ -318,7 +330,7 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 		gridIdentifierType = typeTranslator.getType( getIdentifierType() );
 		jpaEntityName = persistentClass.getJpaEntityName();
 		entityKeyMetadata = new DefaultEntityKeyMetadata( getTableName(), getIdentifierColumnNames() );
-		duplicateInsertPreventionStrategy = gridDialect.getDuplicateInsertPreventionStrategy( entityKeyMetadata );
+		duplicateInsertPreventionStrategy = determineDuplicateInsertPreventionStrategy( gridDialect, batchOperationsDelegator, entityKeyMetadata );
 
 		initCustomSQLStrings();
 
@@ -349,6 +361,19 @@ else if ( configuredDefaultBatchSize != -1 ) {
 		}
 	}
 
+	/**
+	 * Deferred look-ups require the inserts to be queued until they have been checked; falls back to immediate look-ups
+	 * otherwise.
+	 */
+	private static DuplicateInsertPreventionStrategy determineDuplicateInsertPreventionStrategy(GridDialect gridDialect,
+			BatchOperationsDelegator batchOperationsDelegator, EntityKeyMetadata entityKeyMetadata) {
+		DuplicateInsertPreventionStrategy strategy = gridDialect.getDuplicateInsertPreventionStrategy( entityKeyMetadata );
+		if ( strategy == DuplicateInsertPreventionStrategy.DEFERRED_LOOK_UP && batchOperationsDelegator == null ) {
+			return DuplicateInsertPreventionStrategy.LOOK_UP;
+		}
+		return strategy;
+	}
+
 	// Required to avoid null pointer errors when super.postInstantiate() is called
 	private void initCustomSQLStrings() {
 		customSQLInsert = new String[TABLE_SPAN];
@@ -546,12 +571,20 @@ private TupleContextImpl createTupleContext() {
 			}
 		}
 
+		List<String> selectableColumns = selectableColumnNames( discriminator );
+
+		// the id columns come first as they are set on every tuple
+		List<String> columns = new ArrayList<String>( getIdentifierColumnNames().length + selectableColumns.size() );
+		Collections.addAll( columns, getIdentifierColumnNames() );
+		columns.addAll( selectableColumns );
+
 		return new TupleContextImpl(
-				selectableColumnNames( discriminator ),
+				selectableColumns,
 				associatedEntityKeyMetadata,
 				roles,
 				optionsService.context().getEntityOptions( getMappedClass() ),
-				null
+				null,
+				new ColumnDictionary( columns )
 		);
 	}
 
@@ -1399,6 +1432,9 @@ public void insert(Serializable id, Object[] fields, Object object, SessionImple
 					}
 				}
 			}
+			else if ( j == 0 && duplicateInsertPreventionStrategy == DuplicateInsertPreventionStrategy.DEFERRED_LOOK_UP ) {
+				batchOperationsDelegator.checkInsertDeferred( key, this.getTupleContext( session ) );
+			}
 
 			resultset = createNewResultSetIfNull( key, resultset, id, session );
 
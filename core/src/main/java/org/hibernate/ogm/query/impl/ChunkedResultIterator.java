@@ -0,0 +1,114 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.engine.HibernateIterator;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Iterates over the results of a query, pulling the tuples lazily from the iterator returned by the dialect and
+ * converting them into results chunk by chunk.
+ * <p>
+ * Only the tuples of the current chunk are kept in memory. The underlying iterator is closed once all the tuples have
+ * been read or when this iterator is closed.
+ *
+ * @author Gunnar Morling
+ */
+public abstract class ChunkedResultIterator implements ClosableIterator<Object>, HibernateIterator {
+
+	/**
+	 * The number of tuples converted at once if neither the query nor the session factory specify a fetch size.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 100;
+
+	private final ClosableIterator<Tuple> tuples;
+	private final int chunkSize;
+
+	private Iterator<Object> chunk = Collections.<Object>emptyList().iterator();
+	private boolean closed;
+
+	public ChunkedResultIterator(ClosableIterator<Tuple> tuples, int chunkSize) {
+		this.tuples = tuples;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns the number of tuples to convert at once: the fetch size of the query if set, otherwise the one
+	 * configured via {@code hibernate.jdbc.fetch_size}, otherwise {@link #DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param queryParameters the parameters of the query
+	 * @param factory the session factory
+	 * @return the number of tuples to convert at once
+	 */
+	public static int chunkSize(QueryParameters queryParameters, SessionFactoryImplementor factory) {
+		Integer fetchSize = queryParameters.getRowSelection() != null ? queryParameters.getRowSelection().getFetchSize() : null;
+		if ( fetchSize == null || fetchSize <= 0 ) {
+			fetchSize = factory.getSessionFactoryOptions().getJdbcFetchSize();
+		}
+		return fetchSize != null && fetchSize > 0 ? fetchSize : DEFAULT_CHUNK_SIZE;
+	}
+
+	/**
+	 * Converts the given tuples into the results of the query, e.g. entities or arrays of scalar values.
+	 *
+	 * @param tuples the next chunk of tuples
+	 * @return the results corresponding to the tuples
+	 */
+	protected abstract List<Object> convert(List<Tuple> tuples);
+
+	@Override
+	public boolean hasNext() {
+		while ( !closed && !chunk.hasNext() ) {
+			if ( tuples.hasNext() ) {
+				chunk = convert( nextTuples() ).iterator();
+			}
+			else {
+				close();
+			}
+		}
+		return chunk.hasNext();
+	}
+
+	@Override
+	public Object next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return chunk.next();
+	}
+
+	private List<Tuple> nextTuples() {
+		List<Tuple> nextTuples = new ArrayList<>( chunkSize );
+		while ( nextTuples.size() < chunkSize && tuples.hasNext() ) {
+			nextTuples.add( tuples.next() );
+		}
+		return nextTuples;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException( "Not supported" );
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			chunk = Collections.<Object>emptyList().iterator();
+			tuples.close();
+		}
+	}
+}
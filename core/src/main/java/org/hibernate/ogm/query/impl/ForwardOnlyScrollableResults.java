@@ -0,0 +1,265 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * {@link ScrollableResults} moving forward over the results of a query provided by a {@link ChunkedResultIterator}.
+ * <p>
+ * As the results are read lazily from the datastore, only {@link ScrollMode#FORWARD_ONLY} is supported.
+ *
+ * @author Gunnar Morling
+ */
+public class ForwardOnlyScrollableResults implements ScrollableResults {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final ChunkedResultIterator results;
+	private final Type[] types;
+
+	private Object[] currentRow;
+	private int rowNumber = -1;
+
+	/**
+	 * @param results the results of the query
+	 * @param types the types of the columns of a row, may be {@code null} if unknown
+	 */
+	public ForwardOnlyScrollableResults(ChunkedResultIterator results, Type[] types) {
+		this.results = results;
+		this.types = types;
+	}
+
+	/**
+	 * Makes sure the given scroll mode can be used with these results.
+	 *
+	 * @param scrollMode the requested scroll mode, {@code null} for the default one
+	 * @throws HibernateException if the scroll mode is not supported
+	 */
+	public static void validateScrollMode(ScrollMode scrollMode) {
+		if ( scrollMode != null && scrollMode != ScrollMode.FORWARD_ONLY ) {
+			throw log.unsupportedScrollMode( scrollMode );
+		}
+	}
+
+	@Override
+	public boolean next() {
+		if ( results.hasNext() ) {
+			currentRow = asRow( results.next() );
+			rowNumber++;
+			return true;
+		}
+		else {
+			currentRow = null;
+			return false;
+		}
+	}
+
+	/*
+	 * The results are returned as they would be by Query#list(): single values as they are, several values as array
+	 */
+	private static Object[] asRow(Object result) {
+		if ( result instanceof Object[] ) {
+			return (Object[]) result;
+		}
+		return new Object[] { result };
+	}
+
+	@Override
+	public boolean previous() {
+		throw log.forwardOnlyScrollableResults( "previous" );
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw log.forwardOnlyScrollableResults( "scroll" );
+		}
+		boolean hasRow = currentRow != null;
+		for ( int i = 0; i < positions; i++ ) {
+			hasRow = next();
+			if ( !hasRow ) {
+				break;
+			}
+		}
+		return hasRow;
+	}
+
+	@Override
+	public boolean last() {
+		throw log.forwardOnlyScrollableResults( "last" );
+	}
+
+	@Override
+	public boolean first() {
+		throw log.forwardOnlyScrollableResults( "first" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw log.forwardOnlyScrollableResults( "beforeFirst" );
+	}
+
+	@Override
+	public void afterLast() {
+		throw log.forwardOnlyScrollableResults( "afterLast" );
+	}
+
+	@Override
+	public boolean isFirst() {
+		return currentRow != null && rowNumber == 0;
+	}
+
+	@Override
+	public boolean isLast() {
+		return currentRow != null && !results.hasNext();
+	}
+
+	@Override
+	public int getRowNumber() {
+		return rowNumber;
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		// negative row numbers are counted from the last row
+		if ( rowNumber < 0 || rowNumber < this.rowNumber ) {
+			throw log.forwardOnlyScrollableResults( "setRowNumber" );
+		}
+		return scroll( rowNumber - this.rowNumber );
+	}
+
+	@Override
+	public void close() {
+		currentRow = null;
+		results.close();
+	}
+
+	@Override
+	public Object[] get() {
+		return currentRow;
+	}
+
+	@Override
+	public Object get(int col) {
+		return currentRow[col];
+	}
+
+	@Override
+	public Type getType(int i) {
+		return types != null ? types[i] : null;
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+}
@@ -70,6 +70,10 @@ public void doCompile(Map replacements, boolean shallow) throws QueryException,
 
 	@Override
 	public List<?> list(SessionImplementor session, QueryParameters queryParameters) throws HibernateException {
+		return createFullTextQuery( session, queryParameters ).list();
+	}
+
+	private FullTextQuery createFullTextQuery(SessionImplementor session, QueryParameters queryParameters) {
 		FullTextSession fullTextSession = Search.getFullTextSession( (Session) session );
 
 		LuceneQueryParsingResult parsingResult = getLuceneQuery( queryParameters, fullTextSession );
@@ -88,8 +92,11 @@ public List<?> list(SessionImplementor session, QueryParameters queryParameters)
 		if ( queryParameters.getRowSelection().getMaxRows() != null ) {
 			fullTextQuery.setMaxResults( queryParameters.getRowSelection().getMaxRows() );
 		}
+		if ( queryParameters.getRowSelection().getFetchSize() != null ) {
+			fullTextQuery.setFetchSize( queryParameters.getRowSelection().getFetchSize() );
+		}
 
-		return fullTextQuery.list();
+		return fullTextQuery;
 	}
 
 	private LuceneQueryParsingResult getLuceneQuery(QueryParameters queryParameters, FullTextSession fullTextSession) {
@@ -113,12 +120,13 @@ private LuceneQueryParsingResult getLuceneQuery(QueryParameters queryParameters,
 
 	@Override
 	public Iterator<?> iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		return createFullTextQuery( session, queryParameters ).iterate();
 	}
 
 	@Override
 	public ScrollableResults scroll(QueryParameters queryParameters, SessionImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		// Hibernate Search loads the matching entities in batches of the fetch size
+		return createFullTextQuery( session, queryParameters ).scroll();
 	}
 
 	@Override
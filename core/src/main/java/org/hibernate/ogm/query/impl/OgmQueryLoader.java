@@ -16,8 +16,10 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.loader.hql.QueryLoader;
@@ -83,12 +85,47 @@ protected List<?> list(SessionImplementor session, org.hibernate.engine.spi.Quer
 		}
 	}
 
+	@Override
+	public ScrollableResults scroll(org.hibernate.engine.spi.QueryParameters queryParameters, SessionImplementor session) throws HibernateException {
+		ForwardOnlyScrollableResults.validateScrollMode( queryParameters.getScrollMode() );
+		return new ForwardOnlyScrollableResults( chunkedResults( session, queryParameters ), queryReturnTypes );
+	}
+
+	@Override
+	public Iterator<?> iterate(org.hibernate.engine.spi.QueryParameters queryParameters, EventSource session) throws HibernateException {
+		return chunkedResults( session, queryParameters );
+	}
+
+	/**
+	 * Returns the results of the query, reading and converting the tuples in chunks of the fetch size.
+	 */
+	private ChunkedResultIterator chunkedResults(final SessionImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) {
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+
+		return new ChunkedResultIterator( tuples, ChunkedResultIterator.chunkSize( queryParameters, session.getFactory() ) ) {
+
+			@Override
+			protected List<Object> convert(List<Tuple> chunk) {
+				if ( hasScalars ) {
+					return listOfArrays( session, chunk.iterator() );
+				}
+				else {
+					return listOfEntities( session, queryReturnTypes, chunk );
+				}
+			}
+		};
+	}
+
 	// At the moment we only support the case where one entity type is returned
 	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
+		return listOfEntities( session, resultTypes, getTuplesAsList( tuples ) );
+	}
+
+	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, List<Tuple> tuples) {
 		Class<?> returnedClass = resultTypes[0].getReturnedClass();
 		TupleBasedEntityLoader loader = getLoader( session, returnedClass );
 		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( getTuplesAsList( tuples ) );
+		ogmLoadingContext.setTuples( tuples );
 		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
 	}
 
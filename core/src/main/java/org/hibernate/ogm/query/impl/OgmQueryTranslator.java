@@ -196,12 +196,14 @@ private Map<String, Object> getNamedParameterValuesConvertedByGridType(QueryPara
 
 	@Override
 	public Iterator<?> iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		return loaderToUse.iterate( queryParameters, session );
 	}
 
 	@Override
 	public ScrollableResults scroll(QueryParameters queryParameters, SessionImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		return loaderToUse.scroll( queryParameters, session );
 	}
 
 	@Override
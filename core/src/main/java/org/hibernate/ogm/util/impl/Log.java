@@ -19,6 +19,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.ScrollMode;
 import org.hibernate.TransactionException;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -295,4 +296,10 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 87, value = "The tuple context is not available, probably because we are dealing with more than a single entity type")
 	HibernateException tupleContextNotAvailable();
+
+	@Message(id = 88, value = "Scroll mode %1$s is not supported, query results can only be scrolled with ScrollMode.FORWARD_ONLY")
+	HibernateException unsupportedScrollMode(ScrollMode scrollMode);
+
+	@Message(id = 89, value = "Operation '%1$s' is not supported by forward-only scrollable results")
+	HibernateException forwardOnlyScrollableResults(String operation);
 }
@@ -11,9 +11,11 @@
 
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.impl.TupleContextImpl;
 import org.hibernate.ogm.dialect.spi.TransactionContext;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.ColumnDictionary;
 import org.hibernate.ogm.model.spi.EntityMetadataInformation;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
@@ -48,6 +50,22 @@ else if ( session != null ) {
 		}
 	}
 
+	/**
+	 * Returns the dictionary of the columns of the entity the given {@link TupleContext} belongs to. May be used by a
+	 * dialect to create {@link org.hibernate.ogm.model.spi.ArrayBackedTuple}s rather than plain tuples.
+	 *
+	 * @param tupleContext the tuple context, may be {@code null}
+	 * @return the dictionary of the columns of the entity or {@code null} if not known
+	 */
+	public static ColumnDictionary columnDictionary(TupleContext tupleContext) {
+		if ( tupleContext instanceof TupleContextImpl ) {
+			return ( (TupleContextImpl) tupleContext ).getColumnDictionary();
+		}
+		else {
+			return null;
+		}
+	}
+
 	/**
 	 * This {@link TupleContext} can be used for those use case where we don't necessarily have a tuple context but we
 	 * still need a {@link TransactionContext}.
@@ -19,8 +19,10 @@
 import org.hibernate.Session;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
 import org.hibernate.ogm.utils.InvokedOperationsLoggingDialect;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.hibernate.ogm.utils.TestForIssue;
@@ -122,6 +124,37 @@ public void testLoadSeveralFloorsFromTower() throws Exception {
 		session.close();
 	}
 
+	@Test
+	public void testLoadFloorsOfSeveralTowersByBatch() throws Exception {
+		Session session = openSession();
+		Tower pise = prepareTower( session );
+		Tower babel = prepareTower( session );
+		session.clear();
+
+		session.beginTransaction();
+		pise = session.get( Tower.class, pise.getId() );
+		babel = session.get( Tower.class, babel.getId() );
+
+		getOperationsLogger().reset();
+		Assertions.assertThat( pise.getFloors() ).hasSize( 2 );
+
+		// if the dialect can load several associations, the floors of both towers are loaded in one go
+		if ( isMultiAssociationDialect() ) {
+			assertTrue( Hibernate.isInitialized( babel.getFloors() ) );
+			assertThat( getOperations() ).contains( "getAssociations" ).excludes( "getAssociation" );
+		}
+		else {
+			assertFalse( Hibernate.isInitialized( babel.getFloors() ) );
+			assertThat( getOperations() ).contains( "getAssociation" ).excludes( "getAssociations" );
+		}
+		Assertions.assertThat( babel.getFloors() ).hasSize( 2 );
+		session.getTransaction().commit();
+
+		cleanTower( session, pise );
+		cleanTower( session, babel );
+		session.close();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "OGM-945")
 	public void testMultigetIsAppliedWithoutExplicitBatchSizeGiven() throws Exception {
@@ -221,6 +254,15 @@ private boolean isMultigetDialect() {
 		return GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
 	}
 
+	private boolean isMultiAssociationDialect() {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		OgmCollectionPersister persister = (OgmCollectionPersister) getSessionFactory().getCollectionPersister( Tower.class.getName() + ".floors" );
+
+		// associations stored within the entity structure are read from the owner, not batch-loaded
+		return GridDialects.hasFacet( gridDialect, MultiAssociationGridDialect.class )
+				&& !gridDialect.isStoredInEntityStructure( persister.getAssociationKeyMetadata(), persister.getAssociationTypeContext() );
+	}
+
 	@Override
 	protected void configure(Map<String, Object> cfg) {
 		cfg.put( OgmProperties.GRID_DIALECT, InvokedOperationsLoggingDialect.class );
@@ -10,6 +10,7 @@
 import static org.hibernate.ogm.utils.GridDialectType.MONGODB;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_EMBEDDED;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_REMOTE;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -98,6 +99,58 @@ public void testEntityWithCompositeIdMassIndexing() throws Exception {
 		}
 	}
 
+	@Test
+	@SkipByGridDialect(value = { NEO4J_EMBEDDED, NEO4J_REMOTE }, comment = "Neo4j is not compatible with HSEARCH 5")
+	public void testMassIndexingWithSeveralThreadsAndBatches() throws Exception {
+		List<String> ids = new ArrayList<String>();
+		{
+			Session session = openSession();
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < 25; i++ ) {
+				Insurance insurance = new Insurance();
+				insurance.setName( "Batch Insurance " + i );
+				session.persist( insurance );
+				ids.add( insurance.getId() );
+			}
+			transaction.commit();
+			session.close();
+		}
+		try {
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			session.createIndexer( Insurance.class )
+					.purgeAllOnStart( true )
+					.threadsToLoadObjects( 4 )
+					.batchSizeToLoadObjects( 3 )
+					.idFetchSize( 6 )
+					.startAndWait();
+
+			QueryBuilder queryBuilder = session.getSearchFactory().buildQueryBuilder().forEntity( Insurance.class ).get();
+			Query luceneQuery = queryBuilder.keyword().wildcard().onField( "name" ).matching( "batch*" ).createQuery();
+			Transaction transaction = session.beginTransaction();
+			assertThat( session.createFullTextQuery( luceneQuery, Insurance.class ).getResultSize() ).isEqualTo( 25 );
+			transaction.commit();
+
+			session.createIndexer( Insurance.class )
+					.purgeAllOnStart( true )
+					.threadsToLoadObjects( 4 )
+					.limitIndexedObjectsTo( 10 )
+					.startAndWait();
+
+			int numDocs = session.getSearchFactory().getIndexReaderAccessor().open( Insurance.class ).numDocs();
+			assertThat( numDocs ).isEqualTo( 10 );
+			session.close();
+		}
+		finally {
+			Session session = openSession();
+			Transaction transaction = session.beginTransaction();
+			for ( String id : ids ) {
+				session.delete( session.get( Insurance.class, id ) );
+			}
+			transaction.commit();
+			session.close();
+		}
+	}
+
 	private void startAndWaitMassIndexing(Class<?> entityType) throws InterruptedException {
 		FullTextSession session = Search.getFullTextSession( openSession() );
 		session.createIndexer( entityType ).purgeAllOnStart( true ).startAndWait();
@@ -7,9 +7,16 @@
 package org.hibernate.ogm.backendtck.queries;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.CASSANDRA;
+import static org.hibernate.ogm.utils.GridDialectType.COUCHDB;
+import static org.hibernate.ogm.utils.GridDialectType.EHCACHE;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
 import static org.hibernate.ogm.utils.GridDialectType.MONGODB;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_EMBEDDED;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_REMOTE;
+import static org.hibernate.ogm.utils.GridDialectType.REDIS_HASH;
+import static org.hibernate.ogm.utils.GridDialectType.REDIS_JSON;
 import static org.hibernate.ogm.utils.OgmAssertions.assertThat;
 
 import java.util.ArrayList;
@@ -17,12 +24,15 @@
 import java.util.Calendar;
 import java.util.Date;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.TimeZone;
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.Query;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
@@ -492,6 +502,98 @@ public void testOrderedDescByNumericFieldWithCustomColumnNameQuery() throws Exce
 		);
 	}
 
+	@Test
+	public void testScrollQuery() throws Exception {
+		ScrollableResults results = session.createQuery( "from Hypothesis h order by h.position desc" )
+				.setFetchSize( 3 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		List<Object> hypotheses = new ArrayList<Object>();
+		try {
+			while ( results.next() ) {
+				hypotheses.add( results.get( 0 ) );
+			}
+		}
+		finally {
+			results.close();
+		}
+
+		assertThat( hypotheses ).onProperty( "position" ).containsExactly(
+				7, 6, 5, 4, 4, 3, 2, 1
+		);
+	}
+
+	@Test
+	public void testScrollProjectionQuery() throws Exception {
+		ScrollableResults results = session.createQuery( "select name, make from Helicopter h where h.make = 'Lama'" )
+				.setFetchSize( 1 )
+				.scroll();
+
+		List<ProjectionResult> projectionResult = new ArrayList<ProjectionResult>();
+		try {
+			while ( results.next() ) {
+				projectionResult.add( new ProjectionResult( results.getString( 0 ), results.getString( 1 ) ) );
+			}
+		}
+		finally {
+			results.close();
+		}
+
+		assertThat( projectionResult ).containsOnly(
+				new ProjectionResult( "Lama", "Lama" ),
+				new ProjectionResult( "No creative clue", "Lama" )
+		);
+	}
+
+	@Test
+	@SkipByGridDialect(
+			value = { HASHMAP, INFINISPAN, EHCACHE, COUCHDB, CASSANDRA, REDIS_JSON, REDIS_HASH },
+			comment = "Native queries are not supported or cannot sort the results")
+	public void testScrollNativeQuery() throws Exception {
+		ScrollableResults results = session.createSQLQuery( nativeQueryForHypothesesOrderedByPositionDesc() )
+				.addEntity( Hypothesis.class )
+				.setFetchSize( 3 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		List<Object> hypotheses = new ArrayList<Object>();
+		try {
+			while ( results.next() ) {
+				hypotheses.add( results.get( 0 ) );
+			}
+		}
+		finally {
+			results.close();
+		}
+
+		assertThat( hypotheses ).onProperty( "position" ).containsExactly(
+				7, 6, 5, 4, 4, 3, 2, 1
+		);
+	}
+
+	private static String nativeQueryForHypothesesOrderedByPositionDesc() {
+		if ( TestHelper.getCurrentDialectType() == MONGODB ) {
+			return "db.Hypothesis.find({ '$query' : { }, '$orderby' : { 'pos' : -1 } })";
+		}
+		return "MATCH ( h:Hypothesis ) RETURN h ORDER BY h.pos DESC";
+	}
+
+	@Test
+	public void testIterateQuery() throws Exception {
+		Iterator<?> results = session.createQuery( "from Hypothesis h order by h.position desc" )
+				.setFetchSize( 3 )
+				.iterate();
+
+		// the iterator is closed once all the results have been read
+		List<Object> hypotheses = new ArrayList<Object>();
+		while ( results.hasNext() ) {
+			hypotheses.add( results.next() );
+		}
+
+		assertThat( hypotheses ).onProperty( "position" ).containsExactly(
+				7, 6, 5, 4, 4, 3, 2, 1
+		);
+	}
+
 	@Test
 	public void testOrderedDescAndAscQuery() throws Exception {
 		List<?> result = session.createQuery( "from Helicopter h order by h.make desc, h.name" ).list();
@@ -0,0 +1,123 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.keyvalue.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.datastore.keyvalue.cfg.KeyValueStoreProperties;
+import org.hibernate.ogm.datastore.keyvalue.impl.IdBlockAllocator.IdSource;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.model.impl.DefaultIdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IdBlockAllocator}.
+ *
+ * @author Gunnar Morling
+ */
+public class IdBlockAllocatorTest {
+
+	private static final int THREADS = 32;
+	private static final int LOOPS = 1000;
+
+	private static final IdSourceKey SEQUENCE = IdSourceKey.forSequence( DefaultIdSourceKeyMetadata.forSequence( "seq" ) );
+	private static final IdSourceKey OTHER_SEQUENCE = IdSourceKey.forSequence( DefaultIdSourceKeyMetadata.forSequence( "other_seq" ) );
+
+	private IdBlockAllocator allocator;
+
+	@After
+	public void stopAllocator() {
+		allocator.stop();
+	}
+
+	@Test
+	public void shouldHandOutUniqueValuesFromBlocks() throws Exception {
+		allocator = new IdBlockAllocator( 100, Collections.<String, Integer>emptyMap() );
+		final CountingIdSource idSource = new CountingIdSource();
+		final Set<Long> values = Collections.newSetFromMap( new ConcurrentHashMap<Long, Boolean>() );
+
+		Thread[] threads = new Thread[THREADS];
+		for ( int i = 0; i < threads.length; i++ ) {
+			threads[i] = new Thread(
+					new Runnable() {
+						@Override
+						public void run() {
+							for ( int i = 0; i < LOOPS; i++ ) {
+								values.add( allocator.nextValue( new NextValueRequest( SEQUENCE, 1, 1 ), idSource ).longValue() );
+							}
+						}
+					}
+			);
+			threads[i].start();
+		}
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+
+		assertThat( values ).hasSize( THREADS * LOOPS );
+		// at most one block reserved in advance remains unused
+		assertThat( idSource.reservations.get() ).isLessThanOrEqualTo( THREADS * LOOPS / 100 + 1 );
+	}
+
+	@Test
+	public void shouldApplyIncrementWithinBlock() {
+		allocator = new IdBlockAllocator( 3, Collections.<String, Integer>emptyMap() );
+		CountingIdSource idSource = new CountingIdSource();
+
+		assertThat( allocator.nextValue( new NextValueRequest( SEQUENCE, 10, 1 ), idSource ) ).isEqualTo( 1L );
+		assertThat( allocator.nextValue( new NextValueRequest( SEQUENCE, 10, 1 ), idSource ) ).isEqualTo( 11L );
+		assertThat( allocator.nextValue( new NextValueRequest( SEQUENCE, 10, 1 ), idSource ) ).isEqualTo( 21L );
+		assertThat( allocator.nextValue( new NextValueRequest( SEQUENCE, 10, 1 ), idSource ) ).isEqualTo( 31L );
+	}
+
+	@Test
+	public void shouldApplyBlockSizeConfiguredPerIdSource() {
+		Map<String, Object> configuration = new HashMap<String, Object>();
+		configuration.put( KeyValueStoreProperties.ID_BLOCK_SIZE, "50" );
+		configuration.put( KeyValueStoreProperties.ID_BLOCK_SIZE + ".other_seq", "1" );
+		allocator = IdBlockAllocator.fromConfiguration( configuration );
+		CountingIdSource idSource = new CountingIdSource();
+
+		allocator.nextValue( new NextValueRequest( SEQUENCE, 1, 1 ), idSource );
+		allocator.nextValue( new NextValueRequest( SEQUENCE, 1, 1 ), idSource );
+		assertThat( idSource.reservations.get() ).isEqualTo( 1 );
+
+		allocator.nextValue( new NextValueRequest( OTHER_SEQUENCE, 1, 1 ), idSource );
+		allocator.nextValue( new NextValueRequest( OTHER_SEQUENCE, 1, 1 ), idSource );
+		assertThat( idSource.reservations.get() ).isEqualTo( 3 );
+	}
+
+	/**
+	 * Keeps the next value of each id source, counting the reservations.
+	 */
+	private static class CountingIdSource implements IdSource {
+
+		private final ConcurrentMap<IdSourceKey, AtomicLong> nextValues = new ConcurrentHashMap<IdSourceKey, AtomicLong>();
+		private final AtomicInteger reservations = new AtomicInteger();
+
+		@Override
+		public long reserve(NextValueRequest request, int blockSize) {
+			reservations.incrementAndGet();
+
+			nextValues.putIfAbsent( request.getKey(), new AtomicLong( request.getInitialValue() ) );
+			AtomicLong nextValue = nextValues.get( request.getKey() );
+
+			return nextValue.getAndAdd( (long) request.getIncrement() * blockSize );
+		}
+	}
+}
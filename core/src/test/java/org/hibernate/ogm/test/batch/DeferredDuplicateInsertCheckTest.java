@@ -0,0 +1,229 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.Cloud;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.SnowFlake;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
+import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.exception.EntityAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the inserts of entities using {@link DuplicateInsertPreventionStrategy#DEFERRED_LOOK_UP} are checked in
+ * bulk when flushing.
+ *
+ * @author Gunnar Morling
+ */
+public class DeferredDuplicateInsertCheckTest extends OgmTestCase {
+
+	static final List<String> invocations = new ArrayList<String>();
+	static final Set<Object> existingIds = new HashSet<Object>();
+
+	@Before
+	public void resetDialect() {
+		invocations.clear();
+		existingIds.clear();
+	}
+
+	@Test
+	public void testInsertsAreCheckedWithOneReadPerChunk() throws Exception {
+		final Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Hypothesis( "hypo-1" ) );
+		session.persist( new Hypothesis( "hypo-2" ) );
+		session.persist( new Hypothesis( "hypo-3" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		assertThat( invocations ).containsExactly( "getTuples[3]", "executeBatch" );
+	}
+
+	@Test
+	public void testDuplicateInsertIsDetected() throws Exception {
+		existingIds.add( "hypo-2" );
+
+		final Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Hypothesis( "hypo-1" ) );
+		session.persist( new Hypothesis( "hypo-2" ) );
+		session.persist( new Hypothesis( "hypo-3" ) );
+
+		try {
+			session.flush();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch ( EntityAlreadyExistsException e ) {
+			assertThat( e.getMessage() ).matches( ".*OGM000067.*hypo-2.*" );
+		}
+
+		session.getTransaction().rollback();
+		session.close();
+
+		assertThat( invocations ).containsExactly( "getTuples[3]" );
+	}
+
+	@Test
+	public void testPendingInsertsAreCheckedBeforeReadDuringFlush() throws Exception {
+		SnowFlake snowFlake = new SnowFlake();
+		Cloud cloud = new Cloud();
+		cloud.getProducedSnowFlakes().add( snowFlake );
+
+		final Session session = openSession();
+		session.beginTransaction();
+		session.persist( snowFlake );
+		session.persist( cloud );
+		session.getTransaction().commit();
+		session.close();
+
+		// the association is read when flushing the collection, after the inserts of both entity types have been queued
+		int firstAssociationRead = indexOfFirstAssociationRead();
+		assertThat( invocations.subList( 0, firstAssociationRead ) ).containsExactly( "getTuples[1]", "getTuples[1]" );
+		assertThat( invocations.subList( firstAssociationRead, invocations.size() ) ).excludes( "getTuples[1]" );
+	}
+
+	private int indexOfFirstAssociationRead() {
+		for ( int i = 0; i < invocations.size(); i++ ) {
+			if ( invocations.get( i ).endsWith( "Association" ) ) {
+				return i;
+			}
+		}
+		fail( "Association hasn't been read" );
+		return -1;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, DeferredLookUpDatastoreProvider.class.getName() );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Hypothesis.class, Cloud.class, SnowFlake.class };
+	}
+
+	public static class DeferredLookUpDatastoreProvider extends BaseDatastoreProvider {
+
+		@Override
+		public Class<? extends GridDialect> getDefaultDialect() {
+			return DeferredLookUpDialect.class;
+		}
+	}
+
+	/**
+	 * Records the invocations of read operations and batch executions; the tuples with the ids contained in
+	 * {@link DeferredDuplicateInsertCheckTest#existingIds} are considered to exist.
+	 */
+	public static class DeferredLookUpDialect extends BaseGridDialect implements BatchableGridDialect, MultigetGridDialect {
+
+		public DeferredLookUpDialect(DeferredLookUpDatastoreProvider provider) {
+		}
+
+		@Override
+		public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(EntityKeyMetadata entityKeyMetadata) {
+			return DuplicateInsertPreventionStrategy.DEFERRED_LOOK_UP;
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			invocations.add( "executeBatch" );
+		}
+
+		@Override
+		public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+			invocations.add( "getTuple" );
+			return existingIds.contains( key.getColumnValues()[0] ) ? new Tuple() : null;
+		}
+
+		@Override
+		public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+			invocations.add( "getTuples[" + keys.length + "]" );
+			List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+			for ( EntityKey key : keys ) {
+				tuples.add( existingIds.contains( key.getColumnValues()[0] ) ? new Tuple() : null );
+			}
+			return tuples;
+		}
+
+		@Override
+		public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
+			return new Tuple();
+		}
+
+		@Override
+		public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		}
+
+		@Override
+		public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		}
+
+		@Override
+		public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+			invocations.add( "getAssociation" );
+			return null;
+		}
+
+		@Override
+		public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+			invocations.add( "createAssociation" );
+			return new Association();
+		}
+
+		@Override
+		public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		}
+
+		@Override
+		public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		}
+
+		@Override
+		public Number nextValue(NextValueRequest request) {
+			return null;
+		}
+
+		@Override
+		public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		}
+
+		@Override
+		public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMetadata, AssociationTypeContext associationTypeContext) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectOperationContexts.emptyTupleContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
+import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that {@link BatchOperationsDelegator} passes the queue of the current flush to the delegate when reading
+ * several tuples at once, so the delegate can apply the queued operations before reading.
+ *
+ * @author Gunnar Morling
+ */
+public class MultigetWithQueuedOperationsTest {
+
+	private final EntityKeyMetadata metadata = new DefaultEntityKeyMetadata( "Hypothesis", new String[] { "id" } );
+
+	private OperationsQueue queue;
+	private RecordingDialect dialect;
+	private BatchOperationsDelegator delegator;
+
+	@Before
+	public void setUpDelegator() {
+		queue = new OperationsQueue();
+		dialect = new RecordingDialect();
+		delegator = new BatchOperationsDelegator( dialect, new FlushEventContextManager( queue ) );
+	}
+
+	@Test
+	public void testQueuedInsertIsPassedToMultiget() throws Exception {
+		EntityKey inserted = entityKey( "hypo-1" );
+		TupleContext tupleContext = emptyTupleContext();
+		delegator.checkInsertDeferred( inserted, tupleContext );
+		delegator.insertOrUpdateTuple( inserted, new Tuple(), tupleContext );
+
+		delegator.getTuples( new EntityKey[] { inserted, entityKey( "hypo-2" ) }, tupleContext );
+
+		// the deferred duplicate check is done before handing over the queue
+		assertThat( dialect.invocations ).containsExactly( "getTuples[1]", "getTuples[2] queued[hypo-1]" );
+	}
+
+	private EntityKey entityKey(String id) {
+		return new EntityKey( metadata, new Object[] { id } );
+	}
+
+	/**
+	 * Simulates being within a flush, using the given queue.
+	 */
+	private static class FlushEventContextManager extends EventContextManager {
+
+		private final OperationsQueue queue;
+
+		FlushEventContextManager(OperationsQueue queue) {
+			this.queue = queue;
+		}
+
+		@Override
+		public boolean isActive() {
+			return true;
+		}
+
+		@Override
+		public <T> T get(Class<T> stateType) {
+			return stateType.cast( queue );
+		}
+	}
+
+	/**
+	 * Records the multiget invocations and the requested keys contained in the queue passed with them.
+	 */
+	private static class RecordingDialect extends BaseGridDialect implements BatchableGridDialect, MultigetGridDialect {
+
+		private final List<String> invocations = new ArrayList<String>();
+
+		@Override
+		public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+			StringBuilder invocation = new StringBuilder( "getTuples[" ).append( keys.length ).append( "]" );
+			List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+
+			OperationsQueue operationsQueue = tupleContext.getOperationsQueue();
+			if ( operationsQueue != null ) {
+				List<Object> queued = new ArrayList<Object>();
+				for ( EntityKey key : keys ) {
+					if ( operationsQueue.contains( key ) ) {
+						queued.add( key.getColumnValues()[0] );
+					}
+				}
+				invocation.append( " queued" ).append( queued );
+			}
+
+			for ( int i = 0; i < keys.length; i++ ) {
+				tuples.add( null );
+			}
+
+			invocations.add( invocation.toString() );
+			return tuples;
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			invocations.add( "executeBatch" );
+		}
+
+		@Override
+		public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+			invocations.add( "getTuple" );
+			return null;
+		}
+
+		@Override
+		public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
+			return new Tuple();
+		}
+
+		@Override
+		public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		}
+
+		@Override
+		public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		}
+
+		@Override
+		public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+			return null;
+		}
+
+		@Override
+		public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+			return new Association();
+		}
+
+		@Override
+		public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		}
+
+		@Override
+		public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		}
+
+		@Override
+		public Number nextValue(NextValueRequest request) {
+			return null;
+		}
+
+		@Override
+		public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		}
+
+		@Override
+		public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMetadata, AssociationTypeContext associationTypeContext) {
+			return false;
+		}
+	}
+}
@@ -6,14 +6,20 @@
  */
 package org.hibernate.ogm.test.batch;
 
+import static org.hibernate.ogm.utils.GridDialectOperationContexts.emptyAssociationContext;
 import static org.hibernate.ogm.utils.GridDialectOperationContexts.emptyTupleContext;
 
 import org.fest.assertions.Assertions;
 import org.hibernate.HibernateException;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.junit.Before;
@@ -69,6 +75,22 @@ public void testContainsKeyIsFalseWhenAddingRemoveTupleOperation() throws Except
 		Assertions.assertThat( queue.contains( key ) ).isFalse();
 	}
 
+	@Test
+	public void testContainsKeyWhenAddingAssociationOperations() throws Exception {
+		AssociationKey updated = associationKey( "owner-1" );
+		AssociationKey removed = associationKey( "owner-2" );
+		queue.add( new InsertOrUpdateAssociationOperation( null, updated, emptyAssociationContext() ) );
+		queue.add( new RemoveAssociationOperation( removed, emptyAssociationContext() ) );
+
+		Assertions.assertThat( queue.contains( updated ) ).isTrue();
+		Assertions.assertThat( queue.contains( removed ) ).isTrue();
+		Assertions.assertThat( queue.contains( associationKey( "owner-3" ) ) ).isFalse();
+
+		queue.clear();
+
+		Assertions.assertThat( queue.contains( updated ) ).isFalse();
+	}
+
 	@Test
 	public void testAddRemoveTupleOperation() throws Exception {
 		EntityKey key = entityKey();
@@ -111,4 +133,12 @@ private EntityKey entityKey() {
 		EntityKey key = new EntityKey( keyMetadata, new Object[] {} );
 		return key;
 	}
+
+	private AssociationKey associationKey(String ownerId) {
+		AssociationKeyMetadata keyMetadata = new DefaultAssociationKeyMetadata.Builder()
+				.table( "AssociationTable" )
+				.columnNames( new String[] { "owner_id" } )
+				.build();
+		return new AssociationKey( keyMetadata, new Object[] { ownerId }, null );
+	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.massindex;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.massindex.impl.TupleBatcher;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TupleBatcher}.
+ *
+ * @author Gunnar Morling
+ */
+public class TupleBatcherTest {
+
+	private static final int NUMBER_OF_TUPLES = 10;
+
+	@Test
+	public void shouldStopScanOnceLimitIsReached() {
+		AtomicLong remainingObjects = new AtomicLong( 5 );
+		RecordingBatcher batcher = new RecordingBatcher( 2, remainingObjects );
+
+		int read = scan( batcher );
+		batcher.flush();
+
+		assertThat( read ).isEqualTo( 5 );
+		assertThat( batcher.batchSizes ).containsExactly( 2, 2, 1 );
+		assertThat( remainingObjects.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void shouldNotReadBeyondLimitSharedWithOtherBatchers() {
+		AtomicLong remainingObjects = new AtomicLong( 3 );
+		RecordingBatcher first = new RecordingBatcher( 2, remainingObjects );
+		RecordingBatcher second = new RecordingBatcher( 2, remainingObjects );
+
+		scan( first );
+		first.flush();
+		int read = scan( second );
+		second.flush();
+
+		assertThat( read ).isEqualTo( 1 );
+		assertThat( first.batchSizes ).containsExactly( 2, 1 );
+		assertThat( second.batchSizes ).isEmpty();
+		assertThat( remainingObjects.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void shouldReadAllTuplesIfLimitIsNotReached() {
+		AtomicLong remainingObjects = new AtomicLong( Long.MAX_VALUE );
+		RecordingBatcher batcher = new RecordingBatcher( 4, remainingObjects );
+
+		int read = scan( batcher );
+		batcher.flush();
+
+		assertThat( read ).isEqualTo( NUMBER_OF_TUPLES );
+		assertThat( batcher.batchSizes ).containsExactly( 4, 4, 2 );
+	}
+
+	/**
+	 * Passes tuples to the given batcher, as done by a grid dialect scanning a table.
+	 *
+	 * @return the number of tuples read before the scan got aborted
+	 */
+	private int scan(TupleBatcher batcher) {
+		int read = 0;
+		try {
+			for ( int i = 0; i < NUMBER_OF_TUPLES; i++ ) {
+				read++;
+				batcher.consume( new Tuple() );
+			}
+		}
+		catch ( TupleBatcher.LimitReachedException e ) {
+			// expected once the limit is reached
+		}
+		return read;
+	}
+
+	private static class RecordingBatcher extends TupleBatcher {
+
+		private final List<Integer> batchSizes = new ArrayList<Integer>();
+
+		RecordingBatcher(int batchSize, AtomicLong remainingObjects) {
+			super( batchSize, remainingObjects );
+		}
+
+		@Override
+		protected void batchCompleted(List<Tuple> batch) {
+			batchSizes.add( batch.size() );
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.model;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.spi.ArrayBackedTuple;
+import org.hibernate.ogm.model.spi.ColumnDictionary;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.model.spi.TupleOperationType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ArrayBackedTuple}.
+ *
+ * @author Gunnar Morling
+ */
+public class ArrayBackedTupleTest {
+
+	private final ColumnDictionary columns = new ColumnDictionary( Arrays.asList( "id", "name", "age", "name" ) );
+
+	@Test
+	public void testDictionary() {
+		assertThat( columns.size() ).isEqualTo( 3 );
+		assertThat( columns.indexOf( "id" ) ).isEqualTo( 0 );
+		assertThat( columns.indexOf( "name" ) ).isEqualTo( 1 );
+		assertThat( columns.getColumnName( 2 ) ).isEqualTo( "age" );
+		assertThat( columns.indexOf( "unknown" ) ).isEqualTo( -1 );
+	}
+
+	@Test
+	public void testOperations() {
+		Map<String, Object> map = new HashMap<>();
+		map.put( "id", 1 );
+		map.put( "name", "Bob" );
+		map.put( "age", 42 );
+		map.put( "nickname", "Bobby" );
+
+		Tuple tuple = new ArrayBackedTuple( columns, new MapTupleSnapshot( map ) );
+
+		assertThat( tuple.get( "name" ) ).isEqualTo( "Bob" );
+		assertThat( tuple.get( "nickname" ) ).isEqualTo( "Bobby" );
+		assertThat( tuple.getOperations() ).isEmpty();
+
+		tuple.put( "name", "Robert" );
+		tuple.put( "age", null );
+		tuple.remove( "nickname" );
+		tuple.put( "city", "Paris" );
+
+		assertThat( tuple.get( "id" ) ).isEqualTo( 1 );
+		assertThat( tuple.get( "name" ) ).isEqualTo( "Robert" );
+		assertThat( tuple.get( "age" ) ).isNull();
+		assertThat( tuple.get( "nickname" ) ).isNull();
+		assertThat( tuple.get( "city" ) ).isEqualTo( "Paris" );
+		assertThat( tuple.getColumnNames() ).containsOnly( "id", "name", "age", "city" );
+
+		assertThat( tuple.getOperations() ).hasSize( 4 );
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			if ( operation.getColumn().equals( "age" ) ) {
+				assertThat( operation.getType() ).isEqualTo( TupleOperationType.PUT_NULL );
+			}
+			else if ( operation.getColumn().equals( "nickname" ) ) {
+				assertThat( operation.getType() ).isEqualTo( TupleOperationType.REMOVE );
+			}
+			else {
+				assertThat( operation.getType() ).isEqualTo( TupleOperationType.PUT );
+				assertThat( operation.getValue() ).isEqualTo( tuple.get( operation.getColumn() ) );
+			}
+		}
+
+		MapHelpers.applyTupleOpsOnMap( tuple, map );
+
+		assertThat( map.keySet() ).containsOnly( "id", "name", "city" );
+		assertThat( map.get( "name" ) ).isEqualTo( "Robert" );
+		assertThat( map.get( "city" ) ).isEqualTo( "Paris" );
+	}
+}
@@ -121,6 +121,17 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return association;
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		List<Association> associations = super.getAssociations( keys, associationContext );
+		List<String> shortStrings = new ArrayList<String>( associations.size() );
+		for ( Association association : associations ) {
+			shortStrings.add( toShortString( association ) );
+		}
+		log( "getAssociations", Arrays.toString( keys ), shortStrings.toString() );
+		return associations;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Association association = super.createAssociation( key, associationContext );
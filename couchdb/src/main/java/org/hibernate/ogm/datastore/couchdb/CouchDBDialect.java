@@ -7,7 +7,9 @@
 package org.hibernate.ogm.datastore.couchdb;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,8 +17,10 @@
 
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.impl.CouchDBDatastore;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.AssociationDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.DeletedDocument;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.Document;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.GenericResponse;
 import org.hibernate.ogm.datastore.couchdb.dialect.model.impl.CouchDBAssociation;
 import org.hibernate.ogm.datastore.couchdb.dialect.model.impl.CouchDBAssociationSnapshot;
 import org.hibernate.ogm.datastore.couchdb.dialect.model.impl.CouchDBTupleSnapshot;
@@ -25,10 +29,21 @@
 import org.hibernate.ogm.datastore.couchdb.dialect.type.impl.CouchDBLongType;
 import org.hibernate.ogm.datastore.couchdb.dialect.type.impl.CouchDBStringType;
 import org.hibernate.ogm.datastore.couchdb.impl.CouchDBDatastoreProvider;
+import org.hibernate.ogm.datastore.couchdb.logging.impl.Log;
+import org.hibernate.ogm.datastore.couchdb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.couchdb.util.impl.Identifier;
 import org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers;
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
 import org.hibernate.ogm.datastore.document.options.spi.AssociationStorageOption;
+import org.hibernate.ogm.dialect.batch.spi.BatchExecutionException;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -63,20 +78,38 @@
  * <p>
  * Tuples are stored in CouchDB documents obtained as a JSON serialization of a {@link EntityDocument} object.
  * Associations are stored in CouchDB documents obtained as a JSON serialization of a {@link AssociationDocument} object.
+ * <p>
+ * The changes of a flush are written with as few bulk requests as possible, see {@link #executeBatch(OperationsQueue)}.
  *
  * @author Andrea Boriero &lt;dreborier@gmail.com&gt;
  * @author Gunnar Morling
  */
-public class CouchDBDialect extends BaseGridDialect {
+public class CouchDBDialect extends BaseGridDialect implements BatchableGridDialect, MultigetGridDialect {
+
+	private static final Log logger = LoggerFactory.getLogger();
+
+	private static final String CONFLICT = "conflict";
+
+	/**
+	 * The number of tuples retrieved with one request when iterating over the tuples of a table
+	 */
+	private static final int FOR_EACH_TUPLE_PAGE_SIZE = 1000;
 
 	private final CouchDBDatastoreProvider provider;
+	private final int batchSize;
 
 	public CouchDBDialect(CouchDBDatastoreProvider provider) {
 		this.provider = provider;
+		this.batchSize = provider.getConfiguration().getBatchSize();
 	}
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		OperationsQueue queue = tupleContext.getOperationsQueue();
+		if ( queue != null && queue.contains( key ) ) {
+			executeQueuedOperations( queue );
+		}
+
 		EntityDocument entity = getDataStore().getEntity( Identifier.createEntityId( key ) );
 		if ( entity != null ) {
 			return new Tuple( new CouchDBTupleSnapshot( entity.getProperties() ) );
@@ -85,6 +118,36 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 		return null;
 	}
 
+	/**
+	 * Retrieves the documents of the given keys with one request ({@code POST /_all_docs?include_docs=true}).
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		OperationsQueue queue = tupleContext.getOperationsQueue();
+		if ( queue != null ) {
+			for ( EntityKey key : keys ) {
+				if ( queue.contains( key ) ) {
+					executeQueuedOperations( queue );
+					break;
+				}
+			}
+		}
+
+		List<String> ids = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			ids.add( Identifier.createEntityId( key ) );
+		}
+
+		Map<String, EntityDocument> entities = getDataStore().getEntities( ids );
+		List<Tuple> tuples = new ArrayList<>( keys.length );
+		for ( String id : ids ) {
+			EntityDocument entity = entities.get( id );
+			tuples.add( entity != null ? new Tuple( new CouchDBTupleSnapshot( entity.getProperties() ) ) : null );
+		}
+
+		return tuples;
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		return new Tuple( new CouchDBTupleSnapshot( key ) );
@@ -93,27 +156,39 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
 		CouchDBTupleSnapshot snapshot = (CouchDBTupleSnapshot) tuple.getSnapshot();
-
-		String revision = (String) snapshot.get( Document.REVISION_FIELD_NAME );
-
-		// load the latest revision for updates without the revision being present; a warning about
-		// this mapping will have been issued at factory start-up
-		if ( revision == null && !snapshot.isCreatedOnInsert() ) {
-			revision = getDataStore().getCurrentRevision( Identifier.createEntityId( key ), false );
-		}
+		EntityDocument document = new EntityDocument( key, snapshot.getRevision(), tuple );
 
 		try {
 			// this will raise an optimistic locking exception if the revision is either null or not the current one
-			getDataStore().saveDocument( new EntityDocument( key, revision, tuple ) );
+			getDataStore().saveDocument( document );
 		}
 		catch (OptimisticLockException ole) {
 			if ( snapshot.isCreatedOnInsert() ) {
 				throw new TupleAlreadyExistsException( key.getMetadata(), tuple, ole );
 			}
-			else {
+			else if ( isRevisionMapped( tupleContext ) ) {
 				throw ole;
 			}
+
+			// the entity doesn't map the revision, so it is updated based on the latest revision; a warning about this
+			// mapping will have been issued at factory start-up
+			String currentRevision = getDataStore().getCurrentRevision( document.getId(), false );
+			if ( currentRevision == null ) {
+				throw ole;
+			}
+			document.setRevision( currentRevision );
+			getDataStore().saveDocument( document );
 		}
+
+		snapshot.setRevision( document.getRevision() );
+	}
+
+	/**
+	 * Whether the entity of the given context maps the revision property, i.e. whether it makes use of the optimistic
+	 * locking mechanism of CouchDB.
+	 */
+	private static boolean isRevisionMapped(TupleContext tupleContext) {
+		return tupleContext.getSelectableColumns().contains( Document.REVISION_FIELD_NAME );
 	}
 
 	@Override
@@ -126,6 +201,8 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		CouchDBAssociation couchDBAssociation = null;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
+			// the owning entity may have pending changes which must not be overwritten when saving the association
+			executeQueuedOperations( associationContext.getOperationsQueue() );
 			EntityDocument owningEntity = getDataStore().getEntity( Identifier.createEntityId( key.getEntityKey() ) );
 
 			if ( owningEntity != null && DotPatternMapHelpers.hasField(
@@ -151,6 +228,7 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 		CouchDBAssociation couchDBAssociation = null;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
+			executeQueuedOperations( associationContext.getOperationsQueue() );
 			EntityDocument owningEntity = getDataStore().getEntity( Identifier.createEntityId( key.getEntityKey() ) );
 			if ( owningEntity == null ) {
 				owningEntity = (EntityDocument) getDataStore().saveDocument( new EntityDocument( key.getEntityKey() ) );
@@ -173,7 +251,21 @@ public void insertOrUpdateAssociation(AssociationKey associationKey, Association
 		CouchDBAssociation couchDBAssociation = ( (CouchDBAssociationSnapshot) association.getSnapshot() ).getCouchDbAssociation();
 		couchDBAssociation.setRows( rows );
 
-		getDataStore().saveDocument( couchDBAssociation.getOwningDocument() );
+		Document owningDocument = getDataStore().saveDocument( couchDBAssociation.getOwningDocument() );
+		updateOwningEntityRevision( owningDocument, associationContext );
+	}
+
+	/**
+	 * Applies the revision of the given document to the tuple of the entity owning an association, if the association
+	 * is stored within that entity's document.
+	 */
+	private static void updateOwningEntityRevision(Document owningDocument, AssociationContext associationContext) {
+		Tuple entityTuple = associationContext.getEntityTuple();
+
+		if ( owningDocument instanceof EntityDocument && entityTuple != null
+				&& entityTuple.getSnapshot() instanceof CouchDBTupleSnapshot ) {
+			( (CouchDBTupleSnapshot) entityTuple.getSnapshot() ).setRevision( owningDocument.getRevision() );
+		}
 	}
 
 	private Object getAssociationRows(Association association, AssociationKey associationKey, AssociationContext associationContext) {
@@ -245,6 +337,7 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			if ( owningEntity != null ) {
 				owningEntity.removeAssociation( key.getMetadata().getCollectionRole() );
 				getDataStore().saveDocument( owningEntity );
+				updateOwningEntityRevision( owningEntity, associationContext );
 			}
 		}
 		else {
@@ -252,6 +345,119 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		}
 	}
 
+	/**
+	 * Writes the documents affected by the queued operations with bulk requests ({@code POST /_bulk_docs}) of at most
+	 * {@link CouchDBProperties#BATCH_SIZE} documents each. If a document is written more than once, the documents
+	 * pending so far are written first, so the revision obtained by the first write can be applied to the second one.
+	 * The revisions of the documents to be deleted are retrieved with one request per bulk request. The revisions
+	 * returned for written entities are applied to their tuple snapshots.
+	 * <p>
+	 * Documents failing to be written, e.g. due to a conflicting revision, are reported via a
+	 * {@link BatchExecutionException}, mapping each failing operation to a {@link TupleAlreadyExistsException} or an
+	 * {@link OptimisticLockException}.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			BulkWrite bulkWrite = new BulkWrite();
+			Operation operation = queue.poll();
+
+			while ( operation != null ) {
+				if ( operation instanceof InsertOrUpdateTupleOperation ) {
+					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+					executeBatchUpdate( bulkWrite, update );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+					executeBatchRemove( bulkWrite, remove );
+				}
+				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+					executeBatchUpdateAssociation( bulkWrite, update );
+				}
+				else if ( operation instanceof RemoveAssociationOperation ) {
+					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+					executeBatchRemoveAssociation( bulkWrite, remove );
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported on CouchDB: " + operation.getClass().getName() );
+				}
+				operation = queue.poll();
+			}
+
+			bulkWrite.flush();
+			queue.clear();
+
+			if ( !bulkWrite.failedOperations.isEmpty() ) {
+				throw new BatchExecutionException( bulkWrite.failedOperations );
+			}
+		}
+	}
+
+	private void executeBatchUpdate(BulkWrite bulkWrite, InsertOrUpdateTupleOperation update) {
+		EntityKey key = update.getEntityKey();
+		Tuple tuple = update.getTuple();
+		bulkWrite.prepareFor( Identifier.createEntityId( key ) );
+
+		CouchDBTupleSnapshot snapshot = (CouchDBTupleSnapshot) tuple.getSnapshot();
+		EntityDocument document = new EntityDocument( key, snapshot.getRevision(), tuple );
+		bulkWrite.add( new EntityWrite( document, update, key, tuple, isRevisionMapped( update.getTupleContext() ) ) );
+	}
+
+	private void executeBatchRemove(BulkWrite bulkWrite, RemoveTupleOperation remove) {
+		String id = Identifier.createEntityId( remove.getEntityKey() );
+		bulkWrite.prepareFor( id );
+		bulkWrite.add( new PendingWrite( new DeletedDocument( id, null ), remove ) );
+	}
+
+	private void executeBatchUpdateAssociation(BulkWrite bulkWrite, InsertOrUpdateAssociationOperation update) {
+		Association association = update.getAssociation();
+		Object rows = getAssociationRows( association, update.getAssociationKey(), update.getContext() );
+
+		CouchDBAssociation couchDBAssociation = ( (CouchDBAssociationSnapshot) association.getSnapshot() ).getCouchDbAssociation();
+		couchDBAssociation.setRows( rows );
+
+		Document owningDocument = couchDBAssociation.getOwningDocument();
+		bulkWrite.prepareFor( owningDocument.getId() );
+		bulkWrite.add( new AssociationWrite( owningDocument, update, update.getContext() ) );
+	}
+
+	private void executeBatchRemoveAssociation(BulkWrite bulkWrite, RemoveAssociationOperation remove) {
+		AssociationKey key = remove.getAssociationKey();
+
+		if ( isStoredInEntityStructure( key.getMetadata(), remove.getContext().getAssociationTypeContext() ) ) {
+			String id = Identifier.createEntityId( key.getEntityKey() );
+			bulkWrite.prepareFor( id );
+
+			EntityDocument owningEntity = getDataStore().getEntity( id );
+			if ( owningEntity != null ) {
+				owningEntity.removeAssociation( key.getMetadata().getCollectionRole() );
+				bulkWrite.add( new AssociationWrite( owningEntity, remove, remove.getContext() ) );
+			}
+		}
+		else {
+			String id = Identifier.createAssociationId( key );
+			bulkWrite.prepareFor( id );
+			bulkWrite.add( new PendingWrite( new DeletedDocument( id, null ), remove ) );
+		}
+	}
+
+	/**
+	 * Applies the operations queued so far, so that subsequent reads see their outcome.
+	 *
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	private void executeQueuedOperations(OperationsQueue queue) {
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			try {
+				executeBatch( queue );
+			}
+			catch (BatchExecutionException bee) {
+				throw bee.getFirstFailure();
+			}
+		}
+	}
+
 	@Override
 	public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMetadata, AssociationTypeContext associationTypeContext) {
 		AssociationStorageType associationStorage = associationTypeContext
@@ -312,7 +518,7 @@ else if ( type instanceof SerializableToBlobType ) {
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
-		forTuple( consumer, entityKeyMetadata );
+		getDataStore().forEachTuple( entityKeyMetadata, FOR_EACH_TUPLE_PAGE_SIZE, consumer );
 	}
 
 	@Override
@@ -320,17 +526,6 @@ public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(En
 		return DuplicateInsertPreventionStrategy.NATIVE;
 	}
 
-	private void forTuple(ModelConsumer consumer, EntityKeyMetadata entityKeyMetadata) {
-		List<Tuple> tuples = getTuples( entityKeyMetadata );
-		for ( Tuple tuple : tuples ) {
-			consumer.consume( tuple );
-		}
-	}
-
-	private List<Tuple> getTuples(EntityKeyMetadata entityKeyMetadata) {
-		return getDataStore().getTuples( entityKeyMetadata );
-	}
-
 	private CouchDBDatastore getDataStore() {
 		return provider.getDataStore();
 	}
@@ -341,4 +536,245 @@ private void removeDocumentIfPresent(String id) {
 			getDataStore().deleteDocument( id, currentRevision );
 		}
 	}
+
+	/**
+	 * The documents to be written with the next bulk request, keyed by id.
+	 */
+	private class BulkWrite {
+
+		private final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+
+		/**
+		 * The revision each document written so far had before and after its last write, keyed by id
+		 */
+		private final Map<String, String[]> writtenRevisions = new HashMap<>();
+
+		private final Map<Operation, RuntimeException> failedOperations = new LinkedHashMap<>();
+
+		/**
+		 * Writes the pending documents if one of them has the given id, so the given document can be read or written
+		 * again afterwards.
+		 */
+		void prepareFor(String id) {
+			if ( pendingWrites.containsKey( id ) ) {
+				flush();
+			}
+		}
+
+		void add(PendingWrite write) {
+			// the document has been read before the previous write of this batch; apply the revision of that write
+			Document document = write.document;
+			String[] revisions = writtenRevisions.get( document.getId() );
+			if ( revisions != null && revisions[0] != null && revisions[0].equals( document.getRevision() ) ) {
+				document.setRevision( revisions[1] );
+			}
+
+			pendingWrites.put( document.getId(), write );
+
+			if ( pendingWrites.size() >= batchSize ) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if ( pendingWrites.isEmpty() ) {
+				return;
+			}
+
+			List<PendingWrite> writes = new ArrayList<>( pendingWrites.values() );
+			pendingWrites.clear();
+
+			List<PendingWrite> conflicting = write( applyDeletionRevisions( writes ), true );
+
+			// documents of entities not mapping the revision are written again based on their current revision
+			if ( !conflicting.isEmpty() ) {
+				Map<String, String> currentRevisions = getDataStore().getCurrentRevisions( ids( conflicting ) );
+				List<PendingWrite> retries = new ArrayList<>( conflicting.size() );
+
+				for ( PendingWrite write : conflicting ) {
+					String currentRevision = currentRevisions.get( write.document.getId() );
+					if ( currentRevision == null ) {
+						failedOperations.put( write.operation, logger.getDocumentHasBeenConcurrentlyModifiedException( write.document.getId() ) );
+					}
+					else {
+						write.document.setRevision( currentRevision );
+						retries.add( write );
+					}
+				}
+
+				write( retries, false );
+			}
+		}
+
+		/**
+		 * Retrieves the current revisions of the documents to be deleted, omitting the deletion of documents not
+		 * existing any longer.
+		 */
+		private List<PendingWrite> applyDeletionRevisions(List<PendingWrite> writes) {
+			List<String> deletedIds = new ArrayList<>();
+			for ( PendingWrite write : writes ) {
+				if ( write.document instanceof DeletedDocument ) {
+					deletedIds.add( write.document.getId() );
+				}
+			}
+
+			if ( deletedIds.isEmpty() ) {
+				return writes;
+			}
+
+			Map<String, String> currentRevisions = getDataStore().getCurrentRevisions( deletedIds );
+			List<PendingWrite> applicableWrites = new ArrayList<>( writes.size() );
+
+			for ( PendingWrite write : writes ) {
+				if ( write.document instanceof DeletedDocument ) {
+					String currentRevision = currentRevisions.get( write.document.getId() );
+					if ( currentRevision == null ) {
+						continue;
+					}
+					write.document.setRevision( currentRevision );
+				}
+				applicableWrites.add( write );
+			}
+
+			return applicableWrites;
+		}
+
+		/**
+		 * Writes the given documents with one bulk request.
+		 *
+		 * @return the writes failing due to a conflict which may be retried
+		 */
+		private List<PendingWrite> write(List<PendingWrite> writes, boolean retryConflicts) {
+			if ( writes.isEmpty() ) {
+				return Collections.emptyList();
+			}
+
+			List<Document> documents = new ArrayList<>( writes.size() );
+			List<String> previousRevisions = new ArrayList<>( writes.size() );
+			for ( PendingWrite write : writes ) {
+				documents.add( write.document );
+				previousRevisions.add( write.document.getRevision() );
+			}
+
+			List<GenericResponse> results = getDataStore().saveDocuments( documents );
+			List<PendingWrite> conflicting = new ArrayList<>();
+
+			for ( int i = 0; i < writes.size(); i++ ) {
+				PendingWrite write = writes.get( i );
+				GenericResponse result = results.get( i );
+
+				if ( result.getError() == null ) {
+					writtenRevisions.put( write.document.getId(), new String[] { previousRevisions.get( i ), result.getRev() } );
+					write.onSuccess();
+				}
+				else if ( retryConflicts && CONFLICT.equals( result.getError() ) && write.isRetryableOnConflict() ) {
+					conflicting.add( write );
+				}
+				else {
+					failedOperations.put( write.operation, write.toException( result ) );
+				}
+			}
+
+			return conflicting;
+		}
+
+		private List<String> ids(List<PendingWrite> writes) {
+			List<String> ids = new ArrayList<>( writes.size() );
+			for ( PendingWrite write : writes ) {
+				ids.add( write.document.getId() );
+			}
+			return ids;
+		}
+	}
+
+	/**
+	 * A document to be written by a bulk request on behalf of a batched operation.
+	 */
+	private static class PendingWrite {
+
+		protected final Document document;
+		protected final Operation operation;
+
+		PendingWrite(Document document, Operation operation) {
+			this.document = document;
+			this.operation = operation;
+		}
+
+		/**
+		 * Invoked after the document has been written; its revision has been updated at this point.
+		 */
+		void onSuccess() {
+		}
+
+		boolean isRetryableOnConflict() {
+			return false;
+		}
+
+		RuntimeException toException(GenericResponse result) {
+			if ( CONFLICT.equals( result.getError() ) ) {
+				return logger.getDocumentHasBeenConcurrentlyModifiedException( document.getId() );
+			}
+
+			return logger.errorWritingDocument( document.getId(), result.getError(), result.getReason() );
+		}
+	}
+
+	/**
+	 * Writes the document of an entity, updating the revision of the entity's tuple snapshot.
+	 */
+	private static class EntityWrite extends PendingWrite {
+
+		private final EntityKey key;
+		private final Tuple tuple;
+		private final boolean revisionMapped;
+
+		EntityWrite(Document document, Operation operation, EntityKey key, Tuple tuple, boolean revisionMapped) {
+			super( document, operation );
+			this.key = key;
+			this.tuple = tuple;
+			this.revisionMapped = revisionMapped;
+		}
+
+		private CouchDBTupleSnapshot getSnapshot() {
+			return (CouchDBTupleSnapshot) tuple.getSnapshot();
+		}
+
+		@Override
+		void onSuccess() {
+			getSnapshot().setRevision( document.getRevision() );
+		}
+
+		@Override
+		boolean isRetryableOnConflict() {
+			return !revisionMapped && !getSnapshot().isCreatedOnInsert();
+		}
+
+		@Override
+		RuntimeException toException(GenericResponse result) {
+			RuntimeException exception = super.toException( result );
+			if ( CONFLICT.equals( result.getError() ) && getSnapshot().isCreatedOnInsert() ) {
+				return new TupleAlreadyExistsException( key.getMetadata(), tuple, exception );
+			}
+			return exception;
+		}
+	}
+
+	/**
+	 * Writes the document of an association, updating the revision of the owning entity's tuple snapshot if the
+	 * association is stored within that entity.
+	 */
+	private static class AssociationWrite extends PendingWrite {
+
+		private final AssociationContext associationContext;
+
+		AssociationWrite(Document document, Operation operation, AssociationContext associationContext) {
+			super( document, operation );
+			this.associationContext = associationContext;
+		}
+
+		@Override
+		void onSuccess() {
+			updateOwningEntityRevision( document, associationContext );
+		}
+	}
 }
@@ -17,6 +17,12 @@
  */
 public final class CouchDBProperties implements OgmProperties {
 
+	/**
+	 * The maximum number of documents written with one bulk request ({@code POST /_bulk_docs}) when flushing changes.
+	 * Defaults to 500.
+	 */
+	public static final String BATCH_SIZE = "hibernate.ogm.couchdb.batch_size";
+
 	private CouchDBProperties() {
 	}
 }
@@ -10,6 +10,7 @@
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
 import javax.ws.rs.HEAD;
+import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -19,6 +20,8 @@
 
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.DesignDocument;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.TuplesDesignDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.AllDocsRequest;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.BulkDocsRequest;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.Document;
 
 /**
@@ -43,6 +46,16 @@ public interface DatabaseClient {
 	@Path("{id}")
 	Response saveDocument(Document document, @PathParam("id") String id);
 
+	/**
+	 * Creates, updates or deletes all the documents of the given request
+	 *
+	 * @param request the documents to be written
+	 * @return the {@link Response} from CouchDB, containing one result per document
+	 */
+	@POST
+	@Path("_bulk_docs")
+	Response saveDocuments(BulkDocsRequest request);
+
 	/**
 	 * Save a {@link DesignDocument} with the given id
 	 *
@@ -105,15 +118,32 @@ public interface DatabaseClient {
 	Response getKeyValueById(@PathParam("id") String id);
 
 	/**
-	 * Retrieve all the entity tuples with the table name equals to the given one.
+	 * Retrieve the {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocument}s with the given
+	 * ids
+	 *
+	 * @param request the ids of the documents to retrieve
+	 * @param includeDocs whether to include the documents in the response; always {@code true}
+	 * @return the {@link Response} with the
+	 * {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocumentRows}
+	 */
+	@POST
+	@Path("_all_docs")
+	Response getEntitiesByIds(AllDocsRequest request, @QueryParam("include_docs") boolean includeDocs);
+
+	/**
+	 * Retrieve a page of the entity tuples with the table name equals to the given one, ordered by document id.
 	 *
-	 * @param tableName name of the entity
+	 * @param tableName name of the entity, as JSON string
+	 * @param startDocumentId the id of the first document to retrieve; all documents of the table are retrieved if
+	 * {@code null}
+	 * @param limit the maximum number of documents to retrieve
 	 * @return the {@link Response} with the
 	 * {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.EntityTupleRows}
 	 */
 	@GET
 	@Path(TuplesDesignDocument.ENTITY_TUPLE_BY_TABLE_NAME_PATH)
-	Response getEntityTuplesByTableName(@QueryParam("key") String tableName);
+	Response getEntityTuplesByTableName(@QueryParam("startkey") String tableName, @QueryParam("endkey") String sameTableName,
+			@QueryParam("startkey_docid") String startDocumentId, @QueryParam("limit") int limit);
 
 	/**
 	 * Retrieves the current revision of the document with the given id.
@@ -126,6 +156,17 @@ public interface DatabaseClient {
 	@Path("{id}")
 	Response getCurrentRevision(@PathParam("id") String id);
 
+	/**
+	 * Retrieves the current revisions of the documents with the given ids.
+	 *
+	 * @param request the ids of the documents of which to get the current revision
+	 * @return the {@link Response} with the
+	 * {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.DocumentRevisionRows}
+	 */
+	@POST
+	@Path("_all_docs")
+	Response getCurrentRevisions(AllDocsRequest request);
+
 	/**
 	 * Retrieves the current revision of the design document with the given id.
 	 *
@@ -7,22 +7,29 @@
 package org.hibernate.ogm.datastore.couchdb.dialect.backend.impl;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
 
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.facade.impl.DatabaseClient;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.facade.impl.ServerClient;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.DesignDocument;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.EntityTupleRows;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.AllDocsRequest;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.AssociationDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.BulkDocsRequest;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.Document;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.DocumentRevisionRows;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocumentRows;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.GenericResponse;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.SequenceDocument;
 import org.hibernate.ogm.datastore.couchdb.logging.impl.Log;
 import org.hibernate.ogm.datastore.couchdb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.couchdb.util.impl.DatabaseIdentifier;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.spi.Tuple;
@@ -107,6 +114,41 @@ public Document saveDocument(Document document) {
 		return doSaveDocument( document, false );
 	}
 
+	/**
+	 * Creates, updates or deletes the given documents with one bulk request. The revisions of the documents written
+	 * successfully are updated. Failures such as conflicts are not raised but reported in the returned list.
+	 *
+	 * @param documents the documents to be written
+	 * @return the result for each of the given documents, in the same order
+	 */
+	public List<GenericResponse> saveDocuments(List<Document> documents) {
+		Response response = null;
+		try {
+			response = databaseClient.saveDocuments( new BulkDocsRequest( documents ) );
+			if ( response.getStatus() == Response.Status.CREATED.getStatusCode() ) {
+				List<GenericResponse> results = response.readEntity( new GenericType<List<GenericResponse>>() { } );
+				for ( int i = 0; i < results.size(); i++ ) {
+					if ( results.get( i ).getError() == null ) {
+						updateDocumentRevision( documents.get( i ), results.get( i ).getRev() );
+					}
+				}
+				return results;
+			}
+			else {
+				GenericResponse entity = response.readEntity( GenericResponse.class );
+				throw logger.errorWritingDocuments( response.getStatus(), entity.getError(), entity.getReason() );
+			}
+		}
+		catch (ResteasyClientException e) {
+			throw logger.couchDBConnectionProblem( e );
+		}
+		finally {
+			if ( response != null ) {
+				response.close();
+			}
+		}
+	}
+
 	/**
 	 * Saves the given design document in the database.
 	 *
@@ -221,6 +263,37 @@ else if ( response.getStatus() == Response.Status.NOT_FOUND.getStatusCode() ) {
 		}
 	}
 
+	/**
+	 * Returns the current revisions of the documents with the given ids, using one request.
+	 *
+	 * @param documentIds the ids of the documents
+	 * @return the current revisions of the specified documents, keyed by id; documents which don't exist are not
+	 * contained
+	 */
+	public Map<String, String> getCurrentRevisions(List<String> documentIds) {
+		Response response = null;
+
+		try {
+			response = databaseClient.getCurrentRevisions( new AllDocsRequest( documentIds ) );
+
+			if ( response.getStatus() == Response.Status.OK.getStatusCode() ) {
+				return response.readEntity( DocumentRevisionRows.class ).getRevisions();
+			}
+			else {
+				GenericResponse responseEntity = response.readEntity( GenericResponse.class );
+				throw logger.errorRetrievingCurrentRevisions( response.getStatus(), responseEntity.getError(), responseEntity.getReason() );
+			}
+		}
+		catch (ResteasyClientException e) {
+			throw logger.couchDBConnectionProblem( e );
+		}
+		finally {
+			if ( response != null ) {
+				response.close();
+			}
+		}
+	}
+
 	/**
 	 * Whether the given document exists in the datastore or not.
 	 *
@@ -264,14 +337,65 @@ else if ( response.getStatus() == Response.Status.OK.getStatusCode() ) {
 	}
 
 	/**
-	 * Retrieves all the tuples matching the {@link EntityKeyMetadata}
+	 * Passes all the tuples matching the {@link EntityKeyMetadata} to the given consumer. The tuples are retrieved in
+	 * pages of the given size, so only one page is held in memory at a time.
 	 *
 	 * @param entityKeyMetadata the EntityKeyMetadata used to filter the tuples
-	 * @return all the tuples matching the given entityKeyMetadata
+	 * @param pageSize the maximum number of tuples to retrieve with one request
+	 * @param consumer the consumer to pass the tuples to
 	 */
-	public List<Tuple> getTuples(EntityKeyMetadata entityKeyMetadata) {
+	public void forEachTuple(EntityKeyMetadata entityKeyMetadata, int pageSize, ModelConsumer consumer) {
 		final String tableName = getTableName( entityKeyMetadata );
-		return getTuplesByTableName( tableName );
+		String startDocumentId = null;
+
+		do {
+			// one more row than needed is retrieved, its id is the start of the next page
+			EntityTupleRows rows = getTuplesByTableName( tableName, startDocumentId, pageSize + 1 );
+			List<Tuple> tuples = rows.getTuples();
+
+			if ( tuples.size() > pageSize ) {
+				startDocumentId = rows.getDocumentId( pageSize );
+				tuples = tuples.subList( 0, pageSize );
+			}
+			else {
+				startDocumentId = null;
+			}
+
+			for ( Tuple tuple : tuples ) {
+				consumer.consume( tuple );
+			}
+		}
+		while ( startDocumentId != null );
+	}
+
+	/**
+	 * Retrieves the {@link EntityDocument}s with the given ids, using one request.
+	 *
+	 * @param ids the ids of the documents
+	 * @return the specified documents, keyed by id; documents which don't exist are not contained
+	 */
+	public Map<String, EntityDocument> getEntities(List<String> ids) {
+		Response response = null;
+
+		try {
+			response = databaseClient.getEntitiesByIds( new AllDocsRequest( ids ), true );
+
+			if ( response.getStatus() == Response.Status.OK.getStatusCode() ) {
+				return response.readEntity( EntityDocumentRows.class ).getDocuments();
+			}
+			else {
+				GenericResponse responseEntity = response.readEntity( GenericResponse.class );
+				throw logger.errorRetrievingEntities( response.getStatus(), responseEntity.getError(), responseEntity.getReason() );
+			}
+		}
+		catch (ResteasyClientException e) {
+			throw logger.couchDBConnectionProblem( e );
+		}
+		finally {
+			if ( response != null ) {
+				response.close();
+			}
+		}
 	}
 
 	public long nextValue(IdSourceKey key, int increment, int initialValue) {
@@ -401,12 +525,13 @@ private boolean databaseExists(ServerClient serverClient, String databaseName) {
 		}
 	}
 
-	private List<Tuple> getTuplesByTableName(String tableName) {
+	private EntityTupleRows getTuplesByTableName(String tableName, String startDocumentId, int limit) {
 		Response response = null;
 		try {
-			response = databaseClient.getEntityTuplesByTableName( "\"" + tableName + "\"" );
+			String key = "\"" + tableName + "\"";
+			response = databaseClient.getEntityTuplesByTableName( key, key, startDocumentId, limit );
 			if ( response.getStatus() == Response.Status.OK.getStatusCode() ) {
-				return response.readEntity( EntityTupleRows.class ).getTuples();
+				return response.readEntity( EntityTupleRows.class );
 			}
 			else {
 				GenericResponse responseEntity = response.readEntity( GenericResponse.class );
@@ -45,6 +45,17 @@ public List<Tuple> getTuples() {
 		return tuples;
 	}
 
+	/**
+	 * Returns the id of the document of the given row.
+	 *
+	 * @param index the index of the row
+	 * @return the id of the document of the specified row
+	 */
+	@JsonIgnore
+	public String getDocumentId(int index) {
+		return rows.get( index ).getValue().getId();
+	}
+
 	@JsonIgnoreProperties(ignoreUnknown = true)
 	private static class Row {
 		private EntityDocument value;
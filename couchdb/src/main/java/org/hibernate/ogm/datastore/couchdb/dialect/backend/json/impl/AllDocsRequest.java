@@ -0,0 +1,30 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.List;
+
+/**
+ * Used to serialize the request body for retrieving several documents by id ({@code POST /_all_docs}), with the
+ * following structure:
+ *
+ * { "keys": ["id1", "id2"] }
+ *
+ * @author Gunnar Morling
+ */
+public class AllDocsRequest {
+
+	private final List<String> keys;
+
+	public AllDocsRequest(List<String> keys) {
+		this.keys = keys;
+	}
+
+	public List<String> getKeys() {
+		return keys;
+	}
+}
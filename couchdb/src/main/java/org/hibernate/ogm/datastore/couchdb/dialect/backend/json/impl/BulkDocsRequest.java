@@ -0,0 +1,32 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.List;
+
+/**
+ * Used to serialize the request body of a bulk write ({@code POST /_bulk_docs}), with the following structure:
+ *
+ * { "docs": [{ "_id": "", "_rev": " ", "$type": "entity", ... }, { "_id": "", "_rev": " ", "$type": "deleted", "_deleted": true }] }
+ *
+ * @author Gunnar Morling
+ */
+public class BulkDocsRequest {
+
+	/**
+	 * Declared as list of {@link Document} so the type discriminator of each document gets serialized.
+	 */
+	private final List<Document> docs;
+
+	public BulkDocsRequest(List<Document> docs) {
+		this.docs = docs;
+	}
+
+	public List<Document> getDocs() {
+		return docs;
+	}
+}
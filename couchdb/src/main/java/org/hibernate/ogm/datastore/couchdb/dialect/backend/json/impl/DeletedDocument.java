@@ -0,0 +1,37 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * Represents the deletion of a document as part of a bulk request.
+ *
+ * Used to serialize the JSON with the following structure:
+ *
+ * { "_id": "", "_rev": " ", "$type": "deleted", "_deleted": true }
+ *
+ * @author Gunnar Morling
+ */
+@JsonTypeName(DeletedDocument.TYPE_NAME)
+public class DeletedDocument extends Document {
+
+	/**
+	 * The name of this document type as materialized in {@link Document#TYPE_DISCRIMINATOR_FIELD_NAME}.
+	 */
+	public static final String TYPE_NAME = "deleted";
+
+	public DeletedDocument(String id, String revision) {
+		super( id, revision );
+	}
+
+	@JsonProperty("_deleted")
+	public boolean isDeleted() {
+		return true;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Represents the result of retrieving several documents by id ({@code POST /_all_docs}) without their contents,
+ * having the following structure:
+ *
+ * { "rows": [{ "id": "id1", "key": "id1", "value": { "rev": "1-123" } }, { "key": "id2", "error": "not_found" }] }
+ *
+ * @author Gunnar Morling
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DocumentRevisionRows {
+
+	private List<Row> rows;
+
+	List<Row> getRows() {
+		return rows;
+	}
+
+	void setRows(List<Row> rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Returns the current revision of each existing document.
+	 *
+	 * @return the revisions of the existing documents, keyed by document id; documents which don't exist or have been
+	 * deleted are not contained
+	 */
+	@JsonIgnore
+	public Map<String, String> getRevisions() {
+		Map<String, String> revisions = new HashMap<String, String>( rows.size() );
+		for ( Row row : rows ) {
+			if ( row.getValue() != null && !row.getValue().isDeleted() ) {
+				revisions.put( row.getKey(), row.getValue().getRev() );
+			}
+		}
+		return revisions;
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	private static class Row {
+		private String key;
+		private Value value;
+
+		public String getKey() {
+			return key;
+		}
+
+		@SuppressWarnings("unused") //invoked reflectively
+		void setKey(String key) {
+			this.key = key;
+		}
+
+		public Value getValue() {
+			return value;
+		}
+
+		@SuppressWarnings("unused") //invoked reflectively
+		void setValue(Value value) {
+			this.value = value;
+		}
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	private static class Value {
+		private String rev;
+		private boolean deleted;
+
+		public String getRev() {
+			return rev;
+		}
+
+		@SuppressWarnings("unused") //invoked reflectively
+		void setRev(String rev) {
+			this.rev = rev;
+		}
+
+		public boolean isDeleted() {
+			return deleted;
+		}
+
+		@SuppressWarnings("unused") //invoked reflectively
+		void setDeleted(boolean deleted) {
+			this.deleted = deleted;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Represents the result of retrieving several entity documents by id ({@code POST /_all_docs?include_docs=true}),
+ * having the following structure:
+ *
+ * { "rows": [{ "id": "id1", "key": "id1", "value": { "rev": "1-123" }, "doc": { ... } }, { "key": "id2", "error": "not_found" }] }
+ *
+ * @author Gunnar Morling
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EntityDocumentRows {
+
+	private List<Row> rows;
+
+	List<Row> getRows() {
+		return rows;
+	}
+
+	void setRows(List<Row> rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Returns the existing documents.
+	 *
+	 * @return the existing documents, keyed by id; documents which don't exist or have been deleted are not contained
+	 */
+	@JsonIgnore
+	public Map<String, EntityDocument> getDocuments() {
+		Map<String, EntityDocument> documents = new HashMap<String, EntityDocument>( rows.size() );
+		for ( Row row : rows ) {
+			if ( row.getDoc() != null ) {
+				documents.put( row.getKey(), row.getDoc() );
+			}
+		}
+		return documents;
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	private static class Row {
+		private String key;
+		private EntityDocument doc;
+
+		public String getKey() {
+			return key;
+		}
+
+		@SuppressWarnings("unused") //invoked reflectively
+		void setKey(String key) {
+			this.key = key;
+		}
+
+		public EntityDocument getDoc() {
+			return doc;
+		}
+
+		@SuppressWarnings("unused") //invoked reflectively
+		void setDoc(EntityDocument doc) {
+			this.doc = doc;
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.Document;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocument;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
 import org.hibernate.ogm.model.key.spi.EntityKey;
@@ -19,6 +20,9 @@
  * A {@link TupleSnapshot} based on the properties of a CouchDB {@link EntityDocument}.
  * <p>
  * Fundamentally a {@link MapTupleSnapshot} except that the {@link EntityKey} column names and values are copied.
+ * <p>
+ * The snapshot carries the revision of the document it has been loaded from, which is updated when writing the entity,
+ * so subsequent writes can be based on it without retrieving the current revision first.
  *
  * @author Andrea Boriero &lt;dreborier@gmail.com&gt;
  * @author Gunnar Morling
@@ -26,7 +30,7 @@
 public class CouchDBTupleSnapshot implements TupleSnapshot {
 
 	private final Map<String, Object> properties;
-	private final boolean createdOnInsert;
+	private boolean createdOnInsert;
 
 	public CouchDBTupleSnapshot(EntityKey key) {
 		createdOnInsert = true;
@@ -66,4 +70,25 @@ public Set<String> getColumnNames() {
 	public boolean isCreatedOnInsert() {
 		return createdOnInsert;
 	}
+
+	/**
+	 * Returns the revision of the document this snapshot represents.
+	 *
+	 * @return the revision of the document as loaded or last written, {@code null} if the entity has not been written
+	 * yet
+	 */
+	public String getRevision() {
+		return (String) properties.get( Document.REVISION_FIELD_NAME );
+	}
+
+	/**
+	 * Sets the revision returned by the datastore after writing the entity represented by this snapshot. The snapshot
+	 * represents a persisted entity afterwards.
+	 *
+	 * @param revision the new revision of the document
+	 */
+	public void setRevision(String revision) {
+		properties.put( Document.REVISION_FIELD_NAME, revision );
+		createdOnInsert = false;
+	}
 }
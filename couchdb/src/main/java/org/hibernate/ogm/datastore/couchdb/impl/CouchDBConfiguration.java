@@ -6,8 +6,13 @@
  */
 package org.hibernate.ogm.datastore.couchdb.impl;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
+import org.hibernate.ogm.datastore.couchdb.CouchDBProperties;
+import org.hibernate.ogm.datastore.couchdb.logging.impl.Log;
+import org.hibernate.ogm.datastore.couchdb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
 
 /**
  * Provides utility methods to access the CouchDB configuration value
@@ -19,7 +24,42 @@ public class CouchDBConfiguration extends DocumentStoreConfiguration {
 
 	public static final int DEFAULT_PORT = 5984;
 
+	private static final int DEFAULT_BATCH_SIZE = 500;
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	/**
+	 * A {@link PropertyValidator} which asserts that a given number is a valid batch size.
+	 */
+	private static final PropertyValidator<Integer> BATCH_SIZE_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalBatchSize( CouchDBProperties.BATCH_SIZE, value );
+			}
+		}
+	};
+
+	private final int batchSize;
+
 	public CouchDBConfiguration(ConfigurationPropertyReader reader) {
 		super( reader, DEFAULT_PORT );
+
+		this.batchSize = reader.property( CouchDBProperties.BATCH_SIZE, int.class )
+				.withValidator( BATCH_SIZE_VALIDATOR )
+				.withDefault( DEFAULT_BATCH_SIZE )
+				.getValue();
+	}
+
+	/**
+	 * @see CouchDBProperties#BATCH_SIZE
+	 * @return the maximum number of documents written with one bulk request
+	 */
+	public int getBatchSize() {
+		return batchSize;
 	}
 }
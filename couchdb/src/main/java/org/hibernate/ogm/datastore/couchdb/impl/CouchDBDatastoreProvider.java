@@ -97,6 +97,15 @@ public CouchDBDatastore getDataStore() {
 		return datastore;
 	}
 
+	/**
+	 * Provides the configuration of this datastore
+	 *
+	 * @return the configuration of this datastore
+	 */
+	public CouchDBConfiguration getConfiguration() {
+		return configuration;
+	}
+
 	private boolean isDatastoreNotInitialized() {
 		return datastore == null;
 	}
@@ -97,4 +97,19 @@ HibernateException malformedDataBaseUrl(@Cause Exception e, String databaseHost,
 
 	@Message(id = 1323, value = "CouchDB does not support multiple hosts configuration: %s")
 	HibernateException doesNotSupportMultipleHosts(String hosts);
+
+	@Message(id = 1324, value = "An error occurred writing CouchDB documents in bulk, " + ERROR_DESCRIPTION)
+	HibernateException errorWritingDocuments(int status, String error, String reason);
+
+	@Message(id = 1325, value = "An error occurred writing CouchDB document with id %s, error: '%s', reason: '%s'")
+	HibernateException errorWritingDocument(String id, String error, String reason);
+
+	@Message(id = 1326, value = "An error occurred when retrieving the current revisions of documents, " + ERROR_DESCRIPTION)
+	HibernateException errorRetrievingCurrentRevisions(int status, String error, String reason);
+
+	@Message(id = 1327, value = "An error occurred when retrieving entities by id, " + ERROR_DESCRIPTION)
+	HibernateException errorRetrievingEntities(int status, String error, String reason);
+
+	@Message(id = 1328, value = "The value set for the configuration property '%1$s' must be a number greater than 0. Found '%2$s'.")
+	HibernateException illegalBatchSize(String property, int value);
 }
@@ -0,0 +1,26 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.test.batch;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+
+/**
+ * Runs {@link BatchedFlushTest} storing associations in dedicated documents.
+ *
+ * @author Gunnar Morling
+ */
+public class AssociationDocumentBatchedFlushTest extends BatchedFlushTest {
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		super.configure( settings );
+		settings.put( DocumentStoreProperties.ASSOCIATIONS_STORE, AssociationStorageType.ASSOCIATION_DOCUMENT );
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.Cloud;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.SnowFlake;
+import org.hibernate.ogm.datastore.couchdb.CouchDBProperties;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test that the writes of a flush spanning several bulk requests are applied, also if one flush writes the same
+ * documents more than once.
+ *
+ * @author Gunnar Morling
+ */
+public class BatchedFlushTest extends OgmTestCase {
+
+	private static final int BATCH_SIZE = 2;
+	private static final int SNOW_FLAKE_COUNT = 2 * BATCH_SIZE + 1;
+
+	@Test
+	public void testFlushSpanningSeveralBatches() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+
+		Cloud cloud = new Cloud();
+		cloud.setType( "cumulus" );
+		List<SnowFlake> snowFlakes = new ArrayList<SnowFlake>();
+		for ( int i = 0; i < SNOW_FLAKE_COUNT; i++ ) {
+			SnowFlake snowFlake = new SnowFlake();
+			snowFlake.setDescription( "flake " + i );
+			session.persist( snowFlake );
+			snowFlakes.add( snowFlake );
+			cloud.getProducedSnowFlakes().add( snowFlake );
+		}
+		session.persist( cloud );
+
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		cloud = (Cloud) session.get( Cloud.class, cloud.getId() );
+		assertThat( cloud.getProducedSnowFlakes() ).hasSize( SNOW_FLAKE_COUNT );
+
+		// replacing the collection removes all its rows and inserts them again within the same flush
+		SnowFlake additional = new SnowFlake();
+		additional.setDescription( "additional flake" );
+		session.persist( additional );
+		Set<SnowFlake> replacement = new HashSet<SnowFlake>( cloud.getProducedSnowFlakes() );
+		replacement.add( additional );
+		cloud.setProducedSnowFlakes( replacement );
+		cloud.setType( "stratus" );
+
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		cloud = (Cloud) session.get( Cloud.class, cloud.getId() );
+		assertThat( cloud.getType() ).isEqualTo( "stratus" );
+		assertThat( cloud.getProducedSnowFlakes() ).hasSize( SNOW_FLAKE_COUNT + 1 );
+
+		for ( SnowFlake snowFlake : cloud.getProducedSnowFlakes() ) {
+			session.delete( snowFlake );
+		}
+		session.delete( cloud );
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		assertThat( session.get( Cloud.class, cloud.getId() ) ).isNull();
+		assertThat( session.get( SnowFlake.class, snowFlakes.get( 0 ).getId() ) ).isNull();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Cloud.class, SnowFlake.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( CouchDBProperties.BATCH_SIZE, BATCH_SIZE );
+	}
+}
@@ -14,6 +14,7 @@
 import static org.hibernate.ogm.utils.GridDialectOperationContexts.emptyTupleContext;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -21,6 +22,10 @@
 import org.hibernate.ogm.datastore.couchdb.dialect.model.impl.CouchDBTupleSnapshot;
 import org.hibernate.ogm.datastore.couchdb.impl.CouchDBDatastoreProvider;
 import org.hibernate.ogm.datastore.couchdb.utils.CouchDBTestHelper;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.impl.TupleContextImpl;
+import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.impl.DefaultAssociatedEntityKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
@@ -82,6 +87,25 @@ public void getTupleShouldReturnTheSearchedOne() {
 		assertThat( actualTuple.get( "id" ) ).isEqualTo( createdTuple.get( "id" ) );
 	}
 
+	@Test
+	public void getTuplesShouldApplyQueuedOperationsOfRequestedKeys() {
+		EntityKey queued = createEntityKey( "user", new String[] { "id", "age" }, new Object[] { "17", 36 } );
+		EntityKey missing = createEntityKey( "user", new String[] { "id", "age" }, new Object[] { "18", 42 } );
+		Tuple queuedTuple = dialect.createTuple( queued, emptyTupleContext() );
+		queuedTuple.put( "name", "and" );
+
+		OperationsQueue queue = new OperationsQueue();
+		queue.add( new InsertOrUpdateTupleOperation( queuedTuple, queued, emptyTupleContext() ) );
+		TupleContext tupleContext = new TupleContextImpl( (TupleContextImpl) emptyTupleContext(), queue );
+
+		List<Tuple> tuples = dialect.getTuples( new EntityKey[] { queued, missing }, tupleContext );
+
+		assertThat( queue.size() ).isEqualTo( 0 );
+		assertThat( tuples ).hasSize( 2 );
+		assertThat( (String) tuples.get( 0 ).get( "name" ) ).isEqualTo( "and" );
+		assertThat( tuples.get( 1 ) ).isNull();
+	}
+
 	@Test
 	public void removeTupleShouldDeleteTheCreatedTuple() {
 		EntityKey key = createEntityKey( "user", new String[] { "id", "age" }, new Object[] { "17", 36 } );
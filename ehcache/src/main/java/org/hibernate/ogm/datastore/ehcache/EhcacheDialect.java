@@ -22,7 +22,8 @@
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.common.impl.SerializableRowKey;
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.LocalCacheManager;
-import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.LocalCacheManager.KeyProcessor;
+import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.LocalCacheManager.ElementProcessor;
+import org.hibernate.ogm.datastore.keyvalue.impl.IdBlockAllocator.IdSource;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
@@ -56,6 +57,14 @@
 
 	EhcacheDatastoreProvider datastoreProvider;
 
+	private final IdSource idSource = new IdSource() {
+
+		@Override
+		public long reserve(NextValueRequest request, int blockSize) {
+			return reserveIds( request, blockSize );
+		}
+	};
+
 	public EhcacheDialect(EhcacheDatastoreProvider datastoreProvider) {
 		this.datastoreProvider = datastoreProvider;
 	}
@@ -181,16 +190,24 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 
 	@Override
 	public Number nextValue(NextValueRequest request) {
+		return datastoreProvider.getIdBlockAllocator().nextValue( request, idSource );
+	}
+
+	/**
+	 * Reserves the given number of values; the cache holds the last value handed out for each id source.
+	 */
+	private long reserveIds(NextValueRequest request, int blockSize) {
 		final Cache<ISK> cache = getCacheManager().getIdSourceCache( request.getKey().getMetadata() );
 		ISK key = getKeyProvider().getIdSourceCacheKey( request.getKey() );
+		long blockIncrement = (long) request.getIncrement() * blockSize;
 
 		Element previousValue = cache.get( key );
 		if ( previousValue == null ) {
-			previousValue = cache.putIfAbsent( new Element( key, request.getInitialValue() ) );
+			previousValue = cache.putIfAbsent( new Element( key, request.getInitialValue() + blockIncrement - request.getIncrement() ) );
 		}
 		if ( previousValue != null ) {
 			while ( !cache.replace( previousValue,
-					new Element( key, ( (Number) previousValue.getObjectValue() ).longValue() + request.getIncrement() ) ) ) {
+					new Element( key, ( (Number) previousValue.getObjectValue() ).longValue() + blockIncrement ) ) ) {
 				previousValue = cache.get( key );
 			}
 			return ( (Number) previousValue.getObjectValue() ).longValue() + request.getIncrement();
@@ -207,7 +224,7 @@ public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMe
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
-		getCacheManager().forEachTuple( new EntityKeyProcessor( consumer ), entityKeyMetadata );
+		getCacheManager().forEachTuple( new EntityElementProcessor( consumer ), entityKeyMetadata );
 	}
 
 	@Override
@@ -225,17 +242,16 @@ private KeyProvider<EK, AK, ISK> getKeyProvider() {
 		return (KeyProvider<EK, AK, ISK>) datastoreProvider.getKeyProvider();
 	}
 
-	private class EntityKeyProcessor implements KeyProcessor<EK> {
+	private class EntityElementProcessor implements ElementProcessor {
 
 		private final ModelConsumer consumer;
 
-		private EntityKeyProcessor(ModelConsumer consumer) {
+		private EntityElementProcessor(ModelConsumer consumer) {
 			this.consumer = consumer;
 		}
 
 		@Override
-		public void processKey(EK key, Cache<EK> cache) {
-			Element element = cache.get( key );
+		public void processElement(Element element) {
 			consumer.consume( createTuple( element ) );
 		}
 	}
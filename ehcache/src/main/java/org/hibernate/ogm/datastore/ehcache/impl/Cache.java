@@ -6,7 +6,9 @@
  */
 package org.hibernate.ogm.datastore.ehcache.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import net.sf.ehcache.Element;
 
@@ -27,6 +29,14 @@ public Element get(K key) {
 		return delegate.get( key );
 	}
 
+	/**
+	 * Returns the elements with the given keys; keys without element are mapped to {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<K, Element> getAll(Collection<K> keys) {
+		return (Map<K, Element>) (Map<?, ?>) delegate.getAll( keys );
+	}
+
 	public List<K> getKeys() {
 		return delegate.getKeys();
 	}
@@ -47,6 +57,10 @@ public boolean replace(Element old, Element element) {
 		return delegate.replace( old, element );
 	}
 
+	public boolean isKeyInCache(K key) {
+		return delegate.isKeyInCache( key );
+	}
+
 	public int getSize() {
 		return delegate.getSize();
 	}
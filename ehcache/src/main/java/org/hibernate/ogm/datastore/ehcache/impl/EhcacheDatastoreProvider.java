@@ -27,6 +27,7 @@
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.PersistenceStrategy;
+import org.hibernate.ogm.datastore.keyvalue.impl.IdBlockAllocator;
 import org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
@@ -52,12 +53,14 @@ public class EhcacheDatastoreProvider extends BaseDatastoreProvider implements S
 	private CacheManager cacheManager;
 
 	private final EhcacheConfiguration config = new EhcacheConfiguration();
+	private IdBlockAllocator idBlockAllocator;
 
 	private PersistenceStrategy<?, ?, ?> persistenceStrategy;
 
 	@Override
 	public void configure(Map map) {
 		this.config.initialize( map );
+		this.idBlockAllocator = IdBlockAllocator.fromConfiguration( map );
 	}
 
 	@Override
@@ -120,8 +123,15 @@ public void initializePersistenceStrategy(CacheMappingType cacheMappingType, Set
 		return persistenceStrategy.getKeyProvider();
 	}
 
+	public IdBlockAllocator getIdBlockAllocator() {
+		return idBlockAllocator;
+	}
+
 	@Override
 	public void stop() {
+		if ( idBlockAllocator != null ) {
+			idBlockAllocator.stop();
+		}
 		if ( persistenceStrategy != null ) {
 			persistenceStrategy.getCacheManager().stop();
 		}
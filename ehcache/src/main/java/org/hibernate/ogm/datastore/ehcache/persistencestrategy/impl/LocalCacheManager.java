@@ -6,7 +6,12 @@
  */
 package org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Element;
 
 import org.hibernate.ogm.datastore.ehcache.impl.Cache;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
@@ -31,6 +36,11 @@
  */
 public abstract class LocalCacheManager<EK, AK, ISK> {
 
+	/**
+	 * The number of elements fetched at once when iterating over the elements of a cache
+	 */
+	private static final int FETCH_SIZE = 1000;
+
 	private final CacheManager cacheManager;
 
 	protected LocalCacheManager(CacheManager cacheManager) {
@@ -52,20 +62,47 @@ public void stop() {
 	public abstract Cache<ISK> getIdSourceCache(IdSourceKeyMetadata keyMetadata);
 
 	/**
-	 * Determines the caches storing the entities of the given key families, fetches the keys of these families and
-	 * invokes the given processor for each key.
+	 * Determines the caches storing the entities of the given key families, fetches the elements of these families and
+	 * invokes the given processor for each element.
 	 *
-	 * @param processor the processor that will be invoked on the keys of the given families
+	 * @param processor the processor that will be invoked on the elements of the given families
 	 * @param entityKeyMetadatas the meta-data of the keys to process
 	 */
-	public abstract void forEachTuple(KeyProcessor<EK> processor, EntityKeyMetadata... entityKeyMetadatas);
+	public abstract void forEachTuple(ElementProcessor processor, EntityKeyMetadata... entityKeyMetadatas);
 
 	/**
-	 * Processes keys obtained from a cache.
-	 *
-	 * @param <EK> the type of the keys
+	 * Fetches the elements with the given keys from the given cache in batches and invokes the given processor for
+	 * each of them. Keys whose element has been removed in the meantime are skipped.
+	 */
+	protected void forEachElement(ElementProcessor processor, Cache<EK> cache, Collection<EK> keys) {
+		List<EK> batch = new ArrayList<EK>( Math.min( keys.size(), FETCH_SIZE ) );
+
+		for ( EK key : keys ) {
+			batch.add( key );
+
+			if ( batch.size() == FETCH_SIZE ) {
+				processElements( processor, cache, batch );
+				batch.clear();
+			}
+		}
+
+		if ( !batch.isEmpty() ) {
+			processElements( processor, cache, batch );
+		}
+	}
+
+	private void processElements(ElementProcessor processor, Cache<EK> cache, List<EK> keys) {
+		for ( Element element : cache.getAll( keys ).values() ) {
+			if ( element != null ) {
+				processor.processElement( element );
+			}
+		}
+	}
+
+	/**
+	 * Processes elements obtained from a cache.
 	 */
-	public interface KeyProcessor<EK> {
-		void processKey(EK key, Cache<EK> cache);
+	public interface ElementProcessor {
+		void processElement(Element element);
 	}
 }
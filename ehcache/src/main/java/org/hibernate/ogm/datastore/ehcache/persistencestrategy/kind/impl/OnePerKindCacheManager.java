@@ -24,14 +24,14 @@
  */
 public class OnePerKindCacheManager extends LocalCacheManager<SerializableEntityKey, SerializableAssociationKey, SerializableIdSourceKey> {
 
-	private final Cache<SerializableEntityKey> entityCache;
+	private final TableIndexedEntityCache entityCache;
 	private final Cache<SerializableAssociationKey> associationCache;
 	private final Cache<SerializableIdSourceKey> idSourceCache;
 
 	public OnePerKindCacheManager(CacheManager cacheManager) {
 		super( cacheManager );
 
-		entityCache = new Cache<SerializableEntityKey>( cacheManager.getCache( CacheNames.ENTITY_CACHE ) );
+		entityCache = new TableIndexedEntityCache( cacheManager.getCache( CacheNames.ENTITY_CACHE ) );
 		associationCache = new Cache<SerializableAssociationKey>( cacheManager.getCache( CacheNames.ASSOCIATION_CACHE ) );
 		idSourceCache = new Cache<SerializableIdSourceKey>( cacheManager.getCache( CacheNames.IDENTIFIER_CACHE ) );
 	}
@@ -52,14 +52,9 @@ public Cache<SerializableIdSourceKey> getIdSourceCache(IdSourceKeyMetadata keyMe
 	}
 
 	@Override
-	public void forEachTuple(KeyProcessor<SerializableEntityKey> processor, EntityKeyMetadata... entityKeyMetadatas) {
-		for ( SerializableEntityKey key : entityCache.getKeys() ) {
-			for ( EntityKeyMetadata entityKeyMetadata : entityKeyMetadatas ) {
-				// Check if there is a way to load keys applying a filter
-				if ( key.getTable().equals( entityKeyMetadata.getTable() ) ) {
-					processor.processKey( key, entityCache );
-				}
-			}
+	public void forEachTuple(ElementProcessor processor, EntityKeyMetadata... entityKeyMetadatas) {
+		for ( EntityKeyMetadata entityKeyMetadata : entityKeyMetadatas ) {
+			forEachElement( processor, entityCache, entityCache.getKeys( entityKeyMetadata.getTable() ) );
 		}
 	}
 }
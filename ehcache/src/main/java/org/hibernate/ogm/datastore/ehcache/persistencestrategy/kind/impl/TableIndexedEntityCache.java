@@ -0,0 +1,135 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.ehcache.persistencestrategy.kind.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.event.CacheEventListenerAdapter;
+
+import org.hibernate.ogm.datastore.ehcache.impl.Cache;
+
+/**
+ * The cache storing the entities of all tables, keeping track of the keys of each table so a table can be scanned
+ * without iterating over the keys of all other tables.
+ * <p>
+ * The index is populated from the keys present in the cache (e.g. read from the disk store) upon creation and then
+ * maintained when elements are put into or removed from the cache through this wrapper. Elements expiring or getting
+ * evicted are removed from the index via a cache event listener.
+ *
+ * @author Gunnar Morling
+ */
+public class TableIndexedEntityCache extends Cache<SerializableEntityKey> {
+
+	private final ConcurrentMap<String, Set<SerializableEntityKey>> keysByTable = new ConcurrentHashMap<String, Set<SerializableEntityKey>>();
+
+	public TableIndexedEntityCache(net.sf.ehcache.Cache delegate) {
+		super( delegate );
+
+		delegate.getCacheEventListenerNotificationService().registerListener( new IndexMaintainingListener() );
+
+		for ( SerializableEntityKey key : getKeys() ) {
+			addToIndex( key );
+		}
+	}
+
+	/**
+	 * Returns the keys of the given table. The returned set reflects subsequent changes to the cache; it may contain
+	 * keys which got removed concurrently.
+	 *
+	 * @param table the table name
+	 * @return the keys of the given table
+	 */
+	public Set<SerializableEntityKey> getKeys(String table) {
+		Set<SerializableEntityKey> keys = keysByTable.get( table );
+		return keys != null ? Collections.unmodifiableSet( keys ) : Collections.<SerializableEntityKey>emptySet();
+	}
+
+	@Override
+	public Element putIfAbsent(Element element) {
+		Element previous = super.putIfAbsent( element );
+		if ( previous == null ) {
+			addToIndex( (SerializableEntityKey) element.getObjectKey() );
+		}
+		return previous;
+	}
+
+	@Override
+	public void put(Element element) {
+		super.put( element );
+		addToIndex( (SerializableEntityKey) element.getObjectKey() );
+	}
+
+	@Override
+	public boolean replace(Element old, Element element) {
+		boolean replaced = super.replace( old, element );
+		if ( replaced ) {
+			addToIndex( (SerializableEntityKey) element.getObjectKey() );
+		}
+		return replaced;
+	}
+
+	@Override
+	public boolean remove(SerializableEntityKey key) {
+		boolean removed = super.remove( key );
+		removeFromIndex( key );
+		return removed;
+	}
+
+	private void addToIndex(SerializableEntityKey key) {
+		Set<SerializableEntityKey> keys = keysByTable.get( key.getTable() );
+
+		if ( keys == null ) {
+			keys = Collections.newSetFromMap( new ConcurrentHashMap<SerializableEntityKey, Boolean>() );
+			Set<SerializableEntityKey> existing = keysByTable.putIfAbsent( key.getTable(), keys );
+			if ( existing != null ) {
+				keys = existing;
+			}
+		}
+
+		keys.add( key );
+	}
+
+	private void removeFromIndex(SerializableEntityKey key) {
+		Set<SerializableEntityKey> keys = keysByTable.get( key.getTable() );
+
+		if ( keys != null ) {
+			keys.remove( key );
+
+			// the key may have been put again concurrently, after it was removed from the cache but before it was
+			// removed from the index
+			if ( isKeyInCache( key ) ) {
+				keys.add( key );
+			}
+		}
+	}
+
+	/**
+	 * Removes the keys of elements leaving the cache without being removed through this wrapper.
+	 */
+	private class IndexMaintainingListener extends CacheEventListenerAdapter {
+
+		@Override
+		public void notifyElementExpired(Ehcache cache, Element element) {
+			removeFromIndex( (SerializableEntityKey) element.getObjectKey() );
+		}
+
+		@Override
+		public void notifyElementEvicted(Ehcache cache, Element element) {
+			removeFromIndex( (SerializableEntityKey) element.getObjectKey() );
+		}
+
+		@Override
+		public void notifyRemoveAll(Ehcache cache) {
+			keysByTable.clear();
+		}
+	}
+}
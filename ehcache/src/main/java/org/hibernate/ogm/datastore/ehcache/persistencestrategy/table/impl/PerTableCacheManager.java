@@ -124,13 +124,10 @@ private static String getCacheName(AssociationKeyMetadata keyMetadata) {
 	}
 
 	@Override
-	public void forEachTuple(KeyProcessor<PerTableSerializableEntityKey> processor, EntityKeyMetadata... entityKeyMetadatas) {
+	public void forEachTuple(ElementProcessor processor, EntityKeyMetadata... entityKeyMetadatas) {
 		for ( EntityKeyMetadata entityKeyMetadata : entityKeyMetadatas ) {
 			Cache<PerTableSerializableEntityKey> entityCache = getEntityCache( entityKeyMetadata );
-
-			for ( PerTableSerializableEntityKey key : entityCache.getKeys() ) {
-				processor.processKey( key, entityCache );
-			}
+			forEachElement( processor, entityCache, entityCache.getKeys() );
 		}
 	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.ehcache.test.cachemapping;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+
+import org.hibernate.ogm.datastore.ehcache.impl.Cache;
+import org.hibernate.ogm.datastore.ehcache.persistencestrategy.common.impl.CacheNames;
+import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.LocalCacheManager.ElementProcessor;
+import org.hibernate.ogm.datastore.ehcache.persistencestrategy.kind.impl.OnePerKindCacheManager;
+import org.hibernate.ogm.datastore.ehcache.persistencestrategy.kind.impl.OnePerKindKeyProvider;
+import org.hibernate.ogm.datastore.ehcache.persistencestrategy.kind.impl.SerializableEntityKey;
+import org.hibernate.ogm.datastore.ehcache.persistencestrategy.kind.impl.TableIndexedEntityCache;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that scanning a table in the {@link org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType#CACHE_PER_KIND}
+ * strategy only returns the elements of that table, based on the keys indexed by {@link TableIndexedEntityCache}.
+ *
+ * @author Gunnar Morling
+ */
+public class TableIndexedEntityCacheTest {
+
+	private static final int MAX_ENTRIES = 5;
+
+	private final EntityKeyMetadata plantMetadata = new DefaultEntityKeyMetadata( "Plant", new String[] { "id" } );
+	private final EntityKeyMetadata familyMetadata = new DefaultEntityKeyMetadata( "Family", new String[] { "id" } );
+	private final OnePerKindKeyProvider keyProvider = new OnePerKindKeyProvider();
+
+	private OnePerKindCacheManager cacheManager;
+	private Cache<SerializableEntityKey> entityCache;
+
+	@Before
+	public void setupCacheManager() {
+		Configuration configuration = new Configuration()
+				.name( TableIndexedEntityCacheTest.class.getSimpleName() )
+				.cache( new CacheConfiguration( CacheNames.ENTITY_CACHE, MAX_ENTRIES ) )
+				.cache( new CacheConfiguration( CacheNames.ASSOCIATION_CACHE, 0 ) )
+				.cache( new CacheConfiguration( CacheNames.IDENTIFIER_CACHE, 0 ) );
+		configuration.setUpdateCheck( false );
+
+		cacheManager = new OnePerKindCacheManager( new CacheManager( configuration ) );
+		entityCache = cacheManager.getEntityCache( plantMetadata );
+	}
+
+	@After
+	public void stopCacheManager() {
+		cacheManager.stop();
+	}
+
+	@Test
+	public void shouldOnlyScanElementsOfGivenTable() {
+		// given
+		put( plantMetadata, "plant-1" );
+		put( familyMetadata, "family-1" );
+		put( plantMetadata, "plant-2" );
+		put( familyMetadata, "family-2" );
+		put( plantMetadata, "plant-3" );
+
+		// when
+		entityCache.remove( key( plantMetadata, "plant-2" ) );
+		entityCache.remove( key( familyMetadata, "family-2" ) );
+
+		// then
+		assertThat( scan( plantMetadata ) ).containsOnly( "plant-1", "plant-3" );
+		assertThat( scan( familyMetadata ) ).containsOnly( "family-1" );
+	}
+
+	@Test
+	public void shouldNotScanEvictedElements() {
+		// given
+		for ( int i = 1; i <= MAX_ENTRIES; i++ ) {
+			put( plantMetadata, "plant-" + i );
+		}
+		entityCache.remove( key( plantMetadata, "plant-2" ) );
+		put( familyMetadata, "family-1" );
+
+		// when; exceeding the capacity of the cache evicts one element
+		put( familyMetadata, "family-2" );
+
+		// then
+		assertThat( entityCache.getSize() ).isEqualTo( MAX_ENTRIES );
+
+		List<Object> plants = scan( plantMetadata );
+		List<Object> families = scan( familyMetadata );
+
+		assertThat( plants.size() + families.size() ).as( "Evicted element must not be scanned" ).isEqualTo( MAX_ENTRIES );
+		assertThat( plants ).excludes( "plant-2", "family-1", "family-2" );
+		assertThat( families ).excludes( "plant-1", "plant-2", "plant-3", "plant-4", "plant-5" );
+
+		for ( Object plant : plants ) {
+			assertThat( entityCache.isKeyInCache( key( plantMetadata, plant ) ) ).as( plant + " is in cache" ).isTrue();
+		}
+		for ( Object family : families ) {
+			assertThat( entityCache.isKeyInCache( key( familyMetadata, family ) ) ).as( family + " is in cache" ).isTrue();
+		}
+	}
+
+	private void put(EntityKeyMetadata metadata, Object id) {
+		entityCache.put( new Element( key( metadata, id ), id ) );
+	}
+
+	private SerializableEntityKey key(EntityKeyMetadata metadata, Object id) {
+		return keyProvider.getEntityCacheKey( new EntityKey( metadata, new Object[] { id } ) );
+	}
+
+	private List<Object> scan(EntityKeyMetadata metadata) {
+		final List<Object> values = new ArrayList<Object>();
+
+		cacheManager.forEachTuple(
+				new ElementProcessor() {
+
+					@Override
+					public void processElement(Element element) {
+						values.add( element.getObjectValue() );
+					}
+				},
+				metadata
+		);
+
+		return values;
+	}
+}
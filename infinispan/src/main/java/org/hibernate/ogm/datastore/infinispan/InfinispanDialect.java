@@ -6,7 +6,12 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -17,13 +22,19 @@
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanPessimisticWriteLockingStrategy;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanScanPartition;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanTupleSnapshot;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.PartitionFilter;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanDatastoreProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
+import org.hibernate.ogm.datastore.keyvalue.impl.IdBlockAllocator.IdSource;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -42,9 +53,10 @@
 import org.infinispan.Cache;
 import org.infinispan.atomic.AtomicMapLookup;
 import org.infinispan.atomic.FineGrainedAtomicMap;
+import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.context.Flag;
-import org.infinispan.distexec.mapreduce.MapReduceTask;
-import org.infinispan.distexec.mapreduce.Reducer;
+import org.infinispan.filter.KeyValueFilter;
+import org.infinispan.iteration.EntryIterable;
 
 /**
  * EK is the entity cache key type
@@ -53,12 +65,22 @@
  *
  * @author Emmanuel Bernard
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements MultigetGridDialect, PartitionedScanGridDialect {
 
 	private final InfinispanDatastoreProvider provider;
+	private final boolean readMultigetTuplesAsPlainMaps;
+
+	private final IdSource idSource = new IdSource() {
+
+		@Override
+		public long reserve(NextValueRequest request, int blockSize) {
+			return reserveIds( request, blockSize );
+		}
+	};
 
 	public InfinispanDialect(InfinispanDatastoreProvider provider) {
 		this.provider = provider;
+		this.readMultigetTuplesAsPlainMaps = provider.getConfiguration().isReadMultigetTuplesAsPlainMaps();
 	}
 
 	/**
@@ -114,6 +136,61 @@ private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> ca
 		}
 	}
 
+	/**
+	 * Reads the entries of the given keys with one bulk read per cache, i.e. with one remote call per owner node in
+	 * distributed mode. Only if plain maps are to be read (see
+	 * {@link InfinispanProperties#READ_MULTIGET_TUPLES_AS_PLAIN_MAPS}) the tuples are built from the bulk read alone.
+	 * Otherwise the bulk read merely determines the existing entries and the fine-grained atomic map of each of them
+	 * is looked up individually, i.e. that's one more read per found entity and no real multiget.
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		Map<Cache<EK, Map<String, Object>>, List<Integer>> positionsByCache = new HashMap<>();
+		List<EK> cacheKeys = new ArrayList<>( keys.length );
+
+		for ( int i = 0; i < keys.length; i++ ) {
+			cacheKeys.add( getKeyProvider().getEntityCacheKey( keys[i] ) );
+
+			Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( keys[i].getMetadata() );
+			List<Integer> positions = positionsByCache.get( cache );
+			if ( positions == null ) {
+				positions = new ArrayList<>();
+				positionsByCache.put( cache, positions );
+			}
+			positions.add( i );
+		}
+
+		Tuple[] tuples = new Tuple[keys.length];
+
+		for ( Entry<Cache<EK, Map<String, Object>>, List<Integer>> positions : positionsByCache.entrySet() ) {
+			Cache<EK, Map<String, Object>> cache = positions.getKey();
+
+			Set<EK> requestedKeys = new HashSet<>();
+			for ( Integer position : positions.getValue() ) {
+				requestedKeys.add( cacheKeys.get( position ) );
+			}
+
+			Map<EK, Map<String, Object>> entries = cache.getAdvancedCache().getAll( requestedKeys );
+
+			for ( Integer position : positions.getValue() ) {
+				EK cacheKey = cacheKeys.get( position );
+				Map<String, Object> entry = entries.get( cacheKey );
+
+				if ( entry == null ) {
+					continue;
+				}
+				else if ( readMultigetTuplesAsPlainMaps ) {
+					tuples[position] = new Tuple( new InfinispanTupleSnapshot( new HashMap<String, Object>( entry ) ) );
+				}
+				else {
+					tuples[position] = getTupleFromCacheKey( cacheKey, cache );
+				}
+			}
+		}
+
+		return Arrays.asList( tuples );
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		//TODO we don't verify that it does not yet exist assuming that this has been done before by the calling code
@@ -127,6 +204,14 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
 		Map<String,Object> atomicMap = ( (InfinispanTupleSnapshot) tuple.getSnapshot() ).getAtomicMap();
+
+		// the tuple has been read as plain map, so the changes are applied to the atomic map of the entity
+		if ( atomicMap == null ) {
+			Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+			EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+			atomicMap = AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, true );
+		}
+
 		MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
 	}
 
@@ -179,8 +264,12 @@ public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMe
 	}
 
 	@Override
-	//TODO should we use GridTypes here?
 	public Number nextValue(NextValueRequest request) {
+		return provider.getIdBlockAllocator().nextValue( request, idSource );
+	}
+
+	//TODO should we use GridTypes here?
+	private long reserveIds(NextValueRequest request, int blockSize) {
 		final AdvancedCache<ISK, Object> identifierCache = getCacheManager()
 				.getIdSourceCache( request.getKey().getMetadata() )
 				.getAdvancedCache();
@@ -200,33 +289,70 @@ public Number nextValue(NextValueRequest request) {
 				}
 			}
 
-			Number newValue = value.longValue() + request.getIncrement();
+			Number newValue = value.longValue() + (long) request.getIncrement() * blockSize;
 			done = identifierCache.replace( cacheKey, value, newValue );
 		}
 		while ( !done );
 
-		return value;
+		return value.longValue();
 	}
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		forEachTuple( consumer, tupleContext, entityKeyMetadata, InfinispanScanPartition.ALL );
+	}
+
+	/**
+	 * Partitions the keys by their hash code. The partitions are evaluated on the nodes owning the entries, so each
+	 * partition only transfers its own share of the table.
+	 * <p>
+	 * Note that the entries can't be iterated per segment without the stream API, which is not available on the
+	 * platform this module is compiled for. So each partition iterates over all the entries of the cache on every
+	 * owning node and discards those of other partitions, i.e. reading {@code n} partitions costs {@code n} passes over
+	 * the cache contents on the owners. What is gained is that the entries are transferred, converted and indexed by
+	 * {@code n} threads in parallel.
+	 */
+	@Override
+	public List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions) {
+		if ( numberOfPartitions <= 1 ) {
+			return Collections.<ScanPartition>singletonList( InfinispanScanPartition.ALL );
+		}
+
+		List<ScanPartition> partitions = new ArrayList<ScanPartition>( numberOfPartitions );
+		for ( int i = 0; i < numberOfPartitions; i++ ) {
+			partitions.add( new InfinispanScanPartition( i, numberOfPartitions ) );
+		}
+		return partitions;
+	}
+
+	/**
+	 * Iterates over the matching entries of the given partition. The entries are filtered on the nodes owning them and
+	 * transferred to the caller in batches, so neither the whole table needs to be held in memory nor are the entries
+	 * read a second time. The tuples are based on plain copies of the entries.
+	 */
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition) {
 		Set<Bucket<EK>> buckets = getCacheManager().getWorkBucketsFor(
 				entityKeyMetadata
 		);
 		for ( Bucket<EK> bucket : buckets ) {
-			Map<EK, Map<String, Object>> queryResult = retrieveKeys( bucket.getCache(), bucket.getEntityKeyMetadata() );
-			for ( Entry<EK, Map<String, Object>> entry : queryResult.entrySet() ) {
-				consumer.consume( getTupleFromCacheKey( entry.getKey(), bucket.getCache() ) );
+			KeyValueFilter<EK, Map<String, Object>> filter = new PartitionFilter<EK>(
+					getKeyProvider().getEntityFilter( bucket.getEntityKeyMetadata() ),
+					(InfinispanScanPartition) partition
+			);
+
+			EntryIterable<EK, Map<String, Object>> entries = bucket.getCache().getAdvancedCache().filterEntries( filter );
+			try {
+				for ( CacheEntry<EK, Map<String, Object>> entry : entries ) {
+					consumer.consume( new Tuple( new InfinispanTupleSnapshot( new HashMap<String, Object>( entry.getValue() ) ) ) );
+				}
+			}
+			finally {
+				entries.close();
 			}
 		}
 	}
 
-	private Map<EK, Map<String, Object>> retrieveKeys(Cache<EK, Map<String, Object>> cache, EntityKeyMetadata... entityKeyMetadatas) {
-		MapReduceTask<EK, Map<String, Object>, EK, Map<String, Object>> queryTask = new MapReduceTask<EK, Map<String, Object>, EK, Map<String, Object>>( cache );
-		queryTask.mappedWith( getKeyProvider().getMapper( entityKeyMetadatas ) ).reducedWith( new TupleReducer<EK>() );
-		return queryTask.execute();
-	}
-
 	@SuppressWarnings("unchecked")
 	private LocalCacheManager<EK, AK, ISK> getCacheManager() {
 		return (LocalCacheManager<EK, AK, ISK>) provider.getCacheManager();
@@ -236,13 +362,4 @@ private LocalCacheManager<EK, AK, ISK> getCacheManager() {
 	private KeyProvider<EK, AK, ISK> getKeyProvider() {
 		return (KeyProvider<EK, AK, ISK>) provider.getKeyProvider();
 	}
-
-	static class TupleReducer<EK> implements Reducer<EK, Map<String, Object>> {
-
-		@Override
-		public Map<String, Object> reduce(EK reducedKey, Iterator<Map<String, Object>> iter) {
-			return iter.next();
-		}
-
-	}
 }
@@ -30,6 +30,15 @@ public final class InfinispanProperties implements KeyValueStoreProperties {
 	 */
 	public static final String CACHE_MANAGER_JNDI_NAME = "hibernate.ogm.infinispan.cachemanager_jndi_name";
 
+	/**
+	 * Whether entities loaded in bulk (e.g. via {@code @BatchSize}) should be read as plain copies of their properties
+	 * instead of as fine-grained atomic maps. Only then the entities are read with a single bulk read per cache; by
+	 * default, the bulk read is followed by an atomic map look-up for each entity found. Reading plain copies comes at
+	 * the cost of looking up the atomic map when updating an entity loaded that way. Recommended for read-mostly
+	 * loads. Accepts {@code true} or {@code false}, defaults to {@code false}.
+	 */
+	public static final String READ_MULTIGET_TUPLES_AS_PLAIN_MAPS = "hibernate.ogm.infinispan.read_multiget_tuples_as_plain_maps";
+
 	private InfinispanProperties() {
 	}
 }
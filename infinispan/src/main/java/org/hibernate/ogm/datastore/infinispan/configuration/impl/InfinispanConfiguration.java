@@ -28,6 +28,7 @@ public class InfinispanConfiguration {
 
 	private URL configUrl;
 	private String jndi;
+	private boolean readMultigetTuplesAsPlainMaps;
 
 	/**
 	 * The location of the configuration file.
@@ -49,6 +50,16 @@ public String getJndiName() {
 		return jndi;
 	}
 
+	/**
+	 * Whether tuples loaded in bulk are read as plain maps instead of fine-grained atomic maps.
+	 *
+	 * @see InfinispanProperties#READ_MULTIGET_TUPLES_AS_PLAIN_MAPS
+	 * @return {@code true} if tuples loaded in bulk are read as plain maps, {@code false} otherwise
+	 */
+	public boolean isReadMultigetTuplesAsPlainMaps() {
+		return readMultigetTuplesAsPlainMaps;
+	}
+
 	/**
 	 * Initialize the internal values form the given {@link Map}.
 	 *
@@ -67,6 +78,11 @@ public void initConfiguration(Map<?, ?> configurationMap) {
 				.property( InfinispanProperties.CACHE_MANAGER_JNDI_NAME, String.class )
 				.getValue();
 
+		this.readMultigetTuplesAsPlainMaps = propertyReader
+				.property( InfinispanProperties.READ_MULTIGET_TUPLES_AS_PLAIN_MAPS, boolean.class )
+				.withDefault( false )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan from configuration file at %1$s", configUrl );
 	}
 }
@@ -0,0 +1,51 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.io.Serializable;
+
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
+
+/**
+ * The cache keys whose hash code modulo the number of partitions equals the index of the partition. Being
+ * serializable, the partition can be evaluated on the nodes owning the entries. Determining the keys of a partition
+ * requires iterating over all the entries of the cache.
+ *
+ * @author Gunnar Morling
+ */
+public class InfinispanScanPartition implements ScanPartition, Serializable {
+
+	/**
+	 * The partition comprising all the keys
+	 */
+	public static final InfinispanScanPartition ALL = new InfinispanScanPartition( 0, 1 );
+
+	private final int index;
+	private final int count;
+
+	/**
+	 * @param index the index of this partition
+	 * @param count the total number of partitions
+	 */
+	public InfinispanScanPartition(int index, int count) {
+		this.index = index;
+		this.count = count;
+	}
+
+	/**
+	 * @param key a cache key
+	 * @return whether the given key belongs to this partition
+	 */
+	public boolean contains(Object key) {
+		return count == 1 || ( key.hashCode() & Integer.MAX_VALUE ) % count == index;
+	}
+
+	@Override
+	public String toString() {
+		return "InfinispanScanPartition [index=" + index + ", count=" + count + "]";
+	}
+}
@@ -6,35 +6,54 @@
  */
 package org.hibernate.ogm.datastore.infinispan.dialect.impl;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.infinispan.atomic.FineGrainedAtomicMap;
 
 /**
+ * A {@link TupleSnapshot} based either on the {@link FineGrainedAtomicMap} representing an entity or on a plain copy
+ * of its properties. The latter is used for tuples loaded in bulk for reading; changes to such tuples need to be
+ * applied to the atomic map looked up when writing them.
+ *
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  */
 public final class InfinispanTupleSnapshot implements TupleSnapshot {
+	private final Map<String, Object> properties;
 	private final FineGrainedAtomicMap<String, Object> atomicMap;
 
 	public InfinispanTupleSnapshot(FineGrainedAtomicMap<String,Object> atomicMap) {
+		this.properties = atomicMap;
 		this.atomicMap = atomicMap;
 	}
+
+	public InfinispanTupleSnapshot(Map<String, Object> properties) {
+		this.properties = properties;
+		this.atomicMap = null;
+	}
+
 	@Override
 	public Object get(String column) {
-		return atomicMap.get( column );
+		return properties.get( column );
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return atomicMap.isEmpty();
+		return properties.isEmpty();
 	}
 
 	@Override
 	public Set<String> getColumnNames() {
-		return atomicMap.keySet();
+		return properties.keySet();
 	}
 
+	/**
+	 * Returns the atomic map this snapshot is based on.
+	 *
+	 * @return the atomic map this snapshot is based on or {@code null} if it is based on a plain copy of the
+	 * entity's properties
+	 */
 	public FineGrainedAtomicMap<String, Object> getAtomicMap() {
 		return atomicMap;
 	}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.infinispan.filter.KeyValueFilter;
+import org.infinispan.metadata.Metadata;
+
+/**
+ * Matches the entries accepted by the given entity filter whose key belongs to the given partition.
+ *
+ * @author Gunnar Morling
+ */
+public class PartitionFilter<K> implements KeyValueFilter<K, Map<String, Object>>, Serializable {
+
+	private final KeyValueFilter<K, Map<String, Object>> entityFilter;
+	private final InfinispanScanPartition partition;
+
+	public PartitionFilter(KeyValueFilter<K, Map<String, Object>> entityFilter, InfinispanScanPartition partition) {
+		this.entityFilter = entityFilter;
+		this.partition = partition;
+	}
+
+	@Override
+	public boolean accept(K key, Map<String, Object> value, Metadata metadata) {
+		return partition.contains( key ) && entityFilter.accept( key, value, metadata );
+	}
+}
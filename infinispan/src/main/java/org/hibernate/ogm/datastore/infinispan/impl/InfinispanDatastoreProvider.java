@@ -18,6 +18,7 @@
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.PersistenceStrategy;
+import org.hibernate.ogm.datastore.keyvalue.impl.IdBlockAllocator;
 import org.hibernate.ogm.datastore.keyvalue.options.CacheMappingType;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
@@ -49,6 +50,7 @@ public class InfinispanDatastoreProvider extends BaseDatastoreProvider implement
 	private JndiService jndiService;
 	private EmbeddedCacheManager externalCacheManager;
 	private final InfinispanConfiguration config = new InfinispanConfiguration();
+	private IdBlockAllocator idBlockAllocator;
 
 	private PersistenceStrategy<?, ?, ?> persistenceStrategy;
 
@@ -108,8 +110,19 @@ public void initializePersistenceStrategy(CacheMappingType cacheMappingType, Set
 		return persistenceStrategy.getKeyProvider();
 	}
 
+	public IdBlockAllocator getIdBlockAllocator() {
+		return idBlockAllocator;
+	}
+
+	public InfinispanConfiguration getConfiguration() {
+		return config;
+	}
+
 	@Override
 	public void stop() {
+		if ( idBlockAllocator != null ) {
+			idBlockAllocator.stop();
+		}
 		if ( persistenceStrategy != null ) {
 			persistenceStrategy.getCacheManager().stop();
 		}
@@ -124,6 +137,7 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 	@Override
 	public void configure(Map configurationValues) {
 		this.config.initConfiguration( configurationValues );
+		this.idBlockAllocator = IdBlockAllocator.fromConfiguration( configurationValues );
 	}
 
 	@Override
@@ -15,7 +15,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.filter.KeyValueFilter;
 
 /**
  * Converts the OGM-internal keys into the cache keys.
@@ -35,7 +35,14 @@
 
 	ISK getIdSourceCacheKey(IdSourceKey key);
 
-	Mapper<EK, Map<String, Object>, EK, Map<String, Object>> getMapper(EntityKeyMetadata... entityKeyMetadatas);
+	/**
+	 * Returns a filter matching the entries of the given entity types within the entity cache. The filter is
+	 * serializable, so it can be applied on the nodes owning the entries.
+	 *
+	 * @param entityKeyMetadatas the meta-data of the entities to match
+	 * @return a filter matching the entries of the given entity types
+	 */
+	KeyValueFilter<EK, Map<String, Object>> getEntityFilter(EntityKeyMetadata... entityKeyMetadatas);
 
 	Set<AdvancedExternalizer<?>> getExternalizers();
 }
@@ -7,6 +7,7 @@
 
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.impl;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
@@ -23,8 +24,8 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
-import org.infinispan.distexec.mapreduce.Collector;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.filter.KeyValueFilter;
+import org.infinispan.metadata.Metadata;
 
 /**
  * Key provider which stores all keys as is in ISPN.
@@ -49,8 +50,8 @@ public IdSourceKey getIdSourceCacheKey(IdSourceKey key) {
 	}
 
 	@Override
-	public TupleMapper getMapper(EntityKeyMetadata... entityKeyMetadatas) {
-		return new TupleMapper( entityKeyMetadatas );
+	public TupleFilter getEntityFilter(EntityKeyMetadata... entityKeyMetadatas) {
+		return new TupleFilter( entityKeyMetadatas );
 	}
 
 	@Override
@@ -66,21 +67,25 @@ public Set<AdvancedExternalizer<?>> getExternalizers() {
 		return Collections.unmodifiableSet( externalizers );
 	}
 
-	private static class TupleMapper implements Mapper<EntityKey, Map<String, Object>, EntityKey, Map<String, Object>> {
+	/**
+	 * Matches the entries of the given tables.
+	 */
+	private static class TupleFilter implements KeyValueFilter<EntityKey, Map<String, Object>>, Serializable {
 
 		private final EntityKeyMetadata[] entityKeyMetadatas;
 
-		public TupleMapper(EntityKeyMetadata... entityKeyMetadatas) {
+		public TupleFilter(EntityKeyMetadata... entityKeyMetadatas) {
 			this.entityKeyMetadatas = entityKeyMetadatas;
 		}
 
 		@Override
-		public void map(EntityKey key, Map<String, Object> value, Collector<EntityKey, Map<String, Object>> collector) {
+		public boolean accept(EntityKey key, Map<String, Object> value, Metadata metadata) {
 			for ( EntityKeyMetadata entityKeyMetadata : entityKeyMetadatas ) {
 				if ( key.getTable().equals( entityKeyMetadata.getTable() ) ) {
-					collector.emit( key, value );
+					return true;
 				}
 			}
+			return false;
 		}
 	}
 }
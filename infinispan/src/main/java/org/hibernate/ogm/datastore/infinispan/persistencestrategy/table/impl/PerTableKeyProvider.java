@@ -7,6 +7,7 @@
 
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.table.impl;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
@@ -25,8 +26,8 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
-import org.infinispan.distexec.mapreduce.Collector;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.filter.KeyValueFilter;
+import org.infinispan.metadata.Metadata;
 
 /**
  * Provides the persistent keys for the "per-table" strategy. These keys don't contain the table name.
@@ -52,8 +53,8 @@ public PersistentIdSourceKey getIdSourceCacheKey(IdSourceKey key) {
 	}
 
 	@Override
-	public TupleMapper getMapper(EntityKeyMetadata... entityKeyMetadatas) {
-		return TupleMapper.INSTANCE;
+	public TupleFilter getEntityFilter(EntityKeyMetadata... entityKeyMetadatas) {
+		return TupleFilter.INSTANCE;
 	}
 
 	@Override
@@ -68,13 +69,16 @@ public Set<AdvancedExternalizer<?>> getExternalizers() {
 		return Collections.unmodifiableSet( externalizers );
 	}
 
-	private static class TupleMapper implements Mapper<PersistentEntityKey, Map<String, Object>, PersistentEntityKey, Map<String, Object>> {
+	/**
+	 * Matches all entries, as each cache contains the entities of one table.
+	 */
+	private static class TupleFilter implements KeyValueFilter<PersistentEntityKey, Map<String, Object>>, Serializable {
 
-		private static final TupleMapper INSTANCE = new TupleMapper();
+		private static final TupleFilter INSTANCE = new TupleFilter();
 
 		@Override
-		public void map(PersistentEntityKey key, Map<String, Object> value, Collector<PersistentEntityKey, Map<String, Object>> collector) {
-			collector.emit( key, value );
+		public boolean accept(PersistentEntityKey key, Map<String, Object> value, Metadata metadata) {
+			return true;
 		}
 	}
 }
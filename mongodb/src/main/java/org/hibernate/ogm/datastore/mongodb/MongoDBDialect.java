@@ -15,9 +15,11 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -39,6 +41,7 @@
 import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.AssociationStorageStrategy;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBAssociationSnapshot;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBScanPartition;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot.SnapshotType;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoHelpers;
@@ -55,6 +58,7 @@
 import org.hibernate.ogm.datastore.mongodb.type.impl.ObjectIdGridType;
 import org.hibernate.ogm.datastore.mongodb.type.impl.StringAsObjectIdGridType;
 import org.hibernate.ogm.datastore.mongodb.type.impl.StringAsObjectIdType;
+import org.hibernate.ogm.dialect.batch.spi.BatchExecutionException;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
@@ -63,6 +67,7 @@
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultiAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -71,6 +76,8 @@
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -88,6 +95,9 @@
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationOperationType;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.TupleOperation;
 import org.hibernate.ogm.type.impl.ByteStringType;
@@ -104,7 +114,10 @@
 
 import com.mongodb.AggregationOutput;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
 import com.mongodb.BulkWriteOperation;
+import com.mongodb.BulkWriteRequestBuilder;
 import com.mongodb.BulkWriteResult;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
@@ -131,17 +144,17 @@
  * Collection of embeddable are stored within the owning entity document under the
  * unqualified collection role
  *
- * In MongoDB is possible to batch operations but only for the creation of new documents
- * and only if they don't have invalid characters in the field name.
- * If these conditions are not met, the MongoDB mechanism for batch operations
- * is not going to be used.
+ * When flushing, all the operations are collected per MongoDB collection and sent using bulk write operations
+ * (ordered or unordered, see {@link MongoDBProperties#BULK_WRITE_ORDERED}) of at most
+ * {@link MongoDBProperties#BULK_WRITE_MAX_BATCH_SIZE} requests each. Updates and removals are applied in the order
+ * they have been queued, followed by the insertion of new documents.
  *
  * @author Guillaume Scheibel &lt;guillaume.scheibel@gmail.com&gt;
  * @author Alan Fitton &lt;alan at eth0.org.uk&gt;
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  * @author Thorsten Möller &lt;thorsten.moeller@sbi.ch&gt;
  */
-public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, OptimisticLockingAwareGridDialect {
+public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, MultiAssociationGridDialect, OptimisticLockingAwareGridDialect, PartitionedScanGridDialect {
 
 	public static final String ID_FIELDNAME = "_id";
 	public static final String PROPERTY_SEPARATOR = ".";
@@ -160,12 +173,23 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	 */
 	private static final Pattern PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE = Pattern.compile( ".*[. ]\\$?_id_? .*" );
 
+	/**
+	 * Error code used by MongoDB for the violation of a unique index
+	 */
+	private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
 	private final MongoDBDatastoreProvider provider;
 	private final DB currentDB;
+	private final int bulkWriteMaxBatchSize;
+	private final boolean bulkWriteOrdered;
+	private final boolean incrementalAssociationUpdates;
 
 	public MongoDBDialect(MongoDBDatastoreProvider provider) {
 		this.provider = provider;
 		this.currentDB = this.provider.getDatabase();
+		this.bulkWriteMaxBatchSize = provider.getConfiguration().getBulkWriteMaxBatchSize();
+		this.bulkWriteOrdered = provider.getConfiguration().isBulkWriteOrdered();
+		this.incrementalAssociationUpdates = provider.getConfiguration().isIncrementalAssociationUpdates();
 	}
 
 	@Override
@@ -563,7 +587,12 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 
 		// We need to execute the previous operations first or it won't be able to find the key that should have
 		// been created
-		executeBatch( associationContext.getOperationsQueue() );
+		try {
+			executeBatch( associationContext.getOperationsQueue() );
+		}
+		catch (BatchExecutionException bee) {
+			throw bee.getFirstFailure();
+		}
 		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
 			DBObject entity = getEmbeddingEntity( key, associationContext );
 
@@ -583,6 +612,60 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		}
 	}
 
+	/**
+	 * Loads the associations with one query: for associations embedded in the entity documents, the association
+	 * fields of the owner documents are fetched, otherwise the association documents.
+	 */
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		// We need to execute the previous operations first or it won't be able to find the keys that should have
+		// been created
+		try {
+			executeBatch( associationContext.getOperationsQueue() );
+		}
+		catch (BatchExecutionException bee) {
+			throw bee.getFirstFailure();
+		}
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( keys[0], associationContext );
+		boolean inEntity = storageStrategy == AssociationStorageStrategy.IN_ENTITY;
+
+		// The documents are matched with the keys via their id, they might not be in the same order as the keys
+		Object[] searchObjects = new Object[keys.length];
+		Map<Object, Integer> positions = new HashMap<Object, Integer>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			EntityKey entityKey = keys[i].getEntityKey();
+			searchObjects[i] = inEntity
+					? prepareIdObjectValue( entityKey.getColumnNames(), entityKey.getColumnValues() )
+					: associationKeyToObject( keys[i], storageStrategy ).get( ID_FIELDNAME );
+			positions.put( searchObjects[i], i );
+		}
+
+		DBCollection collection = inEntity ? getCollection( keys[0].getEntityKey() ) : getAssociationCollection( keys[0], storageStrategy );
+		DBObject query = new BasicDBObject( ID_FIELDNAME, new BasicDBObject( "$in", searchObjects ) );
+		DBCursor cursor = collection.find( query, getProjection( keys[0], inEntity ) )
+				.setReadPreference( getReadPreference( associationContext ) );
+
+		// The list is initialized with null because some keys might not have a corresponding document
+		Association[] associations = new Association[keys.length];
+		try {
+			for ( DBObject document : cursor ) {
+				Integer index = positions.get( document.get( ID_FIELDNAME ) );
+				if ( index != null && ( !inEntity || hasField( document, keys[index].getMetadata().getCollectionRole() ) ) ) {
+					associations[index] = new Association( new MongoDBAssociationSnapshot( document, keys[index], storageStrategy ) );
+				}
+			}
+		}
+		finally {
+			cursor.close();
+		}
+		return Arrays.asList( associations );
+	}
+
 	private static boolean isEmbeddedAssociation(AssociationKey key) {
 		return AssociationKind.EMBEDDED_COLLECTION == key.getMetadata().getAssociationKind();
 	}
@@ -678,24 +761,34 @@ private static Object getAssociationRow(Tuple row, AssociationKey associationKey
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		WriteConcern writeConcern = getWriteConcern( associationContext );
+
+		for ( PendingWrite update : prepareAssociationUpdates( key, association, associationContext, null ) ) {
+			update.getCollection().update( update.getQuery(), update.getDocument(), update.isUpsert(), false, writeConcern );
+		}
+	}
+
+	/**
+	 * Prepares the update(s) of the given association, to be applied either directly or as part of a bulk write.
+	 * <p>
+	 * If possible, only the added and removed rows are written (see
+	 * {@link MongoDBProperties#INCREMENTAL_ASSOCIATION_UPDATES}), otherwise all the rows of the association are
+	 * written using {@code $set}.
+	 */
+	private List<PendingWrite> prepareAssociationUpdates(AssociationKey key, Association association, AssociationContext associationContext, Operation origin) {
 		DBCollection collection;
 		DBObject query;
 		MongoDBAssociationSnapshot assocSnapshot = (MongoDBAssociationSnapshot) association.getSnapshot();
 		String associationField;
+		DBObject embeddingEntity = null;
 
 		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
-		WriteConcern writeConcern = getWriteConcern( associationContext );
-
-		Object rows = getAssociationRows( association, key, associationContext );
-		Object toStore = key.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
 
 		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
 			collection = this.getCollection( key.getEntityKey() );
 			query = prepareIdObject( key.getEntityKey() );
 			associationField = key.getMetadata().getCollectionRole();
-
-			//TODO would that fail if getCollectionRole has dots?
-			( (MongoDBTupleSnapshot) associationContext.getEntityTuple().getSnapshot() ).getDbObject().put( key.getMetadata().getCollectionRole(), toStore );
+			embeddingEntity = ( (MongoDBTupleSnapshot) associationContext.getEntityTuple().getSnapshot() ).getDbObject();
 		}
 		else {
 			collection = getAssociationCollection( key, storageStrategy );
@@ -703,9 +796,129 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 			associationField = ROWS_FIELDNAME;
 		}
 
+		if ( isIncrementalUpdateApplicable( key, association, associationContext ) ) {
+			return prepareIncrementalAssociationUpdates( key, association, collection, query, associationField, embeddingEntity, origin );
+		}
+
+		Object rows = getAssociationRows( association, key, associationContext );
+		Object toStore = key.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
+
+		if ( embeddingEntity != null ) {
+			//TODO would that fail if getCollectionRole has dots?
+			embeddingEntity.put( associationField, toStore );
+		}
+
 		DBObject update = new BasicDBObject( "$set", new BasicDBObject( associationField, toStore ) );
 
-		collection.update( query, update, true, false, writeConcern );
+		return Collections.singletonList( PendingWrite.update( collection, query, update, true, null, origin ) );
+	}
+
+	/**
+	 * Whether the changes to the given association can be written by adding and removing the affected rows. That's
+	 * the case for sets without index column, unless they have been cleared. Bags are always rewritten, as
+	 * {@code $addToSet} and {@code $pull} would collapse duplicate rows.
+	 */
+	private boolean isIncrementalUpdateApplicable(AssociationKey key, Association association, AssociationContext associationContext) {
+		if ( !incrementalAssociationUpdates ) {
+			return false;
+		}
+
+		if ( key.getMetadata().getAssociationType() != AssociationType.SET ) {
+			return false;
+		}
+
+		if ( key.getMetadata().getRowKeyIndexColumnNames().length > 0
+				|| DotPatternMapHelpers.organizeAssociationMapByRowKey( association, key, associationContext ) ) {
+			return false;
+		}
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			if ( operation.getType() == AssociationOperationType.CLEAR ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Translates the operations of the given association into a {@code $pull} of the removed rows and an
+	 * {@code $addToSet} of the added rows. Both can't be applied to the same field within one update, hence two
+	 * updates are returned if there are additions and removals.
+	 * <p>
+	 * If the association is embedded, the same changes are applied to the given document of the owning entity.
+	 */
+	private static List<PendingWrite> prepareIncrementalAssociationUpdates(AssociationKey key, Association association, DBCollection collection,
+			DBObject query, String associationField, DBObject embeddingEntity, Operation origin) {
+		AssociationSnapshot snapshot = association.getSnapshot();
+		List<Object> addedRows = new ArrayList<Object>();
+		List<Object> removedRows = new ArrayList<Object>();
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			Object previousRow = snapshot.containsKey( operation.getKey() ) ? getAssociationRow( snapshot.get( operation.getKey() ), key ) : null;
+
+			switch ( operation.getType() ) {
+				case PUT:
+					Object row = getAssociationRow( operation.getValue(), key );
+					if ( !row.equals( previousRow ) ) {
+						if ( previousRow != null ) {
+							removedRows.add( previousRow );
+						}
+						addedRows.add( row );
+					}
+					break;
+				case REMOVE:
+					if ( previousRow != null ) {
+						removedRows.add( previousRow );
+					}
+					break;
+				default:
+					throw new AssertionFailure( "Unexpected association operation: " + operation.getType() );
+			}
+		}
+
+		if ( embeddingEntity != null ) {
+			applyIncrementalAssociationUpdates( embeddingEntity, associationField, removedRows, addedRows );
+		}
+
+		List<PendingWrite> updates = new ArrayList<PendingWrite>( 2 );
+
+		if ( !removedRows.isEmpty() ) {
+			DBObject pull = new BasicDBObject( "$pull", new BasicDBObject( associationField, new BasicDBObject( "$in", removedRows ) ) );
+			// no upsert: there is nothing to remove from a non-existing document
+			updates.add( PendingWrite.update( collection, query, pull, false, null, origin ) );
+		}
+
+		if ( !addedRows.isEmpty() ) {
+			DBObject addToSet = new BasicDBObject( "$addToSet", new BasicDBObject( associationField, new BasicDBObject( "$each", addedRows ) ) );
+			updates.add( PendingWrite.update( collection, query, addToSet, true, null, origin ) );
+		}
+
+		return updates;
+	}
+
+	/**
+	 * Applies the given changes to the rows embedded in the given entity document, the same way {@code $pull} and
+	 * {@code $addToSet} do.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void applyIncrementalAssociationUpdates(DBObject embeddingEntity, String associationField, List<Object> removedRows, List<Object> addedRows) {
+		Object embeddedRows = embeddingEntity.get( associationField );
+		List<Object> rows;
+		if ( embeddedRows instanceof List ) {
+			rows = (List<Object>) embeddedRows;
+		}
+		else {
+			rows = new ArrayList<Object>( addedRows.size() );
+			embeddingEntity.put( associationField, rows );
+		}
+
+		rows.removeAll( removedRows );
+		for ( Object row : addedRows ) {
+			if ( !rows.contains( row ) ) {
+				rows.add( row );
+			}
+		}
 	}
 
 	@Override
@@ -798,10 +1011,110 @@ else if ( type instanceof StringAsObjectIdType ) {
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		forEachTuple( consumer, tupleContext, entityKeyMetadata, new MongoDBScanPartition( null, null ) );
+	}
+
+	/**
+	 * Splits the collection into ranges of {@code _id} values of equal width. The boundaries are interpolated between
+	 * the smallest and the largest id, so the partitions hold roughly the same number of documents if the ids are
+	 * distributed evenly, as is the case for generated numeric ids and {@link ObjectId}s (split by their timestamp).
+	 * <p>
+	 * Collections with ids of other types or whose smallest and largest ids are of different types (range queries
+	 * only match values of the same BSON type) are not split.
+	 */
+	@Override
+	public List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions) {
+		DBCollection collection = provider.getDatabase().getCollection( entityKeyMetadata.getTable() );
+		List<Object> boundaries = numberOfPartitions > 1 && collection.count() >= numberOfPartitions
+				? getPartitionBoundaries( collection, numberOfPartitions )
+				: Collections.<Object>emptyList();
+
+		List<ScanPartition> partitions = new ArrayList<ScanPartition>( boundaries.size() + 1 );
+		Object lowerBound = null;
+		for ( Object upperBound : boundaries ) {
+			partitions.add( new MongoDBScanPartition( lowerBound, upperBound ) );
+			lowerBound = upperBound;
+		}
+		partitions.add( new MongoDBScanPartition( lowerBound, null ) );
+
+		return partitions;
+	}
+
+	private List<Object> getPartitionBoundaries(DBCollection collection, int numberOfPartitions) {
+		Object first = getFirstId( collection, 1 );
+		Object last = getFirstId( collection, -1 );
+
+		if ( first instanceof ObjectId && last instanceof ObjectId ) {
+			List<Object> boundaries = new ArrayList<Object>( numberOfPartitions - 1 );
+			for ( Number timestamp : interpolate( ( (ObjectId) first ).getTimestamp(), ( (ObjectId) last ).getTimestamp(), numberOfPartitions ) ) {
+				boundaries.add( new ObjectId( new Date( timestamp.longValue() * 1000 ) ) );
+			}
+			return boundaries;
+		}
+		else if ( isIntegral( first ) && isIntegral( last ) ) {
+			return new ArrayList<Object>( interpolate( ( (Number) first ).longValue(), ( (Number) last ).longValue(), numberOfPartitions ) );
+		}
+		else if ( first instanceof Number && last instanceof Number ) {
+			double min = ( (Number) first ).doubleValue();
+			double width = ( ( (Number) last ).doubleValue() - min ) / numberOfPartitions;
+			List<Object> boundaries = new ArrayList<Object>( numberOfPartitions - 1 );
+			for ( int i = 1; i < numberOfPartitions && width > 0; i++ ) {
+				boundaries.add( min + i * width );
+			}
+			return boundaries;
+		}
+
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns the distinct values splitting the given range into the given number of ranges of equal width, leaving
+	 * out those not greater than {@code min}.
+	 */
+	private static List<Long> interpolate(long min, long max, int numberOfPartitions) {
+		// computed as double as the difference may exceed the range of long
+		double width = ( (double) max - min ) / numberOfPartitions;
+		List<Long> boundaries = new ArrayList<Long>( numberOfPartitions - 1 );
+		long previous = min;
+		for ( int i = 1; i < numberOfPartitions; i++ ) {
+			long boundary = min + (long) ( i * width );
+			if ( boundary > previous && boundary <= max ) {
+				boundaries.add( boundary );
+				previous = boundary;
+			}
+		}
+		return boundaries;
+	}
+
+	private static boolean isIntegral(Object id) {
+		return id instanceof Integer || id instanceof Long;
+	}
+
+	private Object getFirstId(DBCollection collection, int sortOrder) {
+		DBCursor cursor = collection.find( new BasicDBObject(), new BasicDBObject( ID_FIELDNAME, 1 ) )
+				.sort( new BasicDBObject( ID_FIELDNAME, sortOrder ) )
+				.limit( 1 );
+		try {
+			return cursor.hasNext() ? cursor.next().get( ID_FIELDNAME ) : null;
+		}
+		finally {
+			cursor.close();
+		}
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition) {
 		DB db = provider.getDatabase();
 		DBCollection collection = db.getCollection( entityKeyMetadata.getTable() );
-		for ( DBObject dbObject : collection.find() ) {
-			consumer.consume( new Tuple( new MongoDBTupleSnapshot( dbObject, entityKeyMetadata, UPDATE ) ) );
+		DBCursor cursor = collection.find( ( (MongoDBScanPartition) partition ).getQuery() );
+		// the consumer may abort the scan by raising an exception
+		try {
+			for ( DBObject dbObject : cursor ) {
+				consumer.consume( new Tuple( new MongoDBTupleSnapshot( dbObject, entityKeyMetadata, UPDATE ) ) );
+			}
+		}
+		finally {
+			cursor.close();
 		}
 	}
 
@@ -1153,14 +1466,14 @@ private static AssociationStorageStrategy getAssociationStorageStrategy(Associat
 	public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
-			Map<DBCollection, BatchInsertionTask> inserts = new HashMap<DBCollection, BatchInsertionTask>();
+			Map<DBCollection, BulkWriteTask> tasks = new LinkedHashMap<DBCollection, BulkWriteTask>();
 
 			List<MongoDBTupleSnapshot> insertSnapshots = new ArrayList<MongoDBTupleSnapshot>();
 
 			while ( operation != null ) {
 				if ( operation instanceof InsertOrUpdateTupleOperation ) {
 					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
-					executeBatchUpdate( inserts, update );
+					executeBatchUpdate( tasks, update );
 					MongoDBTupleSnapshot snapshot = (MongoDBTupleSnapshot) update.getTuple().getSnapshot();
 					if ( snapshot.getSnapshotType() == INSERT ) {
 						insertSnapshots.add( snapshot );
@@ -1168,22 +1481,23 @@ public void executeBatch(OperationsQueue queue) {
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation tupleOp = (RemoveTupleOperation) operation;
-					executeBatchRemove( inserts, tupleOp );
+					executeBatchRemove( tasks, tupleOp );
 				}
 				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
-					executeBatchUpdateAssociation( inserts, update );
+					executeBatchUpdateAssociation( tasks, update );
 				}
 				else if ( operation instanceof RemoveAssociationOperation ) {
 					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
-					removeAssociation( remove.getAssociationKey(), remove.getContext() );
+					executeBatchRemoveAssociation( tasks, remove );
 				}
 				else {
 					throw new UnsupportedOperationException( "Operation not supported on MongoDB: " + operation.getClass().getName() );
 				}
 				operation = queue.poll();
 			}
-			flushInserts( inserts );
+
+			flushBulkWrites( tasks );
 
 			for ( MongoDBTupleSnapshot insertSnapshot : insertSnapshots ) {
 				insertSnapshot.setSnapshotType( UPDATE );
@@ -1192,55 +1506,98 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 		}
 	}
 
-	private void executeBatchRemove(Map<DBCollection, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
+	private void executeBatchRemove(Map<DBCollection, BulkWriteTask> tasks, RemoveTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		DBCollection collection = getCollection( entityKey );
-		BatchInsertionTask batchedInserts = inserts.get( collection );
+		BulkWriteTask bulkWrite = tasks.get( collection );
 
-		if ( batchedInserts != null && batchedInserts.containsKey( entityKey ) ) {
-			batchedInserts.remove( entityKey );
+		if ( bulkWrite != null && bulkWrite.containsKey( entityKey ) ) {
+			bulkWrite.remove( entityKey );
 		}
 		else {
-			removeTuple( entityKey, tupleOperation.getTupleContext() );
+			WriteConcern writeConcern = getWriteConcern( tupleOperation.getTupleContext() );
+			getOrCreateBulkWriteTask( tasks, collection, writeConcern )
+					.add( PendingWrite.remove( collection, prepareIdObject( entityKey ), entityKey, tupleOperation ) );
 		}
 	}
 
-	private void executeBatchUpdate(Map<DBCollection, BatchInsertionTask> inserts, InsertOrUpdateTupleOperation tupleOperation) {
+	private void executeBatchUpdate(Map<DBCollection, BulkWriteTask> tasks, InsertOrUpdateTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		Tuple tuple = tupleOperation.getTuple();
 		MongoDBTupleSnapshot snapshot = (MongoDBTupleSnapshot) tupleOperation.getTuple().getSnapshot();
 		WriteConcern writeConcern = getWriteConcern( tupleOperation.getTupleContext() );
 
 		if ( INSERT == snapshot.getSnapshotType() ) {
-			prepareForInsert( inserts, snapshot, entityKey, tuple, writeConcern );
+			prepareForInsert( tasks, snapshot, entityKey, tuple, writeConcern, tupleOperation );
 		}
 		else {
-			// Object already exists in the db or has invalid fields:
-			insertOrUpdateTuple( entityKey, tuple, tupleOperation.getTupleContext() );
+			// Object already exists in the db
+			DBCollection collection = getCollection( entityKey );
+			BasicDBObject idObject = prepareIdObject( entityKey );
+			DBObject updater = objectForUpdate( tuple, idObject, tupleOperation.getTupleContext() );
+
+			getOrCreateBulkWriteTask( tasks, collection, writeConcern )
+					.add( PendingWrite.update( collection, idObject, updater, true, entityKey, tupleOperation ) );
 		}
 	}
 
-	private void executeBatchUpdateAssociation(Map<DBCollection, BatchInsertionTask> inserts, InsertOrUpdateAssociationOperation updateOp) {
+	private void executeBatchUpdateAssociation(Map<DBCollection, BulkWriteTask> tasks, InsertOrUpdateAssociationOperation updateOp) {
 		AssociationKey associationKey = updateOp.getAssociationKey();
+		WriteConcern writeConcern = getWriteConcern( updateOp.getContext() );
+
 		if ( isEmbeddedAssociation( associationKey ) ) {
 			DBCollection collection = getCollection( associationKey.getEntityKey() );
-			BatchInsertionTask batchInserts = inserts.get( collection );
-			if ( batchInserts != null && batchInserts.containsKey( associationKey.getEntityKey() ) ) {
+			BulkWriteTask bulkWrite = tasks.get( collection );
+			if ( bulkWrite != null && bulkWrite.containsKey( associationKey.getEntityKey() ) ) {
 				// The owner of the association is in the insertion queue,
 				// we are going to update it with the collection of elements
-				WriteConcern writeConcern = getWriteConcern( updateOp.getContext() );
-				BatchInsertionTask insertTask = getOrCreateBatchInsertionTask( inserts, associationKey.getEntityKey().getMetadata(), collection, writeConcern );
-				DBObject documentForInsertion = insertTask.get( associationKey.getEntityKey() );
+				DBObject documentForInsertion = bulkWrite.get( associationKey.getEntityKey() );
 				Object embeddedElements = getAssociationRows( updateOp.getAssociation(), updateOp.getAssociationKey(), updateOp.getContext() );
 				String collectionRole = associationKey.getMetadata().getCollectionRole();
 				MongoHelpers.setValue( documentForInsertion, collectionRole, embeddedElements );
+				return;
+			}
+		}
+
+		for ( PendingWrite update : prepareAssociationUpdates( associationKey, updateOp.getAssociation(), updateOp.getContext(), updateOp ) ) {
+			getOrCreateBulkWriteTask( tasks, update.getCollection(), writeConcern ).add( update );
+		}
+	}
+
+	private void executeBatchRemoveAssociation(Map<DBCollection, BulkWriteTask> tasks, RemoveAssociationOperation removeOp) {
+		AssociationKey key = removeOp.getAssociationKey();
+		AssociationContext associationContext = removeOp.getContext();
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
+		WriteConcern writeConcern = getWriteConcern( associationContext );
+
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
+			String collectionRole = key.getMetadata().getCollectionRole();
+			DBCollection collection = getCollection( key.getEntityKey() );
+
+			if ( associationContext.getEntityTuple() != null ) {
+				( (MongoDBTupleSnapshot) associationContext.getEntityTuple().getSnapshot() ).getDbObject().removeField( collectionRole );
+			}
+
+			BulkWriteTask bulkWrite = tasks.get( collection );
+			if ( bulkWrite != null && bulkWrite.containsKey( key.getEntityKey() ) ) {
+				// The owner of the association is in the insertion queue
+				bulkWrite.get( key.getEntityKey() ).removeField( collectionRole );
 			}
 			else {
-				insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext() );
+				BasicDBObject updater = new BasicDBObject();
+				addSubQuery( "$unset", updater, collectionRole, Integer.valueOf( 1 ) );
+
+				// no upsert: there is nothing to unset if the owner does not exist
+				getOrCreateBulkWriteTask( tasks, collection, writeConcern )
+						.add( PendingWrite.update( collection, prepareIdObject( key.getEntityKey() ), updater, false, null, removeOp ) );
 			}
 		}
 		else {
-			insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext() );
+			DBCollection collection = getAssociationCollection( key, storageStrategy );
+			DBObject query = associationKeyToObject( key, storageStrategy );
+
+			getOrCreateBulkWriteTask( tasks, collection, writeConcern )
+					.add( PendingWrite.remove( collection, query, null, removeOp ) );
 		}
 	}
 
@@ -1249,53 +1606,101 @@ public ParameterMetadataBuilder getParameterMetadataBuilder() {
 		return NoOpParameterMetadataBuilder.INSTANCE;
 	}
 
-	private void prepareForInsert(Map<DBCollection, BatchInsertionTask> inserts, MongoDBTupleSnapshot snapshot, EntityKey entityKey, Tuple tuple, WriteConcern writeConcern) {
+	private void prepareForInsert(Map<DBCollection, BulkWriteTask> tasks, MongoDBTupleSnapshot snapshot, EntityKey entityKey, Tuple tuple, WriteConcern writeConcern, Operation origin) {
 		DBCollection collection = getCollection( entityKey );
-		BatchInsertionTask batchInsertion = getOrCreateBatchInsertionTask( inserts, entityKey.getMetadata(), collection, writeConcern );
-		DBObject document = getCurrentDocument( snapshot, batchInsertion, entityKey );
+		BulkWriteTask bulkWrite = getOrCreateBulkWriteTask( tasks, collection, writeConcern );
+		DBObject document = getCurrentDocument( snapshot, bulkWrite, entityKey );
 		DBObject newDocument = objectForInsert( tuple, document );
-		inserts.get( collection ).put( entityKey, newDocument );
+		bulkWrite.put( entityKey, newDocument, origin );
 	}
 
-	private static DBObject getCurrentDocument(MongoDBTupleSnapshot snapshot, BatchInsertionTask batchInsert, EntityKey entityKey) {
-		DBObject fromBatchInsertion = batchInsert.get( entityKey );
+	private static DBObject getCurrentDocument(MongoDBTupleSnapshot snapshot, BulkWriteTask bulkWrite, EntityKey entityKey) {
+		DBObject fromBatchInsertion = bulkWrite.get( entityKey );
 		return fromBatchInsertion != null ? fromBatchInsertion : snapshot.getDbObject();
 	}
 
-	private static BatchInsertionTask getOrCreateBatchInsertionTask(Map<DBCollection, BatchInsertionTask> inserts, EntityKeyMetadata entityKeyMetadata, DBCollection collection, WriteConcern writeConcern) {
-		BatchInsertionTask insertsForCollection = inserts.get( collection );
+	private static BulkWriteTask getOrCreateBulkWriteTask(Map<DBCollection, BulkWriteTask> tasks, DBCollection collection, WriteConcern writeConcern) {
+		BulkWriteTask tasksForCollection = tasks.get( collection );
 
-		if ( insertsForCollection == null ) {
-			insertsForCollection = new BatchInsertionTask( entityKeyMetadata, writeConcern );
-			inserts.put( collection, insertsForCollection );
+		if ( tasksForCollection == null ) {
+			tasksForCollection = new BulkWriteTask( collection, writeConcern );
+			tasks.put( collection, tasksForCollection );
 		}
 
-		return insertsForCollection;
+		return tasksForCollection;
 	}
 
-	private static void flushInserts(Map<DBCollection, BatchInsertionTask> inserts) {
-		for ( Map.Entry<DBCollection, BatchInsertionTask> entry : inserts.entrySet() ) {
-			DBCollection collection = entry.getKey();
-			if ( entry.getValue().isEmpty() ) {
-				// has been emptied due to subsequent removals before flushes
-				continue;
-			}
+	/**
+	 * Sends the collected writes to the datastore, using one or more bulk write operations per collection.
+	 *
+	 * @throws BatchExecutionException in case one or more of the writes fail; it contains the failure of each
+	 * originating operation
+	 */
+	private void flushBulkWrites(Map<DBCollection, BulkWriteTask> tasks) {
+		Map<Operation, RuntimeException> failedOperations = new LinkedHashMap<Operation, RuntimeException>();
 
-			try {
-				collection.insert( entry.getValue().getAll(), entry.getValue().getWriteConcern() );
-			}
-			catch ( DuplicateKeyException dke ) {
-				// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
-				// so we determine if it concerns the primary key by matching on the message
-				if ( PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
-					throw new TupleAlreadyExistsException( entry.getValue().getEntityKeyMetadata(), null, dke );
+		for ( BulkWriteTask task : tasks.values() ) {
+			List<PendingWrite> writes = task.getAll();
+			DBCollection collection = task.getCollection();
+
+			for ( int start = 0; start < writes.size(); start += bulkWriteMaxBatchSize ) {
+				List<PendingWrite> chunk = writes.subList( start, Math.min( start + bulkWriteMaxBatchSize, writes.size() ) );
+				BulkWriteOperation bulkWriteOperation = bulkWriteOrdered
+						? collection.initializeOrderedBulkOperation()
+						: collection.initializeUnorderedBulkOperation();
+
+				for ( PendingWrite write : chunk ) {
+					write.addTo( bulkWriteOperation );
 				}
-				else {
-					throw log.constraintViolationOnFlush( dke.getMessage(), dke );
+
+				try {
+					bulkWriteOperation.execute( task.getWriteConcern() );
+				}
+				catch (BulkWriteException bwe) {
+					if ( bwe.getWriteErrors().isEmpty() ) {
+						// e.g. a write concern error; it can't be related to specific operations
+						throw bwe;
+					}
+
+					for ( BulkWriteError error : bwe.getWriteErrors() ) {
+						PendingWrite failedWrite = chunk.get( error.getIndex() );
+						failedOperations.put( failedWrite.getOrigin(), toFailure( task, failedWrite, error, bwe ) );
+					}
+
+					if ( bulkWriteOrdered ) {
+						// the remaining writes of this chunk have not been applied; don't apply any later ones either
+						throw new BatchExecutionException( failedOperations );
+					}
 				}
 			}
 		}
-		inserts.clear();
+
+		tasks.clear();
+
+		if ( !failedOperations.isEmpty() ) {
+			throw new BatchExecutionException( failedOperations );
+		}
+	}
+
+	private static RuntimeException toFailure(BulkWriteTask task, PendingWrite failedWrite, BulkWriteError error, BulkWriteException bwe) {
+		if ( error.getCode() == DUPLICATE_KEY_ERROR_CODE ) {
+			// This error is used by MongoDB for all the unique indexes violation, not only the primary key
+			// so we determine if it concerns the primary key by matching on the message
+			if ( failedWrite.getEntityKey() != null && PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( error.getMessage() ).matches() ) {
+				Tuple tuple = failedWrite.getOrigin() instanceof InsertOrUpdateTupleOperation
+						? ( (InsertOrUpdateTupleOperation) failedWrite.getOrigin() ).getTuple()
+						: null;
+				return new TupleAlreadyExistsException( failedWrite.getEntityKey().getMetadata(), tuple, bwe );
+			}
+			else if ( failedWrite.getEntityKey() != null ) {
+				return log.constraintViolationForEntity( failedWrite.getEntityKey(), error.getMessage(), bwe );
+			}
+			else {
+				return log.constraintViolationOnFlush( error.getMessage(), bwe );
+			}
+		}
+
+		return log.unableToExecuteBulkWrite( task.getCollection().getName(), error.getMessage(), bwe );
 	}
 
 	private static WriteConcern getWriteConcern(TupleContext tupleContext) {
@@ -1421,48 +1826,153 @@ public void close() {
 		}
 	}
 
-	private static class BatchInsertionTask {
+	/**
+	 * The writes to be applied to one collection during a flush. Updates and removals are kept in the order they are
+	 * added, the documents to be inserted are kept separately so they still can be altered by subsequent operations.
+	 */
+	private static class BulkWriteTask {
 
-		private final EntityKeyMetadata entityKeyMetadata;
-		private final Map<EntityKey, DBObject> inserts;
+		private final DBCollection collection;
 		private final WriteConcern writeConcern;
+		private final List<PendingWrite> writes;
+		private final Map<EntityKey, PendingWrite> inserts;
 
-		public BatchInsertionTask(EntityKeyMetadata entityKeyMetadata, WriteConcern writeConcern) {
-			this.entityKeyMetadata = entityKeyMetadata;
-			this.inserts = new HashMap<EntityKey, DBObject>();
+		public BulkWriteTask(DBCollection collection, WriteConcern writeConcern) {
+			this.collection = collection;
 			this.writeConcern = writeConcern;
+			this.writes = new ArrayList<PendingWrite>();
+			this.inserts = new LinkedHashMap<EntityKey, PendingWrite>();
 		}
 
-		public EntityKeyMetadata getEntityKeyMetadata() {
-			return entityKeyMetadata;
+		public DBCollection getCollection() {
+			return collection;
 		}
 
-		public List<DBObject> getAll() {
-			return new ArrayList<DBObject>( inserts.values() );
+		/**
+		 * Returns all the writes of this task, inserts come last.
+		 */
+		public List<PendingWrite> getAll() {
+			List<PendingWrite> all = new ArrayList<PendingWrite>( writes.size() + inserts.size() );
+			all.addAll( writes );
+			all.addAll( inserts.values() );
+			return all;
 		}
 
-		public DBObject get(EntityKey entityKey) {
-			return inserts.get( entityKey );
+		public void add(PendingWrite write) {
+			writes.add( write );
+		}
 
+		public DBObject get(EntityKey entityKey) {
+			PendingWrite insert = inserts.get( entityKey );
+			return insert != null ? insert.getDocument() : null;
 		}
+
 		public boolean containsKey(EntityKey entityKey) {
 			return inserts.containsKey( entityKey );
 		}
 
-		public DBObject remove(EntityKey entityKey) {
-			return inserts.remove( entityKey );
+		public void remove(EntityKey entityKey) {
+			inserts.remove( entityKey );
 		}
 
-		public void put(EntityKey entityKey, DBObject object) {
-			inserts.put( entityKey, object );
+		public void put(EntityKey entityKey, DBObject object, Operation origin) {
+			inserts.put( entityKey, PendingWrite.insert( collection, object, entityKey, origin ) );
 		}
 
 		public WriteConcern getWriteConcern() {
 			return writeConcern;
 		}
+	}
+
+	/**
+	 * A single write request of a bulk write operation, together with the operation it originates from.
+	 */
+	private static class PendingWrite {
+
+		private enum Type {
+			INSERT, UPDATE, REMOVE
+		}
+
+		private final Type type;
+		private final DBCollection collection;
+		private final DBObject query;
+		private final DBObject document;
+		private final boolean upsert;
+		private final EntityKey entityKey;
+		private final Operation origin;
+
+		private PendingWrite(Type type, DBCollection collection, DBObject query, DBObject document, boolean upsert, EntityKey entityKey, Operation origin) {
+			this.type = type;
+			this.collection = collection;
+			this.query = query;
+			this.document = document;
+			this.upsert = upsert;
+			this.entityKey = entityKey;
+			this.origin = origin;
+		}
+
+		static PendingWrite insert(DBCollection collection, DBObject document, EntityKey entityKey, Operation origin) {
+			return new PendingWrite( Type.INSERT, collection, null, document, false, entityKey, origin );
+		}
+
+		static PendingWrite update(DBCollection collection, DBObject query, DBObject update, boolean upsert, EntityKey entityKey, Operation origin) {
+			return new PendingWrite( Type.UPDATE, collection, query, update, upsert, entityKey, origin );
+		}
+
+		static PendingWrite remove(DBCollection collection, DBObject query, EntityKey entityKey, Operation origin) {
+			return new PendingWrite( Type.REMOVE, collection, query, null, false, entityKey, origin );
+		}
+
+		public void addTo(BulkWriteOperation bulkWriteOperation) {
+			switch ( type ) {
+				case INSERT:
+					bulkWriteOperation.insert( document );
+					break;
+				case UPDATE:
+					BulkWriteRequestBuilder request = bulkWriteOperation.find( query );
+					// an update without any operator (e.g. an entity made of its id only) replaces the document
+					boolean replacement = document.keySet().isEmpty() || !document.keySet().iterator().next().startsWith( "$" );
+					if ( upsert && replacement ) {
+						request.upsert().replaceOne( document );
+					}
+					else if ( upsert ) {
+						request.upsert().updateOne( document );
+					}
+					else if ( replacement ) {
+						request.replaceOne( document );
+					}
+					else {
+						request.updateOne( document );
+					}
+					break;
+				case REMOVE:
+					bulkWriteOperation.find( query ).remove();
+					break;
+			}
+		}
+
+		public DBCollection getCollection() {
+			return collection;
+		}
+
+		public DBObject getQuery() {
+			return query;
+		}
+
+		public DBObject getDocument() {
+			return document;
+		}
+
+		public boolean isUpsert() {
+			return upsert;
+		}
+
+		public EntityKey getEntityKey() {
+			return entityKey;
+		}
 
-		public boolean isEmpty() {
-			return inserts.isEmpty();
+		public Operation getOrigin() {
+			return origin;
 		}
 	}
 }
@@ -80,6 +80,33 @@ public final class MongoDBProperties implements DocumentStoreProperties {
 	 */
 	public static final String MONGO_DRIVER_SETTINGS_PREFIX = "hibernate.ogm.mongodb.driver";
 
+	/**
+	 * The maximum number of write requests sent to MongoDB within one bulk write operation when flushing the
+	 * changes of a session. Bigger flushes are split up into several bulk write operations per collection.
+	 * <p>
+	 * Defaults to 1000.
+	 */
+	public static final String BULK_WRITE_MAX_BATCH_SIZE = "hibernate.ogm.mongodb.bulk_write_max_batch_size";
+
+	/**
+	 * Whether the bulk write operations issued when flushing the changes of a session are ordered or not. Ordered
+	 * bulk writes are applied sequentially and stop upon the first failing write, unordered ones may be applied in
+	 * parallel by the server and report all failing writes. Supported values are {@code true} and {@code false}.
+	 * <p>
+	 * Defaults to {@code true}.
+	 */
+	public static final String BULK_WRITE_ORDERED = "hibernate.ogm.mongodb.bulk_write_ordered";
+
+	/**
+	 * Whether changes to set-typed associations without index column are written incrementally, i.e. by adding and
+	 * removing the changed rows using {@code $addToSet} and {@code $pull}, instead of rewriting all the association
+	 * rows with {@code $set}. Associations which have been cleared as well as bags, lists and maps are always
+	 * rewritten completely. Supported values are {@code true} and {@code false}.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public static final String INCREMENTAL_ASSOCIATION_UPDATES = "hibernate.ogm.mongodb.incremental_association_updates";
+
 	private MongoDBProperties() {
 	}
 }
@@ -18,6 +18,7 @@
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
 import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
 import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
@@ -28,6 +29,7 @@
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
 
 /**
  * Configuration for {@link MongoDBDatastoreProvider}.
@@ -41,12 +43,32 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 	public static final String DEFAULT_ASSOCIATION_STORE = "Associations";
 
 	private static final int DEFAULT_PORT = 27017;
+	private static final int DEFAULT_BULK_WRITE_MAX_BATCH_SIZE = 1000;
 	private static final Log log = LoggerFactory.getLogger();
 
+	/**
+	 * A {@link PropertyValidator} which asserts that a given number is a valid bulk write batch size.
+	 */
+	private static final PropertyValidator<Integer> BULK_WRITE_MAX_BATCH_SIZE_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalBatchSize( MongoDBProperties.BULK_WRITE_MAX_BATCH_SIZE, value );
+			}
+		}
+	};
+
 	private final WriteConcern writeConcern;
 	private final ReadPreference readPreference;
 	private final AuthenticationMechanismType authenticationMechanism;
 	private final ConfigurationPropertyReader propertyReader;
+	private final int bulkWriteMaxBatchSize;
+	private final boolean bulkWriteOrdered;
+	private final boolean incrementalAssociationUpdates;
 
 	/**
 	 * Creates a new {@link MongoDBConfiguration}.
@@ -61,6 +83,16 @@ public MongoDBConfiguration(ConfigurationPropertyReader propertyReader, OptionsC
 		this.authenticationMechanism = propertyReader.property( MongoDBProperties.AUTHENTICATION_MECHANISM, AuthenticationMechanismType.class )
 				.withDefault( AuthenticationMechanismType.BEST )
 				.getValue();
+		this.bulkWriteMaxBatchSize = propertyReader.property( MongoDBProperties.BULK_WRITE_MAX_BATCH_SIZE, int.class )
+				.withValidator( BULK_WRITE_MAX_BATCH_SIZE_VALIDATOR )
+				.withDefault( DEFAULT_BULK_WRITE_MAX_BATCH_SIZE )
+				.getValue();
+		this.bulkWriteOrdered = propertyReader.property( MongoDBProperties.BULK_WRITE_ORDERED, boolean.class )
+				.withDefault( true )
+				.getValue();
+		this.incrementalAssociationUpdates = propertyReader.property( MongoDBProperties.INCREMENTAL_ASSOCIATION_UPDATES, boolean.class )
+				.withDefault( false )
+				.getValue();
 		this.writeConcern = globalOptions.getUnique( WriteConcernOption.class );
 		this.readPreference = globalOptions.getUnique( ReadPreferenceOption.class );
 	}
@@ -129,6 +161,27 @@ private Map<String, Method> createSettingsMap() {
 		return settingsMap;
 	}
 
+	/**
+	 * @return the maximum number of write requests sent within one bulk write operation
+	 */
+	public int getBulkWriteMaxBatchSize() {
+		return bulkWriteMaxBatchSize;
+	}
+
+	/**
+	 * @return whether bulk write operations are ordered or not
+	 */
+	public boolean isBulkWriteOrdered() {
+		return bulkWriteOrdered;
+	}
+
+	/**
+	 * @return whether set- and bag-typed associations are updated incrementally or not
+	 */
+	public boolean isIncrementalAssociationUpdates() {
+		return incrementalAssociationUpdates;
+	}
+
 	public List<MongoCredential> buildCredentials() {
 		if ( getUsername() != null ) {
 			return Collections.singletonList(
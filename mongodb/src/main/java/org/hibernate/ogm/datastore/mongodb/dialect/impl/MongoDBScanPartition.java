@@ -0,0 +1,51 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * A range of the {@code _id} values of a collection.
+ *
+ * @author Gunnar Morling
+ */
+public class MongoDBScanPartition implements ScanPartition {
+
+	private final Object lowerBound;
+	private final Object upperBound;
+
+	/**
+	 * @param lowerBound the smallest id of the range (inclusive), {@code null} for no lower bound
+	 * @param upperBound the id following the range (exclusive), {@code null} for no upper bound
+	 */
+	public MongoDBScanPartition(Object lowerBound, Object upperBound) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+
+	/**
+	 * @return the query selecting the documents of this partition
+	 */
+	public DBObject getQuery() {
+		BasicDBObject range = new BasicDBObject();
+		if ( lowerBound != null ) {
+			range.append( "$gte", lowerBound );
+		}
+		if ( upperBound != null ) {
+			range.append( "$lt", upperBound );
+		}
+		return range.isEmpty() ? new BasicDBObject() : new BasicDBObject( "_id", range );
+	}
+
+	@Override
+	public String toString() {
+		return "MongoDBScanPartition [lowerBound=" + lowerBound + ", upperBound=" + upperBound + "]";
+	}
+}
@@ -148,6 +148,10 @@ public DB getDatabase() {
 		return mongoDb;
 	}
 
+	public MongoDBConfiguration getConfiguration() {
+		return config;
+	}
+
 	private DB extractDatabase(MongoClient mongo, MongoDBConfiguration config) {
 		try {
 			String databaseName = config.getDatabaseName();
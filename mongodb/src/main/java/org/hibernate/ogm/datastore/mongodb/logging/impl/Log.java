@@ -131,4 +131,10 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@Message(id = 1236, value = "The options for index %2$s of collection %1$s are not a valid JSON object.")
 	HibernateException invalidOptionsFormatForIndex(String collection, String indexName, @Cause Exception e);
 
+	@Message(id = 1237, value = "Unable to apply bulk write to collection %1$s: %2$s")
+	HibernateException unableToExecuteBulkWrite(String collection, String message, @Cause Exception cause);
+
+	@Message(id = 1238, value = "The value set for the configuration property '%1$s' must be a number greater than 0. Found '%2$s'.")
+	HibernateException illegalBatchSize(String property, int value);
+
 }
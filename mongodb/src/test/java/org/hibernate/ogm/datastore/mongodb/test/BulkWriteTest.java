@@ -0,0 +1,85 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test that inserts, updates and removals spanning several bulk write operations are applied.
+ *
+ * @author Gunnar Morling
+ */
+public class BulkWriteTest extends OgmTestCase {
+
+	private static final int BATCH_SIZE = 2;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFlushSpanningSeveralBulkWrites() throws Exception {
+		int numEntities = 2 * BATCH_SIZE + 1;
+
+		Session session = openSession();
+		session.beginTransaction();
+		List<String> ids = new ArrayList<String>();
+		for ( int i = 0; i < numEntities; i++ ) {
+			Helicopter helicopter = helicopter( "H_" + i );
+			session.persist( helicopter );
+			ids.add( helicopter.getUUID() );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		List<Helicopter> helicopters = session.createQuery( "FROM Helicopter" ).list();
+		assertThat( helicopters ).hasSize( numEntities );
+		for ( Helicopter helicopter : helicopters ) {
+			helicopter.setName( helicopter.getName() + "_updated" );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		for ( int i = 0; i < numEntities; i++ ) {
+			Helicopter helicopter = (Helicopter) session.get( Helicopter.class, ids.get( i ) );
+			assertThat( helicopter.getName() ).isEqualTo( "H_" + i + "_updated" );
+			session.delete( helicopter );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		assertThat( session.createQuery( "FROM Helicopter" ).list() ).isEmpty();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private Helicopter helicopter(String name) {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		return helicopter;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( MongoDBProperties.BULK_WRITE_MAX_BATCH_SIZE, BATCH_SIZE );
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.associations.collection.manytomany.ClassRoom;
+import org.hibernate.ogm.backendtck.associations.collection.manytomany.Student;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.Cloud;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.SnowFlake;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.spi.Hosts;
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.MongoClient;
+import com.mongodb.MongoClientOptions;
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Test that the changes to a set are written using {@code $pull} and {@code $addToSet} if
+ * {@link MongoDBProperties#INCREMENTAL_ASSOCIATION_UPDATES} is enabled, whereas bags are still rewritten, based on the
+ * update commands sent to the server.
+ *
+ * @author Gunnar Morling
+ */
+public class IncrementalAssociationUpdatesTest extends OgmTestCase {
+
+	private static final UpdateRecorder updates = new UpdateRecorder();
+
+	@Before
+	public void clearUpdates() {
+		updates.clear();
+	}
+
+	@Test
+	public void testAddedAndRemovedElementsAreWrittenIncrementally() throws Exception {
+		SnowFlake kept = snowFlake( "kept" );
+		SnowFlake removed = snowFlake( "removed" );
+		Cloud cloud = new Cloud();
+		cloud.setType( "cumulus" );
+		cloud.getProducedSnowFlakes().add( kept );
+		cloud.getProducedSnowFlakes().add( removed );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( kept );
+		session.persist( removed );
+		session.persist( cloud );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		cloud = (Cloud) session.get( Cloud.class, cloud.getId() );
+		SnowFlake added = snowFlake( "added" );
+		session.persist( added );
+		cloud.getProducedSnowFlakes().add( added );
+		for ( SnowFlake snowFlake : new ArrayList<SnowFlake>( cloud.getProducedSnowFlakes() ) ) {
+			if ( snowFlake.getId().equals( removed.getId() ) ) {
+				cloud.getProducedSnowFlakes().remove( snowFlake );
+			}
+		}
+		updates.clear();
+		transaction.commit();
+		session.clear();
+
+		List<BsonDocument> cloudUpdates = updates.getUpdates( "Cloud" );
+		assertThat( operatorsApplyingTo( cloudUpdates, "producedSnowFlakes" ) ).containsOnly( "$pull", "$addToSet" );
+
+		transaction = session.beginTransaction();
+		cloud = (Cloud) session.get( Cloud.class, cloud.getId() );
+		assertThat( cloud.getProducedSnowFlakes() ).onProperty( "description" ).containsOnly( "kept", "added" );
+
+		for ( SnowFlake snowFlake : cloud.getProducedSnowFlakes() ) {
+			session.delete( snowFlake );
+		}
+		session.delete( session.get( SnowFlake.class, removed.getId() ) );
+		session.delete( cloud );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testBagIsRewrittenKeepingDuplicateElements() throws Exception {
+		Student john = new Student( "john", "John Doe" );
+		Student jane = new Student( "jane", "Jane Doe" );
+		ClassRoom classRoom = new ClassRoom( 1L, "Maths" );
+		classRoom.getStudents().add( john );
+		classRoom.getStudents().add( john );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( john );
+		session.persist( jane );
+		session.persist( classRoom );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		classRoom = (ClassRoom) session.get( ClassRoom.class, classRoom.getId() );
+		classRoom.getStudents().add( (Student) session.get( Student.class, jane.getId() ) );
+		updates.clear();
+		transaction.commit();
+		session.clear();
+
+		List<BsonDocument> classRoomUpdates = updates.getUpdates( "ClassRoom" );
+		assertThat( operatorsApplyingTo( classRoomUpdates, "students" ) ).containsOnly( "$set" );
+
+		transaction = session.beginTransaction();
+		classRoom = (ClassRoom) session.get( ClassRoom.class, classRoom.getId() );
+		assertThat( classRoom.getStudents() ).onProperty( "id" ).containsOnly( "john", "john", "jane" );
+		assertThat( classRoom.getStudents() ).hasSize( 3 );
+
+		session.delete( classRoom );
+		session.delete( session.get( Student.class, john.getId() ) );
+		session.delete( session.get( Student.class, jane.getId() ) );
+		transaction.commit();
+		session.close();
+	}
+
+	private SnowFlake snowFlake(String description) {
+		SnowFlake snowFlake = new SnowFlake();
+		snowFlake.setDescription( description );
+		return snowFlake;
+	}
+
+	/**
+	 * Returns the update operators (e.g. {@code $set}) of the given update documents which write the given field.
+	 */
+	private static List<String> operatorsApplyingTo(List<BsonDocument> updateDocuments, String field) {
+		List<String> operators = new ArrayList<String>();
+		for ( BsonDocument updateDocument : updateDocuments ) {
+			for ( Map.Entry<String, BsonValue> operator : updateDocument.entrySet() ) {
+				if ( operator.getValue().isDocument() && operator.getValue().asDocument().containsKey( field ) ) {
+					operators.add( operator.getKey() );
+				}
+			}
+		}
+		return operators;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, UpdateRecordingDatastoreProvider.class.getName() );
+		settings.put( DocumentStoreProperties.ASSOCIATIONS_STORE, AssociationStorageType.IN_ENTITY );
+		settings.put( MongoDBProperties.INCREMENTAL_ASSOCIATION_UPDATES, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Cloud.class, SnowFlake.class, ClassRoom.class, Student.class };
+	}
+
+	/**
+	 * Registers {@link IncrementalAssociationUpdatesTest#updates} with the client.
+	 */
+	public static class UpdateRecordingDatastoreProvider extends MongoDBDatastoreProvider {
+
+		@Override
+		protected MongoClient createMongoClient(MongoDBConfiguration config) {
+			MongoClientOptions clientOptions = MongoClientOptions.builder( config.buildOptions() )
+					.addCommandListener( updates )
+					.build();
+
+			List<ServerAddress> serverAddresses = new ArrayList<ServerAddress>( config.getHosts().size() );
+			for ( Hosts.HostAndPort hostAndPort : config.getHosts() ) {
+				serverAddresses.add( new ServerAddress( hostAndPort.getHost(), hostAndPort.getPort() ) );
+			}
+
+			List<MongoCredential> credentials = config.buildCredentials();
+			return credentials == null
+					? new MongoClient( serverAddresses, clientOptions )
+					: new MongoClient( serverAddresses, credentials, clientOptions );
+		}
+	}
+
+	/**
+	 * Collects the update documents of the {@code update} commands sent to the server.
+	 */
+	private static class UpdateRecorder implements CommandListener {
+
+		private final List<BsonDocument> updateCommands = new ArrayList<BsonDocument>();
+
+		@Override
+		public synchronized void commandStarted(CommandStartedEvent event) {
+			if ( "update".equals( event.getCommandName() ) ) {
+				updateCommands.add( event.getCommand() );
+			}
+		}
+
+		@Override
+		public void commandSucceeded(CommandSucceededEvent event) {
+		}
+
+		@Override
+		public void commandFailed(CommandFailedEvent event) {
+		}
+
+		synchronized void clear() {
+			updateCommands.clear();
+		}
+
+		synchronized List<BsonDocument> getUpdates(String collection) {
+			List<BsonDocument> updates = new ArrayList<BsonDocument>();
+			for ( BsonDocument command : updateCommands ) {
+				if ( collection.equals( command.getString( "update" ).getValue() ) ) {
+					for ( BsonValue update : command.getArray( "updates" ) ) {
+						updates.add( update.asDocument().getDocument( "u" ) );
+					}
+				}
+			}
+			return updates;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations;
+
+import java.util.Map;
+
+import org.hibernate.ogm.backendtck.associations.collection.manytomany.ManyToManyTest;
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+
+/**
+ * Runs the many-to-many tests with incremental association updates enabled.
+ *
+ * @author Gunnar Morling
+ */
+public class ManyToManyIncrementalUpdatesInEntityTest extends ManyToManyTest {
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put(
+				DocumentStoreProperties.ASSOCIATIONS_STORE,
+				AssociationStorageType.IN_ENTITY
+		);
+		settings.put( MongoDBProperties.INCREMENTAL_ASSOCIATION_UPDATES, true );
+	}
+}
@@ -171,6 +171,19 @@ public void testNotRecognizedAuthenticationMechanism() throws Exception {
 		TestHelper.getDefaultTestStandardServiceRegistry( cfg ).getService( DatastoreProvider.class );
 	}
 
+	@Test
+	public void testIllegalBulkWriteMaxBatchSize() throws Exception {
+		cfg.put( MongoDBProperties.BULK_WRITE_MAX_BATCH_SIZE, "0" );
+
+		error.expect( ServiceException.class );
+		error.expectMessage( "OGM000072" );
+		//nested exception
+		error.expectCause( hasMessage( containsString( "OGM001238" ) ) );
+
+		// will start the service
+		TestHelper.getDefaultTestStandardServiceRegistry( cfg ).getService( DatastoreProvider.class );
+	}
+
 	@Test
 	@SkipByDatastoreProvider(DatastoreProviderType.FONGO)
 	public void testConnectionErrorWrappedInHibernateException() throws Exception {
@@ -9,6 +9,7 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 import static org.neo4j.graphdb.DynamicRelationshipType.withName;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,6 +22,8 @@
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.MultigetKeyIndex;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jTypeConverter;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jMapsTupleIterator;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jAssociationQueries;
@@ -165,49 +168,44 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
-		// We only supports one metadata for now
-		EntityKeyMetadata metadata = keys[0].getMetadata();
-		// The result returned by the query might not be in the same order as the keys.
-		ResourceIterator<Node> nodes = entityQueries.get( metadata ).findEntities( dataBase, keys );
-		try {
-			return tuplesResult( keys, tupleContext, nodes );
-		}
-		finally {
-			nodes.close();
+		// The list is initialized with null because some keys might not have a corresponding node
+		Tuple[] tuples = new Tuple[keys.length];
+		MultigetKeyIndex keyIndex = new MultigetKeyIndex( keys, false );
+
+		// One query per label; the result returned by the query might not be in the same order as the keys.
+		for ( EntityKeyMetadata metadata : keyIndex.getMetadata() ) {
+			ResourceIterator<Node> nodes = entityQueries.get( metadata ).findEntities( dataBase, keyIndex.getKeys( metadata ) );
+			try {
+				tuplesResult( tuples, keyIndex, metadata, tupleContext, nodes );
+			}
+			finally {
+				nodes.close();
+			}
 		}
+
+		return Arrays.asList( tuples );
 	}
 
 	/*
 	 * This method assumes that the nodes might not be in the same order as the keys and some keys might not have a
 	 * matching result in the db.
 	 */
-	private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, ResourceIterator<Node> nodes) {
-		// The list is initialized with null because some keys might not have a corresponding node
-		Tuple[] tuples = new Tuple[keys.length];
+	private void tuplesResult(Tuple[] tuples, MultigetKeyIndex keyIndex, EntityKeyMetadata metadata, TupleContext tupleContext, ResourceIterator<Node> nodes) {
+		String[] columnNames = metadata.getColumnNames();
+		Object[] columnValues = new Object[columnNames.length];
+
 		while ( nodes.hasNext() ) {
 			Node node = nodes.next();
-			for ( int i = 0; i < keys.length; i++ ) {
-				if ( matches( node, keys[i].getColumnNames(), keys[i].getColumnValues() ) ) {
-					tuples[i] = new Tuple( EmbeddedNeo4jTupleSnapshot.fromNode( node, tupleContext.getAllAssociatedEntityKeyMetadata(), tupleContext.getAllRoles(),
-							keys[i].getMetadata() ) );
-					// We assume there are no duplicated keys
-					break;
-				}
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				columnValues[i] = node.getProperty( columnNames[i], null );
 			}
-		}
-		return Arrays.asList( tuples );
-	}
 
-	private boolean matches(Node node, String[] properties, Object[] values) {
-		for ( int i = 0; i < properties.length; i++ ) {
-			if ( node.hasProperty( properties[i] ) && !node.getProperty( properties[i] ).equals( values[i] )) {
-				return false;
-			}
-			else if ( !node.hasProperty( properties[i] ) && values[i] != null ) {
-				return false;
+			int index = keyIndex.indexOf( metadata, columnValues );
+			if ( index > -1 ) {
+				tuples[index] = new Tuple( EmbeddedNeo4jTupleSnapshot.fromNode( node, tupleContext.getAllAssociatedEntityKeyMetadata(), tupleContext.getAllRoles(),
+						metadata ) );
 			}
 		}
-		return true;
 	}
 
 	@Override
@@ -327,6 +325,63 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 		return new Association( new EmbeddedNeo4jAssociationSnapshot( tuples ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		EntityKey[] ownerKeys = new EntityKey[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			ownerKeys[i] = keys[i].getEntityKey();
+		}
+		EntityKeyMetadata ownerMetadata = ownerKeys[0].getMetadata();
+		MultigetKeyIndex keyIndex = new MultigetKeyIndex( ownerKeys, false );
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+
+		List<Map<RowKey, Tuple>> tuples = new ArrayList<Map<RowKey, Tuple>>( Collections.<Map<RowKey, Tuple>>nCopies( keys.length, null ) );
+		Result result = entityQueries.get( ownerMetadata ).findAssociations( dataBase, ownerKeys, relationshipType );
+		try {
+			while ( result.hasNext() ) {
+				Map<String, Object> row = result.next();
+				int index = keyIndex.indexOf( ownerMetadata, columnValues( (Node) row.get( BaseNeo4jEntityQueries.ENTITY_ALIAS ), ownerMetadata ) );
+				if ( index < 0 ) {
+					continue;
+				}
+				if ( tuples.get( index ) == null ) {
+					tuples.set( index, new HashMap<RowKey, Tuple>() );
+				}
+				Relationship relationship = (Relationship) row.get( "r" );
+				if ( relationship != null ) {
+					EmbeddedNeo4jTupleAssociationSnapshot snapshot = new EmbeddedNeo4jTupleAssociationSnapshot( relationship, keys[index], associatedEntityKeyMetadata );
+					tuples.get( index ).put( convert( keys[index], snapshot ), new Tuple( snapshot ) );
+				}
+			}
+		}
+		finally {
+			result.close();
+		}
+
+		// owners which could not be found have no association
+		Association[] associations = new Association[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( tuples.get( i ) != null ) {
+				associations[i] = new Association( new EmbeddedNeo4jAssociationSnapshot( tuples.get( i ) ) );
+			}
+		}
+		return Arrays.asList( associations );
+	}
+
+	private static Object[] columnValues(Node node, EntityKeyMetadata metadata) {
+		String[] columnNames = metadata.getColumnNames();
+		Object[] values = new Object[columnNames.length];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			values[i] = node.getProperty( columnNames[i], null );
+		}
+		return values;
+	}
+
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
 		ResourceIterator<Relationship> relationships = entityQueries.get( entityKey.getMetadata() )
@@ -54,6 +54,20 @@ public final class Neo4jProperties implements OgmProperties {
 	 */
 	public static final String ESTABLISH_CONNECTION_TIMEOUT = "hibernate.ogm.neo4j.client.establish_connection_timeout";
 
+	/**
+	 * The maximum number of Cypher statements sent to the remote server with one request when flushing changes. Defaults
+	 * to 500.
+	 */
+	public static final String BATCH_SIZE = "hibernate.ogm.neo4j.client.batch_size";
+
+	/**
+	 * The maximum number of nodes resp. relationships created by one {@code UNWIND} Cypher statement when flushing
+	 * changes to the remote server. Nodes with the same label and relationships of the same type are created with such
+	 * a statement instead of one statement each. A value of 1 disables the creation of several elements with one
+	 * statement. Defaults to 1000.
+	 */
+	public static final String UNWIND_BATCH_SIZE = "hibernate.ogm.neo4j.client.unwind_batch_size";
+
 	private Neo4jProperties() {
 	}
 }
@@ -6,11 +6,13 @@
  */
 package org.hibernate.ogm.datastore.neo4j;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -20,8 +22,11 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.ogm.datastore.impl.EmptyTupleSnapshot;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.MultigetKeyIndex;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.BulkableStatement;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.NodeWithEmbeddedNodes;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jAssociationPropertiesRow;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jAssociationQueries;
@@ -43,7 +48,16 @@
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.transaction.impl.RemoteNeo4jTransaction;
 import org.hibernate.ogm.datastore.neo4j.remote.util.impl.RemoteNeo4jHelper;
+import org.hibernate.ogm.dialect.batch.spi.BatchExecutionException;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -77,10 +91,13 @@
  * {@link AssociationKeyMetadata#getCollectionRole()}.
  * <p>
  * If the value of a property is set to null the property will be removed (Neo4j does not allow to store null values).
+ * <p>
+ * The Cypher statements of the changes of a flush are sent to the server with as few requests as possible, see
+ * {@link #executeBatch(OperationsQueue)}.
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class RemoteNeo4jDialect extends BaseNeo4jDialect {
+public class RemoteNeo4jDialect extends BaseNeo4jDialect implements BatchableGridDialect {
 
 	private static final Log log = LoggerFactory.getLogger();
 
@@ -88,6 +105,10 @@ public class RemoteNeo4jDialect extends BaseNeo4jDialect {
 
 	private final RemoteNeo4jSequenceGenerator sequenceGenerator;
 
+	private final int batchSize;
+
+	private final int unwindBatchSize;
+
 	private Map<EntityKeyMetadata, RemoteNeo4jEntityQueries> entityQueries;
 
 	private Map<AssociationKeyMetadata, RemoteNeo4jAssociationQueries> associationQueries;
@@ -96,6 +117,8 @@ public RemoteNeo4jDialect(RemoteNeo4jDatastoreProvider provider) {
 		super( RemoteNeo4jTypeConverter.INSTANCE );
 		this.dataBase = provider.getDatabase();
 		this.sequenceGenerator = provider.getSequenceGenerator();
+		this.batchSize = provider.getConfiguration().getBatchSize();
+		this.unwindBatchSize = provider.getConfiguration().getUnwindBatchSize();
 	}
 
 	@Override
@@ -147,6 +170,11 @@ private Map<AssociationKeyMetadata, RemoteNeo4jAssociationQueries> initializeAss
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext context) {
+		OperationsQueue queue = context.getOperationsQueue();
+		if ( queue != null && queue.contains( key ) ) {
+			executeQueuedOperations( queue );
+		}
+
 		RemoteNeo4jEntityQueries queries = entityQueries.get( key.getMetadata() );
 		Long txId = transactionId( context.getTransactionContext() );
 		NodeWithEmbeddedNodes node = queries.findEntity( dataBase, txId, key.getColumnValues() );
@@ -173,58 +201,79 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
-		Long txId = transactionId( tupleContext.getTransactionContext() );
-		// We only supports one metadata for now
-		EntityKeyMetadata metadata = keys[0].getMetadata();
-		// The result returned by the query might not be in the same order as the keys.
-		ClosableIterator<NodeWithEmbeddedNodes> nodes = entityQueries.get( metadata ).findEntities( dataBase, keys, txId );
-		try {
-			return tuplesResult( keys, tupleContext, nodes, txId );
+		OperationsQueue queue = tupleContext.getOperationsQueue();
+		if ( queue != null ) {
+			for ( EntityKey key : keys ) {
+				if ( queue.contains( key ) ) {
+					executeQueuedOperations( queue );
+					break;
+				}
+			}
 		}
-		finally {
-			nodes.close();
+
+		Long txId = transactionId( tupleContext.getTransactionContext() );
+		// The list is initialized with null because some keys might not have a corresponding node
+		Tuple[] tuples = new Tuple[keys.length];
+		MultigetKeyIndex keyIndex = new MultigetKeyIndex( keys, true );
+
+		// One query per label; the result returned by the query might not be in the same order as the keys.
+		for ( EntityKeyMetadata metadata : keyIndex.getMetadata() ) {
+			ClosableIterator<NodeWithEmbeddedNodes> nodes = entityQueries.get( metadata ).findEntities( dataBase, keyIndex.getKeys( metadata ), txId );
+			try {
+				tuplesResult( tuples, keyIndex, metadata, tupleContext, nodes, txId );
+			}
+			finally {
+				nodes.close();
+			}
 		}
+
+		return Arrays.asList( tuples );
 	}
 
 	/*
 	 * This method assumes that the nodes might not be in the same order as the keys and some keys might not have a
 	 * matching result in the db.
 	 */
-	private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, ClosableIterator<NodeWithEmbeddedNodes> nodes, Long txId) {
-		// The list is initialized with null because some keys might not have a corresponding node
-		Tuple[] tuples = new Tuple[keys.length];
+	private void tuplesResult(Tuple[] tuples, MultigetKeyIndex keyIndex, EntityKeyMetadata metadata, TupleContext tupleContext,
+			ClosableIterator<NodeWithEmbeddedNodes> nodes, Long txId) {
+		String[] columnNames = metadata.getColumnNames();
+
 		while ( nodes.hasNext() ) {
 			NodeWithEmbeddedNodes node = nodes.next();
-			for ( int i = 0; i < keys.length; i++ ) {
-				if ( RemoteNeo4jHelper.matches( node.getOwner(), keys[i].getColumnNames(), keys[i].getColumnValues() ) ) {
-					EntityKeyMetadata metadata = keys[i].getMetadata();
-					tuples[i] = new Tuple(
-							new RemoteNeo4jTupleSnapshot(
-									dataBase,
-									txId,
-									entityQueries.get( metadata ),
-									node,
-									tupleContext.getAllAssociatedEntityKeyMetadata(),
-									tupleContext.getAllRoles(),
-									metadata
-									)
-							);
-					// We assume there are no duplicated keys
-					break;
-				}
+			int index = keyIndex.indexOf( metadata, RemoteNeo4jHelper.columnValues( node.getOwner(), columnNames ) );
+			if ( index > -1 ) {
+				tuples[index] = new Tuple(
+						new RemoteNeo4jTupleSnapshot(
+								dataBase,
+								txId,
+								entityQueries.get( metadata ),
+								node,
+								tupleContext.getAllAssociatedEntityKeyMetadata(),
+								tupleContext.getAllRoles(),
+								metadata
+								)
+						);
 			}
 		}
-		return Arrays.asList( tuples );
 	}
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
-		// insert
+		Statements statements = tupleStatements( key, tuple, tupleContext, tuple.getSnapshot() instanceof EmptyTupleSnapshot );
+		Long txId = transactionId( tupleContext.getTransactionContext() );
+		StatementsResponse readEntity = dataBase.executeQueriesInOpenTransaction( txId, statements );
+		validate( readEntity, key, tuple );
+	}
+
+	/**
+	 * Returns the statements creating or updating the node of the given tuple and its to-one relationships.
+	 */
+	private Statements tupleStatements(EntityKey key, Tuple tuple, TupleContext tupleContext, boolean insert) {
 		final Map<String, EntityKey> toOneAssociations = new HashMap<>();
 		Statements statements = new Statements();
 		Map<String, Object> properties = new HashMap<>();
-		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
-		if ( tuple.getSnapshot() instanceof EmptyTupleSnapshot ) {
+		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext );
+		if ( insert ) {
 			Statement statement = entityQueries.get( key.getMetadata() ).getCreateEntityWithPropertiesQueryStatement( key.getColumnValues(), properties );
 			statements.getStatements().add( 0, statement );
 		}
@@ -232,9 +281,7 @@ public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleCo
 			updateTuple( key, statements, properties );
 		}
 		saveToOneAssociations( statements, key, toOneAssociations );
-		Long txId = transactionId( tupleContext.getTransactionContext() );
-		StatementsResponse readEntity = dataBase.executeQueriesInOpenTransaction( txId, statements );
-		validate( readEntity, key, tuple );
+		return statements;
 	}
 
 	private Long transactionId(TransactionContext context) {
@@ -250,13 +297,22 @@ private void updateTuple(EntityKey key, Statements statements, Map<String, Objec
 
 	private void validate(StatementsResponse readEntity, EntityKey key, Tuple tuple) {
 		if (!readEntity.getErrors().isEmpty() ) {
-			ErrorResponse errorResponse = readEntity.getErrors().get( 0 );
-			switch ( errorResponse.getCode() ) {
-				case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
-					throw extractException( key, tuple, errorResponse );
-				default:
-					throw new HibernateException( String.valueOf( errorResponse ) );
-			}
+			throw toException( readEntity.getErrors().get( 0 ), key, tuple );
+		}
+	}
+
+	private void validate(StatementsResponse readEntity) {
+		if ( !readEntity.getErrors().isEmpty() ) {
+			throw new HibernateException( String.valueOf( readEntity.getErrors().get( 0 ) ) );
+		}
+	}
+
+	private HibernateException toException(ErrorResponse errorResponse, EntityKey key, Tuple tuple) {
+		switch ( errorResponse.getCode() ) {
+			case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
+				return extractException( key, tuple, errorResponse );
+			default:
+				return new HibernateException( String.valueOf( errorResponse ) );
 		}
 	}
 
@@ -280,7 +336,20 @@ private void saveToOneAssociations(Statements statements, EntityKey key, final M
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		Long txId = transactionId( tupleContext.getTransactionContext() );
-		entityQueries.get( key.getMetadata() ).removeEntity( dataBase, txId, key.getColumnValues() );
+		execute( txId, removeTupleStatements( key ) );
+	}
+
+	private Statements removeTupleStatements(EntityKey key) {
+		Statements statements = new Statements();
+		statements.addStatement( entityQueries.get( key.getMetadata() ).getRemoveEntityStatement( key.getColumnValues() ) );
+		return statements;
+	}
+
+	private void execute(Long txId, Statements statements) {
+		if ( !statements.getStatements().isEmpty() ) {
+			StatementsResponse response = dataBase.executeQueriesInOpenTransaction( txId, statements );
+			validate( response );
+		}
 	}
 
 	/**
@@ -291,7 +360,7 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 	 * @param associatedEntityKeyMetadata
 	 * @param action
 	 */
-	private Relationship putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
+	private Statement putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
 		switch ( associationKey.getMetadata().getAssociationKind() ) {
 			case EMBEDDED_COLLECTION:
 				return createRelationshipWithEmbeddedNode( associationKey, associationContext, action );
@@ -302,28 +371,25 @@ private Relationship putAssociationOperation(AssociationKey associationKey, Asso
 		}
 	}
 
-	private Relationship createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private Statement createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
-		Long txId = transactionId( associationContext.getTransactionContext() );
 		Tuple associationRow = action.getValue();
 		EntityKey embeddedKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		Object[] relationshipProperties = relationshipProperties( associationKey, action );
 
-		Relationship relationship = associationQueries.get( associationKey.getMetadata() )
-				.createRelationshipForEmbeddedAssociation( dataBase, txId, associationKey, embeddedKey, relationshipProperties );
-		return relationship;
+		return associationQueries.get( associationKey.getMetadata() )
+				.getCreateRelationshipForEmbeddedAssociationStatement( associationKey, embeddedKey, relationshipProperties );
 	}
 
-	private Relationship findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private Statement findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
 		Tuple associationRow = action.getValue();
 		EntityKey ownerKey = associationKey.getEntityKey();
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
 		EntityKey targetKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		Object[] relationshipProperties = relationshipProperties( associationKey, associationRow );
-		Long txId = transactionId( associationContext.getTransactionContext() );
 
 		return associationQueries.get( associationKey.getMetadata() )
-			.createRelationship( dataBase, txId, ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+			.getCreateRelationshipStatement( ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
 	}
 
 	private Object[] relationshipProperties(AssociationKey associationKey, Tuple associationRow) {
@@ -338,6 +404,11 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		OperationsQueue queue = associationContext.getOperationsQueue();
+		if ( isAffectedByQueuedOperations( queue, associationKey ) ) {
+			executeQueuedOperations( queue );
+		}
+
 		EntityKey entityKey = associationKey.getEntityKey();
 		Long transactionId = transactionId( associationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes node = entityQueries.get( entityKey.getMetadata() ).findEntity( dataBase, transactionId, entityKey.getColumnValues() );
@@ -349,6 +420,58 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 		return new Association( new RemoteNeo4jAssociationSnapshot( tuples ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext associationContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		OperationsQueue queue = associationContext.getOperationsQueue();
+		for ( AssociationKey key : keys ) {
+			if ( isAffectedByQueuedOperations( queue, key ) ) {
+				executeQueuedOperations( queue );
+				break;
+			}
+		}
+
+		EntityKey[] ownerKeys = new EntityKey[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			ownerKeys[i] = keys[i].getEntityKey();
+		}
+		EntityKeyMetadata ownerMetadata = ownerKeys[0].getMetadata();
+		MultigetKeyIndex keyIndex = new MultigetKeyIndex( ownerKeys, true );
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+		RemoteNeo4jAssociationQueries queries = associationQueries.get( keys[0].getMetadata() );
+
+		Long txId = transactionId( associationContext.getTransactionContext() );
+		List<RemoteNeo4jAssociationPropertiesRow> rows = entityQueries.get( ownerMetadata ).findAssociations( dataBase, txId, ownerKeys, relationshipType );
+
+		List<Map<RowKey, Tuple>> tuples = new ArrayList<Map<RowKey, Tuple>>( Collections.<Map<RowKey, Tuple>>nCopies( keys.length, null ) );
+		for ( RemoteNeo4jAssociationPropertiesRow row : rows ) {
+			int index = keyIndex.indexOf( ownerMetadata, RemoteNeo4jHelper.columnValues( row.getOwnerNode(), ownerMetadata.getColumnNames() ) );
+			if ( index < 0 ) {
+				continue;
+			}
+			if ( tuples.get( index ) == null ) {
+				tuples.set( index, new HashMap<RowKey, Tuple>() );
+			}
+			if ( row.getRelationship() != null ) {
+				RemoteNeo4jTupleAssociationSnapshot snapshot = new RemoteNeo4jTupleAssociationSnapshot( dataBase, queries, row, keys[index], associatedEntityKeyMetadata );
+				tuples.get( index ).put( convert( keys[index], snapshot ), new Tuple( snapshot ) );
+			}
+		}
+
+		// owners which could not be found have no association
+		Association[] associations = new Association[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( tuples.get( i ) != null ) {
+				associations[i] = new Association( new RemoteNeo4jAssociationSnapshot( tuples.get( i ) ) );
+			}
+		}
+		return Arrays.asList( associations );
+	}
+
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey, TransactionContext transactionContext) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
 		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
@@ -386,9 +509,16 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 			return;
 		}
 
+		Long txId = transactionId( associationContext.getTransactionContext() );
+		execute( txId, associationStatements( key, association, associationContext ) );
+	}
+
+	private Statements associationStatements(AssociationKey key, Association association, AssociationContext associationContext) {
+		Statements statements = new Statements();
 		for ( AssociationOperation action : association.getOperations() ) {
-			applyAssociationOperation( association, key, action, associationContext );
+			applyAssociationOperation( statements, key, action, associationContext );
 		}
+		return statements;
 	}
 
 	@Override
@@ -399,19 +529,25 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		}
 
 		Long txId = transactionId( associationContext.getTransactionContext() );
-		associationQueries.get( key.getMetadata() ).removeAssociation( dataBase, txId, key );
+		execute( txId, removeAssociationStatements( key ) );
+	}
+
+	private Statements removeAssociationStatements(AssociationKey key) {
+		Statements statements = new Statements();
+		statements.addStatement( associationQueries.get( key.getMetadata() ).getRemoveAssociationStatement( key ) );
+		return statements;
 	}
 
-	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
+	private void applyAssociationOperation(Statements statements, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
 		switch ( operation.getType() ) {
 		case CLEAR:
-			removeAssociation( key, associationContext );
+			statements.addStatement( associationQueries.get( key.getMetadata() ).getRemoveAssociationStatement( key ) );
 			break;
 		case PUT:
-			putAssociationOperation( key, operation, associationContext );
+			statements.addStatement( putAssociationOperation( key, operation, associationContext ) );
 			break;
 		case REMOVE:
-			removeAssociationOperation( key, operation, associationContext );
+			statements.addStatement( removeAssociationOperation( key, operation ) );
 			break;
 		}
 	}
@@ -425,32 +561,31 @@ private Object[] relationshipProperties(AssociationKey associationKey, Associati
 		return relationshipProperties;
 	}
 
-	private void removeAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
-		Long txId = transactionId( associationContext.getTransactionContext() );
-		associationQueries.get( associationKey.getMetadata() ).removeAssociationRow( dataBase, txId, associationKey, action.getKey() );
+	private Statement removeAssociationOperation(AssociationKey associationKey, AssociationOperation action) {
+		return associationQueries.get( associationKey.getMetadata() ).getRemoveAssociationRowStatement( associationKey, action.getKey() );
 	}
 
-	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext, TransactionContext transactionContext) {
+	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext) {
 		Set<String> processedAssociationRoles = new HashSet<String>();
 
 		for ( TupleOperation operation : operations ) {
-			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, transactionContext, processedAssociationRoles );
+			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 		}
 	}
 
-	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		switch ( operation.getType() ) {
 		case PUT:
 			putTupleOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 			break;
 		case PUT_NULL:
 		case REMOVE:
-			removeTupleOperation( entityKey, node, operation, statements, tupleContext, transactionContext, processedAssociationRoles );
+			removeTupleOperation( entityKey, node, operation, statements, tupleContext, processedAssociationRoles );
 			break;
 		}
 	}
 
-	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		if ( !tupleContext.isPartOfAssociation( operation.getColumn() ) ) {
 			if ( isPartOfRegularEmbedded( entityKey.getColumnNames(), operation.getColumn() ) ) {
 				// Embedded node
@@ -466,8 +601,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Long txId = transactionId( transactionContext );
-				entityQueries.get( entityKey.getMetadata() ).removeToOneAssociation( dataBase, txId, entityKey.getColumnValues(), associationRole );
+				Statement statement = entityQueries.get( entityKey.getMetadata() ).getRemoveToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.addStatement( statement );
 			}
 		}
 	}
@@ -557,4 +692,298 @@ private Object[] columnValues(Node node, EntityKeyMetadata metadata) {
 	public Number nextValue(NextValueRequest request) {
 		return sequenceGenerator.nextValue( request );
 	}
+
+	/**
+	 * Sends the Cypher statements of the queued operations to the transactional endpoint of the server, with up to
+	 * {@link Neo4jProperties#BATCH_SIZE} statements per request. Nodes and relationships are created with one
+	 * {@code UNWIND} statement per label resp. relationship type for up to {@link Neo4jProperties#UNWIND_BATCH_SIZE}
+	 * elements.
+	 * <p>
+	 * The server stops executing the statements of a request at the first failing one and rolls back the transaction,
+	 * so no further requests are sent after a failure; the operation the failing statement originates from is reported
+	 * via a {@link BatchExecutionException}. For a failing {@code UNWIND} statement that is the operation of the first
+	 * row failing when its rows are run again one by one in a transaction which is rolled back afterwards.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			StatementsBatch batch = new StatementsBatch();
+			Set<EntityKey> insertedKeys = new HashSet<EntityKey>();
+			Operation operation = queue.poll();
+
+			while ( operation != null ) {
+				if ( operation instanceof InsertOrUpdateTupleOperation ) {
+					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+					Tuple tuple = update.getTuple();
+					// the node of a tuple queued more than once within the flush is only created once
+					boolean insert = tuple.getSnapshot() instanceof EmptyTupleSnapshot && insertedKeys.add( update.getEntityKey() );
+					Statements statements = tupleStatements( update.getEntityKey(), tuple, update.getTupleContext(), insert );
+					batch.add( update, update.getTupleContext().getTransactionContext(), statements );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+					batch.add( remove, remove.getTupleContext().getTransactionContext(), removeTupleStatements( remove.getEntityKey() ) );
+				}
+				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+					if ( !update.getAssociationKey().getMetadata().isInverse() ) {
+						Statements statements = associationStatements( update.getAssociationKey(), update.getAssociation(), update.getContext() );
+						batch.add( update, update.getContext().getTransactionContext(), statements );
+					}
+				}
+				else if ( operation instanceof RemoveAssociationOperation ) {
+					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+					if ( !remove.getAssociationKey().getMetadata().isInverse() ) {
+						batch.add( remove, remove.getContext().getTransactionContext(), removeAssociationStatements( remove.getAssociationKey() ) );
+					}
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported on Neo4j: " + operation.getClass().getName() );
+				}
+				operation = queue.poll();
+			}
+
+			batch.flush();
+			queue.clear();
+
+			if ( batch.failedOperation != null ) {
+				throw new BatchExecutionException( Collections.singletonMap( batch.failedOperation, batch.failure ) );
+			}
+		}
+	}
+
+	/**
+	 * Whether the relationships of the given association may be changed by the queued operations. This is the case if
+	 * the owner node or the association itself are written by a queued operation. The relationships of an inverse
+	 * association are created when writing the nodes of the associated entities, so the queue is always applied before
+	 * reading these.
+	 *
+	 * @param queue the queue of the current flush, may be {@code null}
+	 * @param associationKey the key of the association to read
+	 */
+	private boolean isAffectedByQueuedOperations(OperationsQueue queue, AssociationKey associationKey) {
+		if ( queue == null || queue.isClosed() || queue.size() == 0 ) {
+			return false;
+		}
+
+		return associationKey.getMetadata().isInverse()
+				|| queue.contains( associationKey.getEntityKey() )
+				|| queue.contains( associationKey );
+	}
+
+	/**
+	 * Applies the operations queued so far, so that subsequent reads see their outcome.
+	 *
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	private void executeQueuedOperations(OperationsQueue queue) {
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			try {
+				executeBatch( queue );
+			}
+			catch (BatchExecutionException bee) {
+				throw bee.getFirstFailure();
+			}
+		}
+	}
+
+	/**
+	 * Collects the statements of the operations of a flush and sends them with as few requests as possible, keeping
+	 * track of the operation each statement originates from.
+	 * <p>
+	 * Consecutive statements creating nodes or relationships are combined into one {@code UNWIND} statement per label
+	 * resp. relationship type; the nodes are created before the relationships. If such a statement fails, its rows
+	 * are run again one statement per row to find the operation causing the failure, see
+	 * {@link #findFailedRow(Bulk, ErrorResponse)}.
+	 */
+	private class StatementsBatch {
+
+		private final Statements statements = new Statements();
+		private final List<Operation> origins = new ArrayList<Operation>();
+		private final List<Bulk> originBulks = new ArrayList<Bulk>();
+		private final Map<String, Bulk> bulks = new LinkedHashMap<String, Bulk>();
+		private Long txId;
+
+		private Operation failedOperation;
+		private RuntimeException failure;
+
+		void add(Operation operation, TransactionContext transactionContext, Statements operationStatements) {
+			Long operationTxId = transactionId( transactionContext );
+			if ( txId != null && !txId.equals( operationTxId ) ) {
+				flush();
+			}
+			txId = operationTxId;
+
+			for ( Statement statement : operationStatements.getStatements() ) {
+				if ( failedOperation != null ) {
+					return;
+				}
+				if ( unwindBatchSize > 1 && statement instanceof BulkableStatement ) {
+					addToBulk( (BulkableStatement) statement, operation );
+				}
+				else {
+					// the statement may depend on the nodes and relationships created by the preceding ones
+					addBulkStatements();
+					addStatement( statement, operation, null );
+				}
+			}
+		}
+
+		void flush() {
+			addBulkStatements();
+			send();
+		}
+
+		private void addToBulk(BulkableStatement statement, Operation operation) {
+			Bulk bulk = bulks.get( statement.getBulkQuery() );
+			if ( bulk == null ) {
+				bulk = new Bulk( statement.getBulkQuery() );
+				bulks.put( statement.getBulkQuery(), bulk );
+			}
+			bulk.add( statement, operation );
+
+			if ( bulk.size() == unwindBatchSize ) {
+				addBulkStatements();
+			}
+		}
+
+		private void addBulkStatements() {
+			if ( bulks.isEmpty() ) {
+				return;
+			}
+
+			for ( Bulk bulk : bulks.values() ) {
+				if ( bulk.isCreatesNode() ) {
+					addStatement( bulk.toStatement(), bulk.getFirstOrigin(), bulk );
+				}
+			}
+			for ( Bulk bulk : bulks.values() ) {
+				if ( !bulk.isCreatesNode() ) {
+					addStatement( bulk.toStatement(), bulk.getFirstOrigin(), bulk );
+				}
+			}
+			bulks.clear();
+		}
+
+		private void addStatement(Statement statement, Operation origin, Bulk bulk) {
+			if ( origins.size() == batchSize ) {
+				send();
+			}
+			statements.addStatement( statement );
+			origins.add( origin );
+			originBulks.add( bulk );
+		}
+
+		private void send() {
+			if ( failedOperation == null && !origins.isEmpty() ) {
+				StatementsResponse response = dataBase.executeQueriesInOpenTransaction( txId, statements );
+
+				if ( !response.getErrors().isEmpty() ) {
+					int failed = Math.min( executedStatements( response ), origins.size() - 1 );
+					Bulk bulk = originBulks.get( failed );
+
+					if ( bulk != null && bulk.size() > 1 ) {
+						findFailedRow( bulk, response.getErrors().get( 0 ) );
+					}
+					else {
+						failedOperation = origins.get( failed );
+						failure = toException( response.getErrors().get( 0 ), failedOperation );
+					}
+				}
+			}
+
+			statements.getStatements().clear();
+			origins.clear();
+			originBulks.clear();
+		}
+
+		/**
+		 * Runs the rows of the given failed bulk one statement per row in a separate transaction, which is rolled back
+		 * afterwards, to find the operation causing the failure. The transaction of the flush has been rolled back by
+		 * the server, so rows depending on its preceding statements may not fail again; the failure is reported for
+		 * the first operation of the bulk then.
+		 */
+		private void findFailedRow(Bulk bulk, ErrorResponse bulkError) {
+			Statements rowStatements = new Statements();
+			for ( Statement statement : bulk.statements ) {
+				rowStatements.addStatement( statement );
+			}
+
+			RemoteNeo4jTransaction transaction = dataBase.beginTx();
+			StatementsResponse response;
+			try {
+				response = dataBase.executeQueriesInOpenTransaction( transaction.getId(), rowStatements );
+			}
+			finally {
+				transaction.rollback();
+			}
+
+			if ( response.getErrors().isEmpty() ) {
+				failedOperation = bulk.getFirstOrigin();
+				failure = toException( bulkError, failedOperation );
+			}
+			else {
+				failedOperation = bulk.origins.get( Math.min( executedStatements( response ), bulk.size() - 1 ) );
+				failure = toException( response.getErrors().get( 0 ), failedOperation );
+			}
+		}
+
+		/**
+		 * The server returns the results of the statements preceding the failing one.
+		 */
+		private int executedStatements(StatementsResponse response) {
+			return response.getResults() != null ? response.getResults().size() : 0;
+		}
+
+		private RuntimeException toException(ErrorResponse errorResponse, Operation operation) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+				return RemoteNeo4jDialect.this.toException( errorResponse, update.getEntityKey(), update.getTuple() );
+			}
+			else {
+				return new HibernateException( String.valueOf( errorResponse ) );
+			}
+		}
+	}
+
+	/**
+	 * The rows of the statements to be executed as one {@code UNWIND} statement, together with the operation each row
+	 * originates from.
+	 */
+	private static class Bulk {
+
+		private final String bulkQuery;
+		private final List<BulkableStatement> statements = new ArrayList<BulkableStatement>();
+		private final List<Operation> origins = new ArrayList<Operation>();
+		private final List<Object> rows = new ArrayList<Object>();
+
+		Bulk(String bulkQuery) {
+			this.bulkQuery = bulkQuery;
+		}
+
+		void add(BulkableStatement statement, Operation origin) {
+			statements.add( statement );
+			origins.add( origin );
+			rows.add( statement.getRow() );
+		}
+
+		int size() {
+			return statements.size();
+		}
+
+		boolean isCreatesNode() {
+			return statements.get( 0 ).isCreatesNode();
+		}
+
+		Operation getFirstOrigin() {
+			return origins.get( 0 );
+		}
+
+		Statement toStatement() {
+			if ( statements.size() == 1 ) {
+				return statements.get( 0 );
+			}
+			return new Statement( bulkQuery, Collections.singletonMap( BaseNeo4jEntityQueries.ROWS_PARAMETER, (Object) rows ) );
+		}
+	}
 }
@@ -44,6 +44,7 @@ public abstract class BaseNeo4jAssociationQueries extends BaseNeo4jQueries {
 	protected final String matchOwnerEntityNode;
 	protected final String findRelationshipQuery;
 	protected final String createRelationshipQuery;
+	protected final String createRelationshipsQuery;
 	protected final String removeAssociationQuery;
 	protected final String removeAssociationRowQuery;
 
@@ -53,6 +54,7 @@ public BaseNeo4jAssociationQueries(EntityKeyMetadata ownerEntityKeyMetadata, Ass
 		this.removeAssociationRowQuery = initRemoveAssociationRowQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.findRelationshipQuery = initFindRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.createRelationshipQuery = initCreateRelationshipQuery( ownerEntityKeyMetadata, associationKeyMetadata );
+		this.createRelationshipsQuery = initCreateRelationshipsQuery( ownerEntityKeyMetadata, associationKeyMetadata );
 		this.matchOwnerEntityNode = initMatchOwnerEntityNode( ownerEntityKeyMetadata );
 	}
 
@@ -129,6 +131,36 @@ private static String initCreateRelationshipQuery(EntityKeyMetadata ownerEntityK
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Same as the query for creating a single relationship, but creating one relationship per element of the parameter
+	 * "rows"; each element is the list of the parameter values of the single relationship query.
+	 *
+	 * UNWIND {rows} AS row
+	 * MATCH (n:ENTITY:table1 {id: row[0]}), (t:ENTITY:table2 {id: row[1]})
+	 * CREATE UNIQUE (n) -[r:role {props}]-> (t)
+	 */
+	private static String initCreateRelationshipsQuery(EntityKeyMetadata ownerEntityKeyMetadata, AssociationKeyMetadata associationKeyMetadata) {
+		EntityKeyMetadata targetEntityKeyMetadata = associationKeyMetadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
+		int offset = 0;
+		StringBuilder queryBuilder = new StringBuilder( "UNWIND {" );
+		queryBuilder.append( ROWS_PARAMETER );
+		queryBuilder.append( "} AS row MATCH " );
+		appendEntityNodeFromRow( "n", ownerEntityKeyMetadata, queryBuilder, offset );
+		queryBuilder.append( ", " );
+		offset += ownerEntityKeyMetadata.getColumnNames().length;
+		appendEntityNodeFromRow( "t", targetEntityKeyMetadata, queryBuilder, offset );
+		queryBuilder.append( " CREATE UNIQUE (n)" );
+		queryBuilder.append( " -[r" );
+		queryBuilder.append( ":" );
+		appendRelationshipType( queryBuilder, associationKeyMetadata );
+		if ( associationKeyMetadata.getRowKeyIndexColumnNames().length > 0 ) {
+			offset += targetEntityKeyMetadata.getColumnNames().length;
+			appendRowProperties( queryBuilder, associationKeyMetadata.getRowKeyIndexColumnNames(), offset );
+		}
+		queryBuilder.append( "]-> (t)" );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example with association:
 	 *
@@ -219,6 +251,16 @@ private static String initRemoveAssociationRowQuery(EntityKeyMetadata ownerEntit
 		return queryBuilder.toString();
 	}
 
+	/**
+	 * Returns the query creating several relationships of this association at once, expecting the parameter values of
+	 * the single relationship query for each relationship as list parameter {@link #ROWS_PARAMETER}.
+	 *
+	 * @return the query creating several relationships
+	 */
+	public String getCreateRelationshipsQuery() {
+		return createRelationshipsQuery;
+	}
+
 	/**
 	 * Removes the relationship(s) representing the given association. If the association refers to an embedded entity
 	 * (collection), the referenced entities are removed as well.
@@ -12,6 +12,8 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -51,6 +53,7 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 
 	private final BoundedConcurrentHashMap<String, String> updateEmbeddedPropertyQueryCache;
 	private final BoundedConcurrentHashMap<String, String> findAssociationQueryCache;
+	private final BoundedConcurrentHashMap<String, String> findAssociationsQueryCache;
 	private final BoundedConcurrentHashMap<Integer, String> multiGetQueryCache;
 
 	private final String removeToOneAssociation;
@@ -58,8 +61,10 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	private final String findEntityQuery;
 	private final String findEntitiesQuery;
 	private final String findAssociationPartialQuery;
+	private final String findAssociationsPartialQuery;
 	private final String createEntityQuery;
 	private final String createEntityWithPropertiesQuery;
+	private final String createEntitiesQuery;
 	private final String updateEntityProperties;
 	private final String removeEntityQuery;
 	private final String updateEmbeddedNodeQuery;
@@ -79,15 +84,18 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext
 		this.includeEmbedded = includeEmbedded;
 		this.updateEmbeddedPropertyQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.findAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.findAssociationsQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.multiGetQueryCache = new BoundedConcurrentHashMap<Integer, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 
 		this.findAssociationPartialQuery = initMatchOwnerEntityNode( entityKeyMetadata );
+		this.findAssociationsPartialQuery = initMatchOwnerEntityNodes( entityKeyMetadata );
 		this.createEmbeddedNodeQuery = initCreateEmbeddedNodeQuery( entityKeyMetadata );
 		this.findEntityQuery = initFindEntityQuery( entityKeyMetadata, includeEmbedded );
 		this.findEntitiesQuery = initFindEntitiesQuery( entityKeyMetadata, includeEmbedded );
 		this.createEntityQuery = initCreateEntityQuery( entityKeyMetadata );
 		this.updateEntityProperties = initMatchOwnerEntityNode( entityKeyMetadata );
 		this.createEntityWithPropertiesQuery = initCreateEntityWithPropertiesQuery( entityKeyMetadata );
+		this.createEntitiesQuery = initCreateEntitiesQuery( entityKeyMetadata );
 		this.removeEntityQuery = initRemoveEntityQuery( entityKeyMetadata );
 		this.updateEmbeddedNodeQuery = initUpdateEmbeddedNodeQuery( entityKeyMetadata );
 		this.updateToOneQuery = initUpdateToOneQuery( entityKeyMetadata, tupleContext );
@@ -310,6 +318,18 @@ private static String initMatchOwnerEntityNode(EntityKeyMetadata ownerEntityKeyM
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example:
+	 * UNWIND {rows} AS row MATCH (owner:ENTITY:table {id: row[0]})
+	 */
+	private static String initMatchOwnerEntityNodes(EntityKeyMetadata ownerEntityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder( "UNWIND {" );
+		queryBuilder.append( ROWS_PARAMETER );
+		queryBuilder.append( "} AS row MATCH " );
+		appendEntityNodeFromRow( ENTITY_ALIAS, ownerEntityKeyMetadata, queryBuilder, 0 );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example:
 	 *
@@ -350,8 +370,60 @@ protected String getFindAssociationTargetEmbeddedValues(String relationshipType)
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example:
+	 *
+	 * UNWIND {rows} AS row MATCH (owner:ENTITY:Car {`carId.maker`: row[0], `carId.model`: row[1]})
+	 * OPTIONAL MATCH (owner) -[r:tires]- (target)
+	 * RETURN id(target), r, owner, target ORDER BY id(target)
+	 *
+	 * The owners without relationships are returned with r and target set to null.
+	 */
+	private String completeFindAssociationsQuery(String relationshipType) {
+		StringBuilder queryBuilder = new StringBuilder( findAssociationsPartialQuery );
+		queryBuilder.append( " OPTIONAL MATCH (" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ")" );
+		appendAssociationPath( queryBuilder, relationshipType );
+		queryBuilder.append( "RETURN id(target), r, " );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ", target ORDER BY id(target) " );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Example:
+	 *
+	 * UNWIND {rows} AS row MATCH (owner:ENTITY:Car {`carId.maker`: row[0], `carId.model`: row[1]}) -[r:tires]- (target)
+	 * OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED)
+	 * RETURN DISTINCT id(target), extract(n IN x| type(n)), x, e ORDER BY id(target)
+	 *
+	 * A target shared by several owners is returned only once.
+	 */
+	protected String getFindAssociationsTargetEmbeddedValues(String relationshipType) {
+		StringBuilder queryBuilder = new StringBuilder( findAssociationsPartialQuery );
+		appendAssociationPath( queryBuilder, relationshipType );
+		queryBuilder.append( "OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED) " );
+		queryBuilder.append( "RETURN DISTINCT id(target), extract(n IN x| type(n)), x, e ORDER BY id(target)" );
+		return queryBuilder.toString();
+	}
+
 	private StringBuilder findAssociationPartialQuery(String relationshipType) {
 		StringBuilder queryBuilder = new StringBuilder( findAssociationPartialQuery );
+		appendAssociationPath( queryBuilder, relationshipType );
+		return queryBuilder;
+	}
+
+	/*
+	 * Example:
+	 *
+	 * -[r:tires]- (target)
+	 *
+	 * or for embedded associations:
+	 *
+	 * -[:evilBranch]-> (:EMBEDDED) -[r:additionalEndings]-> (target:EMBEDDED)
+	 */
+	private static void appendAssociationPath(StringBuilder queryBuilder, String relationshipType) {
 		if ( isPartOfEmbedded( relationshipType ) ) {
 			String[] path = split( relationshipType );
 			int index = 0;
@@ -378,7 +450,6 @@ private StringBuilder findAssociationPartialQuery(String relationshipType) {
 			appendRelationshipType( queryBuilder, relationshipType );
 			queryBuilder.append( "]- (target) " );
 		}
-		return queryBuilder;
 	}
 
 	/*
@@ -479,6 +550,22 @@ private static String initCreateEntityWithPropertiesQuery(EntityKeyMetadata enti
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Creates one node per element of the parameter "rows", each element being the map of properties of a node.
+	 *
+	 * Example: UNWIND {rows} AS row CREATE (n:ENTITY:table) SET n = row
+	 */
+	private static String initCreateEntitiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder( "UNWIND {" );
+		queryBuilder.append( ROWS_PARAMETER );
+		queryBuilder.append( "} AS row CREATE (n:" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		queryBuilder.append( ") SET n = row" );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example: MATCH (n:ENTITY:table {id: {0}}) OPTIONAL MATCH (n) - [r] - () DELETE n, r
 	 */
@@ -569,6 +656,40 @@ public String getFindAssociationQuery(String role) {
 		return query;
 	}
 
+	/**
+	 * Returns the query finding the relationships of the given type of several owners with one statement.
+	 * <p>
+	 * The query requires the parameter {@link #ROWS_PARAMETER}, the list of the id column values of each owner.
+	 *
+	 * @param role the relationship type
+	 * @return the query
+	 */
+	public String getFindAssociationsQuery(String role) {
+		String query = findAssociationsQueryCache.get( role );
+		if ( query == null ) {
+			query = completeFindAssociationsQuery( role );
+			String cached = findAssociationsQueryCache.putIfAbsent( role, query );
+			if ( cached != null ) {
+				query = cached;
+			}
+		}
+		return query;
+	}
+
+	/**
+	 * Returns the parameters of {@link #getFindAssociationsQuery(String)} for the given owners.
+	 *
+	 * @param ownerKeys the keys of the owners of the associations
+	 * @return the query parameters
+	 */
+	protected static Map<String, Object> findAssociationsParameters(EntityKey[] ownerKeys) {
+		List<List<Object>> rows = new ArrayList<List<Object>>( ownerKeys.length );
+		for ( EntityKey ownerKey : ownerKeys ) {
+			rows.add( Arrays.asList( ownerKey.getColumnValues() ) );
+		}
+		return Collections.<String, Object>singletonMap( ROWS_PARAMETER, rows );
+	}
+
 	/*
 	 * When the id is mapped on several properties
 	 */
@@ -671,6 +792,16 @@ public String getCreateEntityWithPropertiesQuery() {
 		return createEntityWithPropertiesQuery;
 	}
 
+	/**
+	 * Returns the query creating the nodes of several entities at once, expecting the property maps of the nodes as
+	 * list parameter {@link #ROWS_PARAMETER}.
+	 *
+	 * @return the query creating several entity nodes
+	 */
+	public String getCreateEntitiesQuery() {
+		return createEntitiesQuery;
+	}
+
 	public String getRemoveEntityQuery() {
 		return removeEntityQuery;
 	}
@@ -23,6 +23,12 @@
  */
 class BaseNeo4jQueries {
 
+	/**
+	 * Name of the list parameter of the queries applying the same change to several nodes or relationships using
+	 * {@code UNWIND}
+	 */
+	public static final String ROWS_PARAMETER = "rows";
+
 	protected static void appendLabel(EntityKeyMetadata entityKeyMetadata, StringBuilder queryBuilder) {
 		escapeIdentifier( queryBuilder, entityKeyMetadata.getTable() );
 	}
@@ -47,6 +53,28 @@ protected static void appendProperties(StringBuilder queryBuilder, String[] colu
 		}
 	}
 
+	/*
+	 * Same as appendProperties(StringBuilder, String[], int) but referring to the elements of the list "row"
+	 * instead of query parameters.
+	 *
+	 * Example: {id: row[0]}
+	 */
+	protected static void appendRowProperties(StringBuilder queryBuilder, String[] columnNames, int offset) {
+		if ( columnNames.length > 0 ) {
+			queryBuilder.append( " {" );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				escapeIdentifier( queryBuilder, columnNames[i] );
+				queryBuilder.append( ": row[" );
+				queryBuilder.append( offset + i );
+				queryBuilder.append( "]" );
+				if ( i < columnNames.length - 1 ) {
+					queryBuilder.append( ", " );
+				}
+			}
+			queryBuilder.append( "}" );
+		}
+	}
+
 	protected Map<String, Object> params(Object[] columnValues) {
 		return params( columnValues, 0 );
 	}
@@ -89,6 +117,25 @@ protected static void appendEntityNode(String alias, EntityKeyMetadata entityKey
 		queryBuilder.append( ")" );
 	}
 
+	/*
+	 * Same as appendEntityNode(String, EntityKeyMetadata, StringBuilder, int) but referring to the elements of the
+	 * list "row" instead of query parameters.
+	 *
+	 * Example:
+	 *
+	 * (owner:ENTITY:table {id: row[0]})
+	 */
+	protected static void appendEntityNodeFromRow(String alias, EntityKeyMetadata entityKeyMetadata, StringBuilder queryBuilder, int offset) {
+		queryBuilder.append( "(" );
+		queryBuilder.append( alias );
+		queryBuilder.append( ":" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		appendRowProperties( queryBuilder, entityKeyMetadata.getColumnNames(), offset );
+		queryBuilder.append( ")" );
+	}
+
 	protected static void appendRelationshipType(StringBuilder queryBuilder, String relationshipType) {
 		escapeIdentifier( queryBuilder, relationshipType );
 	}
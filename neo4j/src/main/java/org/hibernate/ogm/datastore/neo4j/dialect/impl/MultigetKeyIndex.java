@@ -0,0 +1,112 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * The positions of the keys passed to a multi-get, grouped by their meta-data and indexed by their column values.
+ * <p>
+ * This allows to load the nodes with one query per label and to assign each returned node to the position of its key
+ * in constant time, instead of comparing it with all the requested keys.
+ *
+ * @author Gunnar Morling
+ */
+public class MultigetKeyIndex {
+
+	private final Map<EntityKeyMetadata, Group> groups = new LinkedHashMap<EntityKeyMetadata, Group>();
+	private final boolean compareAsStrings;
+
+	/**
+	 * Creates an index of the given keys.
+	 *
+	 * @param keys the keys passed to the multi-get
+	 * @param compareAsStrings whether to compare the column values by their string representation rather than by
+	 * {@code equals()}; required if the store does not preserve the type of property values, e.g. returning an
+	 * {@code Integer} for a {@code Long} value
+	 */
+	public MultigetKeyIndex(EntityKey[] keys, boolean compareAsStrings) {
+		this.compareAsStrings = compareAsStrings;
+
+		for ( int i = 0; i < keys.length; i++ ) {
+			Group group = groups.get( keys[i].getMetadata() );
+			if ( group == null ) {
+				group = new Group();
+				groups.put( keys[i].getMetadata(), group );
+			}
+
+			group.keys.add( keys[i] );
+
+			List<Object> values = normalize( keys[i].getColumnValues() );
+			// for duplicated keys only the first position is returned, as done by the store
+			if ( !group.positions.containsKey( values ) ) {
+				group.positions.put( values, i );
+			}
+		}
+	}
+
+	/**
+	 * @return the meta-data of the requested keys
+	 */
+	public Set<EntityKeyMetadata> getMetadata() {
+		return groups.keySet();
+	}
+
+	/**
+	 * @param metadata the meta-data of the requested keys
+	 * @return the requested keys with the given meta-data
+	 */
+	public EntityKey[] getKeys(EntityKeyMetadata metadata) {
+		List<EntityKey> keys = groups.get( metadata ).keys;
+		return keys.toArray( new EntityKey[keys.size()] );
+	}
+
+	/**
+	 * Returns the position of the requested key with the given meta-data and column values.
+	 *
+	 * @param metadata the meta-data of the key
+	 * @param columnValues the values of the key columns as returned by the store, in the order of
+	 * {@link EntityKeyMetadata#getColumnNames()}
+	 * @return the position of the key within the array passed to the multi-get or -1 if no such key has been requested
+	 */
+	public int indexOf(EntityKeyMetadata metadata, Object[] columnValues) {
+		Group group = groups.get( metadata );
+		if ( group == null ) {
+			return -1;
+		}
+
+		Integer position = group.positions.get( normalize( columnValues ) );
+		return position != null ? position : -1;
+	}
+
+	private List<Object> normalize(Object[] columnValues) {
+		if ( !compareAsStrings ) {
+			return Arrays.asList( columnValues );
+		}
+
+		List<Object> values = new ArrayList<Object>( columnValues.length );
+		for ( Object value : columnValues ) {
+			values.add( value != null ? value.toString() : null );
+		}
+		return values;
+	}
+
+	private static class Group {
+
+		private final List<EntityKey> keys = new ArrayList<EntityKey>();
+		private final Map<List<Object>, Integer> positions = new HashMap<List<Object>, Integer>();
+	}
+}
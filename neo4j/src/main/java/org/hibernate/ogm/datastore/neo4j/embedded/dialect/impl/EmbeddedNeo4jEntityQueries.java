@@ -55,6 +55,21 @@ public ResourceIterator<Relationship> findAssociation(GraphDatabaseService execu
 		return executionEngine.execute( query, params( columnValues ) ).columnAs( "r" );
 	}
 
+	/**
+	 * Find the relationships representing the same association of several owners.
+	 * <p>
+	 * Each row of the result contains the owner node ({@link #ENTITY_ALIAS}) and one relationship ("r"); the
+	 * relationship is {@code null} if the owner has no such relationship.
+	 *
+	 * @param executionEngine the queries executor
+	 * @param ownerKeys the keys of the owner nodes
+	 * @param role the relationship type mapping the role of the association
+	 * @return the result of the query
+	 */
+	public Result findAssociations(GraphDatabaseService executionEngine, EntityKey[] ownerKeys, String role) {
+		return executionEngine.execute( getFindAssociationsQuery( role ), findAssociationsParameters( ownerKeys ) );
+	}
+
 	/**
 	 * Create a single node representing an embedded element.
 	 *
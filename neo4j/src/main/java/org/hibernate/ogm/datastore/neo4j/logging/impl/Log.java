@@ -92,4 +92,7 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1420, value = "Sequences creation failed: %s, %s")
 	HibernateException sequencesCreationException(String code, String message);
+
+	@Message(id = 1421, value = "The value set for the configuration property '%1$s' must be a number greater than 0. Found '%2$s'.")
+	HibernateException illegalBatchSize(String property, int value);
 }
@@ -0,0 +1,57 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.dialect.impl;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statement;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A {@link Statement} creating a node or relationship, which can also be executed together with other statements of
+ * the same kind as one {@code UNWIND} statement.
+ *
+ * @author Gunnar Morling
+ */
+public class BulkableStatement extends Statement {
+
+	private final String bulkQuery;
+	private final Object row;
+	private final boolean createsNode;
+
+	BulkableStatement(String query, Map<String, Object> parameters, String bulkQuery, Object row, boolean createsNode) {
+		super( query, parameters );
+		this.bulkQuery = bulkQuery;
+		this.row = row;
+		this.createsNode = createsNode;
+	}
+
+	/**
+	 * @return the {@code UNWIND} query applying the change of this statement to each element of its list parameter
+	 */
+	@JsonIgnore
+	public String getBulkQuery() {
+		return bulkQuery;
+	}
+
+	/**
+	 * @return the element representing this statement in the list parameter of the bulk query
+	 */
+	@JsonIgnore
+	public Object getRow() {
+		return row;
+	}
+
+	/**
+	 * @return {@code true} if this statement creates a node, {@code false} if it creates a relationship
+	 */
+	@JsonIgnore
+	public boolean isCreatesNode() {
+		return createsNode;
+	}
+}
@@ -21,9 +21,17 @@ public class RemoteNeo4jAssociationPropertiesRow {
 	private final Map<String, Object> targetNode;
 
 	public RemoteNeo4jAssociationPropertiesRow(Map<String, Object> rel, Map<String, Object> ownerNode, Map<String, Object> targetNode) {
-		this.relationship = Collections.unmodifiableMap( rel );
+		this.relationship = unmodifiableMap( rel );
 		this.ownerNode = Collections.unmodifiableMap( ownerNode );
-		this.targetNode = Collections.unmodifiableMap( targetNode );
+		this.targetNode = unmodifiableMap( targetNode );
+	}
+
+	/*
+	 * The relationship and the target node are null for owners without relationships when loading the associations of
+	 * several owners
+	 */
+	private static Map<String, Object> unmodifiableMap(Map<String, Object> map) {
+		return map == null ? null : Collections.unmodifiableMap( map );
 	}
 
 	public Map<String, Object> getRelationship() {
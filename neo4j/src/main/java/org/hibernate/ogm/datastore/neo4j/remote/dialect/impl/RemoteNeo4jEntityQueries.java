@@ -19,6 +19,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.MultigetKeyIndex;
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel;
 import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jClient;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.ErrorResponse;
@@ -157,7 +158,7 @@ public Node findAssociatedEntity(RemoteNeo4jClient neo4jClient, Long txId, Objec
 	public Statement getCreateEntityWithPropertiesQueryStatement(Object[] columnValues, Map<String, Object> properties) {
 		String query = getCreateEntityWithPropertiesQuery();
 		Map<String, Object> params = Collections.singletonMap( "props", (Object) properties );
-		return new Statement( query, params );
+		return new BulkableStatement( query, params, getCreateEntitiesQuery(), properties, true );
 	}
 
 	public Statement removeColumnStatement(Object[] columnValues, String column) {
@@ -177,8 +178,8 @@ public Statement getUpdateEntityPropertiesStatement(Object[] columnvalues, Map<S
 		return new Statement( query, params( paramsValues ) );
 	}
 
-	public void removeEntity(RemoteNeo4jClient executionEngine, Long txId, Object[] columnValues) {
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveEntityQuery(), params( columnValues ) );
+	public Statement getRemoveEntityStatement(Object[] columnValues) {
+		return new Statement( getRemoveEntityQuery(), params( columnValues ) );
 	}
 
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(RemoteNeo4jClient executionEngine, Long txId) {
@@ -261,8 +262,10 @@ private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(List<StatementR
 				}
 				else {
 					NodeWithEmbeddedNodes[] array = new NodeWithEmbeddedNodes[keys.length];
+					MultigetKeyIndex keyIndex = new MultigetKeyIndex( keys, true );
+					EntityKeyMetadata metadata = keys[0].getMetadata();
 					for ( Node owner : owners ) {
-						int index = findKeyIndex( keys, owner );
+						int index = keyIndex.indexOf( metadata, RemoteNeo4jHelper.columnValues( owner, metadata.getColumnNames() ) );
 						if ( index > -1 ) {
 							array[index] = new NodeWithEmbeddedNodes( owner, nodes.get( owner.getId() ) );
 						}
@@ -280,15 +283,6 @@ private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(List<StatementR
 		return EMPTY_NODES;
 	}
 
-	private int findKeyIndex(EntityKey[] keys, Node owner) {
-		for ( int i = 0; i < keys.length; i++ ) {
-			if ( RemoteNeo4jHelper.matches( owner, keys[i].getColumnNames(), keys[i].getColumnValues() ) ) {
-				return i;
-			}
-		}
-		return -1;
-	}
-
 	public Statement getUpdateOneToOneAssociationStatement(String associationRole, Object[] ownerKeyValues, Object[] targetKeyValues) {
 		String query = getUpdateToOneQuery( associationRole );
 		Map<String, Object> params = params( ownerKeyValues );
@@ -413,6 +407,59 @@ public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Rem
 		return EMPTY_RELATIONSHIPS;
 	}
 
+	/**
+	 * Find the relationships representing the same association of several owners.
+	 * <p>
+	 * The relationship and the target node of a returned row are {@code null} if the owner has no such relationship.
+	 *
+	 * @param executionEngine the client for the remote server
+	 * @param txId the transaction id
+	 * @param ownerKeys the keys of the owner nodes
+	 * @param role the relationship type mapping the role of the association
+	 * @return the rows found for all the owners
+	 */
+	@SuppressWarnings("unchecked")
+	public List<RemoteNeo4jAssociationPropertiesRow> findAssociations(RemoteNeo4jClient executionEngine, Long txId, EntityKey[] ownerKeys, String role) {
+		Map<String, Object> params = findAssociationsParameters( ownerKeys );
+		Statements statements = new Statements();
+		statements.addStatement( getFindAssociationsQuery( role ), params, Statement.AS_ROW );
+		statements.addStatement( getFindAssociationsTargetEmbeddedValues( role ), params, Statement.AS_ROW );
+		List<StatementResult> response = executeQuery( executionEngine, txId, statements );
+		if ( response == null ) {
+			return Collections.emptyList();
+		}
+
+		// A target node can be associated to several owners, so the embedded nodes are grouped by target
+		Map<String, List<Row>> embeddedNodes = new HashMap<>();
+		for ( Row row : response.get( 1 ).getData() ) {
+			String idTarget = row.getRow().get( 0 ).toString();
+			List<Row> rows = embeddedNodes.get( idTarget );
+			if ( rows == null ) {
+				rows = new ArrayList<>();
+				embeddedNodes.put( idTarget, rows );
+			}
+			rows.add( row );
+		}
+
+		List<Row> data = response.get( 0 ).getData();
+		List<RemoteNeo4jAssociationPropertiesRow> responseRows = new ArrayList<>( data.size() );
+		for ( Row row : data ) {
+			Map<String, Object> rel = (Map<String, Object>) row.getRow().get( 1 );
+			Map<String, Object> ownerNode = (Map<String, Object>) row.getRow().get( 2 );
+			Map<String, Object> targetNode = (Map<String, Object>) row.getRow().get( 3 );
+			if ( targetNode != null ) {
+				List<Row> targetEmbeddedNodes = embeddedNodes.get( String.valueOf( row.getRow().get( 0 ) ) );
+				if ( targetEmbeddedNodes != null ) {
+					for ( Row embeddedNode : targetEmbeddedNodes ) {
+						addTargetEmbeddedProperties( targetNode, embeddedNode );
+					}
+				}
+			}
+			responseRows.add( new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode ) );
+		}
+		return responseRows;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void addTargetEmbeddedProperties(Map<String, Object> targetNode, Row row) {
 		List<String> pathToNode = (List<String>) row.getRow().get( 1 );
@@ -442,9 +489,9 @@ public Node findEmbeddedNode(RemoteNeo4jClient neo4jClient, Long txId, Object[]
 		return result.getNodes().get( 0 );
 	}
 
-	public void removeToOneAssociation(RemoteNeo4jClient executionEngine, Long txId, Object[] columnValues, String associationRole) {
+	public Statement getRemoveToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	private static class ClosableIteratorAdapter<T> implements ClosableIterator<T> {
@@ -6,13 +6,17 @@
  */
 package org.hibernate.ogm.datastore.neo4j.remote.impl;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.cfg.impl.HostParser;
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
 import org.hibernate.ogm.cfg.spi.Hosts;
 import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import org.hibernate.ogm.util.configurationreader.impl.Validators;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
 
 /**
  * @see DocumentStoreConfiguration
@@ -29,6 +33,12 @@ public class RemoteNeo4jConfiguration {
 
 	private static final String DEFAULT_DB = "db/data";
 
+	private static final int DEFAULT_BATCH_SIZE = 500;
+
+	private static final int DEFAULT_UNWIND_BATCH_SIZE = 1000;
+
+	private static final Log log = LoggerFactory.getLogger();
+
 	private final Hosts hosts;
 	private final String databaseName;
 	private final String username;
@@ -38,6 +48,8 @@ public class RemoteNeo4jConfiguration {
 	private final Long establishConnectionTimeout;
 	private final Long connectionCheckoutTimeout;
 	private final Long connectionTTL;
+	private final int batchSize;
+	private final int unwindBatchSize;
 
 	public RemoteNeo4jConfiguration(ConfigurationPropertyReader propertyReader) {
 		String host = propertyReader.property( OgmProperties.HOST, String.class )
@@ -61,6 +73,14 @@ public RemoteNeo4jConfiguration(ConfigurationPropertyReader propertyReader) {
 		this.establishConnectionTimeout = propertyReader.property( Neo4jProperties.ESTABLISH_CONNECTION_TIMEOUT, Long.class ).getValue();
 		this.connectionCheckoutTimeout = propertyReader.property( Neo4jProperties.CONNECTION_CHECKOUT_TIMEOUT, Long.class ).getValue();
 		this.connectionTTL = propertyReader.property( Neo4jProperties.CONNECTION_TTL, Long.class ).getValue();
+		this.batchSize = propertyReader.property( Neo4jProperties.BATCH_SIZE, int.class )
+				.withValidator( new BatchSizeValidator( Neo4jProperties.BATCH_SIZE ) )
+				.withDefault( DEFAULT_BATCH_SIZE )
+				.getValue();
+		this.unwindBatchSize = propertyReader.property( Neo4jProperties.UNWIND_BATCH_SIZE, int.class )
+				.withValidator( new BatchSizeValidator( Neo4jProperties.UNWIND_BATCH_SIZE ) )
+				.withDefault( DEFAULT_UNWIND_BATCH_SIZE )
+				.getValue();
 
 		this.createDatabase = propertyReader.property( OgmProperties.CREATE_DATABASE, boolean.class )
 				.withDefault( false )
@@ -139,4 +159,42 @@ public Long getConnectionTTL() {
 	public Long getEstablishConnectionTimeout() {
 		return establishConnectionTimeout;
 	}
+
+	/**
+	 * @see Neo4jProperties#BATCH_SIZE
+	 * @return the maximum number of statements sent with one request when flushing changes
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @see Neo4jProperties#UNWIND_BATCH_SIZE
+	 * @return the maximum number of nodes or relationships created with one statement when flushing changes
+	 */
+	public int getUnwindBatchSize() {
+		return unwindBatchSize;
+	}
+
+	/**
+	 * A {@link PropertyValidator} which asserts that a given number is a valid batch size.
+	 */
+	private static class BatchSizeValidator implements PropertyValidator<Integer> {
+
+		private final String property;
+
+		BatchSizeValidator(String property) {
+			this.property = property;
+		}
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalBatchSize( property, value );
+			}
+		}
+	}
 }
@@ -145,6 +145,10 @@ public Class<? extends SchemaDefiner> getSchemaDefinerType() {
 		return RemoteNeo4jSchemaDefiner.class;
 	}
 
+	public RemoteNeo4jConfiguration getConfiguration() {
+		return configuration;
+	}
+
 	public RemoteNeo4jSequenceGenerator getSequenceGenerator() {
 		return sequenceGenerator;
 	}
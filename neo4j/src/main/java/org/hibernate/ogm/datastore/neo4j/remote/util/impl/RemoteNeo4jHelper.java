@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.neo4j.remote.util.impl;
 
+import java.util.Map;
+
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph.Node;
 
 /**
@@ -17,32 +19,33 @@ private RemoteNeo4jHelper() {
 	}
 
 	/**
-	 * Check if the node matches the column values
+	 * Returns the values of the given properties of the node.
+	 * <p>
+	 * Neo4j remote does not save the type of the original value, for example if the original value was a Long smaller
+	 * than the max integer the query will return the value as integer. The values must therefore be compared by their
+	 * string representation.
+	 *
+	 * @param node the {@link Node} to read the properties from
+	 * @param columnNames the name of the key columns
+	 * @return the values of the key columns, {@code null} for the properties not set on the node
+	 */
+	public static Object[] columnValues(Node node, String[] columnNames) {
+		return columnValues( node.getProperties(), columnNames );
+	}
+
+	/**
+	 * Returns the values of the key columns of a node returned as a map of its properties.
 	 *
-	 * @param node the {@link Node} to verify
-	 * @param columnNames the expected name of the key columns
-	 * @param columnValues the expected value of the key columns
-	 * @return true if the node matches the key columns and values
+	 * @param properties the properties of the node
+	 * @param columnNames the name of the key columns
+	 * @return the values of the key columns, {@code null} for the properties not set on the node
+	 * @see #columnValues(Node, String[])
 	 */
-	public static boolean matches(Node node, String[] columnNames, Object[] columnValues) {
+	public static Object[] columnValues(Map<String, Object> properties, String[] columnNames) {
+		Object[] columnValues = new Object[columnNames.length];
 		for ( int i = 0; i < columnNames.length; i++ ) {
-			String property = columnNames[i];
-			Object expectedValue = columnValues[i];
-			boolean containsProperty = node.getProperties().containsKey( property );
-			if ( containsProperty ) {
-				Object actualValue = node.getProperties().get( property );
-				if ( !actualValue.equals( expectedValue ) ) {
-					// Neo4j remote does not save the type of the original value, for example if the original value was
-					// a Long smaller than the max integer the query will return the value as integer.
-					if ( !actualValue.toString().equals( expectedValue.toString() ) ) {
-						return false;
-					}
-				}
-			}
-			else if ( expectedValue != null ) {
-				return false;
-			}
+			columnValues[i] = properties.get( columnNames[i] );
 		}
-		return true;
+		return columnValues;
 	}
 }
@@ -0,0 +1,63 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.MultigetKeyIndex;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.Test;
+
+/**
+ * @author Gunnar Morling
+ */
+public class MultigetKeyIndexTest {
+
+	private final EntityKeyMetadata person = new DefaultEntityKeyMetadata( "Person", new String[] { "id.name", "id.surname" } );
+	private final EntityKeyMetadata animal = new DefaultEntityKeyMetadata( "Animal", new String[] { "id" } );
+
+	@Test
+	public void testKeysAreGroupedByMetadata() throws Exception {
+		EntityKey davide = new EntityKey( person, new Object[] { "Davide", "D'Alto" } );
+		EntityKey dog = new EntityKey( animal, new Object[] { 1L } );
+		EntityKey emmanuel = new EntityKey( person, new Object[] { "Emmanuel", "Bernard" } );
+
+		MultigetKeyIndex keyIndex = new MultigetKeyIndex( new EntityKey[] { davide, dog, emmanuel }, false );
+
+		assertThat( keyIndex.getMetadata() ).containsOnly( person, animal );
+		assertThat( keyIndex.getKeys( person ) ).containsOnly( davide, emmanuel );
+		assertThat( keyIndex.getKeys( animal ) ).containsOnly( dog );
+	}
+
+	@Test
+	public void testIndexOfCompositeKey() throws Exception {
+		EntityKey davide = new EntityKey( person, new Object[] { "Davide", "D'Alto" } );
+		EntityKey dog = new EntityKey( animal, new Object[] { 1L } );
+		EntityKey emmanuel = new EntityKey( person, new Object[] { "Emmanuel", "Bernard" } );
+
+		MultigetKeyIndex keyIndex = new MultigetKeyIndex( new EntityKey[] { davide, dog, emmanuel }, false );
+
+		assertThat( keyIndex.indexOf( person, new Object[] { "Emmanuel", "Bernard" } ) ).isEqualTo( 2 );
+		assertThat( keyIndex.indexOf( person, new Object[] { "Davide", "D'Alto" } ) ).isEqualTo( 0 );
+		assertThat( keyIndex.indexOf( person, new Object[] { "Davide", "Bernard" } ) ).isEqualTo( -1 );
+		assertThat( keyIndex.indexOf( animal, new Object[] { 1L } ) ).isEqualTo( 1 );
+		assertThat( keyIndex.indexOf( animal, new Object[] { 1 } ) ).isEqualTo( -1 );
+	}
+
+	@Test
+	public void testIndexOfComparingAsStrings() throws Exception {
+		EntityKey dog = new EntityKey( animal, new Object[] { 1L } );
+		EntityKey cat = new EntityKey( animal, new Object[] { 2L } );
+
+		MultigetKeyIndex keyIndex = new MultigetKeyIndex( new EntityKey[] { dog, cat }, true );
+
+		assertThat( keyIndex.indexOf( animal, new Object[] { 2 } ) ).isEqualTo( 1 );
+		assertThat( keyIndex.indexOf( animal, new Object[] { 1L } ) ).isEqualTo( 0 );
+	}
+}
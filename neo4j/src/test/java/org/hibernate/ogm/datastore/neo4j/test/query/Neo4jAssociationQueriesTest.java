@@ -0,0 +1,68 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jAssociationQueries;
+import org.hibernate.ogm.model.impl.DefaultAssociatedEntityKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultAssociationKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociationKind;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.Test;
+
+/**
+ * Test for the queries created by {@link EmbeddedNeo4jAssociationQueries}.
+ *
+ * @author Gunnar Morling
+ */
+public class Neo4jAssociationQueriesTest {
+
+	@Test
+	public void testCreationOfSeveralRelationshipsWithCompositeIdAndIndex() throws Exception {
+		String expected = "UNWIND {rows} AS row "
+				+ "MATCH (n:ENTITY:Example {`id.name`: row[0], `id.surname`: row[1]}), (t:ENTITY:Target {id: row[2]}) "
+				+ "CREATE UNIQUE (n) -[r:items {`items_ORDER`: row[3]}]-> (t)";
+
+		EntityKeyMetadata ownerMetadata = metadata( "Example", "id.name", "id.surname" );
+		AssociationKeyMetadata associationMetadata = associationMetadata( ownerMetadata, metadata( "Target", "id" ), "items_ORDER" );
+		EmbeddedNeo4jAssociationQueries associationQueries = new EmbeddedNeo4jAssociationQueries( ownerMetadata, associationMetadata );
+
+		assertThat( associationQueries.getCreateRelationshipsQuery() ).isEqualTo( expected );
+	}
+
+	@Test
+	public void testCreationOfSeveralRelationships() throws Exception {
+		String expected = "UNWIND {rows} AS row "
+				+ "MATCH (n:ENTITY:Example {id: row[0]}), (t:ENTITY:Target {id: row[1]}) "
+				+ "CREATE UNIQUE (n) -[r:items]-> (t)";
+
+		EntityKeyMetadata ownerMetadata = metadata( "Example", "id" );
+		AssociationKeyMetadata associationMetadata = associationMetadata( ownerMetadata, metadata( "Target", "id" ) );
+		EmbeddedNeo4jAssociationQueries associationQueries = new EmbeddedNeo4jAssociationQueries( ownerMetadata, associationMetadata );
+
+		assertThat( associationQueries.getCreateRelationshipsQuery() ).isEqualTo( expected );
+	}
+
+	private EntityKeyMetadata metadata(String tableName, String... columnNames) {
+		return new DefaultEntityKeyMetadata( tableName, columnNames );
+	}
+
+	private AssociationKeyMetadata associationMetadata(EntityKeyMetadata ownerMetadata, EntityKeyMetadata targetMetadata, String... indexColumnNames) {
+		return new DefaultAssociationKeyMetadata.Builder()
+				.table( "Example_items" )
+				.columnNames( ownerMetadata.getColumnNames() )
+				.rowKeyIndexColumnNames( indexColumnNames )
+				.entityKeyMetadata( ownerMetadata )
+				.associatedEntityKeyMetadata( new DefaultAssociatedEntityKeyMetadata( new String[] { "items_id" }, targetMetadata ) )
+				.collectionRole( "items" )
+				.associationKind( AssociationKind.ASSOCIATION )
+				.build();
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.neo4j.test.query;
 
+import static org.fest.assertions.Assertions.assertThat;
 import static org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries.ENTITY_ALIAS;
 import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyString;
@@ -39,6 +40,15 @@ public void testCreationWithCompositeId() throws Exception {
 		verify( executionEngine ).execute( eq( expected ), anyMap() );
 	}
 
+	@Test
+	public void testCreationOfSeveralEntities() throws Exception {
+		String expected = "UNWIND {rows} AS row CREATE (n:ENTITY:Example) SET n = row";
+
+		EmbeddedNeo4jEntityQueries entityQueries = new EmbeddedNeo4jEntityQueries( metadata( "Example", "id" ) );
+
+		assertThat( entityQueries.getCreateEntitiesQuery() ).isEqualTo( expected );
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void testUpdateEmbeddedColumnQuery() throws Exception {
@@ -0,0 +1,189 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.RemoteNeo4jDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.impl.TupleContextImpl;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.exception.EntityAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.utils.GridDialectType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test that the statements of a flush are sent to the remote server in several requests if they exceed
+ * {@link Neo4jProperties#BATCH_SIZE}, that failures are reported for the operation causing them and that reads see the
+ * operations queued before them within the same flush.
+ *
+ * @author Gunnar Morling
+ */
+@SkipByGridDialect(value = { GridDialectType.NEO4J_EMBEDDED }, comment = "We need a remote server")
+public class RemoteBatchExecutionTest extends OgmTestCase {
+
+	private static final int NUMBER_OF_ENTITIES = 5;
+
+	@Entity
+	static class Pebble {
+
+		@Id
+		private String id;
+
+		private String color;
+
+		Pebble() {
+		}
+
+		Pebble(String id, String color) {
+			this.id = id;
+			this.color = color;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getColor() {
+			return color;
+		}
+	}
+
+	@After
+	public void deletePebbles() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+			Pebble pebble = (Pebble) session.get( Pebble.class, "pebble-" + i );
+			if ( pebble != null ) {
+				session.delete( pebble );
+			}
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testFlushSpanningSeveralRequests() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+			session.persist( new Pebble( "pebble-" + i, "grey" ) );
+		}
+		transaction.commit();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+			Pebble pebble = (Pebble) session.get( Pebble.class, "pebble-" + i );
+			assertThat( pebble ).as( "pebble-" + i ).isNotNull();
+			assertThat( pebble.getColor() ).isEqualTo( "grey" );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testDuplicateInsertInTheMiddleOfTheBatchIsReportedForTheRightEntity() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Pebble( "pebble-3", "white" ) );
+		transaction.commit();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+			session.persist( new Pebble( "pebble-" + i, "black" ) );
+		}
+
+		try {
+			session.flush();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch ( EntityAlreadyExistsException e ) {
+			assertThat( e.getMessage() ).matches( "(?s).*OGM000067.*pebble-3.*" );
+		}
+
+		transaction.rollback();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		assertThat( session.get( Pebble.class, "pebble-1" ) ).as( "Preceding insert should be rolled back" ).isNull();
+		assertThat( ( (Pebble) session.get( Pebble.class, "pebble-3" ) ).getColor() ).describedAs( "Second insert should not be applied" )
+				.isEqualTo( "white" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testMultigetReadsInsertQueuedInTheSameFlush() throws Exception {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		RemoteNeo4jDialect dialect = GridDialects.getDelegateOrNull( gridDialect, RemoteNeo4jDialect.class );
+		OgmEntityPersister persister = (OgmEntityPersister) getSessionFactory().getEntityPersister( Pebble.class.getName() );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		TupleContext tupleContext = persister.getTupleContext( (SessionImplementor) session );
+
+		EntityKey queued = new EntityKey( persister.getEntityKeyMetadata(), new Object[] { "pebble-1" } );
+		EntityKey missing = new EntityKey( persister.getEntityKeyMetadata(), new Object[] { "pebble-2" } );
+		Tuple tuple = dialect.createTuple( queued, tupleContext );
+		tuple.put( "id", "pebble-1" );
+		tuple.put( "color", "red" );
+
+		OperationsQueue queue = new OperationsQueue();
+		queue.add( new InsertOrUpdateTupleOperation( tuple, queued, tupleContext ) );
+
+		List<Tuple> tuples = dialect.getTuples(
+				new EntityKey[] { queued, missing },
+				new TupleContextImpl( (TupleContextImpl) tupleContext, queue )
+		);
+
+		assertThat( queue.size() ).as( "Queued insert should have been executed" ).isEqualTo( 0 );
+		assertThat( tuples ).hasSize( 2 );
+		assertThat( tuples.get( 0 ).get( "color" ) ).isEqualTo( "red" );
+		assertThat( tuples.get( 1 ) ).isNull();
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		// two statements per request, without combining the node creations into UNWIND statements
+		settings.put( Neo4jProperties.BATCH_SIZE, 2 );
+		settings.put( Neo4jProperties.UNWIND_BATCH_SIZE, 1 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Pebble.class };
+	}
+}
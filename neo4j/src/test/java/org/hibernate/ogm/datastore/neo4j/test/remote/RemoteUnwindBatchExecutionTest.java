@@ -0,0 +1,121 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.exception.EntityAlreadyExistsException;
+import org.hibernate.ogm.utils.GridDialectType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test that the failure of a node creation combined with others into one {@code UNWIND} statement is reported for the
+ * entity causing it.
+ *
+ * @author Gunnar Morling
+ */
+@SkipByGridDialect(value = { GridDialectType.NEO4J_EMBEDDED }, comment = "We need a remote server")
+public class RemoteUnwindBatchExecutionTest extends OgmTestCase {
+
+	private static final int NUMBER_OF_ENTITIES = 5;
+
+	@Entity
+	static class Marble {
+
+		@Id
+		private String id;
+
+		private String color;
+
+		Marble() {
+		}
+
+		Marble(String id, String color) {
+			this.id = id;
+			this.color = color;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getColor() {
+			return color;
+		}
+	}
+
+	@After
+	public void deleteMarbles() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+			Marble marble = (Marble) session.get( Marble.class, "marble-" + i );
+			if ( marble != null ) {
+				session.delete( marble );
+			}
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testDuplicateInsertInTheMiddleOfTheUnwindStatementIsReportedForTheRightEntity() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Marble( "marble-3", "white" ) );
+		transaction.commit();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		for ( int i = 1; i <= NUMBER_OF_ENTITIES; i++ ) {
+			session.persist( new Marble( "marble-" + i, "black" ) );
+		}
+
+		try {
+			session.flush();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch ( EntityAlreadyExistsException e ) {
+			assertThat( e.getMessage() ).matches( "(?s).*OGM000067.*marble-3.*" );
+		}
+
+		transaction.rollback();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		assertThat( session.get( Marble.class, "marble-1" ) ).as( "Other rows of the statement should not be applied" ).isNull();
+		assertThat( ( (Marble) session.get( Marble.class, "marble-3" ) ).getColor() ).describedAs( "Second insert should not be applied" )
+				.isEqualTo( "white" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		// all node creations of the flush are combined into one UNWIND statement
+		settings.put( Neo4jProperties.UNWIND_BATCH_SIZE, NUMBER_OF_ENTITIES );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Marble.class };
+	}
+}
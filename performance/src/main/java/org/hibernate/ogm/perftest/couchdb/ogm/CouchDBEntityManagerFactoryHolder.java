@@ -0,0 +1,63 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.couchdb.ogm;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.jpa.HibernateEntityManagerFactory;
+import org.hibernate.ogm.datastore.couchdb.CouchDBProperties;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Context object controlling the {@link EntityManagerFactory} lifecycle and making it available to CouchDB-based
+ * benchmarks. The benchmarks are run against a CouchDB server on the local host, once per bulk request size; a size of
+ * 1 corresponds to writing each document with a request of its own.
+ *
+ * @author Gunnar Morling
+ */
+@State(Scope.Benchmark)
+public class CouchDBEntityManagerFactoryHolder {
+
+	@Param({ "1", "500" })
+	int batchSize;
+
+	EntityManagerFactory entityManagerFactory;
+	TransactionManager transactionManager;
+	Random rand;
+
+	@Setup
+	public void setupEntityManagerFactory() throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( CouchDBProperties.BATCH_SIZE, batchSize );
+
+		entityManagerFactory = Persistence.createEntityManagerFactory( "couchDbPerfTestPu", properties );
+		transactionManager = extractJBossTransactionManager( entityManagerFactory );
+		rand = new Random();
+	}
+
+	@TearDown
+	public void closeEntityManagerFactory() {
+		entityManagerFactory.close();
+	}
+
+	private TransactionManager extractJBossTransactionManager(EntityManagerFactory factory) {
+		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) ( (HibernateEntityManagerFactory) factory ).getSessionFactory();
+		return sessionFactory.getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.couchdb.ogm;
+
+import java.util.Date;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+/**
+ * A JMH benchmark measuring the performance of inserting and removing entities against CouchDB, flushing the changes
+ * with bulk requests of different sizes.
+ *
+ * @author Gunnar Morling
+ */
+public class HibernateOgmBulkInsertBenchmark {
+
+	/**
+	 * The number of operations to be performed with one entity manager.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 1000;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertAndRemoveEntities(CouchDBEntityManagerFactoryHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+		AuthorWithSequence[] authors = new AuthorWithSequence[OPERATIONS_PER_INVOCATION];
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			AuthorWithSequence author = new AuthorWithSequence();
+
+			author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			author.setDob( new Date() );
+			author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+			author.setLname( "Landis " + stateHolder.rand.nextInt() );
+			author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+			entityManager.persist( author );
+			authors[i] = author;
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.clear();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( AuthorWithSequence author : authors ) {
+			entityManager.remove( entityManager.getReference( AuthorWithSequence.class, author.getA_id() ) );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		CouchDBEntityManagerFactoryHolder stateHolder = new CouchDBEntityManagerFactoryHolder();
+		stateHolder.batchSize = 500;
+		stateHolder.setupEntityManagerFactory();
+
+		new HibernateOgmBulkInsertBenchmark().insertAndRemoveEntities( stateHolder );
+
+		stateHolder.closeEntityManagerFactory();
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.keyvalue.ogm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * A JMH benchmark measuring the throughput of obtaining id values from one id source of a key/value store by many
+ * threads concurrently, with and without reserving blocks of ids.
+ *
+ * @author Gunnar Morling
+ */
+public class HibernateOgmIdGenerationContentionBenchmark {
+
+	@Benchmark
+	@Threads(32)
+	public Number nextValueWithThreadCount_032(KeyValueIdGenerationStateHolder stateHolder) {
+		return stateHolder.gridDialect.nextValue( stateHolder.nextValueRequest );
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Number nextValueWithThreadCount_064(KeyValueIdGenerationStateHolder stateHolder) {
+		return stateHolder.gridDialect.nextValue( stateHolder.nextValueRequest );
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		KeyValueIdGenerationStateHolder stateHolder = new KeyValueIdGenerationStateHolder();
+		stateHolder.datastore = "infinispan";
+		stateHolder.idBlockSize = 100;
+		stateHolder.setupEntityManagerFactory();
+
+		new HibernateOgmIdGenerationContentionBenchmark().nextValueWithThreadCount_032( stateHolder );
+		stateHolder.closeEntityManagerFactory();
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.keyvalue.ogm;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateEntityManagerFactory;
+import org.hibernate.ogm.datastore.keyvalue.cfg.KeyValueStoreProperties;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.id.spi.PersistentNoSqlIdentifierGenerator;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
+import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata.IdSourceType;
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Context object controlling the {@link EntityManagerFactory} lifecycle and providing the grid dialect and id source
+ * of the sequence of {@link AuthorWithSequence} to key/value store based benchmarks. The benchmarks are run once per
+ * datastore and id block size; a size of 1 corresponds to obtaining each value from the datastore.
+ *
+ * @author Gunnar Morling
+ */
+@State(Scope.Benchmark)
+public class KeyValueIdGenerationStateHolder {
+
+	@Param({ "infinispan", "ehcache" })
+	String datastore;
+
+	@Param({ "1", "100" })
+	int idBlockSize;
+
+	EntityManagerFactory entityManagerFactory;
+	GridDialect gridDialect;
+	NextValueRequest nextValueRequest;
+
+	@Setup
+	public void setupEntityManagerFactory() throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( KeyValueStoreProperties.ID_BLOCK_SIZE, idBlockSize );
+
+		entityManagerFactory = Persistence.createEntityManagerFactory( datastore + "PerfTestPu", properties );
+
+		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) ( (HibernateEntityManagerFactory) entityManagerFactory ).getSessionFactory();
+		gridDialect = sessionFactory.getServiceRegistry().getService( GridDialect.class );
+
+		PersistentNoSqlIdentifierGenerator generator = (PersistentNoSqlIdentifierGenerator) sessionFactory.getIdentifierGenerator(
+				AuthorWithSequence.class.getName() );
+		IdSourceKeyMetadata metadata = generator.getGeneratorKeyMetadata();
+		IdSourceKey key = metadata.getType() == IdSourceType.TABLE
+				? IdSourceKey.forTable( metadata, "benchmark" )
+				: IdSourceKey.forSequence( metadata );
+
+		// one value per invocation, so every invocation goes to the id source
+		nextValueRequest = new NextValueRequest( key, 1, generator.getInitialValue() );
+	}
+
+	@TearDown
+	public void closeEntityManagerFactory() {
+		entityManagerFactory.close();
+	}
+}
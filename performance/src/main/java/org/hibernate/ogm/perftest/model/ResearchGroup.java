@@ -0,0 +1,60 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.model;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * @author Gunnar Morling
+ */
+@Entity
+public class ResearchGroup {
+
+	@Id
+	private long id;
+	private String name;
+
+	@ElementCollection
+	private Set<String> members = new HashSet<String>();
+
+	public ResearchGroup() {
+	}
+
+	public ResearchGroup(long id, String name) {
+		this.id = id;
+		this.name = name;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Set<String> getMembers() {
+		return members;
+	}
+
+	public void setMembers(Set<String> members) {
+		this.members = members;
+	}
+}
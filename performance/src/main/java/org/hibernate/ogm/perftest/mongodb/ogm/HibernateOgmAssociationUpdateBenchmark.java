@@ -0,0 +1,150 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.mongodb.ogm;
+
+import java.util.Collections;
+import java.util.Random;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.jpa.HibernateEntityManagerFactory;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.perftest.model.ResearchGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A JMH benchmark measuring the cost of adding one element to a set-typed association depending on the size of the
+ * association, with and without {@link MongoDBProperties#INCREMENTAL_ASSOCIATION_UPDATES incremental association
+ * updates}.
+ *
+ * @author Gunnar Morling
+ */
+public class HibernateOgmAssociationUpdateBenchmark {
+
+	private static final int NUMBER_OF_TEST_ENTITIES = 10;
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 10;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		@Param({ "100", "1000", "10000" })
+		private int collectionSize;
+
+		@Param({ "false", "true" })
+		private boolean incrementalUpdates;
+
+		private EntityManagerFactory entityManagerFactory;
+		private TransactionManager transactionManager;
+		private final Random rand = new Random();
+		private long memberCounter;
+
+		@Setup
+		public void insertTestData() throws Exception {
+			entityManagerFactory = Persistence.createEntityManagerFactory(
+					"perfTestPu",
+					Collections.singletonMap( MongoDBProperties.INCREMENTAL_ASSOCIATION_UPDATES, String.valueOf( incrementalUpdates ) )
+			);
+			SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) ( (HibernateEntityManagerFactory) entityManagerFactory ).getSessionFactory();
+			transactionManager = sessionFactory.getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+
+			MongoDBDatastoreProvider datastoreProvider = (MongoDBDatastoreProvider) ( (SessionFactoryImplementor) entityManagerFactory.unwrap( SessionFactory.class ) ).getServiceRegistry().getService( DatastoreProvider.class );
+			datastoreProvider.getDatabase().getCollection( "ResearchGroup" ).drop();
+
+			for ( int i = 0; i < NUMBER_OF_TEST_ENTITIES; i++ ) {
+				EntityManager entityManager = entityManagerFactory.createEntityManager();
+				transactionManager.begin();
+				entityManager.joinTransaction();
+
+				ResearchGroup group = new ResearchGroup( i, "Group " + i );
+				for ( int j = 0; j < collectionSize; j++ ) {
+					group.getMembers().add( "Member " + memberCounter++ );
+				}
+				entityManager.persist( group );
+
+				transactionManager.commit();
+				entityManager.close();
+			}
+		}
+
+		@TearDown
+		public void closeEntityManagerFactory() {
+			entityManagerFactory.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void addElementToAssociation(TestDataInserter inserter) throws Exception {
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			EntityManager entityManager = inserter.entityManagerFactory.createEntityManager();
+
+			inserter.transactionManager.begin();
+			entityManager.joinTransaction();
+
+			ResearchGroup group = entityManager.find( ResearchGroup.class, (long) inserter.rand.nextInt( NUMBER_OF_TEST_ENTITIES ) );
+			group.getMembers().add( "Member " + inserter.memberCounter++ );
+
+			inserter.transactionManager.commit();
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void removeElementFromAssociation(TestDataInserter inserter) throws Exception {
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			EntityManager entityManager = inserter.entityManagerFactory.createEntityManager();
+
+			inserter.transactionManager.begin();
+			entityManager.joinTransaction();
+
+			ResearchGroup group = entityManager.find( ResearchGroup.class, (long) inserter.rand.nextInt( NUMBER_OF_TEST_ENTITIES ) );
+			String member = group.getMembers().iterator().next();
+			group.getMembers().remove( member );
+			// keep the size of the association stable
+			group.getMembers().add( "Member " + inserter.memberCounter++ );
+
+			inserter.transactionManager.commit();
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.collectionSize = 1000;
+		inserter.incrementalUpdates = true;
+		inserter.insertTestData();
+
+		new HibernateOgmAssociationUpdateBenchmark().addElementToAssociation( inserter );
+		new HibernateOgmAssociationUpdateBenchmark().removeElementFromAssociation( inserter );
+
+		inserter.closeEntityManagerFactory();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.redis.ogm;
+
+import java.util.Date;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * A JMH benchmark measuring the performance of insert and find operations issued by several threads concurrently
+ * against Redis, using one or several connections.
+ *
+ * @author Gunnar Morling
+ */
+public class HibernateOgmConcurrentAccessBenchmark {
+
+	/**
+	 * The number of operations to be performed with one entity manager.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Threads(25)
+	public void insertEntitiesWithThreadCount_025(RedisEntityManagerFactoryHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Threads(50)
+	public void insertEntitiesWithThreadCount_050(RedisEntityManagerFactoryHolder stateHolder) throws Exception {
+		doInsertEntities( stateHolder );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Threads(25)
+	public void insertAndFindEntitiesWithThreadCount_025(RedisEntityManagerFactoryHolder stateHolder) throws Exception {
+		long[] ids = doInsertEntities( stateHolder );
+
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( long id : ids ) {
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalStateException( "Author " + id + " not found" );
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	private long[] doInsertEntities(RedisEntityManagerFactoryHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+		AuthorWithSequence[] authors = new AuthorWithSequence[OPERATIONS_PER_INVOCATION];
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			AuthorWithSequence author = new AuthorWithSequence();
+
+			author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+			author.setDob( new Date() );
+			author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+			author.setLname( "Landis " + stateHolder.rand.nextInt() );
+			author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+			entityManager.persist( author );
+			authors[i] = author;
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+
+		long[] ids = new long[OPERATIONS_PER_INVOCATION];
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			ids[i] = authors[i].getA_id();
+		}
+
+		return ids;
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		RedisEntityManagerFactoryHolder stateHolder = new RedisEntityManagerFactoryHolder();
+		stateHolder.connectionPoolSize = 4;
+		stateHolder.setupEntityManagerFactory();
+
+		new HibernateOgmConcurrentAccessBenchmark().insertEntitiesWithThreadCount_025( stateHolder );
+	}
+}
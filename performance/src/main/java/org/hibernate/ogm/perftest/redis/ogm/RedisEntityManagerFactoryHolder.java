@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.redis.ogm;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.jpa.HibernateEntityManagerFactory;
+import org.hibernate.ogm.datastore.redis.RedisProperties;
+import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Context object controlling the {@link EntityManagerFactory} lifecycle and making it available to Redis-based
+ * benchmarks. The benchmarks are run against a Redis server on the local host, once per connection pool size.
+ *
+ * @author Gunnar Morling
+ */
+@State(Scope.Benchmark)
+public class RedisEntityManagerFactoryHolder {
+
+	@Param({ "1", "4" })
+	int connectionPoolSize;
+
+	EntityManagerFactory entityManagerFactory;
+	TransactionManager transactionManager;
+	Random rand;
+
+	@Setup
+	public void setupEntityManagerFactory() throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( RedisProperties.CONNECTION_POOL_SIZE, connectionPoolSize );
+
+		entityManagerFactory = Persistence.createEntityManagerFactory( "redisPerfTestPu", properties );
+		getProvider( entityManagerFactory.unwrap( SessionFactory.class ) ).getConnection().flushdb();
+
+		transactionManager = extractJBossTransactionManager( entityManagerFactory );
+		rand = new Random();
+	}
+
+	@TearDown
+	public void closeEntityManagerFactory() {
+		entityManagerFactory.close();
+	}
+
+	private TransactionManager extractJBossTransactionManager(EntityManagerFactory factory) {
+		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) ( (HibernateEntityManagerFactory) factory ).getSessionFactory();
+		return sessionFactory.getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+	}
+
+	private RedisDatastoreProvider getProvider(SessionFactory sessionFactory) {
+		DatastoreProvider provider = ( (SessionFactoryImplementor) sessionFactory ).getServiceRegistry().getService(
+				DatastoreProvider.class );
+		if ( !( RedisDatastoreProvider.class.isInstance( provider ) ) ) {
+			throw new RuntimeException( "Not testing with Redis, cannot extract underlying connection" );
+		}
+		return RedisDatastoreProvider.class.cast( provider );
+	}
+}
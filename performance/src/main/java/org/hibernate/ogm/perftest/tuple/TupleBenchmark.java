@@ -0,0 +1,93 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.tuple;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.spi.ArrayBackedTuple;
+import org.hibernate.ogm.model.spi.ColumnDictionary;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A JMH benchmark comparing {@link Tuple} and {@link ArrayBackedTuple} when writing all the columns of an entity and
+ * applying the changes to the map the entity is stored in, as done when inserting an entity into the map datastore.
+ * <p>
+ * Run with {@code -prof gc} to compare the bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ *
+ * @author Gunnar Morling
+ */
+public class TupleBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Columns {
+
+		@Param({ "10", "50" })
+		int columnCount;
+
+		String[] columnNames;
+		Object[] values;
+		ColumnDictionary dictionary;
+
+		@Setup
+		public void createColumns() {
+			columnNames = new String[columnCount];
+			values = new Object[columnCount];
+			List<String> names = new ArrayList<>( columnCount );
+
+			for ( int i = 0; i < columnCount; i++ ) {
+				columnNames[i] = "column" + i;
+				values[i] = "value" + i;
+				names.add( columnNames[i] );
+			}
+
+			dictionary = new ColumnDictionary( names );
+		}
+	}
+
+	@Benchmark
+	public Map<String, Object> insertWithTuple(Columns columns) {
+		Map<String, Object> entity = new HashMap<>();
+		return insert( new Tuple( new MapTupleSnapshot( entity ) ), entity, columns );
+	}
+
+	@Benchmark
+	public Map<String, Object> insertWithArrayBackedTuple(Columns columns) {
+		Map<String, Object> entity = new HashMap<>();
+		return insert( new ArrayBackedTuple( columns.dictionary, new MapTupleSnapshot( entity ) ), entity, columns );
+	}
+
+	private static Map<String, Object> insert(Tuple tuple, Map<String, Object> entity, Columns columns) {
+		for ( int i = 0; i < columns.columnCount; i++ ) {
+			tuple.put( columns.columnNames[i], columns.values[i] );
+		}
+
+		MapHelpers.applyTupleOpsOnMap( tuple, entity );
+		return entity;
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) {
+		Columns columns = new Columns();
+		columns.columnCount = 10;
+		columns.createColumns();
+
+		System.out.println( new TupleBenchmark().insertWithTuple( columns ) );
+		System.out.println( new TupleBenchmark().insertWithArrayBackedTuple( columns ) );
+	}
+}
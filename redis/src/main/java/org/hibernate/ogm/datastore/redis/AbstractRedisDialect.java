@@ -16,17 +16,31 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisScanPartition;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
+import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 import org.hibernate.ogm.datastore.redis.impl.json.JsonSerializationStrategy;
 import org.hibernate.ogm.datastore.redis.logging.impl.Log;
 import org.hibernate.ogm.datastore.redis.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.redis.options.impl.TTLOption;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
@@ -34,11 +48,16 @@
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationOperationType;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.options.spi.OptionsContext;
 
 import com.lambdaworks.redis.KeyScanCursor;
 import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
@@ -46,31 +65,56 @@
 import static org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers.getColumnSharedPrefixOfAssociatedEntityLink;
 
 /**
+ * Base class for the Redis dialects.
+ * <p>
+ * All the writes of a flush are sent to Redis as one pipeline, see {@link #executeBatch(OperationsQueue)}. Writes
+ * issued outside of a batch are pipelined per operation.
+ *
  * @author Mark Paluch
  */
-public abstract class AbstractRedisDialect extends BaseGridDialect {
+public abstract class AbstractRedisDialect extends BaseGridDialect implements BatchableGridDialect, PartitionedScanGridDialect {
 
 	public static final String IDENTIFIERS = "Identifiers";
 	public static final String ASSOCIATIONS = "Associations";
 
+	/**
+	 * Replaces the list or set stored at {@code KEYS[1]} with the elements {@code ARGV[2..n]}, added using the command
+	 * given in {@code ARGV[1]} ({@code RPUSH} or {@code SADD}). Being a script, the replacement is atomic, i.e.
+	 * readers never see the key missing or partially written. The elements are added in chunks as the number of
+	 * values {@code unpack()} can return is limited.
+	 */
+	private static final String REPLACE_ASSOCIATION_SCRIPT =
+			"redis.call('DEL', KEYS[1]) "
+			+ "for i = 2, #ARGV, 1000 do "
+			+ "redis.call(ARGV[1], KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) "
+			+ "end "
+			+ "return 1";
+
 	private static final Pattern MODE_PATTERN = Pattern.compile( "^redis_mode:([a-z]+)$", Pattern.MULTILINE );
 	private static final Log log = LoggerFactory.getLogger();
 
-	protected final RedisClusterCommands<String, String> connection;
+	private final RedisDatastoreProvider provider;
+	protected final List<RedisClusterAsyncCommands<String, String>> asyncConnections;
 	protected final JsonSerializationStrategy strategy = new JsonSerializationStrategy();
 	protected final boolean clusterMode;
+	private final long timeout;
+	private final int scanCount;
 
 	/**
 	 * Creates a new {@link AbstractRedisDialect}.
 	 *
-	 * @param connection a Redis connection (A regular Redis connection implements also {@link RedisClusterCommands})
-	 * @param configuredForCluster {@code true} if the connection is configured for cluster operations.
+	 * @param provider the datastore provider, giving access to the Redis connection (A regular Redis connection
+	 * implements also {@link RedisClusterCommands}) and the configuration
 	 */
-	public AbstractRedisDialect(RedisClusterCommands<String, String> connection, boolean configuredForCluster) {
+	public AbstractRedisDialect(RedisDatastoreProvider provider) {
 
-		this.connection = connection;
+		this.provider = provider;
+		this.asyncConnections = provider.getAsyncConnections();
+		this.timeout = provider.getConfiguration().getTimeout();
+		this.scanCount = provider.getConfiguration().getScanCount();
+		boolean configuredForCluster = provider.isCluster();
 
-		String redisMode = getRedisMode( connection );
+		String redisMode = getRedisMode( getConnection() );
 		if ( redisMode != null ) {
 			log.connectedRedisNodeRunsIn( redisMode );
 			clusterMode = "cluster".equalsIgnoreCase( redisMode.trim() );
@@ -106,6 +150,7 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		String key = identifierId( request.getKey() );
+		RedisClusterCommands<String, String> connection = getConnection();
 		String value = connection.get( key );
 
 		if ( value == null ) {
@@ -121,6 +166,15 @@ public boolean supportsSequences() {
 		return true;
 	}
 
+	/**
+	 * The keys of the entities inserted during a flush are looked up with one pipelined read before the batch is
+	 * executed.
+	 */
+	@Override
+	public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(EntityKeyMetadata entityKeyMetadata) {
+		return DuplicateInsertPreventionStrategy.DEFERRED_LOOK_UP;
+	}
+
 	/**
 	 * Create a String representation of the identifier key in the format of {@code Identifiers:(table name):(columnId)}.
 	 * {@see #IDENTIFIERS}
@@ -139,9 +193,142 @@ protected String identifierId(IdSourceKey key) {
 		return prefix;
 	}
 
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		RedisPipeline pipeline = createPipeline();
+		insertOrUpdateTuple( pipeline, key, tuple, tupleContext );
+		pipeline.execute();
+	}
+
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
-		remove( key );
+		RedisPipeline pipeline = createPipeline();
+		removeTuple( pipeline, key, tupleContext );
+		pipeline.execute();
+	}
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		RedisPipeline pipeline = createPipeline();
+		insertOrUpdateAssociation( pipeline, key, association, associationContext );
+		pipeline.execute();
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		RedisPipeline pipeline = createPipeline();
+		removeAssociation( pipeline, key, associationContext );
+		pipeline.execute();
+	}
+
+	/**
+	 * Adds the commands for inserting or updating the given tuple to the given pipeline.
+	 */
+	protected abstract void insertOrUpdateTuple(RedisPipeline pipeline, EntityKey key, Tuple tuple, TupleContext tupleContext);
+
+	/**
+	 * Adds the commands for removing the given tuple to the given pipeline.
+	 */
+	protected void removeTuple(RedisPipeline pipeline, EntityKey key, TupleContext tupleContext) {
+		remove( pipeline, key );
+	}
+
+	/**
+	 * Adds the commands for inserting or updating the given association to the given pipeline.
+	 */
+	protected abstract void insertOrUpdateAssociation(RedisPipeline pipeline, AssociationKey key, Association association, AssociationContext associationContext);
+
+	/**
+	 * Adds the commands for removing the given association to the given pipeline.
+	 */
+	protected abstract void removeAssociation(RedisPipeline pipeline, AssociationKey key, AssociationContext associationContext);
+
+	/**
+	 * Sends the writes of all the queued operations to Redis as one pipeline. In Redis Cluster mode the commands are
+	 * grouped by the slot of their key, resulting in one pipeline per slot owner.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			RedisPipeline pipeline = createPipeline();
+			Operation operation = queue.poll();
+
+			while ( operation != null ) {
+				if ( operation instanceof InsertOrUpdateTupleOperation ) {
+					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+					insertOrUpdateTuple( pipeline, update.getEntityKey(), update.getTuple(), update.getTupleContext() );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+					removeTuple( pipeline, remove.getEntityKey(), remove.getTupleContext() );
+				}
+				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+					insertOrUpdateAssociation( pipeline, update.getAssociationKey(), update.getAssociation(), update.getContext() );
+				}
+				else if ( operation instanceof RemoveAssociationOperation ) {
+					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+					removeAssociation( pipeline, remove.getAssociationKey(), remove.getContext() );
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported on Redis: " + operation.getClass().getName() );
+				}
+				operation = queue.poll();
+			}
+
+			pipeline.execute();
+			queue.clear();
+		}
+	}
+
+	/**
+	 * Applies the operations queued so far, so that subsequent reads see their outcome.
+	 *
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	protected void executeQueuedOperations(OperationsQueue queue) {
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
+	/**
+	 * Applies the operations queued so far if there is one for the given entity, so that it can be read.
+	 */
+	protected void executeQueuedOperations(EntityKey key, TupleContext tupleContext) {
+		OperationsQueue queue = tupleContext.getOperationsQueue();
+		if ( queue != null && queue.contains( key ) ) {
+			executeQueuedOperations( queue );
+		}
+	}
+
+	/**
+	 * Applies the operations queued so far if there is one for any of the given entities, so that they can be read.
+	 */
+	protected void executeQueuedOperations(EntityKey[] keys, TupleContext tupleContext) {
+		OperationsQueue queue = tupleContext.getOperationsQueue();
+		if ( queue != null ) {
+			for ( EntityKey key : keys ) {
+				if ( queue.contains( key ) ) {
+					executeQueuedOperations( queue );
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the synchronous commands API of one of the pooled connections. Obtain it for each unit of work
+	 * instead of keeping it, so the work of concurrent sessions is spread across the pool.
+	 *
+	 * @return the synchronous commands API of a pooled connection
+	 */
+	protected RedisClusterCommands<String, String> getConnection() {
+		return provider.getConnection();
+	}
+
+	protected RedisPipeline createPipeline() {
+		return new RedisPipeline( asyncConnections, clusterMode, timeout );
 	}
 
 	protected void addKeyValuesFromKeyName(
@@ -196,45 +383,45 @@ protected String getKeyWithoutTablePrefix(String prefixBytes, String key) {
 		return key.substring( prefixBytes.length() );
 	}
 
+	/**
+	 * Requests the current TTL of the given key if no TTL is configured, so it can be re-applied after the key has
+	 * been written.
+	 *
+	 * @return the current TTL or {@code null} if a TTL is configured
+	 */
+	protected Future<Long> getCurrentTTL(RedisPipeline pipeline, String key, Long configuredTTL) {
+		return configuredTTL == null ? pipeline.pttl( key ) : null;
+	}
+
 	protected void setAssociationTTL(
+			RedisPipeline pipeline,
 			AssociationKey associationKey,
 			AssociationContext associationContext,
-			Long currentTtl) {
+			Future<Long> currentTtl) {
 		Long ttl = getTTL( associationContext );
 		if ( ttl != null ) {
-			expireAssociation( associationKey, ttl );
+			pipeline.pexpire( associationId( associationKey ), ttl );
 		}
-		else if ( currentTtl != null && currentTtl > 0 ) {
-			expireAssociation( associationKey, currentTtl );
+		else if ( currentTtl != null ) {
+			pipeline.pexpire( associationId( associationKey ), currentTtl );
 		}
 	}
 
-	protected void setEntityTTL(EntityKey key, Long currentTtl, Long configuredTTL) {
+	protected void setEntityTTL(RedisPipeline pipeline, EntityKey key, Future<Long> currentTtl, Long configuredTTL) {
 		if ( configuredTTL != null ) {
-			expireEntity( key, configuredTTL );
+			pipeline.pexpire( entityId( key ), configuredTTL );
 		}
-		else if ( currentTtl != null && currentTtl > 0 ) {
-			expireEntity( key, currentTtl );
+		else if ( currentTtl != null ) {
+			pipeline.pexpire( entityId( key ), currentTtl );
 		}
 	}
 
-	protected void expireEntity(EntityKey key, Long ttl) {
-		String associationId = entityId( key );
-		connection.pexpire( associationId, ttl );
-	}
-
-
-	protected void expireAssociation(AssociationKey key, Long ttl) {
-		String associationId = associationId( key );
-		connection.pexpire( associationId, ttl );
+	protected void removeAssociation(RedisPipeline pipeline, AssociationKey key) {
+		pipeline.del( associationId( key ) );
 	}
 
-	protected void removeAssociation(AssociationKey key) {
-		connection.del( associationId( key ) );
-	}
-
-	protected void remove(EntityKey key) {
-		connection.del( entityId( key ) );
+	protected void remove(RedisPipeline pipeline, EntityKey key) {
+		pipeline.del( entityId( key ) );
 	}
 
 	/**
@@ -331,10 +518,10 @@ protected org.hibernate.ogm.datastore.redis.dialect.value.Association getAssocia
 		Collection<String> rows;
 
 		if ( key.getMetadata().getAssociationType() == AssociationType.SET ) {
-			rows = connection.smembers( associationId );
+			rows = getConnection().smembers( associationId );
 		}
 		else {
-			rows = connection.lrange( associationId, 0, -1 );
+			rows = getConnection().lrange( associationId, 0, -1 );
 		}
 
 		org.hibernate.ogm.datastore.redis.dialect.value.Association association = new org.hibernate.ogm.datastore.redis.dialect.value.Association();
@@ -347,24 +534,135 @@ protected org.hibernate.ogm.datastore.redis.dialect.value.Association getAssocia
 
 	/**
 	 * Store an association to a Redis List or Redis Set, depending on the association type.
+	 * <p>
+	 * For sets only the added and removed rows are written using {@code SADD} and {@code SREM} if possible. Otherwise
+	 * the entire list or set is replaced atomically, writing all rows with a single command.
 	 *
+	 * @param pipeline the pipeline to add the commands to
 	 * @param key the association key
-	 * @param association the association document
+	 * @param association the association, providing the changes applied to it
+	 * @param document the association document, providing all rows
 	 */
 	protected void storeAssociation(
+			RedisPipeline pipeline,
 			AssociationKey key,
-			org.hibernate.ogm.datastore.redis.dialect.value.Association association) {
+			Association association,
+			org.hibernate.ogm.datastore.redis.dialect.value.Association document) {
 		String associationId = associationId( key );
-		connection.del( associationId );
+		boolean isSet = key.getMetadata().getAssociationType() == AssociationType.SET;
+
+		if ( isSet && storeAssociationChanges( pipeline, associationId, key, association ) ) {
+			return;
+		}
+
+		List<Object> rows = document.getRows();
+		String[] args = new String[rows.size() + 1];
+		args[0] = isSet ? "SADD" : "RPUSH";
+
+		for ( int i = 0; i < rows.size(); i++ ) {
+			args[i + 1] = strategy.serialize( rows.get( i ) );
+		}
+
+		pipeline.eval( REPLACE_ASSOCIATION_SCRIPT, associationId, args );
+	}
 
-		for ( Object row : association.getRows() ) {
-			if ( key.getMetadata().getAssociationType() == AssociationType.SET ) {
-				connection.sadd( associationId, strategy.serialize( row ) );
+	/**
+	 * Applies the rows added to and removed from the given set-typed association using {@code SADD} and {@code SREM}.
+	 *
+	 * @return {@code false} if the changes cannot be applied that way and the set needs to be replaced entirely
+	 */
+	private boolean storeAssociationChanges(
+			RedisPipeline pipeline,
+			String associationId,
+			AssociationKey key,
+			Association association) {
+		AssociationSnapshot snapshot = association.getSnapshot();
+		List<String> addedRows = new ArrayList<>();
+		List<String> removedRows = new ArrayList<>();
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			if ( operation.getType() == AssociationOperationType.CLEAR ) {
+				return false;
 			}
-			else {
-				connection.rpush( associationId, strategy.serialize( row ) );
+
+			Object previousRow = snapshot.containsKey( operation.getKey() ) ? getAssociationRow( snapshot.get( operation.getKey() ), key ) : null;
+			Object row = operation.getType() == AssociationOperationType.PUT ? getAssociationRow( operation.getValue(), key ) : null;
+
+			// Rows with several columns are serialized from hash maps, so the JSON representation of a removed row
+			// may differ from the stored member in the order of properties
+			if ( previousRow instanceof Map || row instanceof Map ) {
+				return false;
+			}
+
+			if ( operation.getType() == AssociationOperationType.PUT && row == null ) {
+				return false;
 			}
+
+			if ( row != null && row.equals( previousRow ) ) {
+				continue;
+			}
+
+			if ( previousRow != null ) {
+				removedRows.add( strategy.serialize( previousRow ) );
+			}
+			if ( row != null ) {
+				addedRows.add( strategy.serialize( row ) );
+			}
+		}
+
+		if ( !removedRows.isEmpty() ) {
+			pipeline.srem( associationId, removedRows.toArray( new String[removedRows.size()] ) );
+		}
+		if ( !addedRows.isEmpty() ) {
+			pipeline.sadd( associationId, addedRows.toArray( new String[addedRows.size()] ) );
 		}
+
+		return true;
+	}
+
+	/**
+	 * Creates the arguments for scanning over the keys with the given prefix, requesting the configured number of keys
+	 * per iteration.
+	 */
+	protected ScanArgs scanArgs(String prefix) {
+		return ScanArgs.Builder.matches( prefix + "*" ).limit( scanCount );
+	}
+
+	/**
+	 * Returns one partition per master node holding slots when connected to a Redis Cluster, a single partition
+	 * otherwise. The requested number of partitions is not taken into account.
+	 */
+	@Override
+	public List<ScanPartition> getScanPartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int numberOfPartitions) {
+		List<String> nodeIds = clusterMode ? getMasterNodeIds() : Collections.<String>emptyList();
+		if ( nodeIds.isEmpty() ) {
+			return Collections.<ScanPartition>singletonList( new RedisScanPartition( null ) );
+		}
+
+		List<ScanPartition> partitions = new ArrayList<>( nodeIds.size() );
+		for ( String nodeId : nodeIds ) {
+			partitions.add( new RedisScanPartition( nodeId ) );
+		}
+		return partitions;
+	}
+
+	/**
+	 * Scan over the keys of the given partition.
+	 *
+	 * @param cursor the cursor returned by the previous iteration, {@code null} for the first one
+	 * @param scanArgs the arguments of the scan
+	 * @param partition the partition to scan
+	 *
+	 * @return the cursor of this iteration
+	 */
+	protected KeyScanCursor<String> scan(KeyScanCursor<String> cursor, ScanArgs scanArgs, RedisScanPartition partition) {
+		if ( partition.getNodeId() == null ) {
+			return scan( cursor, scanArgs );
+		}
+
+		@SuppressWarnings("unchecked")
+		RedisAdvancedClusterCommands<String, String> commands = (RedisAdvancedClusterCommands<String, String>) getConnection();
+		return scan( commands.getConnection( partition.getNodeId() ), cursor, scanArgs );
 	}
 
 	/**
@@ -380,7 +678,7 @@ protected void storeAssociation(
 	protected KeyScanCursor<String> scan(KeyScanCursor<String> cursor, ScanArgs scanArgs) {
 
 		if ( !clusterMode ) {
-			return scan( connection, cursor, scanArgs );
+			return scan( getConnection(), cursor, scanArgs );
 		}
 
 		return clusterScan( cursor, scanArgs );
@@ -399,24 +697,15 @@ private KeyScanCursor<String> scan(
 	@SuppressWarnings("unchecked")
 	private KeyScanCursor<String> clusterScan(KeyScanCursor<String> cursor, ScanArgs scanArgs) {
 
-		RedisAdvancedClusterCommands<String, String> commands = (RedisAdvancedClusterCommands<String, String>) connection;
+		RedisAdvancedClusterCommands<String, String> commands = (RedisAdvancedClusterCommands<String, String>) getConnection();
 		List<String> nodeIds;
 		String currentNodeId;
 
 		if ( cursor == null ) {
-			Set<RedisClusterNode> masterNodes = commands.masters().asMap().keySet();
-			nodeIds = new ArrayList<>();
-
-			for ( RedisClusterNode masterNode : masterNodes ) {
-
-				if ( masterNode.getSlots().isEmpty() ) {
-					continue;
-				}
-				nodeIds.add( masterNode.getNodeId() );
-			}
+			nodeIds = getMasterNodeIds();
 
 			if ( nodeIds.isEmpty() ) {
-				return scan( connection, cursor, scanArgs );
+				return scan( commands, cursor, scanArgs );
 			}
 
 			currentNodeId = nodeIds.get( 0 );
@@ -439,7 +728,24 @@ private KeyScanCursor<String> clusterScan(KeyScanCursor<String> cursor, ScanArgs
 		);
 	}
 
-	private String getNodeIdForNextScanIteration(
+	@SuppressWarnings("unchecked")
+	private List<String> getMasterNodeIds() {
+		RedisAdvancedClusterCommands<String, String> commands = (RedisAdvancedClusterCommands<String, String>) getConnection();
+		Set<RedisClusterNode> masterNodes = commands.masters().asMap().keySet();
+		List<String> nodeIds = new ArrayList<>();
+
+		for ( RedisClusterNode masterNode : masterNodes ) {
+
+			if ( masterNode.getSlots().isEmpty() ) {
+				continue;
+			}
+			nodeIds.add( masterNode.getNodeId() );
+		}
+
+		return nodeIds;
+	}
+
+		private String getNodeIdForNextScanIteration(
 			List<String> nodeIds,
 			ClusterwideKeyScanCursor<String> clusterKeyScanCursor) {
 		if ( clusterKeyScanCursor.isScanOnCurrentNodeFinished() ) {
@@ -7,17 +7,23 @@
 package org.hibernate.ogm.datastore.redis;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisAssociation;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisAssociationSnapshot;
+import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisScanPartition;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.HashEntity;
 import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 import org.hibernate.ogm.datastore.redis.impl.hash.RedisHashTypeConverter;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
@@ -37,6 +43,7 @@
 
 import com.lambdaworks.redis.KeyScanCursor;
 import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 
 /**
  * Stores tuples and associations inside Redis using hash data structures.
@@ -46,10 +53,10 @@
  *
  * @author Mark Paluch
  */
-public class RedisHashDialect extends AbstractRedisDialect {
+public class RedisHashDialect extends AbstractRedisDialect implements MultigetGridDialect {
 
 	public RedisHashDialect(RedisDatastoreProvider provider) {
-		super( provider.getConnection(), provider.isCluster() );
+		super( provider );
 	}
 
 	@Override
@@ -61,6 +68,9 @@ public GridType overrideType(Type type) {
 	@SuppressWarnings({"unchecked", "rawtypes" })
 	public Tuple getTuple(
 			EntityKey key, TupleContext tupleContext) {
+		executeQueuedOperations( key, tupleContext );
+
+		RedisClusterCommands<String, String> connection = getConnection();
 		String entityIdString = entityId( key );
 		if ( !connection.exists( entityIdString ) ) {
 			return null;
@@ -96,8 +106,8 @@ private String[] getFields(TupleContext tupleContext) {
 	}
 
 	@Override
-	public void insertOrUpdateTuple(
-			EntityKey key, Tuple tuple, TupleContext tupleContext) throws TupleAlreadyExistsException {
+	protected void insertOrUpdateTuple(
+			RedisPipeline pipeline, EntityKey key, Tuple tuple, TupleContext tupleContext) throws TupleAlreadyExistsException {
 
 		Map<String, Object> map = ( (RedisTupleSnapshot) tuple.getSnapshot() ).getMap();
 		MapHelpers.applyTupleOpsOnMap( tuple, map );
@@ -106,17 +116,18 @@ public void insertOrUpdateTuple(
 		List<String> toDelete = getKeysForRemoval( tuple );
 
 		String entityId = entityId( key );
-		Long currentTtl = connection.pttl( entityId( key ) );
+		Long configuredTtl = getTTL( tupleContext.getOptionsContext() );
+		Future<Long> currentTtl = getCurrentTTL( pipeline, entityId, configuredTtl );
 
 		if ( !toDelete.isEmpty() ) {
-			connection.hdel( entityId, toDelete.toArray( new String[toDelete.size()] ) );
+			pipeline.hdel( entityId, toDelete.toArray( new String[toDelete.size()] ) );
 		}
 
 		if ( !entity.isEmpty() ) {
-			connection.hmset( entityId, entity );
+			pipeline.hmset( entityId, entity );
 		}
 
-		setEntityTTL( key, currentTtl, getTTL( tupleContext.getOptionsContext() ) );
+		setEntityTTL( pipeline, key, currentTtl, configuredTtl );
 	}
 
 	private Map<String, String> getEntityForUpdate(EntityKey key, Tuple tuple) {
@@ -155,8 +166,12 @@ private List<String> getKeysForRemoval(Tuple tuple) {
 	@Override
 	public Association getAssociation(
 			AssociationKey key, AssociationContext associationContext) {
+		// The association is read from the store, so the previous operations need to be applied first
+		executeQueuedOperations( associationContext.getOperationsQueue() );
+
 		RedisAssociation redisAssociation;
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
+			RedisClusterCommands<String, String> connection = getConnection();
 			if ( !connection.exists( entityId( key.getEntityKey() ) ) ) {
 				return null;
 			}
@@ -183,10 +198,11 @@ public Association getAssociation(
 	@Override
 	public Association createAssociation(
 			AssociationKey key, AssociationContext associationContext) {
+		executeQueuedOperations( associationContext.getOperationsQueue() );
 
 		RedisAssociation redisAssociation;
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
-			Map<String, String> entity = connection.hgetall( entityId( key.getEntityKey() ) );
+			Map<String, String> entity = getConnection().hgetall( entityId( key.getEntityKey() ) );
 			redisAssociation = RedisAssociation.fromEmbeddedAssociation( entity, key.getMetadata() );
 
 		}
@@ -207,8 +223,8 @@ public Association createAssociation(
 	}
 
 	@Override
-	public void insertOrUpdateAssociation(
-			AssociationKey associationKey, Association association, AssociationContext associationContext) {
+	protected void insertOrUpdateAssociation(
+			RedisPipeline pipeline, AssociationKey associationKey, Association association, AssociationContext associationContext) {
 		Object rows = getAssociationRows( association, associationKey );
 
 		RedisAssociation redisAssociation = ( (RedisAssociationSnapshot) association.getSnapshot() ).getRedisAssociation();
@@ -219,15 +235,17 @@ public void insertOrUpdateAssociation(
 				associationContext.getAssociationTypeContext()
 		) ) {
 			HashEntity owningDocument = (HashEntity) redisAssociation.getOwningDocument();
-			connection.hmset( entityId( associationKey.getEntityKey() ), owningDocument.getEntity() );
+			pipeline.hmset( entityId( associationKey.getEntityKey() ), owningDocument.getEntity() );
 		}
 		else {
-			Long currentTtl = connection.pttl( associationId( associationKey ) );
+			Future<Long> currentTtl = getCurrentTTL( pipeline, associationId( associationKey ), getTTL( associationContext ) );
 			storeAssociation(
+					pipeline,
 					associationKey,
+					association,
 					(org.hibernate.ogm.datastore.redis.dialect.value.Association) redisAssociation.getOwningDocument()
 			);
-			setAssociationTTL( associationKey, associationContext, currentTtl );
+			setAssociationTTL( pipeline, associationKey, associationContext, currentTtl );
 		}
 	}
 
@@ -243,14 +261,14 @@ private Object getAssociationRows(
 	}
 
 	@Override
-	public void removeAssociation(
-			AssociationKey key, AssociationContext associationContext) {
+	protected void removeAssociation(
+			RedisPipeline pipeline, AssociationKey key, AssociationContext associationContext) {
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
 			String entityId = entityId( key.getEntityKey() );
-			connection.hdel( entityId, key.getMetadata().getCollectionRole() );
+			pipeline.hdel( entityId, key.getMetadata().getCollectionRole() );
 		}
 		else {
-			connection.del( associationId( key ) );
+			removeAssociation( pipeline, key );
 		}
 	}
 
@@ -265,15 +283,35 @@ public boolean isStoredInEntityStructure(
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		forEachTuple( consumer, tupleContext, entityKeyMetadata, new RedisScanPartition( null ) );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition) {
 		KeyScanCursor<String> cursor = null;
 		String prefix = entityKeyMetadata.getTable() + ":";
 
-		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
+		ScanArgs scanArgs = scanArgs( prefix );
 		do {
-			cursor = scan( cursor, scanArgs );
+			cursor = scan( cursor, scanArgs, (RedisScanPartition) partition );
 
+			// fetch the values of all the keys of this iteration in one go
+			RedisPipeline pipeline = createPipeline();
+			List<Future<Map<String, String>>> values = new ArrayList<>( cursor.getKeys().size() );
 			for ( String key : cursor.getKeys() ) {
-				Map<String, String> hgetall = connection.hgetall( key );
+				values.add( pipeline.hgetall( key ) );
+			}
+			pipeline.execute();
+
+			for ( int i = 0; i < cursor.getKeys().size(); i++ ) {
+				Map<String, String> hgetall = RedisPipeline.getValue( values.get( i ) );
+
+				// removed since the scan
+				if ( hgetall.isEmpty() ) {
+					continue;
+				}
+
+				String key = cursor.getKeys().get( i );
 				Map<String, Object> entity = new HashMap<>();
 
 				entity.putAll( hgetall );
@@ -284,6 +322,57 @@ public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, Enti
 		} while ( !cursor.isFinished() );
 	}
 
+	// MultigetGridDialect
+
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes" })
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		executeQueuedOperations( keys, tupleContext );
+
+		RedisPipeline pipeline = createPipeline();
+		List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+
+		if ( tupleContext.getSelectableColumns().isEmpty() ) {
+			List<Future<Map<String, String>>> values = new ArrayList<>( keys.length );
+			for ( EntityKey key : keys ) {
+				values.add( pipeline.hgetall( entityId( key ) ) );
+			}
+			pipeline.execute();
+
+			for ( Future<Map<String, String>> value : values ) {
+				Map<String, String> entity = RedisPipeline.getValue( value );
+				// HGETALL returns an empty hash for non-existing keys
+				tuples.add( entity.isEmpty() ? null : new Tuple( new RedisTupleSnapshot( (Map) entity ) ) );
+			}
+		}
+		else {
+			String[] fields = getFields( tupleContext );
+			List<Future<Boolean>> exists = new ArrayList<>( keys.length );
+			List<Future<List<String>>> values = new ArrayList<>( keys.length );
+			for ( EntityKey key : keys ) {
+				String entityId = entityId( key );
+				exists.add( pipeline.exists( entityId ) );
+				values.add( pipeline.hmget( entityId, fields ) );
+			}
+			pipeline.execute();
+
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( RedisPipeline.getValue( exists.get( i ) ) ) {
+					tuples.add( new Tuple( new RedisTupleSnapshot( toEntity( tupleContext, RedisPipeline.getValue( values.get( i ) ) ) ) ) );
+				}
+				else {
+					tuples.add( null );
+				}
+			}
+		}
+
+		return tuples;
+	}
+
 	protected void addKeyValuesFromKeyName(
 			EntityKeyMetadata entityKeyMetadata,
 			String prefix,
@@ -9,9 +9,11 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 import org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers;
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
@@ -19,12 +21,15 @@
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisAssociation;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisAssociationSnapshot;
+import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisScanPartition;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.Association;
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
 import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 import org.hibernate.ogm.datastore.redis.impl.json.JsonEntityStorageStrategy;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
@@ -60,8 +65,8 @@ public class RedisJsonDialect extends AbstractRedisDialect implements MultigetGr
 	protected final JsonEntityStorageStrategy entityStorageStrategy;
 
 	public RedisJsonDialect(RedisDatastoreProvider provider) {
-		super( provider.getConnection(), provider.isCluster() );
-		this.entityStorageStrategy = new JsonEntityStorageStrategy( strategy, connection );
+		super( provider );
+		this.entityStorageStrategy = new JsonEntityStorageStrategy( strategy, provider );
 	}
 
 	@Override
@@ -71,6 +76,8 @@ public GridType overrideType(Type type) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executeQueuedOperations( key, tupleContext );
+
 		Entity entity = entityStorageStrategy.getEntity( entityId( key ) );
 
 		if ( entity != null ) {
@@ -82,10 +89,10 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 	}
 
 	@Override
-	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+	protected void insertOrUpdateTuple(RedisPipeline pipeline, EntityKey key, Tuple tuple, TupleContext tupleContext) {
 		Map<String, Object> map = ( (RedisTupleSnapshot) tuple.getSnapshot() ).getMap();
 		MapHelpers.applyTupleOpsOnMap( tuple, map );
-		storeEntity( key, map, tupleContext.getOptionsContext(), tuple.getOperations() );
+		storeEntity( pipeline, key, map, tupleContext.getOptionsContext(), tuple.getOperations() );
 	}
 
 	@Override
@@ -112,6 +119,9 @@ private AssociationStorageType getAssociationStorageType(AssociationTypeContext
 	public org.hibernate.ogm.model.spi.Association getAssociation(
 			AssociationKey key,
 			AssociationContext associationContext) {
+		// The association is read from the store, so the previous operations need to be applied first
+		executeQueuedOperations( associationContext.getOperationsQueue() );
+
 		RedisAssociation redisAssociation = null;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
@@ -144,6 +154,8 @@ public org.hibernate.ogm.model.spi.Association getAssociation(
 	public org.hibernate.ogm.model.spi.Association createAssociation(
 			AssociationKey key,
 			AssociationContext associationContext) {
+		executeQueuedOperations( associationContext.getOperationsQueue() );
+
 		RedisAssociation redisAssociation;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
@@ -151,7 +163,9 @@ public org.hibernate.ogm.model.spi.Association createAssociation(
 
 			if ( owningEntity == null ) {
 				owningEntity = new Entity();
-				storeEntity( key.getEntityKey(), new Entity(), associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext() );
+				RedisPipeline pipeline = createPipeline();
+				storeEntity( pipeline, key.getEntityKey(), new Entity(), associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext() );
+				pipeline.execute();
 			}
 
 			redisAssociation = RedisAssociation.fromEmbeddedAssociation( owningEntity, key.getMetadata() );
@@ -175,8 +189,8 @@ private Entity getEmbeddingEntity(AssociationKey key) {
 	}
 
 	@Override
-	public void insertOrUpdateAssociation(
-			AssociationKey associationKey, org.hibernate.ogm.model.spi.Association association,
+	protected void insertOrUpdateAssociation(
+			RedisPipeline pipeline, AssociationKey associationKey, org.hibernate.ogm.model.spi.Association association,
 			AssociationContext associationContext) {
 		Object rows = getAssociationRows( association, associationKey, associationContext );
 
@@ -189,15 +203,16 @@ public void insertOrUpdateAssociation(
 		) ) {
 
 			storeEntity(
+					pipeline,
 					associationKey.getEntityKey(),
 					(Entity) redisAssociation.getOwningDocument(),
 					associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext()
 			);
 		}
 		else {
-			Long currentTtl = connection.pttl( entityId( associationKey.getEntityKey() ) );
-			storeAssociation( associationKey, (Association) redisAssociation.getOwningDocument() );
-			setAssociationTTL( associationKey, associationContext, currentTtl );
+			Future<Long> currentTtl = getCurrentTTL( pipeline, entityId( associationKey.getEntityKey() ), getTTL( associationContext ) );
+			storeAssociation( pipeline, associationKey, association, (Association) redisAssociation.getOwningDocument() );
+			setAssociationTTL( pipeline, associationKey, associationContext, currentTtl );
 		}
 	}
 
@@ -257,31 +272,51 @@ protected Object getAssociationRows(
 	}
 
 	@Override
-	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+	protected void removeAssociation(RedisPipeline pipeline, AssociationKey key, AssociationContext associationContext) {
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
+			// The entity is read and written back, so pending writes to it must be applied first
+			pipeline.executeIfPending( entityId( key.getEntityKey() ) );
 			Entity owningEntity = getEmbeddingEntity( key );
 
 			if ( owningEntity != null ) {
 				owningEntity.removeAssociation( key.getMetadata().getCollectionRole() );
-				storeEntity( key.getEntityKey(), owningEntity, associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext() );
+				storeEntity( pipeline, key.getEntityKey(), owningEntity, associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext() );
 			}
 		}
 		else {
-			removeAssociation( key );
+			removeAssociation( pipeline, key );
 		}
 	}
 
 	@Override
-	public void forEachTuple(final ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		forEachTuple( consumer, tupleContext, entityKeyMetadata, new RedisScanPartition( null ) );
+	}
+
+	@Override
+	public void forEachTuple(final ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, ScanPartition partition) {
 		KeyScanCursor<String> cursor = null;
 		String prefix = entityKeyMetadata.getTable() + ":";
 
-		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
+		ScanArgs scanArgs = scanArgs( prefix );
 		do {
-			cursor = scan( cursor, scanArgs );
+			cursor = scan( cursor, scanArgs, (RedisScanPartition) partition );
 
-			for ( String key : cursor.getKeys() ) {
-				Entity document = entityStorageStrategy.getEntity( key );
+			if ( cursor.getKeys().isEmpty() ) {
+				continue;
+			}
+
+			// fetch the values of all the keys of this iteration in one go
+			List<String> keys = cursor.getKeys();
+			Iterator<Entity> documents = entityStorageStrategy.getEntities( keys.toArray( new String[keys.size()] ) ).iterator();
+
+			for ( String key : keys ) {
+				Entity document = documents.next();
+
+				// removed since the scan
+				if ( document == null ) {
+					continue;
+				}
 
 				addKeyValuesFromKeyName( entityKeyMetadata, prefix, key, document );
 
@@ -292,6 +327,7 @@ public void forEachTuple(final ModelConsumer consumer, TupleContext tupleContext
 	}
 
 	private void storeEntity(
+			RedisPipeline pipeline,
 			EntityKey key,
 			Map<String, Object> map,
 			OptionsContext optionsContext,
@@ -305,19 +341,21 @@ private void storeEntity(
 			entityDocument.set( entry.getKey(), entry.getValue() );
 		}
 
-		storeEntity( key, entityDocument, optionsContext );
+		storeEntity( pipeline, key, entityDocument, optionsContext );
 	}
 
 	private void storeEntity(
+			RedisPipeline pipeline,
 			EntityKey key,
 			Entity document,
 			OptionsContext optionsContext) {
 
-		Long currentTtl = connection.pttl( entityId( key ) );
+		Long configuredTtl = getTTL( optionsContext );
+		Future<Long> currentTtl = getCurrentTTL( pipeline, entityId( key ), configuredTtl );
 
-		entityStorageStrategy.storeEntity( entityId( key ), document );
+		entityStorageStrategy.storeEntity( pipeline, entityId( key ), document );
 
-		setEntityTTL( key, currentTtl, getTTL( optionsContext ) );
+		setEntityTTL( pipeline, key, currentTtl, configuredTtl );
 	}
 
 	public JsonEntityStorageStrategy getEntityStorageStrategy() {
@@ -332,6 +370,8 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		executeQueuedOperations( keys, tupleContext );
+
 		String ids[] = new String[keys.length];
 
 		for ( int i = 0; i < keys.length; i++ ) {
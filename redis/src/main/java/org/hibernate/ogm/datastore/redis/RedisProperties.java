@@ -41,6 +41,20 @@ public final class RedisProperties implements KeyValueStoreProperties, DocumentS
 	 */
 	public static final String TTL = "hibernate.ogm.redis.ttl";
 
+	/**
+	 * The number of keys to request per {@code SCAN} iteration when iterating over all the entities of a type, e.g.
+	 * for mass indexing. The values of the keys returned by one iteration are fetched in one pipeline. Defaults to
+	 * 1000.
+	 */
+	public static final String SCAN_COUNT = "hibernate.ogm.redis.scan_count";
+
+	/**
+	 * The number of connections to open to Redis. Commands issued by different threads are spread across the
+	 * connections, as are the pipelined commands of one flush, so their replies may be awaited concurrently. Defaults to
+	 * 1.
+	 */
+	public static final String CONNECTION_POOL_SIZE = "hibernate.ogm.redis.connection_pool_size";
+
 	private RedisProperties() {
 	}
 }
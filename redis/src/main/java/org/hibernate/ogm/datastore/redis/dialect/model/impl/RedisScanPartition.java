@@ -0,0 +1,38 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.dialect.model.impl;
+
+import org.hibernate.ogm.dialect.scan.spi.ScanPartition;
+
+/**
+ * The keys stored on one master node of a Redis Cluster.
+ *
+ * @author Gunnar Morling
+ */
+public class RedisScanPartition implements ScanPartition {
+
+	private final String nodeId;
+
+	/**
+	 * @param nodeId the id of the master node to scan, {@code null} to scan all the keys
+	 */
+	public RedisScanPartition(String nodeId) {
+		this.nodeId = nodeId;
+	}
+
+	/**
+	 * @return the id of the master node to scan, {@code null} if all the keys are to be scanned
+	 */
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	@Override
+	public String toString() {
+		return "RedisScanPartition [nodeId=" + ( nodeId != null ? nodeId : "all" ) + "]";
+	}
+}
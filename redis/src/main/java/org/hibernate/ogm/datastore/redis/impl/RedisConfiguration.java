@@ -39,6 +39,8 @@ public class RedisConfiguration {
 
 	private static final int DEFAULT_PORT = 6379;
 	private static final int DEFAULT_DATABASE = 0;
+	private static final int DEFAULT_SCAN_COUNT = 1000;
+	private static final int DEFAULT_CONNECTION_POOL_SIZE = 1;
 
 	private static final Log log = LoggerFactory.getLogger();
 
@@ -58,12 +60,30 @@ public void validate(Integer value) throws HibernateException {
 		}
 	};
 
+	/**
+	 * A {@link PropertyValidator} which asserts that a given number is a valid connection pool size.
+	 */
+	private static final PropertyValidator<Integer> CONNECTION_POOL_SIZE_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalConnectionPoolSize( value );
+			}
+		}
+	};
+
 	private final Hosts hosts;
 	private final int databaseNumber;
 	private final String password;
 	private final long timeout;
 	private final boolean ssl;
 	private final boolean cluster;
+	private final int scanCount;
+	private final int connectionPoolSize;
 
 	public RedisConfiguration(ConfigurationPropertyReader propertyReader) {
 		String host = propertyReader.property( OgmProperties.HOST, String.class )
@@ -93,6 +113,17 @@ public RedisConfiguration(ConfigurationPropertyReader propertyReader) {
 				.property( RedisProperties.CLUSTER, boolean.class )
 				.withDefault( false )
 				.getValue();
+
+		this.scanCount = propertyReader
+				.property( RedisProperties.SCAN_COUNT, int.class )
+				.withDefault( DEFAULT_SCAN_COUNT )
+				.getValue();
+
+		this.connectionPoolSize = propertyReader
+				.property( RedisProperties.CONNECTION_POOL_SIZE, int.class )
+				.withValidator( CONNECTION_POOL_SIZE_VALIDATOR )
+				.withDefault( DEFAULT_CONNECTION_POOL_SIZE )
+				.getValue();
 	}
 
 	/**
@@ -149,4 +180,22 @@ public boolean isSsl() {
 	public boolean isCluster() {
 		return cluster;
 	}
+
+	/**
+	 * @return The number of keys to request per {@code SCAN} iteration
+	 *
+	 * @see RedisProperties#SCAN_COUNT
+	 */
+	public int getScanCount() {
+		return scanCount;
+	}
+
+	/**
+	 * @return The number of connections to open to the data store
+	 *
+	 * @see RedisProperties#CONNECTION_POOL_SIZE
+	 */
+	public int getConnectionPoolSize() {
+		return connectionPoolSize;
+	}
 }
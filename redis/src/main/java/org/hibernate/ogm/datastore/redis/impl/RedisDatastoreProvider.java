@@ -7,9 +7,11 @@
 package org.hibernate.ogm.datastore.redis.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.ogm.cfg.spi.Hosts;
@@ -32,6 +34,7 @@
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 
@@ -41,6 +44,10 @@
  * Provides access to Redis
  * it can be taken via JNDI or started by this ServiceProvider; in this case it will also
  * be stopped when no longer needed.
+ * <p>
+ * Depending on {@link org.hibernate.ogm.datastore.redis.RedisProperties#CONNECTION_POOL_SIZE}, one or more connections
+ * are opened. The connections are thread-safe; {@link #getConnection()} hands them out in a round-robin fashion,
+ * whereas pipelines pick the connection based on the key of each command.
  *
  * @author Mark Paluch
  */
@@ -52,7 +59,10 @@ public class RedisDatastoreProvider extends BaseDatastoreProvider implements Sta
 
 	private RedisConfiguration config;
 	private AbstractRedisClient redisClient;
-	private StatefulConnection<String, String> connection;
+	private List<StatefulConnection<String, String>> connections;
+	private List<RedisClusterCommands<String, String>> syncCommands;
+	private List<RedisClusterAsyncCommands<String, String>> asyncCommands;
+	private final AtomicInteger nextConnection = new AtomicInteger();
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
@@ -80,19 +90,34 @@ public void configure(Map configurationValues) {
 	@Override
 	public void start() {
 		try {
+			connections = new ArrayList<>( config.getConnectionPoolSize() );
 
 			if ( config.isCluster() ) {
 				RedisClusterClient clusterClient = createClusterClient( config.getHosts() );
 				this.redisClient = clusterClient;
 				log.connectingToRedis( config.getHosts().toString(), config.getTimeout() );
-				connection = clusterClient.connect( new Utf8StringCodec() );
+				for ( int i = 0; i < config.getConnectionPoolSize(); i++ ) {
+					connections.add( clusterClient.connect( new Utf8StringCodec() ) );
+				}
 			}
 			else {
 				RedisClient client = createClient( config.getHosts().getFirst() );
 				this.redisClient = client;
 				log.connectingToRedis( config.getHosts().toString(), config.getTimeout() );
-				connection = client.connect( new Utf8StringCodec() );
+				for ( int i = 0; i < config.getConnectionPoolSize(); i++ ) {
+					connections.add( client.connect( new Utf8StringCodec() ) );
+				}
 			}
+
+			List<RedisClusterCommands<String, String>> syncs = new ArrayList<>( connections.size() );
+			List<RedisClusterAsyncCommands<String, String>> asyncs = new ArrayList<>( connections.size() );
+			for ( StatefulConnection<String, String> connection : connections ) {
+				syncs.add( sync( connection ) );
+				asyncs.add( async( connection ) );
+			}
+
+			syncCommands = Collections.unmodifiableList( syncs );
+			asyncCommands = Collections.unmodifiableList( asyncs );
 		}
 		catch (RuntimeException e) {
 			// return a ServiceException to be stack trace friendly
@@ -130,10 +155,14 @@ protected RedisClusterClient createClusterClient(Hosts hosts) {
 
 	@Override
 	public void stop() {
-		if ( connection != null ) {
+		if ( connections != null ) {
 			log.disconnectingFromRedis();
-			connection.close();
-			connection = null;
+			for ( StatefulConnection<String, String> connection : connections ) {
+				connection.close();
+			}
+			connections = null;
+			syncCommands = null;
+			asyncCommands = null;
 			shutdownClient();
 		}
 	}
@@ -153,17 +182,56 @@ public boolean allowsTransactionEmulation() {
 		return true;
 	}
 
+	/**
+	 * Returns the synchronous commands API of one of the connections of the pool. If several connections are
+	 * configured, each invocation returns the next connection of the pool.
+	 *
+	 * @return the synchronous commands API of a pooled connection
+	 */
 	public RedisClusterCommands<String, String> getConnection() {
+		if ( syncCommands.size() == 1 ) {
+			return syncCommands.get( 0 );
+		}
+
+		return syncCommands.get( ( nextConnection.getAndIncrement() & Integer.MAX_VALUE ) % syncCommands.size() );
+	}
+
+	/**
+	 * Returns the asynchronous views on all the connections of the pool, e.g. for sending several commands as a
+	 * pipeline.
+	 *
+	 * @return the asynchronous commands API of each connection; contains at least one element
+	 */
+	public List<RedisClusterAsyncCommands<String, String>> getAsyncConnections() {
+		return asyncCommands;
+	}
+
+	private RedisClusterCommands<String, String> sync(StatefulConnection<String, String> connection) {
+		if ( connection instanceof StatefulRedisConnection ) {
+			return ( (StatefulRedisConnection<String, String>) connection ).sync();
+		}
+
+		if ( connection instanceof StatefulRedisClusterConnection ) {
+			return ( (StatefulRedisClusterConnection<String, String>) connection ).sync();
+		}
+
+		throw new IllegalStateException( "Connection type " + connection + " not supported" );
+	}
+
+	private RedisClusterAsyncCommands<String, String> async(StatefulConnection<String, String> connection) {
 		if ( connection instanceof StatefulRedisConnection ) {
-			return ( (StatefulRedisConnection) connection ).sync();
+			return ( (StatefulRedisConnection<String, String>) connection ).async();
 		}
 
 		if ( connection instanceof StatefulRedisClusterConnection ) {
-			return ( (StatefulRedisClusterConnection) connection ).sync();
+			return ( (StatefulRedisClusterConnection<String, String>) connection ).async();
 		}
 
 		throw new IllegalStateException( "Connection type " + connection + " not supported" );
+	}
 
+	public RedisConfiguration getConfiguration() {
+		return config;
 	}
 
 	/**
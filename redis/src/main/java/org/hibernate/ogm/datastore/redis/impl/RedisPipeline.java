@@ -0,0 +1,332 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.ogm.datastore.redis.logging.impl.Log;
+import org.hibernate.ogm.datastore.redis.logging.impl.LoggerFactory;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.ScriptOutputType;
+import com.lambdaworks.redis.cluster.SlotHash;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+
+/**
+ * Collects write commands and sends them to Redis as one pipeline, i.e. without waiting for the reply to one command
+ * before sending the next one.
+ * <p>
+ * Commands are buffered until {@link #execute()} is invoked. They are then written to the connection back to back and
+ * their replies are awaited afterwards, so applying all the changes of a flush costs a single round trip instead of
+ * one per command. Commands for the same key are always sent in the order they have been added.
+ * <p>
+ * If several connections are given, each command is sent through the connection determined by the hash of its key,
+ * retaining the order of the commands for one key while the commands for different keys are written to and answered
+ * through the connections concurrently.
+ * <p>
+ * In Redis Cluster mode the commands are grouped by the hash slot of their key before sending them. The cluster
+ * connection routes each command to the node owning its slot, so this sends one contiguous pipeline per slot owner.
+ * <p>
+ * Read commands such as {@link #pttl(String)} or {@link #hgetall(String)} are sent immediately, so several reads are
+ * pipelined as well. Their results are available via {@link #getValue(Future)} once {@link #execute()} has been
+ * invoked; write commands added after a read may refer to its result.
+ * <p>
+ * Instances are not thread-safe and are meant to be used for a single unit of work.
+ *
+ * @author Gunnar Morling
+ */
+public class RedisPipeline {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private static final Comparator<PipelinedCommand> BY_SLOT = new Comparator<PipelinedCommand>() {
+
+		@Override
+		public int compare(PipelinedCommand o1, PipelinedCommand o2) {
+			return o1.slot < o2.slot ? -1 : ( o1.slot == o2.slot ? 0 : 1 );
+		}
+	};
+
+	private final List<RedisClusterAsyncCommands<String, String>> connections;
+	private final boolean clusterMode;
+	private final long timeout;
+
+	private final List<PipelinedCommand> commands = new ArrayList<>();
+	private final Set<String> pendingKeys = new HashSet<>();
+	private final List<Future<?>> reads = new ArrayList<>();
+
+	/**
+	 * Creates a new {@link RedisPipeline}.
+	 *
+	 * @param connections the asynchronous views on the connections to send the commands through; must contain at least
+	 * one element
+	 * @param clusterMode {@code true} if the connected Redis node runs in Redis Cluster mode
+	 * @param timeout the time in milliseconds to wait for the replies of the pipelined commands
+	 */
+	public RedisPipeline(List<RedisClusterAsyncCommands<String, String>> connections, boolean clusterMode, long timeout) {
+		this.connections = connections;
+		this.clusterMode = clusterMode;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Sends a {@code PTTL} command for the given key right away.
+	 *
+	 * @param key the key to retrieve the remaining time to live for
+	 * @return the remaining time to live in milliseconds; completed at the latest when {@link #execute()} returns
+	 */
+	public Future<Long> pttl(String key) {
+		return read( connection( key ).pttl( key ) );
+	}
+
+	public Future<Boolean> exists(String key) {
+		return read( connection( key ).exists( key ) );
+	}
+
+	public Future<Map<String, String>> hgetall(String key) {
+		return read( connection( key ).hgetall( key ) );
+	}
+
+	public Future<List<String>> hmget(String key, String... fields) {
+		return read( connection( key ).hmget( key, fields ) );
+	}
+
+	private <T> Future<T> read(RedisFuture<T> result) {
+		reads.add( result );
+		return result;
+	}
+
+	public void set(final String key, final String value) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.set( key, value );
+			}
+		} );
+	}
+
+	public void hmset(final String key, final Map<String, String> map) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.hmset( key, map );
+			}
+		} );
+	}
+
+	public void hdel(final String key, final String... fields) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.hdel( key, fields );
+			}
+		} );
+	}
+
+	public void del(final String key) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.del( key );
+			}
+		} );
+	}
+
+	public void sadd(final String key, final String... members) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.sadd( key, members );
+			}
+		} );
+	}
+
+	public void srem(final String key, final String... members) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.srem( key, members );
+			}
+		} );
+	}
+
+	/**
+	 * Adds an {@code EVAL} command for a script operating on the given key and returning an integer.
+	 *
+	 * @param script the Lua script, referring to the key as {@code KEYS[1]}
+	 * @param key the key the script operates on
+	 * @param args the arguments passed to the script as {@code ARGV}
+	 */
+	public void eval(final String script, final String key, final String... args) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.eval( script, ScriptOutputType.INTEGER, new String[] { key }, args );
+			}
+		} );
+	}
+
+	public void pexpire(final String key, final long ttl) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				return commands.pexpire( key, ttl );
+			}
+		} );
+	}
+
+	/**
+	 * Adds a {@code PEXPIRE} command re-applying the given time to live, if it is positive.
+	 *
+	 * @param key the key to set the time to live for
+	 * @param currentTtl the time to live as obtained via {@link #pttl(String)}
+	 */
+	public void pexpire(final String key, final Future<Long> currentTtl) {
+		add( new PipelinedCommand( key ) {
+
+			@Override
+			RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands) {
+				Long ttl = getValue( currentTtl );
+				return ttl != null && ttl > 0 ? commands.pexpire( key, ttl ) : null;
+			}
+		} );
+	}
+
+	/**
+	 * Executes the commands added so far if any of them targets the given key. To be invoked before reading a key
+	 * whose value is based upon for subsequent commands.
+	 *
+	 * @param key the key to be read
+	 */
+	public void executeIfPending(String key) {
+		if ( pendingKeys.contains( key ) ) {
+			execute();
+		}
+	}
+
+	/**
+	 * @return {@code true} if no write commands have been added since the last execution
+	 */
+	public boolean isEmpty() {
+		return commands.isEmpty();
+	}
+
+	/**
+	 * Sends all the commands added so far and waits for their replies. The pipeline may be used for further commands
+	 * afterwards.
+	 */
+	public void execute() {
+		await( reads );
+		reads.clear();
+
+		if ( commands.isEmpty() ) {
+			return;
+		}
+
+		if ( clusterMode ) {
+			// stable sort, so the order of the commands for one slot is retained
+			Collections.sort( commands, BY_SLOT );
+		}
+
+		List<Future<?>> replies = new ArrayList<>( commands.size() );
+		for ( PipelinedCommand command : commands ) {
+			RedisFuture<?> reply = command.dispatch( connection( command.key ) );
+			if ( reply != null ) {
+				replies.add( reply );
+			}
+		}
+
+		commands.clear();
+		pendingKeys.clear();
+
+		await( replies );
+	}
+
+	private RedisClusterAsyncCommands<String, String> connection(String key) {
+		if ( connections.size() == 1 ) {
+			return connections.get( 0 );
+		}
+
+		return connections.get( ( key.hashCode() & Integer.MAX_VALUE ) % connections.size() );
+	}
+
+	private void add(PipelinedCommand command) {
+		commands.add( command );
+		pendingKeys.add( command.key );
+	}
+
+	private void await(List<Future<?>> futures) {
+		long remaining = TimeUnit.MILLISECONDS.toNanos( timeout );
+		long start = System.nanoTime();
+
+		for ( Future<?> future : futures ) {
+			try {
+				future.get( remaining - ( System.nanoTime() - start ), TimeUnit.NANOSECONDS );
+			}
+			catch (ExecutionException e) {
+				throw log.unableToExecutePipelinedCommands( e.getCause().getMessage(), e.getCause() );
+			}
+			catch (TimeoutException e) {
+				throw log.pipelinedCommandsTimedOut( futures.size(), timeout );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw log.unableToExecutePipelinedCommands( e.getMessage(), e );
+			}
+		}
+	}
+
+	/**
+	 * Returns the result of a read command sent through a pipeline which has been executed since.
+	 *
+	 * @param future the future as returned by the read command
+	 * @return the result of the command
+	 */
+	public static <T> T getValue(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException e) {
+			throw log.unableToExecutePipelinedCommands( e.getCause().getMessage(), e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.unableToExecutePipelinedCommands( e.getMessage(), e );
+		}
+	}
+
+	private abstract class PipelinedCommand {
+
+		final String key;
+		final int slot;
+
+		PipelinedCommand(String key) {
+			this.key = key;
+			this.slot = clusterMode ? SlotHash.getSlot( key ) : 0;
+		}
+
+		abstract RedisFuture<?> dispatch(RedisClusterAsyncCommands<String, String> commands);
+	}
+}
@@ -9,8 +9,8 @@
 import java.util.Iterator;
 
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
-
-import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 
 /**
  * Map entities to top-level keys in Redis using {@literal GET} and {@literal SET} commands.
@@ -21,28 +21,34 @@
 public class JsonEntityStorageStrategy  {
 
 	private final JsonSerializationStrategy jsonSerializationStrategy;
-	private final RedisClusterCommands<String, String> connection;
+	private final RedisDatastoreProvider provider;
 
 	public JsonEntityStorageStrategy(
 			JsonSerializationStrategy jsonSerializationStrategy,
-			RedisClusterCommands<String, String> connection) {
+			RedisDatastoreProvider provider) {
 		this.jsonSerializationStrategy = jsonSerializationStrategy;
-		this.connection = connection;
+		this.provider = provider;
 	}
 
 	public Entity getEntity(String key) {
-		String value = connection.get( key );
+		String value = provider.getConnection().get( key );
 		return jsonSerializationStrategy.deserialize( value, Entity.class );
 	}
 
 	public void storeEntity(String key, Entity entity) {
 		String value = jsonSerializationStrategy.serialize( entity );
 
-		connection.set( key, value );
+		provider.getConnection().set( key, value );
+	}
+
+	public void storeEntity(RedisPipeline pipeline, String key, Entity entity) {
+		String value = jsonSerializationStrategy.serialize( entity );
+
+		pipeline.set( key, value );
 	}
 
 	public Iterable<Entity> getEntities(String[] keys) {
-		final Iterator<String> values = connection.mget( keys ).iterator();
+		final Iterator<String> values = provider.getConnection().mget( keys ).iterator();
 
 		return new Iterable<Entity>() {
 
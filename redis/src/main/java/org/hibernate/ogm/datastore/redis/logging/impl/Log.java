@@ -12,6 +12,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.redis.RedisProperties;
 import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
@@ -56,4 +57,13 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1709, value = "The connection is configured for standalone mode but Redis runs in '%s' mode")
 	HibernateException redisModeMismatchStandaloneModeConfigured(String redisMode);
+
+	@Message(id = 1710, value = "Unable to execute pipelined Redis commands: %s")
+	HibernateException unableToExecutePipelinedCommands(String message, @Cause Throwable cause);
+
+	@Message(id = 1711, value = "Did not receive the replies to %1$d pipelined Redis command(s) within %2$d millisecond(s)")
+	HibernateException pipelinedCommandsTimedOut(int commandCount, long timeout);
+
+	@Message(id = 1712, value = "The value set for the configuration property '" + RedisProperties.CONNECTION_POOL_SIZE + "' must be a number greater than 0. Found '%s'.")
+	HibernateException illegalConnectionPoolSize(int value);
 }
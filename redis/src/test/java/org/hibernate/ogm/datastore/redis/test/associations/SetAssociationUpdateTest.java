@@ -0,0 +1,111 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.test.associations;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.redis.test.RedisOgmTestCase;
+import org.hibernate.ogm.datastore.redis.test.options.ttl.Song;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that large set-typed associations are written in one go and changes to them are applied incrementally.
+ *
+ * @author Gunnar Morling
+ */
+public class SetAssociationUpdateTest extends RedisOgmTestCase {
+
+	private static final String ASSOCIATION_KEY = "Associations:Playlist_Song:top:songs";
+	private static final int SONG_COUNT = 2500;
+
+	@Before
+	public void before() throws Exception {
+		getConnection().flushall();
+	}
+
+	@Test
+	public void testAddAndRemoveRows() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+
+		Playlist playlist = new Playlist( "top" );
+		for ( int i = 0; i < SONG_COUNT; i++ ) {
+			Song song = new Song( "song-" + i );
+			session.persist( song );
+			playlist.getSongs().add( song );
+		}
+		session.persist( playlist );
+
+		session.getTransaction().commit();
+		session.clear();
+
+		assertThat( getConnection().scard( ASSOCIATION_KEY ) ).isEqualTo( (long) SONG_COUNT );
+
+		session.getTransaction().begin();
+
+		playlist = (Playlist) session.get( Playlist.class, "top" );
+		Iterator<Song> songs = playlist.getSongs().iterator();
+		Song removed = songs.next();
+		songs.remove();
+		songs.next();
+		songs.remove();
+
+		Song added = new Song( "new-song" );
+		session.persist( added );
+		playlist.getSongs().add( added );
+
+		session.getTransaction().commit();
+		session.clear();
+
+		assertThat( getConnection().scard( ASSOCIATION_KEY ) ).isEqualTo( SONG_COUNT - 1L );
+		assertThat( getConnection().sismember( ASSOCIATION_KEY, String.valueOf( added.getId() ) ) ).isTrue();
+		assertThat( getConnection().sismember( ASSOCIATION_KEY, String.valueOf( removed.getId() ) ) ).isFalse();
+
+		session.getTransaction().begin();
+
+		playlist = (Playlist) session.get( Playlist.class, "top" );
+		assertThat( playlist.getSongs() ).hasSize( SONG_COUNT - 1 );
+		assertThat( titles( playlist.getSongs() ) ).contains( "new-song" ).excludes( removed.getTitle() );
+		playlist.getSongs().clear();
+
+		session.getTransaction().commit();
+		session.close();
+
+		assertThat( getConnection().exists( ASSOCIATION_KEY ) ).isFalse();
+	}
+
+	private Set<String> titles(Set<Song> songs) {
+		Set<String> titles = new HashSet<String>();
+		for ( Song song : songs ) {
+			titles.add( song.getTitle() );
+		}
+		return titles;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		super.configure( cfg );
+		cfg.put(
+				DocumentStoreProperties.ASSOCIATIONS_STORE,
+				AssociationStorageType.ASSOCIATION_DOCUMENT
+		);
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Playlist.class, Song.class };
+	}
+}
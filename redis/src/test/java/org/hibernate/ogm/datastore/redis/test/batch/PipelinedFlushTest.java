@@ -0,0 +1,108 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.redis.test.RedisOgmTestCase;
+import org.hibernate.ogm.datastore.redis.test.options.ttl.Band;
+import org.hibernate.ogm.datastore.redis.test.options.ttl.Song;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the writes of a flush spanning several entities and associations are applied when sent as one pipeline.
+ *
+ * @author Gunnar Morling
+ */
+public class PipelinedFlushTest extends RedisOgmTestCase {
+
+	private static final int BAND_COUNT = 20;
+
+	@Before
+	public void before() throws Exception {
+		getConnection().flushall();
+	}
+
+	@Test
+	public void testFlushOfSeveralEntitiesAndAssociations() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+
+		for ( int i = 0; i < BAND_COUNT; i++ ) {
+			Song first = new Song( "first-" + i );
+			Song second = new Song( "second-" + i );
+			Song third = new Song( "third-" + i );
+			session.persist( first );
+			session.persist( second );
+			session.persist( third );
+			session.persist( new Band( String.valueOf( i ), "band-" + i, first, second, third ) );
+		}
+
+		session.getTransaction().commit();
+		session.clear();
+
+		for ( int i = 0; i < BAND_COUNT; i++ ) {
+			assertThat( getConnection().exists( "Band:" + i ) ).isTrue();
+			assertThat( getConnection().llen( "Associations:Band_Song:" + i + ":songs" ) ).isEqualTo( 3L );
+			assertThat( getConnection().pttl( "Associations:Band_Song:" + i + ":songs" ) )
+					.isGreaterThan( TimeUnit.SECONDS.toMillis( 50 ) );
+		}
+
+		session.getTransaction().begin();
+
+		Band band = (Band) session.get( Band.class, "0" );
+		band.setName( "renamed" );
+		band.getSongs().remove( 0 );
+
+		session.getTransaction().commit();
+		session.clear();
+
+		session.getTransaction().begin();
+
+		band = (Band) session.get( Band.class, "0" );
+		assertThat( band.getName() ).isEqualTo( "renamed" );
+		assertThat( band.getSongs() ).hasSize( 2 );
+
+		for ( int i = 0; i < BAND_COUNT; i++ ) {
+			Band toDelete = (Band) session.get( Band.class, String.valueOf( i ) );
+			for ( Song song : toDelete.getSongs() ) {
+				session.delete( song );
+			}
+			session.delete( toDelete );
+		}
+
+		session.getTransaction().commit();
+
+		for ( int i = 0; i < BAND_COUNT; i++ ) {
+			assertThat( getConnection().exists( "Band:" + i ) ).isFalse();
+			assertThat( getConnection().exists( "Associations:Band_Song:" + i + ":songs" ) ).isFalse();
+		}
+
+		session.close();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		super.configure( cfg );
+		cfg.put(
+				DocumentStoreProperties.ASSOCIATIONS_STORE,
+				AssociationStorageType.ASSOCIATION_DOCUMENT
+		);
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Band.class, Song.class };
+	}
+}
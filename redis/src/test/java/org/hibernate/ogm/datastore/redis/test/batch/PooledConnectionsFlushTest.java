@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.redis.RedisProperties;
+import org.junit.Test;
+
+/**
+ * Runs {@link PipelinedFlushTest} with several connections, so the commands of one flush are spread across them.
+ *
+ * @author Gunnar Morling
+ */
+public class PooledConnectionsFlushTest extends PipelinedFlushTest {
+
+	private static final int POOL_SIZE = 3;
+
+	@Test
+	public void testConnectionsAreOpened() {
+		assertThat( getProvider().getAsyncConnections() ).hasSize( POOL_SIZE );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		super.configure( cfg );
+		cfg.put( RedisProperties.CONNECTION_POOL_SIZE, POOL_SIZE );
+	}
+}
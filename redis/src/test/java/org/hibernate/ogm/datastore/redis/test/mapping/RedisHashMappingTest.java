@@ -7,10 +7,18 @@
 package org.hibernate.ogm.datastore.redis.test.mapping;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.redis.RedisHashDialect;
 import org.hibernate.ogm.datastore.redis.test.RedisOgmTestCase;
+import org.hibernate.ogm.datastore.redis.utils.RedisTestHelper;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
 import org.hibernate.ogm.utils.GridDialectType;
 import org.hibernate.ogm.utils.SkipByGridDialect;
 
@@ -92,6 +100,50 @@ public void canStoreAndLoadEntitiesWithIdGeneratorAndAssociation() throws JSONEx
 		session.close();
 	}
 
+	@Test
+	public void canLoadSeveralEntitiesAtOnce() {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+
+		// given
+		session.persist( new Donut( "homers-donut", 7.5, Donut.Glaze.Pink, "pink-donut" ) );
+		session.persist( new Donut( "margies-donut", 6.0, Donut.Glaze.Dark, "dark-donut" ) );
+
+		session.getTransaction().commit();
+
+		// when
+		RedisHashDialect dialect = (RedisHashDialect) RedisTestHelper.getDialect( getProvider() );
+		EntityKeyMetadata metadata = new DefaultEntityKeyMetadata( "Donut", new String[] { "id" } );
+		EntityKey[] keys = new EntityKey[] {
+				new EntityKey( metadata, new Object[] { "margies-donut" } ),
+				new EntityKey( metadata, new Object[] { "unknown-donut" } ),
+				new EntityKey( metadata, new Object[] { "homers-donut" } )
+		};
+
+		List<Tuple> allColumns = dialect.getTuples( keys, new GridDialectOperationContexts.TupleContextBuilder()
+				.transactionContext( session )
+				.buildTupleContext() );
+		List<Tuple> selectedColumns = dialect.getTuples( keys, new GridDialectOperationContexts.TupleContextBuilder()
+				.selectableColumns( "alias" )
+				.transactionContext( session )
+				.buildTupleContext() );
+
+		// then
+		assertThat( allColumns ).hasSize( 3 );
+		assertThat( allColumns.get( 0 ).get( "alias" ) ).isEqualTo( "dark-donut" );
+		assertThat( allColumns.get( 0 ).get( "radius" ) ).isEqualTo( "6.0" );
+		assertThat( allColumns.get( 1 ) ).isNull();
+		assertThat( allColumns.get( 2 ).get( "alias" ) ).isEqualTo( "pink-donut" );
+
+		assertThat( selectedColumns ).hasSize( 3 );
+		assertThat( selectedColumns.get( 0 ).get( "alias" ) ).isEqualTo( "dark-donut" );
+		assertThat( selectedColumns.get( 0 ).get( "radius" ) ).isNull();
+		assertThat( selectedColumns.get( 1 ) ).isNull();
+		assertThat( selectedColumns.get( 2 ).get( "alias" ) ).isEqualTo( "pink-donut" );
+
+		session.close();
+	}
+
 	@Override
 	protected Class<?>[] getAnnotatedClasses() {
 		return new Class<?>[] {Family.class, Plant.class, Donut.class};